@@ -1,9 +1,38 @@
 #!/bin/bash
+#
+# 사용법:
+#   ./run.sh        소스가 바뀌었으면 컴파일하고, CDS 아카이브가 있으면 써서 실행
+#   ./run.sh cds    CDS 학습 실행 (시작 경로 클래스를 불러온 뒤 out/marblegame.jsa 를 만들고 종료)
+#
+# JAVA_OPTS 로 JVM 옵션을 넘긴다. 예) JAVA_OPTS="-Dmarblegame.startup.metrics=true" ./run.sh
 
-# 컴파일
-echo "Compiling..."
-javac -d out -encoding UTF-8 $(find src -name "*.java")
+OUT=out
+JAR="$OUT/marblegame.jar"
+ARCHIVE="$OUT/marblegame.jsa"
+STAMP="$OUT/.build-stamp"
+
+# 컴파일 (소스가 마지막 빌드보다 새로울 때만)
+if [ ! -f "$STAMP" ] || [ -n "$(find src -newer "$STAMP" -print -quit)" ]; then
+    echo "Compiling..."
+    javac -d "$OUT" -encoding UTF-8 $(find src -name "*.java") || exit 1
+    # CDS 는 디렉터리가 아닌 JAR 에서 불러온 클래스만 아카이브한다
+    jar --create --file "$JAR" -C "$OUT" com || exit 1
+    rm -f "$ARCHIVE" # 클래스가 바뀌면 아카이브를 다시 만든다
+    touch "$STAMP"
+fi
+
+if [ "$1" = "cds" ]; then
+    echo "Training CDS archive..."
+    java -XX:ArchiveClassesAtExit="$ARCHIVE" -Dmarblegame.startup.train=true \
+        -Dmarblegame.startup.metrics=true -Dmarblegame.startup.cds=train $JAVA_OPTS \
+        -cp "$JAR" com.marblegame.Main
+    exit $?
+fi
 
 # 실행
+CDS_OPTS="-Dmarblegame.startup.cds=off"
+if [ -f "$ARCHIVE" ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=$ARCHIVE -Xshare:auto -Dmarblegame.startup.cds=on"
+fi
 echo "Starting game..."
-java -cp out com.marblegame.Main
+java $CDS_OPTS $JAVA_OPTS -cp "$JAR" com.marblegame.Main
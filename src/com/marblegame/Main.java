@@ -1,17 +1,61 @@
 package com.marblegame;
 
+import com.marblegame.model.Board;
+import com.marblegame.model.Player;
+import com.marblegame.ui.DialogFactory;
+import com.marblegame.ui.GameFrame;
+import com.marblegame.ui.HostLobbyFrame;
 import com.marblegame.ui.LauncherFrame;
+import com.marblegame.ui.StartupMetrics;
+import java.util.Arrays;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 
 /**
  * 애플리케이션 진입점.
  * 실행 즉시 호스트/클라이언트 모드를 고르는 런처를 띄운다.
+ *
+ * -Dmarblegame.startup.train=true 는 클래스 데이터 공유(CDS) 아카이브를 만드는 학습 실행이다.
+ * 런처, 게임 창, 로비 모니터, 다이얼로그를 한 번씩 띄워 시작 경로의 클래스를 모두 불러온 뒤 종료하므로
+ * -XX:ArchiveClassesAtExit 와 함께 실행한다 (run.sh cds).
  */
 public class Main {
+    public static final String TRAIN_PROPERTY = "marblegame.startup.train";
+    private static final int TRAIN_SETTLE_MS = 1500; // 창 그리기와 다이얼로그 미리 만들기가 끝날 때까지
+
     public static void main(String[] args) {
+        DialogFactory.warmUpInBackground(); // 런처를 쓰는 동안 다이얼로그 클래스/글꼴을 불러 둔다
         SwingUtilities.invokeLater(() -> {
             LauncherFrame launcher = new LauncherFrame();
+            StartupMetrics.markOnFirstShow(launcher, StartupMetrics.LAUNCHER);
             launcher.setVisible(true);
+            if (Boolean.getBoolean(TRAIN_PROPERTY)) {
+                SwingUtilities.invokeLater(() -> runStartupTraining(launcher));
+            }
+        });
+    }
+
+    /**
+     * CDS 학습 실행: 게임 창과 로비 모니터를 네트워크 없이 띄워 그리고, 다이얼로그를 미리 만든 뒤 종료한다
+     */
+    private static void runStartupTraining(LauncherFrame launcher) {
+        System.out.println("[Startup] CDS 학습 실행: 시작 경로 클래스를 불러온 뒤 종료합니다.");
+        Player[] players = {new Player("플레이어1", 1_500_000), new Player("플레이어2", 1_500_000)};
+        GameFrame frame = new GameFrame(new Board(), Arrays.asList(players));
+        HostLobbyFrame lobby = new HostLobbyFrame(slot -> { }, slot -> { }, () -> { });
+        frame.setVisible(true);
+        lobby.setLocationRelativeTo(frame);
+        lobby.setVisible(true);
+        frame.updateDisplay(1);
+        new DialogFactory(frame).prewarm();
+
+        Timer exitTimer = new Timer(TRAIN_SETTLE_MS, e -> {
+            lobby.dispose();
+            frame.dispose();
+            launcher.dispose();
+            System.exit(0); // 종료 시점에 -XX:ArchiveClassesAtExit 아카이브가 써진다
         });
+        exitTimer.setRepeats(false);
+        exitTimer.start();
     }
 }
@@ -32,6 +32,7 @@ public class Game {
         for (int i = 0; i < numPlayers; i++) {
             players.add(new Player("Player" + (char)('A' + i), initialCash));
         }
+        ruleEngine.bindPlayers(players.toArray(new Player[0]));
     }
 
     /**
@@ -94,7 +95,7 @@ public class Game {
         int oldPos = player.pos;
 
         // 이동
-        player.move(dice.sum(), board.getSize(), board);
+        ruleEngine.setPosition(player, board.advance(player.pos, dice.sum()));
         Tile currentTile = board.getTile(player.pos);
         System.out.println(player.name + "이(가) " + currentTile.name + "에 도착했습니다.");
 
@@ -156,7 +157,7 @@ public class Game {
 
             case ISLAND:
                 System.out.println("무인도에 도착했습니다!");
-                player.jailTurns = 2; // 2턴 갇힘
+                ruleEngine.trapOnIsland(player);
                 System.out.println("무인도에 " + player.jailTurns + "턴 동안 갇힙니다.");
                 break;
 
@@ -172,7 +173,7 @@ public class Game {
             case RAILROAD:
                 System.out.println("전국철도에 도착했습니다!");
                 System.out.println("다음 턴에 원하는 칸을 선택할 수 있는 티켓을 획득했습니다.");
-                player.hasRailroadTicket = true;
+                ruleEngine.setRailroadTicket(player, true);
                 break;
         }
     }
@@ -199,7 +200,7 @@ public class Game {
             System.out.println(city.name + "은(는) 본인 소유입니다. (레벨: " + city.level + ")");
 
             if (city.canUpgrade()) {
-                int upgradeCost = city.getUpgradeCost();
+                int upgradeCost = ruleEngine.getUpgradeCost(city);
                 System.out.print("업그레이드 하시겠습니까? (비용: " + String.format("%,d", upgradeCost) + "원) (Y/N): ");
 
                 String answer = scanner.nextLine().trim().toUpperCase();
@@ -228,7 +229,7 @@ public class Game {
             }
 
             if (!player.bankrupt) {
-                int takeoverCost = city.getTakeoverPrice();
+                int takeoverCost = ruleEngine.getTakeoverPrice(city);
                 System.out.println("인수 비용은 " + String.format("%,d", takeoverCost) + "원입니다.");
                 System.out.print("이 땅을 인수하시겠습니까? (Y/N): ");
 
@@ -302,8 +303,8 @@ public class Game {
             }
 
             Tile tile = board.getTile(target);
-            player.pos = target;
-            player.hasRailroadTicket = false;
+            ruleEngine.setPosition(player, target);
+            ruleEngine.setRailroadTicket(player, false);
             System.out.println(player.name + "이(가) " + tile.name + " (칸 " + target + ")으로 이동했습니다.");
             handleTileLanding(player, playerIndex, tile);
             return;
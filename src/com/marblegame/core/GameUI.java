@@ -1,8 +1,16 @@
 package com.marblegame.core;
 
+import com.marblegame.core.ai.MctsBot;
+import com.marblegame.core.ai.SimGame;
+import com.marblegame.core.ai.SimPhase;
+import com.marblegame.core.ai.SimRules;
+import com.marblegame.core.ai.SimState;
+import com.marblegame.core.event.GameEventBatch;
+import com.marblegame.core.event.GameEventBus;
 import com.marblegame.core.input.LocalPlayerInputRouter;
 import com.marblegame.core.input.PlayerInputEvent;
 import com.marblegame.core.input.PlayerInputSink;
+import com.marblegame.core.input.PlayerInputType;
 import com.marblegame.model.*;
 import com.marblegame.ui.*;
 import javax.swing.*;
@@ -35,7 +43,10 @@ import com.marblegame.network.snapshot.GameSnapshot;
 import com.marblegame.network.snapshot.GameSnapshotSerializer;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -47,6 +58,7 @@ public class GameUI implements PlayerInputSink {
     private final Player[] players;
     private final Dice dice;
     private final GameFrame frame;
+    private final DialogFactory dialogFactory;
 
     private int currentPlayerIndex = 0;
     private int turnCount = 1;
@@ -66,13 +78,7 @@ public class GameUI implements PlayerInputSink {
     }
 
     // 홀수/짝수 주사위 모드
-    private enum DiceMode {
-        NORMAL,  // 일반 모드
-        ODD,     // 홀수만 (1, 3, 5)
-        EVEN     // 짝수만 (2, 4, 6)
-    }
     private DiceMode diceMode = DiceMode.NORMAL;
-    private static final int[][][] SUM_TO_DICE_COMBINATIONS = createSumToDiceCombinations();
     private static final long DIALOG_RESPONSE_TIMEOUT_MS = 15000;
 
     // 더블 시스템
@@ -86,13 +92,25 @@ public class GameUI implements PlayerInputSink {
     private static final int MOVEMENT_SUB_STEPS = 12;
     private static final int MOVEMENT_HOLD_STEPS = 6;
     private static final double MOVEMENT_HOP_HEIGHT = 16.0;
-    private Timer movementTimer;
+    // true 면 창을 닫을 때 보드 그리기 시간/다시 그린 영역 요약을 출력한다
+    private static final String FRAME_STATS_PROPERTY = "marblegame.ui.frameStats";
+    // 진행 속도 초기값: 1x, 4x, instant (Ctrl+T 로 바꿀 수 있다)
+    private static final String SPEED_PROPERTY = "marblegame.ui.speed";
+    // 이동 애니메이션은 공유 프레임 시계에 등록한다 (finishMovementAnimation 에서 해제)
+    private final AnimationClock.Animation movementAnimation = frameTime -> {
+        updateMovementAnimation();
+        return true;
+    };
     private Player movementPlayer;
     private int movementPlayerIndex;
     private int movementStepsRemaining;
     private int movementCurrentTile;
+    private int movementStartTile;
+    private int movementTotalSteps;
     private int movementNextTile;
     private int movementSubStep;
+    private int movementSubSteps = MOVEMENT_SUB_STEPS;
+    private int movementHoldSteps = MOVEMENT_HOLD_STEPS;
     private Point2D.Double movementStartPoint;
     private Point2D.Double movementEndPoint;
 
@@ -113,8 +131,26 @@ public class GameUI implements PlayerInputSink {
     private boolean hostStartConfirmed = true;
     private boolean hostStartRequired = false;
     private final Map<String, Consumer<DialogResponsePayload>> pendingDialogResponses = new ConcurrentHashMap<>();
+    // 원격 클라이언트에 보낸 뒤 아직 응답/시간 초과가 없는 다이얼로그 명령 (requestId → 명령), 재접속 시 다시 보낸다
+    private final Map<String, OutstandingDialogCommand> outstandingDialogCommands = new ConcurrentHashMap<>();
     private final AtomicLong dialogRequestSeq = new AtomicLong();
 
+    // 봇 플레이어: 결정마다 MCTS 탐색을 HostBotPlanner 스레드에서 돌리고 결과는 EDT 에서 적용한다
+    private final SimRules simRules;
+    private MctsBot mctsBot;
+    private ExecutorService botPlanner;
+    private boolean botActionScheduled = false;
+    private boolean botThinking = false;
+    private int botGaugeSection = 0;
+
+    // 도메인 이벤트: RuleEngine 과 턴 진행이 EDT 에서 발행하고, 같은 EDT 작업에서 쌓인 이벤트를 한 배치로 받는다
+    private static final int EVENT_BUS_CAPACITY = 1024;
+    private final GameEventBus eventBus = new GameEventBus(EVENT_BUS_CAPACITY, SwingUtilities::invokeLater);
+
+    // 되돌리기: RuleEngine 이 칸/현금/플레이어 변경을 기록하고, 도착 처리 직전마다 턴 진행 상태를 함께 저장한다
+    private final StateJournal journal = new StateJournal();
+    private LandingCheckpoint lastLanding;
+
     public GameUI(int numPlayers, int initialCash) {
         this(numPlayers, initialCash, null);
     }
@@ -122,6 +158,7 @@ public class GameUI implements PlayerInputSink {
     public GameUI(int numPlayers, int initialCash, HostNetworkService hostNetworkService) {
         this.board = new Board();
         this.ruleEngine = new RuleEngine(board);
+        this.simRules = new SimRules(board, ruleEngine);
         this.players = new Player[numPlayers];
         this.dice = new Dice();
         this.hostNetworkService = hostNetworkService;
@@ -131,6 +168,9 @@ public class GameUI implements PlayerInputSink {
         for (int i = 0; i < numPlayers; i++) {
             players[i] = new Player("Player" + (char)('A' + i), initialCash);
         }
+        ruleEngine.bindEventBus(eventBus, players);
+        ruleEngine.attachJournal(journal, players);
+        eventBus.subscribe(this::onGameEvents);
 
         List<String> slotLabels = new ArrayList<>();
         for (Player player : players) {
@@ -139,20 +179,29 @@ public class GameUI implements PlayerInputSink {
         lobbyState = new LobbyState(slotLabels);
 
         // UI 초기화
+        DialogFactory.warmUpInBackground();
         frame = new GameFrame(board, java.util.Arrays.asList(players));
+        dialogFactory = new DialogFactory(frame);
+        StartupMetrics.markOnFirstShow(frame, StartupMetrics.GAME_FRAME);
         frame.addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent e) {
                 if (snapshotTimer != null) {
                     snapshotTimer.stop();
                 }
+                if (Boolean.getBoolean(FRAME_STATS_PROPERTY)) {
+                    System.out.println(frame.getBoardPanel().summarizeFrameStats());
+                }
                 if (hostLobbyFrame != null) {
                     hostLobbyFrame.dispose();
                     hostLobbyFrame = null;
                 }
+                shutdownBot();
             }
         });
         new LocalPlayerInputRouter(frame, this);
+        AnimationClock.shared().setSpeed(AnimationSpeed.parse(System.getProperty(SPEED_PROPERTY)));
+        assignBotsFromProperty(System.getProperty("marblegame.bot.slots"));
         if (hostNetworkService != null) {
             hostStartConfirmed = false;
             hostStartRequired = true;
@@ -173,21 +222,44 @@ public class GameUI implements PlayerInputSink {
                         handleLobbyDisconnection(clientId);
                     });
                 }
+
+                @Override
+                public void onClientSuspended(String clientId, String reason) {
+                    SwingUtilities.invokeLater(() ->
+                        log("[네트워크] 클라이언트 연결 끊김(" + clientId + "): " + reason + " - 재접속 대기 중")
+                    );
+                }
+
+                @Override
+                public void onClientResumed(String clientId) {
+                    SwingUtilities.invokeLater(() -> {
+                        log("[네트워크] 클라이언트 재접속: " + clientId);
+                        handleLobbyResume(clientId);
+                    });
+                }
+
+                @Override
+                public void onSpectatorCountChanged(int spectatorCount) {
+                    SwingUtilities.invokeLater(() -> pushLobbyState());
+                }
             });
             hostLobbyFrame = new HostLobbyFrame(
                 slotIndex -> SwingUtilities.invokeLater(() -> releaseSlotFromHost(slotIndex)),
+                slotIndex -> SwingUtilities.invokeLater(() -> assignBotFromHost(slotIndex)),
                 () -> SwingUtilities.invokeLater(this::confirmHostStart)
             );
             hostLobbyFrame.setLocationRelativeTo(frame);
+            StartupMetrics.markOnFirstShow(hostLobbyFrame, StartupMetrics.LOBBY);
             hostLobbyFrame.setVisible(true);
             startSnapshotTimer();
             pushLobbyState();
         }
 
         frame.setVisible(true);
-        frame.getControlPanel().addLog("=== 모두의 마블 게임 시작 ===");
-        frame.getControlPanel().addLog("플레이어 수: " + numPlayers);
-        frame.getControlPanel().addLog("초기 자금: " + String.format("%,d", initialCash) + "원\n");
+        dialogFactory.prewarm(); // 로비 대기/첫 주사위 동안 EDT 가 한가할 때 다이얼로그를 만들어 둔다
+        frame.addLog("=== 모두의 마블 게임 시작 ===");
+        frame.addLog("플레이어 수: " + numPlayers);
+        frame.addLog("초기 자금: " + String.format("%,d", initialCash) + "원\n");
 
         startTurn();
     }
@@ -222,11 +294,50 @@ public class GameUI implements PlayerInputSink {
         pushLobbyState();
     }
 
+    /**
+     * 재접속한 클라이언트에게 기존 슬롯 배정을 다시 알려 준다.
+     * 세션이 유지되는 동안 슬롯은 해제되지 않으므로 같은 clientId 로 그대로 다시 연결된다.
+     */
+    private void handleLobbyResume(String clientId) {
+        if (hostNetworkService == null || lobbyState == null) {
+            return;
+        }
+        Integer slotIndex = lobbyState.getSlotIndex(clientId);
+        if (slotIndex != null) {
+            notifySlotAssignment(
+                clientId,
+                slotIndex,
+                players[slotIndex].name,
+                SlotAssignmentPayload.Status.ASSIGNED,
+                "세션이 복구되었습니다."
+            );
+        }
+        pushLobbyState();
+        broadcastSnapshot();
+        resendOutstandingDialogCommands(clientId);
+    }
+
+    /**
+     * 재접속한 클라이언트에게 아직 기다리는 중인 다이얼로그 명령만 다시 보낸다.
+     * 세션 backlog 는 다이얼로그 명령을 쌓지 않으므로(시간 초과로 이미 대체된 명령이 뒤늦게 뜨지 않도록) 여기서만 재전송한다.
+     * 끊긴 소켓에 써서 사라진 명령도 이 경로로 복구된다. 클라이언트는 같은 requestId 를 한 번만 띄운다.
+     */
+    private void resendOutstandingDialogCommands(String clientId) {
+        for (Map.Entry<String, OutstandingDialogCommand> entry : outstandingDialogCommands.entrySet()) {
+            OutstandingDialogCommand command = entry.getValue();
+            if (!command.clientId.equals(clientId) || !pendingDialogResponses.containsKey(entry.getKey())) {
+                continue;
+            }
+            hostNetworkService.sendTo(clientId, command.message);
+        }
+    }
+
     private void pushLobbyState() {
         if (hostNetworkService == null || lobbyState == null) {
             return;
         }
         LobbyStateView view = lobbyState.toView(state != GameState.GAME_OVER);
+        view.spectatorCount += hostNetworkService.getSpectatorCount();
         NetworkMessage message = new NetworkMessage(
             MessageType.LOBBY_STATE,
             LobbyStateCodec.encode(view)
@@ -337,6 +448,7 @@ public class GameUI implements PlayerInputSink {
         updateLocalActionButtons();
         updateLocalTileSelection();
         updateOddEvenButtons();
+        maybeScheduleBotAction();
     }
 
     private void updateLocalActionButtons() {
@@ -390,6 +502,18 @@ public class GameUI implements PlayerInputSink {
         if (event == null) {
             return;
         }
+        if (event.getType() == PlayerInputType.UNDO_LANDING) {
+            if (!fromRemoteClient) {
+                undoLastLanding();
+            }
+            return;
+        }
+        if (event.getType() == PlayerInputType.CYCLE_SPEED) {
+            if (!fromRemoteClient) {
+                cycleAnimationSpeed();
+            }
+            return;
+        }
         if (!fromRemoteClient && isCurrentPlayerRemoteControlled()) {
             return;
         }
@@ -550,7 +674,9 @@ public class GameUI implements PlayerInputSink {
 
         if (state == GameState.WAITING_FOR_ROLL || state == GameState.WAITING_FOR_DOUBLE_ROLL) {
             // 게이지 정지 및 결과 생성
-            int result = frame.getActionPanel().getDiceGauge().stop();
+            DiceGauge gauge = frame.getActionPanel().getDiceGauge();
+            int result = botGaugeSection > 0 ? gauge.stopAtSection(botGaugeSection) : gauge.stop();
+            botGaugeSection = 0;
             frame.getActionPanel().stopGaugeAnimation();
 
             int section = frame.getActionPanel().getDiceGauge().getCurrentSection();
@@ -561,17 +687,9 @@ public class GameUI implements PlayerInputSink {
             int originalResult = result;
 
             // 홀수/짝수 필터 적용 (결과값 자체를 홀수/짝수로 조정)
-            if (diceMode == DiceMode.ODD && result % 2 == 0) {
-                // 짝수 결과를 홀수로 변경 (±1)
-                if (result > 2) result -= 1;  // 4→3, 6→5, 8→7, 10→9, 12→11
-                else result += 1;  // 2→3
-            } else if (diceMode == DiceMode.EVEN && result % 2 == 1) {
-                // 홀수 결과를 짝수로 변경 (±1)
-                if (result < 12) result += 1;  // 3→4, 5→6, 7→8, 9→10, 11→12
-                else result -= 1;  // 극히 드문 경우
-            }
+            result = DiceRules.applyMode(result, diceMode);
 
-            int[] dicePair = getRandomDicePairForSum(result);
+            int[] dicePair = DiceRules.randomPairForSum(result);
             int tempD1 = dicePair[0];
             int tempD2 = dicePair[1];
             boolean isDouble = (tempD1 == tempD2);
@@ -580,53 +698,18 @@ public class GameUI implements PlayerInputSink {
             // 첫 번째 주사위: 60%, 두 번째: 20%, 세 번째: 0%
             boolean showSuppressionDialog = false;
             if (isDouble) {
-                double suppressProbability = getDoubleSuppressProbability(consecutiveDoubles);
+                double suppressProbability = DiceRules.suppressProbability(consecutiveDoubles);
                 if (Math.random() < suppressProbability) {
-                    // 합계 2(1,1) 또는 12(6,6)는 더블만 가능
-                    // 이 경우 주사위 값을 조정하여 더블 무효화
-                    if (result == 2 || result == 12) {
-                        // 주사위 값을 비더블로 조정
-                        if (result == 2) {
-                            if (diceMode == DiceMode.EVEN) {
-                                // 짝수 모드에서는 합계가 짝수로 유지되도록 (1,3)으로 조정
-                                tempD1 = 1;
-                                tempD2 = 3;
-                            } else {
-                                // 기본 동작: (1,2)로 조정 (합계 3)
-                                tempD1 = 1;
-                                tempD2 = 2;
-                            }
-                        } else {
-                            if (diceMode == DiceMode.EVEN) {
-                                // 짝수 모드에서는 합계가 짝수로 유지되도록 (6,4)로 조정
-                                tempD1 = 6;
-                                tempD2 = 4;
-                            } else {
-                                // 기본 동작: (6,5)로 조정 (합계 11)
-                                tempD1 = 6;
-                                tempD2 = 5;
-                            }
-                        }
-                        isDouble = false;
-
-                        // 연속 더블 2번 이후에만 억제 다이얼로그 표시
-                        if (consecutiveDoubles >= 2) {
-                            showSuppressionDialog = true;
-                        }
-
-                        logDoubleSuppression(originalResult, tempD1 + tempD2);
-                    } else {
-                        // 강제로 비더블로 변환 (±1 조정)
-                        if (tempD1 > 1) {
-                            tempD1 -= 1;
-                            tempD2 += 1;
-                        } else {
-                            tempD1 += 1;
-                            tempD2 -= 1;
-                        }
-                        isDouble = false;
-                        logDoubleSuppression(originalResult, tempD1 + tempD2);
+                    // 비더블로 조정 (합계 2, 12는 합계가 바뀌고 나머지는 합계 유지)
+                    int[] suppressed = DiceRules.suppressDouble(tempD1, tempD2, diceMode);
+                    // 합계 2(1,1) 또는 12(6,6)는 연속 더블 2번 이후에만 억제 다이얼로그 표시
+                    if ((result == 2 || result == 12) && consecutiveDoubles >= 2) {
+                        showSuppressionDialog = true;
                     }
+                    tempD1 = suppressed[0];
+                    tempD2 = suppressed[1];
+                    isDouble = false;
+                    logDoubleSuppression(originalResult, tempD1 + tempD2);
                 }
             }
 
@@ -685,47 +768,6 @@ public class GameUI implements PlayerInputSink {
         }
     }
 
-    private static int[][][] createSumToDiceCombinations() {
-        int[][][] combos = new int[13][][];
-        combos[2] = new int[][]{{1, 1}};
-        combos[3] = new int[][]{{1, 2}, {2, 1}};
-        combos[4] = new int[][]{{1, 3}, {2, 2}, {3, 1}};
-        combos[5] = new int[][]{{1, 4}, {2, 3}, {3, 2}, {4, 1}};
-        combos[6] = new int[][]{{1, 5}, {2, 4}, {3, 3}, {4, 2}, {5, 1}};
-        combos[7] = new int[][]{{1, 6}, {2, 5}, {3, 4}, {4, 3}, {5, 2}, {6, 1}};
-        combos[8] = new int[][]{{2, 6}, {3, 5}, {4, 4}, {5, 3}, {6, 2}};
-        combos[9] = new int[][]{{3, 6}, {4, 5}, {5, 4}, {6, 3}};
-        combos[10] = new int[][]{{4, 6}, {5, 5}, {6, 4}};
-        combos[11] = new int[][]{{5, 6}, {6, 5}};
-        combos[12] = new int[][]{{6, 6}};
-        return combos;
-    }
-
-    private int[] getRandomDicePairForSum(int sum) {
-        if (sum < 2 || sum > 12) {
-            return new int[]{1, 1};
-        }
-        int[][] combos = SUM_TO_DICE_COMBINATIONS[sum];
-        if (combos == null || combos.length == 0) {
-            return new int[]{1, 1};
-        }
-        int idx = (int)(Math.random() * combos.length);
-        return combos[idx];
-    }
-
-    /**
-     * 더블 억제 확률 계산
-     * @param consecutiveCount 연속 더블 횟수
-     * @return 억제 확률 (0.0 ~ 1.0)
-     */
-    private double getDoubleSuppressProbability(int consecutiveCount) {
-        switch (consecutiveCount) {
-            case 0: return 0.4;    // 1차 더블: 40% 억제 (60% 더블 가능)
-            case 1: return 0.8;    // 2차 더블: 80% 억제 (20% 더블 가능)
-            default: return 1.0;   // 3차 이상: 100% 억제 (0% 더블 가능)
-        }
-    }
-
     private void logDoubleSuppression(int originalSum, int newSum) {
         String probabilityText;
         switch (consecutiveDoubles) {
@@ -786,6 +828,7 @@ public class GameUI implements PlayerInputSink {
 
     private void handleTileLanding() {
         Player player = players[currentPlayerIndex];
+        saveLandingCheckpoint();
         frame.getActionPanel().clearPriceLabels();
 
         switch (currentTile.type) {
@@ -803,7 +846,7 @@ public class GameUI implements PlayerInputSink {
                 break;
 
             case ISLAND:
-                player.jailTurns = 2; // 2턴 갇힘
+                ruleEngine.trapOnIsland(player); // 2턴 갇힘
                 // 무인도 다이얼로그 표시
                 int islandPlayerIndex = currentPlayerIndex;
                 broadcastDialogForPlayer(
@@ -855,7 +898,7 @@ public class GameUI implements PlayerInputSink {
             case RAILROAD:
                 log("전국철도에 도착했습니다!");
                 log("다음 턴에 원하는 칸을 선택할 수 있습니다!");
-                player.hasRailroadTicket = true;
+                ruleEngine.setRailroadTicket(player, true);
                 endTurn();
                 break;
 
@@ -882,7 +925,7 @@ public class GameUI implements PlayerInputSink {
                 log("세계여행에 도착했습니다!");
                 clearDoubleState("🎲 더블이었지만 세계여행 칸에서 무효가 되었습니다.");
                 log("다음 턴에 원하는 칸을 선택할 수 있습니다!");
-                player.hasRailroadTicket = true; // 전국철도와 동일한 효과
+                ruleEngine.setRailroadTicket(player, true); // 전국철도와 동일한 효과
                 endTurn();
                 break;
         }
@@ -936,7 +979,7 @@ public class GameUI implements PlayerInputSink {
             }
 
             if (city.canUpgrade()) {
-                int upgradeCost = city.getUpgradeCost();
+                int upgradeCost = ruleEngine.getUpgradeCost(city);
                 log("업그레이드 비용: " + String.format("%,d", upgradeCost) + "원");
                 state = GameState.WAITING_FOR_ACTION;
                 setActionButtons(false, false, true, false, true, false);
@@ -970,8 +1013,7 @@ public class GameUI implements PlayerInputSink {
             );
             showLocalDialogForPlayer(
                 playerIndex,
-                () -> new TollPaymentDialog(
-                    frame,
+                () -> dialogFactory.tollPayment(
                     city.name,
                     owner.name,
                     city.level,
@@ -1004,7 +1046,7 @@ public class GameUI implements PlayerInputSink {
                     endTurn();
                 } else {
                     // 통행료 지불 후 인수 선택지 제공
-                    int takeoverCost = city.getTakeoverPrice();
+                    int takeoverCost = ruleEngine.getTakeoverPrice(city);
                     log("💰 인수 비용: " + String.format("%,d", takeoverCost) + "원");
                     log("이 땅을 인수하거나 패스하세요.");
                     state = GameState.WAITING_FOR_ACTION;
@@ -1054,8 +1096,7 @@ public class GameUI implements PlayerInputSink {
             );
             showLocalDialogForPlayer(
                 playerIndex,
-                () -> new TollPaymentDialog(
-                    frame,
+                () -> dialogFactory.tollPayment(
                     touristSpot.name,
                     owner.name,
                     1,
@@ -1179,7 +1220,7 @@ public class GameUI implements PlayerInputSink {
         Player player = players[currentPlayerIndex];
         City city = (City) currentTile;
 
-        int upgradeCost = city.getUpgradeCost();
+        int upgradeCost = ruleEngine.getUpgradeCost(city);
         if (ruleEngine.upgradeCity(player, city)) {
             // 자산 변동 표시
             frame.getOverlayPanel().showMoneyChange(currentPlayerIndex, -upgradeCost);
@@ -1236,7 +1277,7 @@ public class GameUI implements PlayerInputSink {
         City city = (City) currentTile;
         Player seller = players[city.owner];
 
-        int takeoverCost = city.getTakeoverPrice();
+        int takeoverCost = ruleEngine.getTakeoverPrice(city);
 
         int playerIndex = currentPlayerIndex;
         broadcastDialogForPlayer(
@@ -1356,8 +1397,10 @@ public class GameUI implements PlayerInputSink {
             log(player.name + "이(가) " + selectedTile.name + " (칸 " + tileIndex + ")을(를) 선택했습니다!");
 
             // 선택한 칸으로 이동
-            player.pos = tileIndex;
-            player.hasRailroadTicket = false; // 티켓 사용
+            int fromTile = player.pos;
+            ruleEngine.setPosition(player, tileIndex);
+            eventBus.playerMoved(currentPlayerIndex, fromTile, tileIndex, 0);
+            ruleEngine.setRailroadTicket(player, false); // 티켓 사용
             currentTile = selectedTile;
 
             // 타일 클릭 비활성화
@@ -1418,7 +1461,7 @@ public class GameUI implements PlayerInputSink {
         );
         showLocalDialogForPlayer(
             playerIndex,
-            () -> new TaxPaymentDialog(frame, player.cash, tax).setVisible(true)
+            () -> dialogFactory.taxPayment(player.cash, tax).setVisible(true)
         );
 
         log("💸 보유 금액의 10%를 세금으로 납부합니다: " + String.format("%,d", tax) + "원");
@@ -1494,12 +1537,14 @@ public class GameUI implements PlayerInputSink {
             return;
         }
 
-        // 업그레이드 비용 계산 (City.getUpgradeCost() 사용)
-        int upgradeCost = selectedLandmarkCity.getUpgradeCost();
+        // 업그레이드 비용 계산 (규칙 프로필 표 조회)
+        int upgradeCost = ruleEngine.getUpgradeCost(selectedLandmarkCity);
 
         if (!player.canAfford(upgradeCost)) {
             log("잔액이 부족하여 업그레이드할 수 없습니다.");
-            showErrorDialog("잔액 부족", "업그레이드 비용이 부족합니다.");
+            if (!isBotPlayer(currentPlayerIndex)) {
+                showErrorDialog("잔액 부족", "업그레이드 비용이 부족합니다.");
+            }
             selectedLandmarkCity = null;
             setTileSelectionEnabled(false);
             endTurn();
@@ -1509,9 +1554,8 @@ public class GameUI implements PlayerInputSink {
         // 현재 레벨 저장
         int previousLevel = selectedLandmarkCity.level;
 
-        // 업그레이드 실행
-        player.pay(upgradeCost);
-        selectedLandmarkCity.upgrade();
+        // 업그레이드 실행 (비용 지불 + 레벨 상승, 통행료 캐시 갱신은 RuleEngine 이 처리)
+        ruleEngine.upgradeCity(player, selectedLandmarkCity);
 
         // 자산 변동 표시
         frame.getOverlayPanel().showMoneyChange(currentPlayerIndex, -upgradeCost);
@@ -1603,6 +1647,12 @@ public class GameUI implements PlayerInputSink {
             log((i + 1) + ". " + city.name + " (레벨 " + city.level + ")");
         }
 
+        // 봇은 탐색으로 도시를 고른다
+        if (isBotPlayer(playerIndex)) {
+            chooseOlympicCityForBot(ownedCities);
+            return;
+        }
+
         // TODO: UI에서 도시 선택 기능 추가 필요
         // 임시로 첫 번째 도시에 적용
         if (!ownedCities.isEmpty()) {
@@ -1679,7 +1729,7 @@ public class GameUI implements PlayerInputSink {
         // 무작위로 1개 선택
         int randomIndex = (int)(Math.random() * emptyCities.size());
         City deletedCity = emptyCities.get(randomIndex);
-        deletedCity.isDeleted = true;
+        ruleEngine.deleteCity(deletedCity);
 
         log("⚠️ 페이즈 딜리트 발동! " + deletedCity.name + "가 삭제됩니다!");
 
@@ -1704,13 +1754,13 @@ public class GameUI implements PlayerInputSink {
             consecutiveDoubles = 0;
             lastD1 = 0;
             lastD2 = 0;
-            player.hasExtraChance = false;
+            ruleEngine.setExtraChance(player, false);
             // 파산이면 더블 및 Extra Chance 체크 생략하고 바로 턴 종료
         } else {
             // Extra Chance 체크 (더블보다 우선)
             if (player.hasExtraChance) {
                 log("🎲 Extra Chance! 추가 주사위를 굴릴 수 있습니다!");
-                player.hasExtraChance = false; // Extra Chance 소진
+                ruleEngine.setExtraChance(player, false); // Extra Chance 소진
 
                 // 정규 주사위 상태로 전환
                 state = GameState.WAITING_FOR_ROLL;
@@ -1749,6 +1799,7 @@ public class GameUI implements PlayerInputSink {
         }
 
         // 더블이 아니면 턴 종료 및 연속 더블 카운터 리셋
+        lastLanding = null; // 턴이 끝난 도착은 되돌리지 않는다
         consecutiveDoubles = 0;
         lastD1 = 0;
         lastD2 = 0;
@@ -1763,6 +1814,7 @@ public class GameUI implements PlayerInputSink {
     }
 
     private void nextPlayer() {
+        lastLanding = null;
         do {
             currentPlayerIndex = (currentPlayerIndex + 1) % players.length;
         } while (players[currentPlayerIndex].bankrupt && !isGameOver());
@@ -1826,6 +1878,7 @@ public class GameUI implements PlayerInputSink {
 
         if (winner != null && winnerIndex >= 0) {
             String victoryType = ruleEngine.getVictoryType(players, winnerIndex);
+            eventBus.victoryAchieved(winnerIndex, winner.cash);
             log("🎉 승자: " + winner.name + " 🎉");
             log("승리 조건: " + victoryType);
             log("최종 자산: " + String.format("%,d", winner.cash) + "원");
@@ -1870,14 +1923,14 @@ public class GameUI implements PlayerInputSink {
     }
 
     private void startMovementAnimation(Player player, int steps) {
-        if (movementTimer != null && movementTimer.isRunning()) {
-            movementTimer.stop();
-        }
+        AnimationClock.shared().stop(movementAnimation);
 
         movementPlayer = player;
         movementPlayerIndex = currentPlayerIndex;
         movementStepsRemaining = steps;
+        movementTotalSteps = steps;
         movementCurrentTile = player.pos;
+        movementStartTile = player.pos;
         movementSubStep = 0;
         movementStartPoint = null;
         movementEndPoint = null;
@@ -1887,10 +1940,22 @@ public class GameUI implements PlayerInputSink {
         setTileSelectionEnabled(false);
         frame.getActionPanel().clearPriceLabels();
 
+        AnimationSpeed speed = AnimationClock.shared().getSpeed();
+        if (speed.isInstant()) {
+            // 즉시 진행: 칸마다 월급 처리까지 바로 적용하고 마지막 모습만 그린다
+            while (movementStepsRemaining > 0) {
+                movementNextTile = board.nextLiveTile(movementCurrentTile);
+                completeMovementStep();
+            }
+            finishMovementAnimation();
+            return;
+        }
+        movementSubSteps = Math.max(1, speed.scale(MOVEMENT_SUB_STEPS));
+        movementHoldSteps = speed.scale(MOVEMENT_HOLD_STEPS);
+
         prepareNextMovementStep();
 
-        movementTimer = new Timer(MOVEMENT_ANIMATION_INTERVAL, e -> updateMovementAnimation());
-        movementTimer.start();
+        AnimationClock.shared().start(movementAnimation, MOVEMENT_ANIMATION_INTERVAL);
     }
 
     private void prepareNextMovementStep() {
@@ -1901,15 +1966,8 @@ public class GameUI implements PlayerInputSink {
 
         movementStartPoint = frame.getBoardPanel().getPlayerAnchorForTile(movementCurrentTile, movementPlayerIndex);
 
-        // 다음 타일 계산 (삭제된 도시는 건너뜀)
-        movementNextTile = (movementCurrentTile + 1) % board.getSize();
-        Tile nextTile = board.getTile(movementNextTile);
-
-        // 삭제된 도시면 추가로 건너뜀 (카운트하지 않음)
-        while (nextTile instanceof City && ((City) nextTile).isDeleted) {
-            movementNextTile = (movementNextTile + 1) % board.getSize();
-            nextTile = board.getTile(movementNextTile);
-        }
+        // 다음 타일 계산 (삭제된 도시는 건너뜀, 카운트하지 않음)
+        movementNextTile = board.nextLiveTile(movementCurrentTile);
 
         movementEndPoint = frame.getBoardPanel().getPlayerAnchorForTile(movementNextTile, movementPlayerIndex);
         movementSubStep = 0;
@@ -1922,7 +1980,7 @@ public class GameUI implements PlayerInputSink {
         }
 
         movementSubStep++;
-        double progress = Math.min(1.0, (double) movementSubStep / MOVEMENT_SUB_STEPS);
+        double progress = Math.min(1.0, (double) movementSubStep / movementSubSteps);
         double easedProgress = Math.sin((Math.PI / 2.0) * progress); // ease-out for hop motion
         double x = movementStartPoint.x + (movementEndPoint.x - movementStartPoint.x) * easedProgress;
         double y = movementStartPoint.y + (movementEndPoint.y - movementStartPoint.y) * easedProgress;
@@ -1931,20 +1989,8 @@ public class GameUI implements PlayerInputSink {
 
         frame.getBoardPanel().setPlayerAnimationPosition(movementPlayerIndex, x, y);
 
-        if (movementSubStep >= MOVEMENT_SUB_STEPS + MOVEMENT_HOLD_STEPS) {
-            frame.getBoardPanel().clearPlayerAnimation(movementPlayerIndex);
-            movementCurrentTile = movementNextTile;
-            movementPlayer.pos = movementCurrentTile;
-            movementStepsRemaining--;
-
-            if (movementCurrentTile == 0) {
-                ruleEngine.paySalary(movementPlayer);
-                log("출발지를 통과하여 월급 " + String.format("%,d", ruleEngine.getSalary()) + "원을 받았습니다!");
-                frame.getOverlayPanel().showMoneyChange(movementPlayerIndex, ruleEngine.getSalary());
-            }
-
-            frame.getBoardPanel().updateBoard();
-            frame.getOverlayPanel().updatePlayerInfo();
+        if (movementSubStep >= movementSubSteps + movementHoldSteps) {
+            completeMovementStep();
 
             if (movementStepsRemaining <= 0) {
                 finishMovementAnimation();
@@ -1954,12 +2000,28 @@ public class GameUI implements PlayerInputSink {
         }
     }
 
-    private void finishMovementAnimation() {
-        if (movementTimer != null) {
-            movementTimer.stop();
-            movementTimer = null;
+    /**
+     * 말을 movementNextTile 로 한 칸 옮기고 출발지 통과 월급을 처리한다
+     */
+    private void completeMovementStep() {
+        frame.getBoardPanel().clearPlayerAnimation(movementPlayerIndex);
+        movementCurrentTile = movementNextTile;
+        ruleEngine.setPosition(movementPlayer, movementCurrentTile);
+        movementStepsRemaining--;
+
+        if (movementCurrentTile == 0) {
+            ruleEngine.paySalary(movementPlayer);
+            log("출발지를 통과하여 월급 " + String.format("%,d", ruleEngine.getSalary()) + "원을 받았습니다!");
+            frame.getOverlayPanel().showMoneyChange(movementPlayerIndex, ruleEngine.getSalary());
         }
 
+        frame.getBoardPanel().updatePlayerToken(movementPlayerIndex);
+        frame.getOverlayPanel().updatePlayerInfo();
+    }
+
+    private void finishMovementAnimation() {
+        AnimationClock.shared().stop(movementAnimation);
+
         if (movementPlayer == null) {
             state = GameState.WAITING_FOR_ACTION;
             return;
@@ -1971,6 +2033,7 @@ public class GameUI implements PlayerInputSink {
 
         currentTile = board.getTile(movementPlayer.pos);
         log(movementPlayer.name + "이(가) " + currentTile.name + "에 도착했습니다.");
+        eventBus.playerMoved(movementPlayerIndex, movementStartTile, movementPlayer.pos, movementTotalSteps);
 
         movementStartPoint = null;
         movementEndPoint = null;
@@ -1980,8 +2043,77 @@ public class GameUI implements PlayerInputSink {
         handleTileLanding();
     }
 
+    /**
+     * 도착 처리 직전 상태를 저장한다. 칸/플레이어 변경은 모두 RuleEngine 기록 위치로, GameUI 가 직접 바꾸는 턴 진행 값은 그대로 보관한다.
+     */
+    private void saveLandingCheckpoint() {
+        LandingCheckpoint checkpoint = new LandingCheckpoint();
+        checkpoint.mark = ruleEngine.checkpoint();
+        checkpoint.playerIndex = currentPlayerIndex;
+        checkpoint.turnCount = turnCount;
+        checkpoint.consecutiveDoubles = consecutiveDoubles;
+        checkpoint.lastD1 = lastD1;
+        checkpoint.lastD2 = lastD2;
+        checkpoint.diceMode = diceMode;
+        lastLanding = checkpoint;
+    }
+
+    /**
+     * 진행 속도를 1× → 4× → 즉시 순으로 바꾼다 (Ctrl+T). 진행 중인 애니메이션은 원래 속도로 끝나고 다음 것부터 적용된다.
+     */
+    private void cycleAnimationSpeed() {
+        AnimationSpeed speed = AnimationClock.shared().getSpeed().next();
+        AnimationClock.shared().setSpeed(speed);
+        log("⏩ 진행 속도: " + speed.getLabel());
+    }
+
+    /**
+     * 호스트 화면의 마지막 도착을 되돌리고 도착 처리를 다시 시작한다 (Ctrl+Z).
+     * 도착한 플레이어가 이 화면에서 조작하는 사람일 때만, 이동/대화상자/봇 계산이 진행 중이 아닐 때만,
+     * 그리고 아직 그 플레이어의 같은 턴일 때만 허용한다 (다음 플레이어의 턴 시작 효과까지 되돌리지 않도록).
+     */
+    private void undoLastLanding() {
+        LandingCheckpoint checkpoint = lastLanding;
+        if (checkpoint == null || checkpoint.mark < 0) {
+            return;
+        }
+        if (state == GameState.ANIMATING_MOVEMENT || state == GameState.GAME_OVER
+            || state == GameState.WAITING_FOR_DIALOG_RESPONSE || waitingForReadyGate
+            || botThinking || botActionScheduled || !pendingDialogResponses.isEmpty()
+            || currentPlayerIndex != checkpoint.playerIndex || turnCount != checkpoint.turnCount
+            || !shouldShowLocalDialogForPlayer(checkpoint.playerIndex)) {
+            log("↩️ 지금은 되돌릴 수 없습니다.");
+            return;
+        }
+
+        int undone = journal.position() - checkpoint.mark;
+        ruleEngine.rollbackTo(checkpoint.mark);
+        if (!ruleEngine.verifyStateHash()) {
+            System.err.println("[Host] 되돌린 뒤 상태 해시가 다시 계산한 값과 달라 재동기화했습니다.");
+        }
+        currentPlayerIndex = checkpoint.playerIndex;
+        turnCount = checkpoint.turnCount;
+        consecutiveDoubles = checkpoint.consecutiveDoubles;
+        lastD1 = checkpoint.lastD1;
+        lastD2 = checkpoint.lastD2;
+        diceMode = checkpoint.diceMode;
+
+        Player player = players[currentPlayerIndex];
+        currentTile = board.getTile(player.pos);
+        selectedLandmarkCity = null;
+        state = GameState.WAITING_FOR_ACTION;
+        log("↩️ " + player.name + "의 " + currentTile.name + " 도착을 되돌립니다. (변경 " + undone + "건)");
+
+        updateDisplay();
+        updateOddEvenButtons();
+        frame.getBoardPanel().updateBoard();
+        frame.getOverlayPanel().updatePlayerInfo();
+        broadcastSnapshot();
+        handleTileLanding();
+    }
+
     private void log(String message) {
-        frame.getControlPanel().addLog(message);
+        frame.addLog(message);
         broadcastLog(message);
     }
 
@@ -2014,13 +2146,25 @@ public class GameUI implements PlayerInputSink {
         }
     }
 
+    /**
+     * 이벤트 배치 구독: 상태가 바뀐 배치마다 스냅샷을 한 번 바로 보낸다
+     * (주기 타이머를 기다리지 않아 원격 화면 반영이 빠르고, 같은 작업의 여러 변경은 한 번으로 합쳐진다)
+     */
+    private void onGameEvents(GameEventBatch batch) {
+        if (hostNetworkService != null && !batch.isEmpty()) {
+            broadcastSnapshot();
+        }
+    }
+
     private void broadcastSnapshot() {
         if (hostNetworkService == null) {
             return;
         }
         try {
+            long startedAt = System.nanoTime();
             GameSnapshot snapshot = createSnapshot();
             String payload = GameSnapshotSerializer.serialize(snapshot);
+            hostNetworkService.getMetrics().recordSerialization(MessageType.STATE_SNAPSHOT, System.nanoTime() - startedAt);
             hostNetworkService.broadcast(new NetworkMessage(MessageType.STATE_SNAPSHOT, payload));
         } catch (Exception ex) {
             System.err.println("[Host] 스냅샷 전송 실패: " + ex.getMessage());
@@ -2294,6 +2438,42 @@ public class GameUI implements PlayerInputSink {
         pushLobbyState();
     }
 
+    private void assignBotFromHost(int slotIndex) {
+        if (assignBotToSlot(slotIndex)) {
+            pushLobbyState();
+        }
+    }
+
+    /**
+     * 시스템 속성 marblegame.bot.slots (예: "1,2") 에 적힌 슬롯을 봇으로 채운다.
+     */
+    private void assignBotsFromProperty(String slots) {
+        if (slots == null || slots.trim().isEmpty()) {
+            return;
+        }
+        for (String token : slots.split(",")) {
+            try {
+                assignBotToSlot(Integer.parseInt(token.trim()));
+            } catch (NumberFormatException ex) {
+                System.err.println("[Host] 봇 슬롯 번호를 해석할 수 없습니다: " + token);
+            }
+        }
+    }
+
+    private boolean assignBotToSlot(int slotIndex) {
+        if (lobbyState == null || slotIndex < 0 || slotIndex >= players.length) {
+            return false;
+        }
+        if (!lobbyState.assignBot(slotIndex, "Bot" + (char)('A' + slotIndex))) {
+            return false;
+        }
+        players[slotIndex].name = lobbyState.getEffectivePlayerName(slotIndex);
+        frame.getOverlayPanel().updatePlayerInfo();
+        log("[봇] 슬롯 #" + (slotIndex + 1) + " 에 " + players[slotIndex].name + " 을(를) 배치했습니다.");
+        refreshLocalInteractionLocks();
+        return true;
+    }
+
     private void confirmHostStart() {
         if (hostStartConfirmed) {
             return;
@@ -2342,6 +2522,9 @@ public class GameUI implements PlayerInputSink {
         if (playerIndex < 0 || playerIndex >= players.length) {
             return true;
         }
+        if (lobbyState.isBotSlot(playerIndex)) {
+            return false;
+        }
         return lobbyState.getClientIdForSlot(playerIndex) == null;
     }
 
@@ -2450,7 +2633,7 @@ public class GameUI implements PlayerInputSink {
 
     private Supplier<DialogResponsePayload> localLevelSelectionHandler(int playerIndex, City city, Player player) {
         return () -> {
-            LevelSelectionDialog dialog = new LevelSelectionDialog(frame, city.name, city.price, player.cash);
+            LevelSelectionDialog dialog = dialogFactory.levelSelection(city.name, city.price, player.cash);
             dialog.setVisible(true);
             int selectedLevel = dialog.getSelectedLevel();
             Map<String, String> attrs = newDialogAttributes();
@@ -2467,8 +2650,7 @@ public class GameUI implements PlayerInputSink {
 
     private Supplier<DialogResponsePayload> localTouristPurchaseHandler(int playerIndex, TouristSpot spot, Player player) {
         return () -> {
-            TouristSpotPurchaseDialog dialog = new TouristSpotPurchaseDialog(
-                frame,
+            TouristSpotPurchaseDialog dialog = dialogFactory.touristPurchase(
                 spot.name,
                 spot.price,
                 player.cash
@@ -2501,8 +2683,7 @@ public class GameUI implements PlayerInputSink {
         int playerCash
     ) {
         return () -> {
-            TakeoverConfirmDialog dialog = new TakeoverConfirmDialog(
-                frame,
+            TakeoverConfirmDialog dialog = dialogFactory.takeoverConfirm(
                 targetName,
                 ownerName,
                 level,
@@ -2560,7 +2741,7 @@ public class GameUI implements PlayerInputSink {
 
     private void handleTouristSpotChoice(Player player, TouristSpot touristSpot, DialogResponsePayload response) {
         if (isResult(response, "EXTRA_ROLL")) {
-            player.hasExtraChance = true;
+            ruleEngine.setExtraChance(player, true);
             log("🎲 추가 주사위 기회를 획득했습니다!");
         } else {
             ruleEngine.lockTouristSpot(touristSpot, currentPlayerIndex);
@@ -2575,7 +2756,7 @@ public class GameUI implements PlayerInputSink {
             endTurn();
             return;
         }
-        int takeoverCost = city.getTakeoverPrice();
+        int takeoverCost = ruleEngine.getTakeoverPrice(city);
         if (ruleEngine.takeoverCity(buyer, seller, city, currentPlayerIndex)) {
             log(buyer.name + "이(가) " + seller.name + "으로부터 " + city.name + "을(를) " +
                 String.format("%,d", takeoverCost) + "원에 인수했습니다!");
@@ -2677,6 +2858,9 @@ public class GameUI implements PlayerInputSink {
                 return failed;
             }
         }
+        if (isBotPlayer(playerIndex)) {
+            return requestBotDialogResponse(playerIndex, dialogType);
+        }
         if (hostNetworkService == null || lobbyState == null) {
             CompletableFuture<DialogResponsePayload> failed = new CompletableFuture<>();
             failed.completeExceptionally(new IllegalStateException("host network unavailable"));
@@ -2692,11 +2876,276 @@ public class GameUI implements PlayerInputSink {
         CompletableFuture<DialogResponsePayload> future = new CompletableFuture<>();
         pendingDialogResponses.put(requestId, response -> future.complete(response));
         DialogCommandPayload payload = new DialogCommandPayload(requestId, dialogType, playerIndex, attributes);
-        hostNetworkService.sendTo(
-            clientId,
-            new NetworkMessage(MessageType.DIALOG_COMMAND, DialogCommandPayload.encode(payload))
-        );
-        future.whenComplete((res, err) -> pendingDialogResponses.remove(requestId));
+        NetworkMessage message = new NetworkMessage(MessageType.DIALOG_COMMAND, DialogCommandPayload.encode(payload));
+        outstandingDialogCommands.put(requestId, new OutstandingDialogCommand(clientId, message));
+        hostNetworkService.sendTo(clientId, message);
+        future.whenComplete((res, err) -> {
+            pendingDialogResponses.remove(requestId);
+            outstandingDialogCommands.remove(requestId);
+        });
         return future;
     }
+
+    private boolean isBotPlayer(int playerIndex) {
+        return lobbyState != null && lobbyState.isBotSlot(playerIndex);
+    }
+
+    /**
+     * 봇 차례에 사람 입력을 기다리는 상태가 되면 다음 EDT 틱에 봇 행동을 한 번 예약한다.
+     * 버튼/타일 잠금 갱신이 한 상태 전환에서 여러 번 불려도 예약은 하나로 합친다.
+     */
+    private void maybeScheduleBotAction() {
+        if (botActionScheduled || botThinking || !isBotPlayer(currentPlayerIndex)) {
+            return;
+        }
+        botActionScheduled = true;
+        SwingUtilities.invokeLater(() -> {
+            botActionScheduled = false;
+            runBotAction();
+        });
+    }
+
+    private void runBotAction() {
+        if (botThinking || waitingForReadyGate || !isBotPlayer(currentPlayerIndex)) {
+            return;
+        }
+        Player player = players[currentPlayerIndex];
+        SimPhase phase;
+        switch (state) {
+            case WAITING_FOR_ROLL:
+            case WAITING_FOR_DOUBLE_ROLL:
+                phase = SimPhase.ROLL;
+                break;
+            case WAITING_FOR_JAIL_CHOICE:
+                phase = SimPhase.JAIL_CHOICE;
+                break;
+            case WAITING_FOR_RAILROAD_SELECTION:
+                phase = SimPhase.TICKET_TARGET;
+                break;
+            case WAITING_FOR_LANDMARK_SELECTION:
+                phase = SimPhase.START_UPGRADE;
+                break;
+            case WAITING_FOR_ACTION:
+                if (currentTile instanceof City && ((City) currentTile).isOwned()
+                    && ((City) currentTile).owner == currentPlayerIndex) {
+                    phase = SimPhase.CITY_UPGRADE;
+                    break;
+                }
+                // 구매/인수는 이어지는 다이얼로그(레벨 선택, 인수 확인)에서 탐색하므로 여기서는 가능 여부만 본다
+                if (currentTile instanceof City && !((City) currentTile).isOwned()) {
+                    City city = (City) currentTile;
+                    if (player.canAfford(ruleEngine.calculateLevelCost(city.price, 1))) {
+                        purchaseCity();
+                    } else {
+                        skip();
+                    }
+                } else if (takeoverButtonActive && player.canAfford(currentTakeoverCost())) {
+                    handleTakeover();
+                } else {
+                    skip();
+                }
+                return;
+            default:
+                return;
+        }
+
+        int playerIndex = currentPlayerIndex;
+        GameState requestedState = state;
+        Tile requestedTile = currentTile;
+        botThinking = true;
+        planBotDecision(phase).thenAccept(option -> SwingUtilities.invokeLater(() -> {
+            botThinking = false;
+            if (state != requestedState || currentPlayerIndex != playerIndex
+                || currentTile != requestedTile || !isBotPlayer(playerIndex)) {
+                maybeScheduleBotAction();
+                return;
+            }
+            applyBotDecision(phase, option);
+        }));
+    }
+
+    private void applyBotDecision(SimPhase phase, int option) {
+        switch (phase) {
+            case ROLL: {
+                // 봇이 고른 홀짝 모드는 이번 굴림에만 쓰고 원래 모드로 되돌린다
+                DiceMode previousMode = diceMode;
+                diceMode = SimGame.rollMode(option);
+                botGaugeSection = SimGame.rollSection(option);
+                log("🤖 " + players[currentPlayerIndex].name + ": " + getSectionName(botGaugeSection)
+                    + (diceMode == DiceMode.NORMAL ? "" : ", " + diceMode + " 모드"));
+                rollDiceWithGauge();
+                diceMode = previousMode;
+                updateOddEvenButtons();
+                break;
+            }
+            case JAIL_CHOICE:
+                if (option == 1) {
+                    escapeWithBail();
+                } else {
+                    skip();
+                }
+                break;
+            case TICKET_TARGET:
+            case START_UPGRADE:
+                onTileSelected(option);
+                break;
+            case CITY_UPGRADE:
+                if (option == 1) {
+                    upgradeCity();
+                } else {
+                    skip();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private int currentTakeoverCost() {
+        if (currentTile instanceof City) {
+            return ruleEngine.getTakeoverPrice((City) currentTile);
+        }
+        if (currentTile instanceof TouristSpot) {
+            return ((TouristSpot) currentTile).price;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 다이얼로그로 묻는 결정(레벨 선택, 관광지 매입/선택, 인수 확인)을 봇 탐색 결과로 답한다.
+     */
+    private CompletableFuture<DialogResponsePayload> requestBotDialogResponse(int playerIndex, DialogType dialogType) {
+        SimPhase phase;
+        switch (dialogType) {
+            case LEVEL_SELECTION:
+                phase = SimPhase.CITY_PURCHASE;
+                break;
+            case TOURIST_PURCHASE:
+                phase = SimPhase.TOURIST_PURCHASE;
+                break;
+            case TOURIST_CHOICE:
+                phase = SimPhase.TOURIST_CHOICE;
+                break;
+            case TAKEOVER_CONFIRM:
+                phase = SimPhase.TAKEOVER;
+                break;
+            default:
+                CompletableFuture<DialogResponsePayload> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new IllegalStateException("bot cannot answer " + dialogType));
+                return failed;
+        }
+        return planBotDecision(phase).thenApply(option -> {
+            Map<String, String> attrs = newDialogAttributes();
+            String result;
+            switch (dialogType) {
+                case LEVEL_SELECTION:
+                    if (option > 0) {
+                        result = "LEVEL_SELECTED";
+                        attrs.put("selectedLevel", Integer.toString(option));
+                    } else {
+                        result = "CANCEL";
+                    }
+                    break;
+                case TOURIST_CHOICE:
+                    result = option == 1 ? "EXTRA_ROLL" : "LOCK";
+                    break;
+                default:
+                    result = option == 1 ? "CONFIRM" : "CANCEL";
+                    break;
+            }
+            return buildLocalDialogResponse(playerIndex, dialogType, result, attrs);
+        });
+    }
+
+    private void chooseOlympicCityForBot(List<City> ownedCities) {
+        int playerIndex = currentPlayerIndex;
+        enterDialogWaitState();
+        planBotDecision(SimPhase.OLYMPIC_TARGET).thenAccept(option -> SwingUtilities.invokeLater(() -> {
+            exitDialogWaitState();
+            if (currentPlayerIndex != playerIndex) {
+                return;
+            }
+            City selectedCity = ownedCities.get(0);
+            for (City city : ownedCities) {
+                if (city.id == option) {
+                    selectedCity = city;
+                }
+            }
+            ruleEngine.applyOlympicBoost(selectedCity);
+            log("⚡ " + selectedCity.name + "에 올림픽 효과가 적용되었습니다! (통행료 2배)");
+            endTurn();
+        }));
+    }
+
+    /**
+     * 현재 게임 상태를 복사해 봇 탐색을 HostBotPlanner 스레드에서 실행한다 (EDT 에서 호출).
+     * 탐색이 실패하면 플레이아웃 기본 정책으로 대신 고른다.
+     */
+    private CompletableFuture<Integer> planBotDecision(SimPhase phase) {
+        boolean rolledDouble = lastD1 == lastD2 && lastD1 > 0;
+        SimState root = SimState.capture(board, players, currentPlayerIndex, turnCount,
+            consecutiveDoubles, rolledDouble, phase);
+        long rootHash = ruleEngine.getStateHash(currentPlayerIndex, consecutiveDoubles);
+        String botName = players[currentPlayerIndex].name;
+        MctsBot bot = getMctsBot();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                MctsBot.Decision decision = bot.decide(root, rootHash);
+                System.out.println("[Host] 봇 " + botName + ": " + decision.summary());
+                return decision.getOption();
+            } catch (RuntimeException ex) {
+                System.err.println("[Host] 봇 탐색 실패, 기본 정책으로 진행: " + ex.getMessage());
+                return bot.getGame().rolloutChoice(root, new SplittableRandom());
+            }
+        }, botPlanner);
+    }
+
+    private MctsBot getMctsBot() {
+        if (mctsBot == null) {
+            mctsBot = MctsBot.withDefaults(simRules);
+            botPlanner = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "HostBotPlanner");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return mctsBot;
+    }
+
+    private void shutdownBot() {
+        if (botPlanner != null) {
+            botPlanner.shutdownNow();
+            botPlanner = null;
+        }
+        if (mctsBot != null) {
+            mctsBot.shutdown();
+            mctsBot = null;
+        }
+    }
+
+    /**
+     * 응답을 기다리는 원격 다이얼로그 명령과 받을 클라이언트
+     */
+    private static final class OutstandingDialogCommand {
+        final String clientId;
+        final NetworkMessage message;
+
+        OutstandingDialogCommand(String clientId, NetworkMessage message) {
+            this.clientId = clientId;
+            this.message = message;
+        }
+    }
+
+    /**
+     * 도착 직전의 기록 위치와 GameUI 가 직접 관리하는 턴 진행 값
+     */
+    private static final class LandingCheckpoint {
+        int mark;
+        int playerIndex;
+        int turnCount;
+        int consecutiveDoubles;
+        int lastD1;
+        int lastD2;
+        DiceMode diceMode;
+    }
 }
@@ -4,10 +4,7 @@ import com.marblegame.core.input.LocalPlayerInputRouter;
 import com.marblegame.core.input.PlayerInputEvent;
 import com.marblegame.core.input.PlayerInputSink;
 import com.marblegame.model.Board;
-import com.marblegame.model.City;
 import com.marblegame.model.Player;
-import com.marblegame.model.Tile;
-import com.marblegame.model.TouristSpot;
 import com.marblegame.network.ClientNetworkService;
 import com.marblegame.network.listener.ServerMessageListener;
 import com.marblegame.network.message.DialogCommandPayload;
@@ -37,28 +34,45 @@ import javax.swing.WindowConstants;
  * 원격 클라이언트에서 호스트의 GameUI 상태를 미러링하는 경량 컨트롤러.
  */
 public class RemoteGameUI {
+    private static final int SEEN_DIALOG_REQUEST_LIMIT = 64;
+
     private final ClientNetworkService networkService;
     private final Runnable onDisconnect;
 
     private GameFrame frame;
+    private DialogFactory dialogFactory;
     private Board board;
     private Player[] players;
     private boolean initialized = false;
     private int lastDiceSequence = -1;
-    private final List<String> pendingLogs = new ArrayList<>();
+    // 화면이 만들어지기 전에 온 로그도 여기에 쌓았다가 화면의 로그 패널이 그대로 쓴다
+    private final GameLogModel logModel = new GameLogModel();
     private final List<DialogSyncPayload> pendingDialogs = new ArrayList<>();
     private final List<DialogCommandPayload> pendingDialogCommands = new ArrayList<>();
+    // 재접속 후 호스트가 다시 보낸 명령을 한 번만 띄우기 위한 최근 requestId (EDT 전용)
+    private final Map<String, Boolean> seenDialogRequests = new LinkedHashMap<String, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > SEEN_DIALOG_REQUEST_LIMIT;
+        }
+    };
     private volatile boolean localDisconnectRequested = false;
     private final ServerMessageListener messageListener;
     private volatile int assignedPlayerIndex = -1;
     private volatile String assignedPlayerName = "";
+    private final boolean spectator;
 
     public RemoteGameUI(ClientNetworkService networkService, Runnable onDisconnect) {
         this.networkService = networkService;
+        this.spectator = networkService.isSpectator();
         this.onDisconnect = onDisconnect;
         this.messageListener = this::handleServerMessage;
         this.networkService.addMessageListener(messageListener);
         this.networkService.setDisconnectListener(this::handleNetworkDisconnect);
+        DialogFactory.warmUpInBackground(); // 로비 단계에서 다이얼로그 클래스/글꼴을 불러 둔다
+        this.networkService.setResumeListener(() ->
+            SwingUtilities.invokeLater(() -> appendLog("[시스템] 호스트와의 연결이 복구되었습니다."))
+        );
     }
 
     private void handleServerMessage(NetworkMessage message) {
@@ -77,7 +91,7 @@ public class RemoteGameUI {
         } else if (message.getType() == MessageType.LOG_ENTRY) {
             String payload = message.getPayload();
             if (payload != null && !payload.isEmpty()) {
-                SwingUtilities.invokeLater(() -> appendLog(payload));
+                logModel.post(payload); // 다음 프레임에 몰아서 반영
             }
         } else if (message.getType() == MessageType.DIALOG_SYNC) {
             handleDialogSync(message.getPayload());
@@ -179,13 +193,12 @@ public class RemoteGameUI {
             return;
         }
 
-        syncPlayers(snapshot);
-        syncBoard(snapshot);
+        syncBoardAndPlayers(snapshot);
         syncButtons(snapshot);
         syncDice(snapshot);
 
         frame.updateDisplay(snapshot.turnNumber);
-        frame.getBoardPanel().setTileClickEnabled(snapshot.tileSelectionEnabled);
+        frame.getBoardPanel().setTileClickEnabled(!spectator && snapshot.tileSelectionEnabled);
         updateWaitingIndicator(snapshot);
     }
 
@@ -205,7 +218,9 @@ public class RemoteGameUI {
         }
 
         frame = new GameFrame(board, Arrays.asList(players));
-        frame.setTitle("모두의 마블 2.0 - 클라이언트");
+        dialogFactory = new DialogFactory(frame);
+        StartupMetrics.markOnFirstShow(frame, StartupMetrics.GAME_FRAME);
+        frame.setTitle(spectator ? "모두의 마블 2.0 - 관전" : "모두의 마블 2.0 - 클라이언트");
         frame.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
         frame.addWindowListener(new WindowAdapter() {
             @Override
@@ -217,12 +232,15 @@ public class RemoteGameUI {
             }
         });
 
-        new LocalPlayerInputRouter(
-            frame,
-            new NetworkPlayerInputSink(networkService, frame)
-        );
+        if (!spectator) {
+            new LocalPlayerInputRouter(
+                frame,
+                new NetworkPlayerInputSink(networkService, frame)
+            );
+        }
 
         frame.setVisible(true);
+        dialogFactory.prewarm();
         initialized = true;
         flushPendingLogs();
         flushPendingDialogs();
@@ -230,51 +248,20 @@ public class RemoteGameUI {
         refreshLocalHighlight();
     }
 
-    private void syncPlayers(GameSnapshot snapshot) {
-        if (players == null || players.length != snapshot.players.size()) {
-            return;
-        }
-        for (int i = 0; i < players.length; i++) {
-            GameSnapshot.PlayerState ps = snapshot.players.get(i);
-            Player player = players[i];
-            player.cash = ps.cash;
-            player.pos = ps.position;
-            player.jailTurns = ps.jailTurns;
-            player.bankrupt = ps.bankrupt;
-            player.hasRailroadTicket = ps.hasRailroadTicket;
-            player.hasExtraChance = ps.hasExtraChance;
-        }
-        frame.getOverlayPanel().updatePlayerInfo();
-    }
-
-    private void syncBoard(GameSnapshot snapshot) {
+    private void syncBoardAndPlayers(GameSnapshot snapshot) {
         if (board == null) {
             board = new Board();
         }
-        for (GameSnapshot.CityState cs : snapshot.cities) {
-            Tile tile = board.getTile(cs.tileId);
-            if (tile instanceof City) {
-                City city = (City) tile;
-                city.owner = cs.owner;
-                city.level = cs.level;
-                city.hasOlympicBoost = cs.hasOlympicBoost;
-                city.isDeleted = cs.deleted;
-            }
-        }
-        for (GameSnapshot.TouristSpotState ts : snapshot.touristSpots) {
-            Tile tile = board.getTile(ts.tileId);
-            if (tile instanceof TouristSpot) {
-                TouristSpot spot = (TouristSpot) tile;
-                spot.owner = ts.owner;
-                spot.locked = ts.locked;
-                spot.lockedBy = ts.lockedBy;
-            }
-        }
+        BoardImageRenderer.applySnapshot(snapshot, board, players);
+        frame.getOverlayPanel().updatePlayerInfo();
         frame.getBoardPanel().updateBoard();
     }
 
     private void syncButtons(GameSnapshot snapshot) {
-        if (snapshot.buttons != null) {
+        if (spectator) {
+            // 관전자는 어떤 입력도 할 수 없으므로 버튼을 항상 비활성화한다.
+            frame.getActionPanel().setButtonsEnabled(false, false, false, false, false, false);
+        } else if (snapshot.buttons != null) {
             frame.getActionPanel().setButtonsEnabled(
                 snapshot.buttons.roll,
                 snapshot.buttons.purchase,
@@ -375,8 +362,7 @@ public class RemoteGameUI {
                 ).setVisible(true);
                 break;
             case TOLL_PAYMENT:
-                new TollPaymentDialog(
-                    frame,
+                dialogFactory.tollPayment(
                     safeString(payload.get("cityName"), "도시"),
                     safeString(payload.get("ownerName"), "???"),
                     payload.getInt("level", 1),
@@ -386,8 +372,7 @@ public class RemoteGameUI {
                 ).setVisible(true);
                 break;
             case TOURIST_PURCHASE:
-                new TouristSpotPurchaseDialog(
-                    frame,
+                dialogFactory.touristPurchase(
                     safeString(payload.get("spotName"), "관광지"),
                     payload.getInt("price", 0),
                     payload.getInt("playerCash", 0)
@@ -400,16 +385,14 @@ public class RemoteGameUI {
                 ).setVisible(true);
                 break;
             case LEVEL_SELECTION:
-                new LevelSelectionDialog(
-                    frame,
+                dialogFactory.levelSelection(
                     safeString(payload.get("cityName"), "도시"),
                     payload.getInt("price", 0),
                     payload.getInt("playerCash", 0)
                 ).setVisible(true);
                 break;
             case TAKEOVER_CONFIRM:
-                new TakeoverConfirmDialog(
-                    frame,
+                dialogFactory.takeoverConfirm(
                     safeString(payload.get("cityName"), "도시"),
                     safeString(payload.get("ownerName"), "???"),
                     payload.getInt("level", 1),
@@ -425,8 +408,7 @@ public class RemoteGameUI {
                 ).setVisible(true);
                 break;
             case TAX_PAYMENT:
-                new TaxPaymentDialog(
-                    frame,
+                dialogFactory.taxPayment(
                     payload.getInt("playerCash", 0),
                     payload.getInt("taxAmount", 0)
                 ).setVisible(true);
@@ -476,21 +458,13 @@ public class RemoteGameUI {
     }
 
     private void appendLog(String message) {
-        if (frame == null) {
-            pendingLogs.add(message);
-        } else {
-            frame.getControlPanel().addLog(message);
-        }
+        logModel.append(message);
     }
 
     private void flushPendingLogs() {
-        if (frame == null || pendingLogs.isEmpty()) {
-            return;
-        }
-        for (String log : pendingLogs) {
-            frame.getControlPanel().addLog(log);
+        if (frame != null) {
+            frame.setLogModel(logModel);
         }
-        pendingLogs.clear();
     }
 
     private void flushPendingDialogs() {
@@ -515,6 +489,9 @@ public class RemoteGameUI {
     }
 
     private void enqueueOrHandleDialogCommand(DialogCommandPayload command) {
+        if (seenDialogRequests.put(command.getRequestId(), Boolean.TRUE) != null) {
+            return; // 재접속 후 다시 받은 같은 명령
+        }
         if (frame == null) {
             pendingDialogCommands.add(command);
             return;
@@ -551,7 +528,7 @@ public class RemoteGameUI {
         String cityName = getAttr(attrs, "cityName", "도시");
         int price = getIntAttr(attrs, "price", 0);
         int cash = getIntAttr(attrs, "playerCash", 0);
-        LevelSelectionDialog dialog = new LevelSelectionDialog(frame, cityName, price, cash);
+        LevelSelectionDialog dialog = dialogFactory.levelSelection(cityName, price, cash);
         dialog.setVisible(true);
         int selectedLevel = dialog.getSelectedLevel();
         Map<String, String> responseAttrs = newAttributeMap();
@@ -569,7 +546,7 @@ public class RemoteGameUI {
         String spotName = getAttr(attrs, "spotName", "관광지");
         int price = getIntAttr(attrs, "price", 0);
         int cash = getIntAttr(attrs, "playerCash", 0);
-        TouristSpotPurchaseDialog dialog = new TouristSpotPurchaseDialog(frame, spotName, price, cash);
+        TouristSpotPurchaseDialog dialog = dialogFactory.touristPurchase(spotName, price, cash);
         dialog.setVisible(true);
         String result = dialog.isConfirmed() ? "CONFIRM" : "CANCEL";
         sendDialogResponse(command, result, newAttributeMap());
@@ -581,7 +558,7 @@ public class RemoteGameUI {
         int level = getIntAttr(attrs, "level", 1);
         int cost = getIntAttr(attrs, "cost", 0);
         int cash = getIntAttr(attrs, "playerCash", 0);
-        TakeoverConfirmDialog dialog = new TakeoverConfirmDialog(frame, cityName, ownerName, level, cost, cash);
+        TakeoverConfirmDialog dialog = dialogFactory.takeoverConfirm(cityName, ownerName, level, cost, cash);
         dialog.setVisible(true);
         String result = dialog.isConfirmed() ? "CONFIRM" : "CANCEL";
         sendDialogResponse(command, result, newAttributeMap());
@@ -663,9 +640,11 @@ public class RemoteGameUI {
     public void dispose() {
         networkService.removeMessageListener(messageListener);
         networkService.setDisconnectListener(null);
+        networkService.setResumeListener(null);
         if (frame != null) {
             frame.dispose();
             frame = null;
+            dialogFactory = null;
         }
     }
 
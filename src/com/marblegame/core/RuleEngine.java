@@ -1,47 +1,326 @@
 package com.marblegame.core;
 
+import com.marblegame.core.event.GameEvent;
+import com.marblegame.core.event.GameEventBus;
 import com.marblegame.model.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게임 규칙 엔진
  * 통행료 계산, 매입, 업그레이드, 파산, 무인도 처리
  */
 public class RuleEngine {
-    // rules.json 값들
-    private final int salary = 200000;
-    private final int bail = 200000;
-    private final int islandMaxTurns = 2; // 2턴 대기
-    private final double[] tollMultiplierByLevel = {0.0, 1.5, 2.2, 3.0, 4.0}; // 레벨 0~4
-    private final double colorMonopolyMultiplier = 1.5;
-    private final int chanceReward = 100000;
-    private final double taxRate = 0.1; // 국세청 세율 10%
+    // 경제 규칙 (RuleProfile 에서 시작 시 한 번 읽은 값, 배율은 고정소수점 표로 컴파일되어 있다)
+    private final RuleProfile rules;
+    private final int salary;
+    private final int bail;
+    private final int islandMaxTurns;
+    private final int chanceReward;
+
+    /**
+     * 듀얼 마그네틱 코어가 끌어당기는 거리 (살아있는 칸 기준)
+     */
+    public static final int MAGNETIC_RANGE = 4;
+
+    private static final int NO_MONOPOLY = -1;
 
     private final Board board;
 
+    // 라인 독점 승리 판정 라인별 소유 가능한 칸(도시 + 관광지) 번호, 보드 라인 색인에서 생성 시 한 번 거른다
+    private final int[][] ownableLines;
+
+    // 도시별 가격대 비용 표 (건설/업그레이드/인수, 같은 매입가끼리 공유, 도시가 아니면 null)
+    private final RuleProfile.PriceTable[] priceTables;
+
+    // 통행료 표
+    // tollTable: 도시별 (레벨, 독점, 올림픽) 조합의 통행료를 생성 시 미리 계산 (도시가 아니면 null)
+    // monopolyOwnerByColor: 컬러 그룹별 독점 플레이어 (없으면 -1), 소유권이 바뀔 때만 다시 계산
+    private final int[][] tollTable;
+    private final Map<String, List<City>> citiesByColor = new HashMap<>();
+    private final Map<String, Integer> monopolyOwnerByColor = new HashMap<>();
+
+    // 칸 상태 Zobrist 해시: 칸을 바꾸는 모든 메서드가 바꾸기 전 키와 바꾼 뒤 키를 XOR 해서 갱신한다
+    // playerStateHash 는 연결된 플레이어 상태의 해시로, recordCash/recordPlayer 와 되돌리기/다시하기가 같은 방식으로 갱신한다
+    private final ZobristKeys zobrist;
+    private long tileStateHash;
+    private long playerStateHash;
+
+    // 도메인 이벤트 (연결되지 않았으면 null), boundPlayers 는 Player 객체 → 인덱스 변환용
+    private GameEventBus events;
+    private Player[] boundPlayers;
+
+    // 변경 기록 (연결되지 않았으면 null). replaying 중에는 되돌리기/다시하기가 만든 변경을 다시 기록하지 않는다.
+    // pendingTileState 는 beginTileChange 에서 잡은 바꾸기 전 칸 상태
+    private StateJournal journal;
+    private boolean replaying;
+    private int pendingTileState;
+
     public RuleEngine(Board board) {
+        this(board, RuleProfile.active());
+    }
+
+    /**
+     * 규칙 프로필을 직접 골라 만든다 (밸런스 비교, 경제 A/B 시뮬레이션용)
+     */
+    public RuleEngine(Board board, RuleProfile rules) {
         this.board = board;
+        this.rules = rules;
+        this.salary = rules.getSalary();
+        this.bail = rules.getBail();
+        this.islandMaxTurns = rules.getIslandMaxTurns();
+        this.chanceReward = rules.getChanceReward();
+        this.zobrist = ZobristKeys.forBoardSize(board.getSize());
+        this.priceTables = new RuleProfile.PriceTable[board.getSize()];
+        this.tollTable = new int[board.getSize()][];
+        for (int i = 0; i < board.getSize(); i++) {
+            Tile tile = board.getTile(i);
+            if (tile instanceof City) {
+                City city = (City) tile;
+                priceTables[i] = rules.priceTable(city.price);
+                tollTable[i] = buildTollTable(city);
+                citiesByColor.computeIfAbsent(city.colorGroup, color -> new ArrayList<>()).add(city);
+            }
+        }
+        this.ownableLines = buildOwnableLines(board);
+        refreshMonopolies();
+        this.tileStateHash = computeTileStateHash();
     }
 
     /**
-     * 통행료 계산
-     * level과 컬러 독점 여부, 올림픽 효과 반영
+     * 상태 변경 이벤트를 받을 버스를 연결한다 (null 이면 해제). 발행은 규칙 메서드를 부르는 스레드에서 일어난다.
+     * @param players Player 객체로만 받는 메서드(통행료, 세금, 업그레이드)의 플레이어 인덱스를 찾는 데 쓴다
      */
-    public int calculateToll(City city, int ownerIndex) {
-        int toll = (int)(city.baseToll * tollMultiplierByLevel[city.level]);
+    public void bindEventBus(GameEventBus bus, Player[] players) {
+        this.events = bus;
+        bindPlayers(players);
+    }
 
-        // 컬러 독점 체크
-        if (hasColorMonopoly(ownerIndex, city.colorGroup)) {
-            toll = (int)(toll * colorMonopolyMultiplier);
+    /**
+     * 플레이어 인덱스 기준 배열을 연결하고 플레이어 상태 해시를 다시 계산한다.
+     * 이후 플레이어 필드는 RuleEngine 의 메서드로만 바꿔야 getStateHash 가 맞는다.
+     */
+    public void bindPlayers(Player[] players) {
+        this.boundPlayers = players;
+        this.playerStateHash = computePlayerStateHash();
+    }
+
+    private int playerIndexOf(Player player) {
+        if (boundPlayers != null) {
+            for (int i = 0; i < boundPlayers.length; i++) {
+                if (boundPlayers[i] == player) {
+                    return i;
+                }
+            }
         }
+        return GameEvent.NONE;
+    }
+
+    /**
+     * 상태 변경 기록을 연결한다 (null 이면 해제). 이후 규칙 메서드의 칸/현금/플레이어 변경이 모두 기록된다.
+     * @param players 기록의 플레이어 인덱스 기준 (bindEventBus 와 같은 배열)
+     */
+    public void attachJournal(StateJournal journal, Player[] players) {
+        this.journal = journal;
+        bindPlayers(players);
+    }
+
+    public StateJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * 지금을 되돌리기 한 번의 경계로 표시한다 (기록이 없으면 -1)
+     */
+    public int checkpoint() {
+        return journal != null ? journal.checkpoint() : -1;
+    }
 
-        // 올림픽 효과로 통행료 2배
-        if (city.hasOlympicBoost) {
-            toll *= 2;
+    /**
+     * 가정 분기 시작점 (기록이 없으면 -1). 분기에서 규칙 메서드를 마음껏 부른 뒤 rollbackTo 로 돌아온다.
+     */
+    public int mark() {
+        return journal != null ? journal.position() : -1;
+    }
+
+    /**
+     * mark 이후의 변경을 모두 되돌리고 흔적(다시하기 기록 포함)을 지운다.
+     */
+    public void rollbackTo(int mark) {
+        if (journal == null || mark < 0) {
+            return;
         }
+        rewind(Math.min(mark, journal.cursor()));
+        journal.discardAfter(mark);
+    }
 
-        return toll;
+    /**
+     * 직전 경계까지 되돌린다
+     * @return 되돌린 변경이 있으면 true
+     */
+    public boolean undo() {
+        if (journal == null || !journal.canUndo()) {
+            return false;
+        }
+        rewind(journal.previousCheckpoint());
+        return true;
+    }
+
+    /**
+     * 되돌린 변경을 다음 경계까지 다시 적용한다
+     * @return 다시 적용한 변경이 있으면 true
+     */
+    public boolean redo() {
+        if (journal == null || !journal.canRedo()) {
+            return false;
+        }
+        int target = journal.nextCheckpoint();
+        replaying = true;
+        try {
+            for (int i = journal.cursor(); i < target; i++) {
+                applyEntry(i, journal.newValue(i));
+            }
+        } finally {
+            replaying = false;
+        }
+        journal.setCursor(target);
+        return true;
+    }
+
+    private void rewind(int target) {
+        replaying = true;
+        try {
+            for (int i = journal.cursor() - 1; i >= target; i--) {
+                applyEntry(i, journal.oldValue(i));
+            }
+        } finally {
+            replaying = false;
+        }
+        journal.setCursor(target);
+    }
+
+    /**
+     * 기록 한 건의 값을 상태에 써 넣고 해시/통행료/살아있는 칸 색인을 맞춘다 (이벤트는 내지 않는다)
+     */
+    private void applyEntry(int index, int value) {
+        int target = journal.target(index);
+        switch (journal.kind(index)) {
+            case StateJournal.TILE: {
+                Tile tile = board.getTile(target);
+                long previousKey = tileKey(tile);
+                boolean wasDeleted = tile instanceof City && ((City) tile).isDeleted;
+                StateJournal.unpackTile(tile, value);
+                updateTileHash(tile, previousKey);
+                if (tile instanceof City) {
+                    City city = (City) tile;
+                    if (city.isDeleted != wasDeleted) {
+                        board.rebuildLiveIndex();
+                    }
+                    onOwnershipChanged(city);
+                }
+                break;
+            }
+            case StateJournal.CASH: {
+                Player player = boundPlayers[target];
+                int previousCash = player.cash;
+                player.cash = value;
+                updatePlayerHash(target, StateJournal.packPlayer(player), previousCash);
+                break;
+            }
+            default: {
+                Player player = boundPlayers[target];
+                int previousState = StateJournal.packPlayer(player);
+                StateJournal.unpackPlayer(player, value);
+                updatePlayerHash(target, previousState, player.cash);
+                break;
+            }
+        }
+    }
+
+    private boolean recording() {
+        return journal != null && !replaying;
+    }
+
+    private void pay(Player player, int amount) {
+        int before = player.cash;
+        player.pay(amount);
+        recordCash(player, before);
+    }
+
+    private void earn(Player player, int amount) {
+        int before = player.cash;
+        player.earn(amount);
+        recordCash(player, before);
+    }
+
+    private void recordCash(Player player, int before) {
+        int index = playerIndexOf(player);
+        if (index == GameEvent.NONE) {
+            return;
+        }
+        updatePlayerHash(index, StateJournal.packPlayer(player), before);
+        if (recording()) {
+            journal.record(StateJournal.CASH, index, before, player.cash);
+        }
+    }
+
+    private void recordPlayer(Player player, int before) {
+        int index = playerIndexOf(player);
+        if (index == GameEvent.NONE) {
+            return;
+        }
+        updatePlayerHash(index, before, player.cash);
+        if (recording()) {
+            journal.record(StateJournal.PLAYER, index, before, StateJournal.packPlayer(player));
+        }
+    }
+
+    private void markBankrupt(Player player, int creditor) {
+        if (player.bankrupt) {
+            return;
+        }
+        int before = StateJournal.packPlayer(player);
+        player.bankrupt = true;
+        recordPlayer(player, before);
+        if (events != null) {
+            events.bankrupt(playerIndexOf(player), creditor);
+        }
+    }
+
+    private static int[][] buildOwnableLines(Board board) {
+        int[][] lines = board.getLayout().getVictoryLines();
+        int[][] ownable = new int[lines.length][];
+        for (int i = 0; i < lines.length; i++) {
+            ownable[i] = Arrays.stream(lines[i])
+                .filter(tileId -> {
+                    Tile tile = board.getTile(tileId);
+                    return tile instanceof City || tile instanceof TouristSpot;
+                })
+                .toArray();
+        }
+        return ownable;
+    }
+
+    /**
+     * 통행료 계산
+     * level과 컬러 독점 여부, 올림픽 효과 반영
+     * 미리 계산된 표에서 현재 상태에 해당하는 값을 꺼낸다.
+     */
+    public int calculateToll(City city, int ownerIndex) {
+        boolean monopoly = hasColorMonopoly(ownerIndex, city.colorGroup);
+        return tollTable[city.id][tollStateIndex(city.level, monopoly, city.hasOlympicBoost)];
+    }
+
+    /**
+     * 모든 컬러 그룹의 독점 여부를 다시 계산한다
+     */
+    private void refreshMonopolies() {
+        for (String color : citiesByColor.keySet()) {
+            refreshColorGroup(color);
+        }
     }
 
     /**
@@ -51,19 +330,164 @@ public class RuleEngine {
      * 해당 컬러 그룹의 모든 칸이 동일한 플레이어 소유여야 함
      */
     public boolean hasColorMonopoly(int playerIndex, String colorGroup) {
-        List<City> cities = board.getCitiesByColor(colorGroup);
+        Integer owner = monopolyOwnerByColor.get(colorGroup);
+        return owner != null && owner != NO_MONOPOLY && owner == playerIndex;
+    }
 
-        if (cities.isEmpty()) {
-            return false;
+    /**
+     * 소유 상태와 무관하게 레벨/독점 조합별 통행료를 표에서 꺼낸다 (올림픽 효과 제외)
+     * 가격 밸런스 분석처럼 가정한 상태의 통행료가 필요할 때 사용한다.
+     */
+    public int getTollForLevel(City city, int level, boolean monopoly) {
+        int clamped = Math.max(0, Math.min(RuleProfile.MAX_LEVEL, level));
+        return tollTable[city.id][tollStateIndex(clamped, monopoly, false)];
+    }
+
+    private int[] buildTollTable(City city) {
+        int[] table = new int[(RuleProfile.MAX_LEVEL + 1) * 4];
+        for (int level = 0; level <= RuleProfile.MAX_LEVEL; level++) {
+            for (int flags = 0; flags < 4; flags++) {
+                boolean monopoly = (flags & 2) != 0;
+                boolean olympic = (flags & 1) != 0;
+                table[tollStateIndex(level, monopoly, olympic)] = rules.toll(city.baseToll, level, monopoly, olympic);
+            }
         }
+        return table;
+    }
 
+    private static int tollStateIndex(int level, boolean monopoly, boolean olympic) {
+        return level * 4 + (monopoly ? 2 : 0) + (olympic ? 1 : 0);
+    }
+
+    /**
+     * 소유권이 바뀐 도시의 컬러 그룹 독점 여부를 다시 계산한다.
+     */
+    private void onOwnershipChanged(City city) {
+        refreshColorGroup(city.colorGroup);
+    }
+
+    private void refreshColorGroup(String colorGroup) {
+        List<City> cities = citiesByColor.get(colorGroup);
+        if (cities == null) {
+            return;
+        }
+        Integer owner = cities.get(0).owner;
         for (City city : cities) {
-            if (!city.isOwned() || city.owner != playerIndex) {
-                return false;
+            if (!city.isOwned() || !city.owner.equals(owner)) {
+                owner = null;
             }
         }
+        monopolyOwnerByColor.put(colorGroup, owner == null ? NO_MONOPOLY : owner);
+    }
 
-        return true;
+    /**
+     * 칸 상태(소유자, 레벨, 올림픽, 삭제, 관광지 잠금)의 Zobrist 해시
+     * RuleEngine 의 변경 메서드를 거친 변경은 모두 반영되어 있다 (O(1) 조회).
+     */
+    public long getTileStateHash() {
+        return tileStateHash;
+    }
+
+    /**
+     * 규칙에 영향을 주는 전체 상태의 Zobrist 해시 (O(1) 조회)
+     * 칸과 연결된 플레이어(bindPlayers)의 상태는 증분 갱신된 값을 쓰고, 턴 정보만 조회 시 합친다.
+     * 현금은 ZobristKeys.CASH_BUCKET 단위로 묶는다. 봇 탐색의 전치표 루트 키로 쓴다.
+     */
+    public long getStateHash(int currentPlayer, int consecutiveDoubles) {
+        return tileStateHash ^ playerStateHash ^ zobrist.turn(currentPlayer, consecutiveDoubles);
+    }
+
+    /**
+     * 전체 상태 해시를 처음부터 다시 계산한다 (getStateHash 의 증분 값 검증용)
+     */
+    public long computeStateHash(int currentPlayer, int consecutiveDoubles) {
+        return computeTileStateHash() ^ computePlayerStateHash() ^ zobrist.turn(currentPlayer, consecutiveDoubles);
+    }
+
+    /**
+     * 증분 갱신된 해시가 처음부터 다시 계산한 값과 같은지 확인하고, 다르면 다시 계산한 값으로 맞춘다
+     * @return 증분 값이 맞았으면 true
+     */
+    public boolean verifyStateHash() {
+        long tiles = computeTileStateHash();
+        long playersHash = computePlayerStateHash();
+        boolean consistent = tileStateHash == tiles && playerStateHash == playersHash;
+        tileStateHash = tiles;
+        playerStateHash = playersHash;
+        return consistent;
+    }
+
+    /**
+     * 칸 상태 해시를 처음부터 다시 계산한다 (증분 값 검증, 스냅샷으로 보드를 직접 바꾼 뒤 재동기화용)
+     */
+    public long computeTileStateHash() {
+        long hash = 0L;
+        for (int i = 0; i < board.getSize(); i++) {
+            hash ^= tileKey(board.getTile(i));
+        }
+        return hash;
+    }
+
+    public void resyncTileStateHash() {
+        tileStateHash = computeTileStateHash();
+    }
+
+    private long computePlayerStateHash() {
+        long hash = 0L;
+        if (boundPlayers != null) {
+            for (int i = 0; i < boundPlayers.length; i++) {
+                Player player = boundPlayers[i];
+                hash ^= playerKey(i, StateJournal.packPlayer(player), player.cash);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 플레이어 상태(StateJournal.packPlayer 형식)와 현금으로 플레이어 키를 만든다
+     */
+    private long playerKey(int index, int packedState, int cashAmount) {
+        return zobrist.player(index, packedState & 0xFFFF, cashAmount, (packedState >>> 16) & 0xFF,
+            (packedState & (1 << 25)) != 0, (packedState & (1 << 26)) != 0, (packedState & (1 << 24)) != 0);
+    }
+
+    /**
+     * 플레이어 하나가 바뀐 뒤 부른다: 바꾸기 전 키를 빼고 지금 키를 더한다
+     */
+    private void updatePlayerHash(int index, int previousState, int previousCash) {
+        Player player = boundPlayers[index];
+        playerStateHash ^= playerKey(index, previousState, previousCash)
+            ^ playerKey(index, StateJournal.packPlayer(player), player.cash);
+    }
+
+    private long tileKey(Tile tile) {
+        if (tile instanceof City) {
+            City city = (City) tile;
+            return zobrist.tile(city.id, city.owner == null ? ZobristKeys.NONE : city.owner, city.level,
+                city.hasOlympicBoost, city.isDeleted, ZobristKeys.NONE);
+        }
+        if (tile instanceof TouristSpot) {
+            TouristSpot spot = (TouristSpot) tile;
+            int lockedBy = spot.isLocked() && spot.lockedBy != null ? spot.lockedBy : ZobristKeys.NONE;
+            return zobrist.tile(spot.id, spot.owner == null ? ZobristKeys.NONE : spot.owner, 0,
+                false, false, lockedBy);
+        }
+        return 0L;
+    }
+
+    /**
+     * 칸을 바꾸기 직전에 부른다: 해시 갱신용 이전 키를 돌려주고, 기록용 이전 상태를 잡아 둔다.
+     */
+    private long beginTileChange(Tile tile) {
+        pendingTileState = StateJournal.packTile(tile);
+        return tileKey(tile);
+    }
+
+    private void updateTileHash(Tile tile, long previousKey) {
+        tileStateHash ^= previousKey ^ tileKey(tile);
+        if (recording()) {
+            journal.record(StateJournal.TILE, tile.id, pendingTileState, StateJournal.packTile(tile));
+        }
     }
 
     /**
@@ -78,8 +502,14 @@ public class RuleEngine {
             return false;
         }
 
-        player.pay(city.price);
+        long previousKey = beginTileChange(city);
+        pay(player, city.price);
         city.owner = playerIndex;
+        updateTileHash(city, previousKey);
+        onOwnershipChanged(city);
+        if (events != null) {
+            events.cityPurchased(playerIndex, city.id, city.price, city.level);
+        }
         return true;
     }
 
@@ -107,25 +537,51 @@ public class RuleEngine {
             return false;
         }
 
-        player.pay(totalCost);
+        long previousKey = beginTileChange(city);
+        pay(player, totalCost);
         city.owner = playerIndex;
         city.level = level; // 선택한 레벨로 설정
+        updateTileHash(city, previousKey);
+        onOwnershipChanged(city);
+        if (events != null) {
+            events.cityPurchased(playerIndex, city.id, totalCost, level);
+        }
         return true;
     }
 
     /**
-     * 레벨별 누적 건설 비용 계산
+     * 레벨별 누적 건설 비용 계산 (규칙 프로필의 가격대 표 조회)
      * @param basePrice 기본 가격
      * @param level 목표 레벨 (1, 2, 3)
      * @return 누적 건설 비용
      */
     public int calculateLevelCost(int basePrice, int level) {
-        switch (level) {
-            case 1: return basePrice;                    // 레벨 1: 기본가
-            case 2: return (int)(basePrice * 1.3);       // 레벨 2: 기본가 + 30%
-            case 3: return (int)(basePrice * 1.6);       // 레벨 3: 기본가 + 60%
-            default: return basePrice;
-        }
+        return rules.priceTable(basePrice).buildCost(level);
+    }
+
+    /**
+     * 현재 레벨에서 한 단계 올리는 비용 (미소유면 매입가)
+     */
+    public int getUpgradeCost(City city) {
+        return priceTables[city.id].upgradeCost(city.level);
+    }
+
+    /**
+     * 지정한 레벨에서 한 단계 올리는 비용 (가정한 상태의 비용이 필요할 때)
+     */
+    public int getUpgradeCostForLevel(City city, int level) {
+        return priceTables[city.id].upgradeCost(level);
+    }
+
+    /**
+     * 현재 레벨 기준 인수 가격
+     */
+    public int getTakeoverPrice(City city) {
+        return priceTables[city.id].takeoverPrice(city.level);
+    }
+
+    public int getTakeoverPriceForLevel(City city, int level) {
+        return priceTables[city.id].takeoverPrice(level);
     }
 
     /**
@@ -140,32 +596,41 @@ public class RuleEngine {
             return false;
         }
 
-        player.pay(touristSpot.price);
+        long previousKey = beginTileChange(touristSpot);
+        pay(player, touristSpot.price);
         touristSpot.owner = playerIndex;
+        updateTileHash(touristSpot, previousKey);
+        if (events != null) {
+            events.touristSpotPurchased(playerIndex, touristSpot.id, touristSpot.price);
+        }
         return true;
     }
 
     /**
-     * 관광지(TouristSpot) 통행료 계산 (기본가 × 2.0)
+     * 관광지(TouristSpot) 통행료 계산 (기본 규칙: 기본가 × 2.0)
      */
     public int calculateTouristSpotToll(TouristSpot touristSpot) {
-        return (int)(touristSpot.price * 2.0);
+        return rules.touristToll(touristSpot.price);
     }
 
     /**
      * 관광지 잠금 처리
      */
     public void lockTouristSpot(TouristSpot touristSpot, int playerIndex) {
+        long previousKey = beginTileChange(touristSpot);
         touristSpot.setLocked(true);
         touristSpot.lockedBy = playerIndex;
+        updateTileHash(touristSpot, previousKey);
     }
 
     /**
      * 관광지 잠금 해제 처리
      */
     public void unlockTouristSpot(TouristSpot touristSpot) {
+        long previousKey = beginTileChange(touristSpot);
         touristSpot.setLocked(false);
         touristSpot.lockedBy = null;
+        updateTileHash(touristSpot, previousKey);
     }
 
     /**
@@ -202,9 +667,15 @@ public class RuleEngine {
             return false;
         }
 
-        buyer.pay(takeoverCost);
-        seller.earn(takeoverCost);
+        long previousKey = beginTileChange(spot);
+        pay(buyer, takeoverCost);
+        earn(seller, takeoverCost);
+        Integer sellerIndex = spot.owner;
         spot.owner = buyerIndex;
+        updateTileHash(spot, previousKey);
+        if (events != null) {
+            events.propertyTakenOver(buyerIndex, sellerIndex, spot.id, takeoverCost);
+        }
 
         return true;
     }
@@ -217,13 +688,18 @@ public class RuleEngine {
             return false;
         }
 
-        int upgradeCost = city.getUpgradeCost();
+        int upgradeCost = getUpgradeCost(city);
         if (!player.canAfford(upgradeCost)) {
             return false;
         }
 
-        player.pay(upgradeCost);
+        long previousKey = beginTileChange(city);
+        pay(player, upgradeCost);
         city.upgrade();
+        updateTileHash(city, previousKey);
+        if (events != null) {
+            events.cityUpgraded(city.owner != null ? city.owner : playerIndexOf(player), city.id, upgradeCost, city.level);
+        }
         return true;
     }
 
@@ -241,14 +717,21 @@ public class RuleEngine {
             return false; // 랜드마크는 인수 불가능
         }
 
-        int takeoverCost = city.getTakeoverPrice();
+        int takeoverCost = getTakeoverPrice(city);
         if (!buyer.canAfford(takeoverCost)) {
             return false;
         }
 
-        buyer.pay(takeoverCost);
-        seller.earn(takeoverCost);
+        long previousKey = beginTileChange(city);
+        pay(buyer, takeoverCost);
+        earn(seller, takeoverCost);
+        Integer sellerIndex = city.owner;
         city.owner = buyerIndex;
+        updateTileHash(city, previousKey);
+        onOwnershipChanged(city);
+        if (events != null) {
+            events.propertyTakenOver(buyerIndex, sellerIndex, city.id, takeoverCost);
+        }
 
         return true;
     }
@@ -258,21 +741,39 @@ public class RuleEngine {
      * (다음 통행료 지불 시 자동으로 해제됨)
      */
     public void applyOlympicBoost(City city) {
+        long previousKey = beginTileChange(city);
         city.hasOlympicBoost = true;
+        updateTileHash(city, previousKey);
     }
 
     /**
      * 올림픽 효과 해제
      */
     public void removeOlympicBoost(City city) {
+        long previousKey = beginTileChange(city);
         city.hasOlympicBoost = false;
+        updateTileHash(city, previousKey);
+    }
+
+    /**
+     * 페이즈 딜리트로 도시 삭제
+     */
+    public void deleteCity(City city) {
+        long previousKey = beginTileChange(city);
+        boolean wasDeleted = city.isDeleted;
+        board.markDeleted(city);
+        updateTileHash(city, previousKey);
+        onOwnershipChanged(city);
+        if (events != null && !wasDeleted) {
+            events.cityDeleted(city.id);
+        }
     }
 
     /**
-     * 국세청 세금 계산 (보유 금액의 10%)
+     * 국세청 세금 계산 (기본 규칙: 보유 금액의 10%)
      */
     public int calculateTax(Player player) {
-        return (int)(player.cash * taxRate);
+        return rules.tax(player.cash);
     }
 
     /**
@@ -281,11 +782,11 @@ public class RuleEngine {
      */
     public void payTax(Player player) {
         int tax = calculateTax(player);
-        player.pay(tax);
+        pay(player, tax);
         // 세금은 소멸 (어느 플레이어에게도 지급되지 않음)
 
         if (player.cash < 0) {
-            player.bankrupt = true;
+            markBankrupt(player, GameEvent.NONE);
         }
     }
 
@@ -294,11 +795,15 @@ public class RuleEngine {
      * 파산 체크 포함
      */
     public void payToll(Player payer, Player receiver, int toll) {
-        payer.pay(toll);
-        receiver.earn(toll);
+        pay(payer, toll);
+        earn(receiver, toll);
+        int receiverIndex = playerIndexOf(receiver);
+        if (events != null) {
+            events.tollPaid(playerIndexOf(payer), receiverIndex, payer.pos, toll);
+        }
 
         if (payer.cash < 0) {
-            payer.bankrupt = true;
+            markBankrupt(payer, receiverIndex);
         }
     }
 
@@ -309,19 +814,63 @@ public class RuleEngine {
         // 무인도 위치 찾기 (id 18)
         for (int i = 0; i < board.getSize(); i++) {
             if (board.getTile(i).type == Tile.Type.ISLAND) {
+                int from = player.pos;
+                int before = StateJournal.packPlayer(player);
                 player.pos = i;
                 player.jailTurns = islandMaxTurns;
+                recordPlayer(player, before);
+                if (events != null) {
+                    events.playerMoved(playerIndexOf(player), from, i, 0);
+                }
                 break;
             }
         }
     }
 
+    /**
+     * 무인도 칸에 도착한 플레이어를 가둔다 (위치는 그대로)
+     */
+    public void trapOnIsland(Player player) {
+        int before = StateJournal.packPlayer(player);
+        player.jailTurns = islandMaxTurns;
+        recordPlayer(player, before);
+    }
+
+    /**
+     * 말을 한 칸씩 옮길 때 등, 이벤트 없이 위치만 바꾼다
+     */
+    public void setPosition(Player player, int tileIndex) {
+        int before = StateJournal.packPlayer(player);
+        player.pos = tileIndex;
+        recordPlayer(player, before);
+    }
+
+    /**
+     * 전국철도/세계여행 티켓 지급(true) 또는 사용(false)
+     */
+    public void setRailroadTicket(Player player, boolean hasTicket) {
+        int before = StateJournal.packPlayer(player);
+        player.hasRailroadTicket = hasTicket;
+        recordPlayer(player, before);
+    }
+
+    /**
+     * 관광지 추가 주사위 기회 지급(true) 또는 소진/무효(false)
+     */
+    public void setExtraChance(Player player, boolean hasExtraChance) {
+        int before = StateJournal.packPlayer(player);
+        player.hasExtraChance = hasExtraChance;
+        recordPlayer(player, before);
+    }
+
     /**
      * 무인도 턴 감소
      */
     public void decreaseJailTurns(Player player) {
         if (player.jailTurns > 0) {
+            int before = StateJournal.packPlayer(player);
             player.jailTurns--;
+            recordPlayer(player, before);
         }
     }
 
@@ -329,7 +878,9 @@ public class RuleEngine {
      * 더블로 무인도 탈출
      */
     public void escapeIslandWithDouble(Player player) {
+        int before = StateJournal.packPlayer(player);
         player.jailTurns = 0;
+        recordPlayer(player, before);
     }
 
     /**
@@ -340,8 +891,10 @@ public class RuleEngine {
             return false;
         }
 
-        player.pay(bail);
+        pay(player, bail);
+        int before = StateJournal.packPlayer(player);
         player.jailTurns = 0;
+        recordPlayer(player, before);
         return true;
     }
 
@@ -349,20 +902,36 @@ public class RuleEngine {
      * 출발지 통과 시 월급 지급
      */
     public void paySalary(Player player) {
-        player.earn(salary);
+        earn(player, salary);
     }
 
     /**
      * 찬스 카드 처리
      */
     public void processChance(Player player) {
-        player.earn(chanceReward);
+        earn(player, chanceReward);
     }
 
     public int getSalary() {
         return salary;
     }
 
+    public int getBail() {
+        return bail;
+    }
+
+    public double getTaxRate() {
+        return rules.getTaxRate();
+    }
+
+    public RuleProfile getRuleProfile() {
+        return rules;
+    }
+
+    public int getIslandMaxTurns() {
+        return islandMaxTurns;
+    }
+
     public int getChanceReward() {
         return chanceReward;
     }
@@ -384,37 +953,18 @@ public class RuleEngine {
     /**
      * 승리조건 2: 라인 독점 승리
      * 보드판 4면 중 한 라인에 있는 모든 타일(도시 + 관광지)을 구매한 경우 승리
-     * 라인 구성: 하단(0-8), 좌측(9-16), 상단(17-24), 우측(25-31)
+     * 라인은 보드 배치(BoardLayout)의 면별 모서리~모서리 구간이며, 특수 타일은 생성 시 미리 걸러 두었다.
      */
     public boolean checkLineMonopolyVictory(int playerIndex) {
-        // 4개 라인 정의 (모서리 타일 포함)
-        int[][] lines = {
-            {0, 1, 2, 3, 4, 5, 6, 7, 8},      // 하단 (Start ~ 무인도)
-            {8, 9, 10, 11, 12, 13, 14, 15, 16}, // 좌측 (무인도 ~ 올림픽)
-            {16, 17, 18, 19, 20, 21, 22, 23, 24}, // 상단 (올림픽 ~ 세계여행)
-            {24, 25, 26, 27, 28, 29, 30, 31, 0}  // 우측 (세계여행 ~ Start)
-        };
-
-        for (int[] line : lines) {
+        for (int[] line : ownableLines) {
             boolean hasMonopoly = true;
             for (int tileId : line) {
                 Tile tile = board.getTile(tileId);
-
-                // 도시나 관광지만 소유 확인 (특수 타일은 제외)
-                if (tile instanceof City) {
-                    City city = (City) tile;
-                    if (!city.isOwned() || city.owner != playerIndex) {
-                        hasMonopoly = false;
-                        break;
-                    }
-                } else if (tile instanceof TouristSpot) {
-                    TouristSpot spot = (TouristSpot) tile;
-                    if (!spot.isOwned() || spot.owner != playerIndex) {
-                        hasMonopoly = false;
-                        break;
-                    }
+                Integer owner = tile instanceof City ? ((City) tile).owner : ((TouristSpot) tile).owner;
+                if (owner == null || owner != playerIndex) {
+                    hasMonopoly = false;
+                    break;
                 }
-                // 특수 타일(START, ISLAND 등)은 무시
             }
 
             if (hasMonopoly) {
@@ -428,19 +978,13 @@ public class RuleEngine {
     /**
      * 승리조건 3: 트리플 독점 승리
      * 보드판의 도시 색상 중 3가지의 컬러를 모두 소유한 경우 승리
-     * 가능한 컬러: LIME, GREEN, CYAN, BLUE, LIGHT_PURPLE, PURPLE, BROWN, RED,
-     *            SKY_GRADIENT, PINK_GRADIENT (총 10가지)
+     * 컬러 목록은 보드에서 만든 그룹 색인을 쓰고, 그룹별 독점 소유자는 소유권이 바뀔 때 갱신된 캐시를 읽는다.
      */
     public boolean checkTripleColorMonopolyVictory(int playerIndex) {
-        String[] allColors = {
-            "LIME", "GREEN", "CYAN", "BLUE", "LIGHT_PURPLE",
-            "PURPLE", "BROWN", "RED", "SKY_GRADIENT", "PINK_GRADIENT"
-        };
-
         int monopolyCount = 0;
 
-        for (String color : allColors) {
-            if (hasColorMonopoly(playerIndex, color)) {
+        for (int owner : monopolyOwnerByColor.values()) {
+            if (owner == playerIndex) {
                 monopolyCount++;
             }
         }
@@ -487,43 +1031,6 @@ public class RuleEngine {
         return "승리 조건 미달성";
     }
 
-    /**
-     * 듀얼 마그네틱 코어: 양옆 4칸 이내의 거리 계산
-     * 삭제된 땅은 카운트에서 제외
-     *
-     * @param fromPos 시작 위치
-     * @param toPos 목표 위치
-     * @param clockwise 시계방향 여부
-     * @return 실제 거리 (삭제된 도시 제외)
-     */
-    private int calculateDistanceExcludingDeleted(int fromPos, int toPos, boolean clockwise) {
-        int boardSize = board.getSize();
-        int distance = 0;
-        int currentPos = fromPos;
-
-        while (currentPos != toPos && distance < boardSize) {
-            // 다음 위치로 이동
-            if (clockwise) {
-                currentPos = (currentPos + 1) % boardSize;
-            } else {
-                currentPos = (currentPos - 1 + boardSize) % boardSize;
-            }
-
-            // 삭제되지 않은 타일만 카운트
-            Tile tile = board.getTile(currentPos);
-            if (!(tile instanceof City) || !((City) tile).isDeleted) {
-                distance++;
-            }
-
-            // 목표 위치 도달
-            if (currentPos == toPos) {
-                break;
-            }
-        }
-
-        return distance;
-    }
-
     /**
      * 듀얼 마그네틱 코어: 양옆 4칸 이내의 플레이어를 끌어당김
      *
@@ -534,7 +1041,6 @@ public class RuleEngine {
      */
     public List<Integer> applyDualMagneticCore(int landmarkPos, Player[] players, int ownerIndex) {
         List<Integer> pulledPlayers = new ArrayList<>();
-        final int MAGNETIC_RANGE = 4;
 
         for (int i = 0; i < players.length; i++) {
             // 본인은 제외
@@ -557,15 +1063,20 @@ public class RuleEngine {
             int playerPos = player.pos;
 
             // 양옆 거리 계산 (삭제된 도시 제외)
-            int clockwiseDistance = calculateDistanceExcludingDeleted(landmarkPos, playerPos, true);
-            int counterClockwiseDistance = calculateDistanceExcludingDeleted(landmarkPos, playerPos, false);
+            int clockwiseDistance = board.liveDistance(landmarkPos, playerPos, true);
+            int counterClockwiseDistance = board.liveDistance(landmarkPos, playerPos, false);
 
             // 더 짧은 거리 선택
             int minDistance = Math.min(clockwiseDistance, counterClockwiseDistance);
 
             // 4칸 이내면 끌어당김
             if (minDistance <= MAGNETIC_RANGE && minDistance > 0) {
+                int before = StateJournal.packPlayer(player);
                 player.pos = landmarkPos;
+                recordPlayer(player, before);
+                if (events != null) {
+                    events.playerMoved(i, playerPos, landmarkPos, 0);
+                }
                 pulledPlayers.add(i);
             }
         }
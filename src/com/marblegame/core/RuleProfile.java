@@ -0,0 +1,312 @@
+package com.marblegame.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 경제 규칙 프로필 (불변)
+ *
+ * 월급, 보석금, 세율, 레벨별 통행료/건설/업그레이드/인수 배율을 한곳에 모은다.
+ * 배율은 불러올 때 고정소수점 정수(FIXED_ONE = 1.0)로 바꿔 두고, 가격대(도시 매입가)별 비용 표는
+ * 처음 요청될 때 한 번 만들어 공유하므로 게임 중 계산은 정수 표 조회뿐이다.
+ *
+ * 프로필 파일은 rules.json 과 같은 평면 JSON 객체다 (값은 숫자, 숫자 배열). 빠진 키는 기본값을 쓰고,
+ * 모르는 키가 있으면 오타로 보고 거부한다. -Dmarblegame.rules=경로 로 시작할 때 한 번 읽는다.
+ */
+public final class RuleProfile {
+    /**
+     * 프로필 파일 경로를 지정하는 시스템 속성 (없으면 기본 규칙)
+     */
+    public static final String RULES_PROPERTY = "marblegame.rules";
+
+    /**
+     * 고정소수점 1.0 (소수 넷째 자리까지 표현)
+     */
+    public static final int FIXED_ONE = 10000;
+
+    public static final int MAX_LEVEL = 4;
+
+    private static final Pattern ENTRY = Pattern.compile("\"(\\w+)\"\\s*:\\s*(\\[[^\\]]*\\]|[^,\\s}]+)");
+
+    private static final RuleProfile DEFAULT = new RuleProfile("default", new HashMap<>());
+    private static volatile RuleProfile active;
+
+    private final String name;
+    private final int salary;
+    private final int bail;
+    private final int islandMaxTurns;
+    private final int chanceReward;
+    private final int taxRate;                  // 고정소수점
+    private final int[] tollMultiplierByLevel;  // 레벨 0~4, 고정소수점
+    private final int colorMonopolyMultiplier;
+    private final int olympicTollMultiplier;
+    private final int touristTollMultiplier;
+    private final int[] buildCostByLevel;       // 레벨 1~3 누적 건설비 배율 (인덱스 0 = 레벨 1)
+    private final int[] upgradeCostByLevel;     // 현재 레벨 0~4 에서 한 단계 올리는 비용 배율 (레벨 0 = 매입)
+    private final int[] takeoverByLevel;        // 레벨 0~4 인수가 배율
+
+    private final Map<Integer, PriceTable> priceTables = new ConcurrentHashMap<>();
+
+    private RuleProfile(String name, Map<String, String> values) {
+        this.name = name;
+        this.salary = intValue(values, "salary", 200000);
+        this.bail = intValue(values, "bail", 200000);
+        this.islandMaxTurns = intValue(values, "islandMaxTurns", 2);
+        this.chanceReward = intValue(values, "chanceReward", 100000);
+        this.taxRate = fixedValue(values, "taxRate", 0.1);
+        this.tollMultiplierByLevel = fixedArray(values, "tollMultiplierByLevel",
+            new double[]{0.0, 1.5, 2.2, 3.0, 4.0}, MAX_LEVEL + 1);
+        this.colorMonopolyMultiplier = fixedValue(values, "colorMonopolyMultiplier", 1.5);
+        this.olympicTollMultiplier = fixedValue(values, "olympicTollMultiplier", 2.0);
+        this.touristTollMultiplier = fixedValue(values, "touristTollMultiplier", 2.0);
+        this.buildCostByLevel = fixedArray(values, "buildCostMultiplierByLevel",
+            new double[]{1.0, 1.3, 1.6}, 3);
+        this.upgradeCostByLevel = fixedArray(values, "upgradeCostRatioByLevel",
+            new double[]{1.0, 0.3, 0.3, 0.4, 0.0}, MAX_LEVEL + 1);
+        this.takeoverByLevel = fixedArray(values, "takeoverMultiplierByLevel",
+            new double[]{1.0, 1.5, 2.0, 2.5, 3.0}, MAX_LEVEL + 1);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException(name + ": 알 수 없는 규칙 키 " + values.keySet());
+        }
+    }
+
+    /**
+     * 코드에 내장된 기본 규칙
+     */
+    public static RuleProfile defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * 시작할 때 고른 규칙 (시스템 속성 {@value #RULES_PROPERTY}, 처음 한 번만 읽는다)
+     * 파일을 읽지 못하면 기본 규칙을 쓴다.
+     */
+    public static RuleProfile active() {
+        RuleProfile profile = active;
+        if (profile == null) {
+            synchronized (RuleProfile.class) {
+                profile = active;
+                if (profile == null) {
+                    profile = fromSystemProperty();
+                    active = profile;
+                }
+            }
+        }
+        return profile;
+    }
+
+    private static RuleProfile fromSystemProperty() {
+        String path = System.getProperty(RULES_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return DEFAULT;
+        }
+        try {
+            return load(Paths.get(path.trim()));
+        } catch (IOException | IllegalArgumentException ex) {
+            System.err.println("규칙 프로필을 읽지 못해 기본 규칙을 사용합니다: " + ex.getMessage());
+            return DEFAULT;
+        }
+    }
+
+    public static RuleProfile load(Path path) throws IOException {
+        String fileName = path.getFileName() == null ? path.toString() : path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String profileName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return parse(profileName, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 평면 JSON 객체가 아니거나 값/배열 길이가 맞지 않을 때
+     */
+    public static RuleProfile parse(String profileName, String json) {
+        String body = json.trim();
+        if (!body.startsWith("{") || !body.endsWith("}")) {
+            throw new IllegalArgumentException(profileName + ": JSON 객체가 아닙니다");
+        }
+        Map<String, String> values = new HashMap<>();
+        Matcher matcher = ENTRY.matcher(body);
+        while (matcher.find()) {
+            values.put(matcher.group(1), matcher.group(2));
+        }
+        return new RuleProfile(profileName, values);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSalary() {
+        return salary;
+    }
+
+    public int getBail() {
+        return bail;
+    }
+
+    public int getIslandMaxTurns() {
+        return islandMaxTurns;
+    }
+
+    public int getChanceReward() {
+        return chanceReward;
+    }
+
+    public double getTaxRate() {
+        return (double) taxRate / FIXED_ONE;
+    }
+
+    /**
+     * 현금에 세율을 적용한 세금
+     */
+    public int tax(int cash) {
+        return scale(cash, taxRate);
+    }
+
+    /**
+     * 기본 통행료에 레벨/독점/올림픽 배율을 차례로 적용한 통행료
+     */
+    public int toll(int baseToll, int level, boolean monopoly, boolean olympic) {
+        int toll = scale(baseToll, tollMultiplierByLevel[clampLevel(level)]);
+        if (monopoly) {
+            toll = scale(toll, colorMonopolyMultiplier);
+        }
+        if (olympic) {
+            toll = scale(toll, olympicTollMultiplier);
+        }
+        return toll;
+    }
+
+    public int touristToll(int price) {
+        return scale(price, touristTollMultiplier);
+    }
+
+    /**
+     * 매입가별 비용 표 (가격대마다 한 번만 만든다)
+     */
+    public PriceTable priceTable(int price) {
+        return priceTables.computeIfAbsent(price, this::compilePriceTable);
+    }
+
+    private PriceTable compilePriceTable(int price) {
+        int[] build = new int[buildCostByLevel.length + 1];
+        build[0] = price;
+        for (int level = 1; level < build.length; level++) {
+            build[level] = scale(price, buildCostByLevel[level - 1]);
+        }
+        int[] upgrade = new int[MAX_LEVEL + 1];
+        int[] takeover = new int[MAX_LEVEL + 1];
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            upgrade[level] = scale(price, upgradeCostByLevel[level]);
+            takeover[level] = scale(price, takeoverByLevel[level]);
+        }
+        return new PriceTable(price, build, upgrade, takeover);
+    }
+
+    /**
+     * 고정소수점 배율 적용 (내림)
+     */
+    public static int scale(int amount, int fixedMultiplier) {
+        return (int) ((long) amount * fixedMultiplier / FIXED_ONE);
+    }
+
+    private static int clampLevel(int level) {
+        return Math.max(0, Math.min(MAX_LEVEL, level));
+    }
+
+    private static int toFixed(double value) {
+        return (int) Math.round(value * FIXED_ONE);
+    }
+
+    private int intValue(Map<String, String> values, String key, int fallback) {
+        String raw = values.remove(key);
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + ": " + key + " 값이 정수가 아닙니다: " + raw);
+        }
+    }
+
+    private int fixedValue(Map<String, String> values, String key, double fallback) {
+        String raw = values.remove(key);
+        return toFixed(raw == null ? fallback : parseDouble(key, raw));
+    }
+
+    private int[] fixedArray(Map<String, String> values, String key, double[] fallback, int length) {
+        String raw = values.remove(key);
+        double[] source = fallback;
+        if (raw != null) {
+            String inner = raw.substring(1, raw.length() - 1).trim();
+            String[] parts = inner.isEmpty() ? new String[0] : inner.split(",");
+            if (!raw.startsWith("[") || parts.length != length) {
+                throw new IllegalArgumentException(name + ": " + key + " 는 숫자 " + length + "개 배열이어야 합니다");
+            }
+            source = new double[length];
+            for (int i = 0; i < length; i++) {
+                source[i] = parseDouble(key, parts[i].trim());
+            }
+        }
+        int[] fixed = new int[length];
+        for (int i = 0; i < length; i++) {
+            fixed[i] = toFixed(source[i]);
+        }
+        return fixed;
+    }
+
+    private double parseDouble(String key, String raw) {
+        try {
+            return Double.parseDouble(raw);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + ": " + key + " 값이 숫자가 아닙니다: " + raw);
+        }
+    }
+
+    /**
+     * 매입가 하나에 대한 레벨별 비용 표 (불변)
+     */
+    public static final class PriceTable {
+        private final int price;
+        private final int[] buildCost;
+        private final int[] upgradeCost;
+        private final int[] takeoverPrice;
+
+        private PriceTable(int price, int[] buildCost, int[] upgradeCost, int[] takeoverPrice) {
+            this.price = price;
+            this.buildCost = buildCost;
+            this.upgradeCost = upgradeCost;
+            this.takeoverPrice = takeoverPrice;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        /**
+         * 빈 도시를 목표 레벨(1~3)까지 한 번에 지을 때의 누적 비용 (범위 밖이면 매입가)
+         */
+        public int buildCost(int level) {
+            return level >= 1 && level < buildCost.length ? buildCost[level] : price;
+        }
+
+        /**
+         * 현재 레벨에서 한 단계 올리는 비용 (레벨 0 은 매입가)
+         */
+        public int upgradeCost(int level) {
+            return upgradeCost[clampLevel(level)];
+        }
+
+        public int takeoverPrice(int level) {
+            return takeoverPrice[clampLevel(level)];
+        }
+    }
+}
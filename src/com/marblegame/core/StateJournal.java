@@ -0,0 +1,225 @@
+package com.marblegame.core;
+
+import com.marblegame.model.City;
+import com.marblegame.model.Player;
+import com.marblegame.model.Tile;
+import com.marblegame.model.TouristSpot;
+import java.util.Arrays;
+
+/**
+ * 규칙 변경 기록 (되돌리기/다시하기, 가정 분기용)
+ *
+ * RuleEngine 이 상태를 바꿀 때마다 바뀐 필드 하나를 (종류|대상, 이전 값, 새 값) 정수 3개로 남긴다.
+ * 칸은 소유자/레벨/올림픽/삭제/잠금을 정수 하나로 묶어 기록하고, 플레이어는 현금과 나머지(위치, 무인도 턴,
+ * 파산, 티켓, 추가 기회)를 따로 기록한다. 되돌리기와 다시하기는 바뀐 항목만 거꾸로/앞으로 적용하므로
+ * 비용이 변경 수에 비례하고, 한 턴의 기록은 보통 수십 바이트라 게임 전체를 들고 있어도 된다.
+ *
+ * cursor 는 적용된 기록의 끝이다. 되돌린 기록은 [cursor, size) 에 남아 다시하기에 쓰이고,
+ * 그 상태에서 새 변경이 기록되면 버려진다. 체크포인트는 행동(턴 단계) 경계로, 되돌리기 한 번의 단위다.
+ */
+public final class StateJournal {
+    static final int TILE = 0;
+    static final int CASH = 1;
+    static final int PLAYER = 2;
+
+    private static final int TARGET_BITS = 24;
+    private static final int TARGET_MASK = (1 << TARGET_BITS) - 1;
+
+    private int[] entries = new int[3 * 256];
+    private int size;
+    private int cursor;
+    private int[] checkpoints = new int[64];
+    private int checkpointCount;
+
+    void record(int kind, int target, int oldValue, int newValue) {
+        if (oldValue == newValue) {
+            return;
+        }
+        truncateRedo();
+        if (size * 3 + 3 > entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        int base = size * 3;
+        entries[base] = (kind << TARGET_BITS) | (target & TARGET_MASK);
+        entries[base + 1] = oldValue;
+        entries[base + 2] = newValue;
+        size++;
+        cursor = size;
+    }
+
+    /**
+     * 현재 위치를 행동 경계로 표시한다 (직전 경계와 같으면 무시)
+     * @return 경계 위치 (rollbackTo 에 넘길 수 있다)
+     */
+    public int checkpoint() {
+        truncateRedo();
+        if (checkpointCount == 0 || checkpoints[checkpointCount - 1] != cursor) {
+            if (checkpointCount == checkpoints.length) {
+                checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+            }
+            checkpoints[checkpointCount++] = cursor;
+        }
+        return cursor;
+    }
+
+    /**
+     * 적용된 기록 수 (가정 분기 시작점으로 쓴다)
+     */
+    public int position() {
+        return cursor;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean canUndo() {
+        return cursor > 0;
+    }
+
+    public boolean canRedo() {
+        return cursor < size;
+    }
+
+    /**
+     * 되돌리기 한 번의 목표 위치: cursor 보다 앞의 가장 가까운 경계 (없으면 0)
+     */
+    int previousCheckpoint() {
+        for (int i = checkpointCount - 1; i >= 0; i--) {
+            if (checkpoints[i] < cursor) {
+                return checkpoints[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 다시하기 한 번의 목표 위치: cursor 보다 뒤의 가장 가까운 경계 (없으면 끝)
+     */
+    int nextCheckpoint() {
+        for (int i = 0; i < checkpointCount; i++) {
+            if (checkpoints[i] > cursor) {
+                return Math.min(checkpoints[i], size);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * position 뒤의 기록과 경계를 버린다 (가정 분기를 되돌린 뒤 흔적을 남기지 않을 때)
+     */
+    void discardAfter(int position) {
+        size = Math.min(size, position);
+        cursor = Math.min(cursor, size);
+        while (checkpointCount > 0 && checkpoints[checkpointCount - 1] > size) {
+            checkpointCount--;
+        }
+    }
+
+    void setCursor(int position) {
+        cursor = position;
+    }
+
+    int cursor() {
+        return cursor;
+    }
+
+    int kind(int index) {
+        return entries[index * 3] >>> TARGET_BITS;
+    }
+
+    int target(int index) {
+        return entries[index * 3] & TARGET_MASK;
+    }
+
+    int oldValue(int index) {
+        return entries[index * 3 + 1];
+    }
+
+    int newValue(int index) {
+        return entries[index * 3 + 2];
+    }
+
+    /**
+     * 기록이 차지하는 대략의 바이트 수
+     */
+    public long getMemoryBytes() {
+        return (long) entries.length * Integer.BYTES + (long) checkpoints.length * Integer.BYTES;
+    }
+
+    public void clear() {
+        size = 0;
+        cursor = 0;
+        checkpointCount = 0;
+    }
+
+    private void truncateRedo() {
+        if (cursor < size) {
+            discardAfter(cursor);
+        }
+    }
+
+    /**
+     * 플레이어의 현금 외 상태를 정수 하나로 묶는다: 위치(16비트) | 무인도 턴(8비트) | 파산 | 티켓 | 추가 기회
+     */
+    public static int packPlayer(Player player) {
+        return (player.pos & 0xFFFF)
+            | (Math.min(player.jailTurns, 0xFF) << 16)
+            | (player.bankrupt ? 1 << 24 : 0)
+            | (player.hasRailroadTicket ? 1 << 25 : 0)
+            | (player.hasExtraChance ? 1 << 26 : 0);
+    }
+
+    public static void unpackPlayer(Player player, int packed) {
+        player.pos = packed & 0xFFFF;
+        player.jailTurns = (packed >>> 16) & 0xFF;
+        player.bankrupt = (packed & (1 << 24)) != 0;
+        player.hasRailroadTicket = (packed & (1 << 25)) != 0;
+        player.hasExtraChance = (packed & (1 << 26)) != 0;
+    }
+
+    /**
+     * 칸 상태를 정수 하나로 묶는다: 소유자+1(8비트) | 레벨(4비트) | 올림픽 | 삭제 | 잠금 | 잠금한 플레이어+1(8비트)
+     * 도시/관광지가 아니면 0
+     */
+    static int packTile(Tile tile) {
+        if (tile instanceof City) {
+            City city = (City) tile;
+            return ownerBits(city.owner)
+                | (city.level << 8)
+                | (city.hasOlympicBoost ? 1 << 12 : 0)
+                | (city.isDeleted ? 1 << 13 : 0);
+        }
+        if (tile instanceof TouristSpot) {
+            TouristSpot spot = (TouristSpot) tile;
+            return ownerBits(spot.owner)
+                | (spot.isLocked() ? 1 << 14 : 0)
+                | (ownerBits(spot.lockedBy) << 16);
+        }
+        return 0;
+    }
+
+    static void unpackTile(Tile tile, int packed) {
+        if (tile instanceof City) {
+            City city = (City) tile;
+            city.owner = ownerOf(packed);
+            city.level = (packed >>> 8) & 0xF;
+            city.hasOlympicBoost = (packed & (1 << 12)) != 0;
+            city.isDeleted = (packed & (1 << 13)) != 0;
+        } else if (tile instanceof TouristSpot) {
+            TouristSpot spot = (TouristSpot) tile;
+            spot.owner = ownerOf(packed);
+            spot.setLocked((packed & (1 << 14)) != 0);
+            spot.lockedBy = ownerOf(packed >>> 16);
+        }
+    }
+
+    private static int ownerBits(Integer owner) {
+        return owner == null ? 0 : (owner + 1) & 0xFF;
+    }
+
+    private static Integer ownerOf(int bits) {
+        int value = bits & 0xFF;
+        return value == 0 ? null : value - 1;
+    }
+}
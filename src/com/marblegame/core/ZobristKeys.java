@@ -0,0 +1,163 @@
+package com.marblegame.core;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 상태 Zobrist 해시용 64비트 난수 키 표
+ *
+ * 상태의 각 요소(칸별 소유자/레벨/올림픽/삭제/잠금, 플레이어별 위치/현금 구간/무인도/티켓/추가 기회/파산,
+ * 현재 플레이어, 연속 더블 수)마다 키를 하나씩 두고, 상태 해시는 켜져 있는 요소 키의 XOR 이다.
+ * 요소 하나가 바뀌면 이전 키와 새 키를 XOR 하는 것만으로 해시를 갱신할 수 있다.
+ * 시드가 고정이라 같은 보드 크기에서는 프로세스가 달라도 같은 상태가 같은 해시를 가진다.
+ */
+public final class ZobristKeys {
+    public static final int NONE = -1;
+    public static final int MAX_PLAYERS = 8;
+    public static final int MAX_LEVEL = 4;
+    public static final int MAX_JAIL_TURNS = 3;
+    public static final int MAX_DOUBLES = 3;
+
+    /**
+     * 현금은 이 단위 구간으로 묶어 해시한다 (구간 안의 차이는 같은 상태로 본다)
+     */
+    public static final int CASH_BUCKET = 100000;
+    public static final int CASH_BUCKETS = 64;
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final Map<Integer, ZobristKeys> BY_SIZE = new ConcurrentHashMap<>();
+
+    private final int tiles;
+    private final long[][] owner;      // [칸][플레이어]
+    private final long[][] level;      // [칸][레벨 1~4]
+    private final long[] olympic;      // [칸]
+    private final long[] deleted;      // [칸]
+    private final long[][] lockedBy;   // [칸][플레이어]
+    private final long[][] position;   // [플레이어][칸]
+    private final long[][] cash;       // [플레이어][현금 구간]
+    private final long[][] jailTurns;  // [플레이어][남은 턴 1~3]
+    private final long[] ticket;       // [플레이어]
+    private final long[] extraChance;  // [플레이어]
+    private final long[] bankrupt;     // [플레이어]
+    private final long[] current;      // [플레이어]
+    private final long[] doubles;      // [연속 더블 1~3]
+
+    private ZobristKeys(int tiles) {
+        this.tiles = tiles;
+        SplittableRandom random = new SplittableRandom(SEED ^ tiles);
+        owner = fill(random, tiles, MAX_PLAYERS);
+        level = fill(random, tiles, MAX_LEVEL + 1);
+        olympic = fill(random, tiles);
+        deleted = fill(random, tiles);
+        lockedBy = fill(random, tiles, MAX_PLAYERS);
+        position = fill(random, MAX_PLAYERS, tiles);
+        cash = fill(random, MAX_PLAYERS, CASH_BUCKETS);
+        jailTurns = fill(random, MAX_PLAYERS, MAX_JAIL_TURNS + 1);
+        ticket = fill(random, MAX_PLAYERS);
+        extraChance = fill(random, MAX_PLAYERS);
+        bankrupt = fill(random, MAX_PLAYERS);
+        current = fill(random, MAX_PLAYERS);
+        doubles = fill(random, MAX_DOUBLES + 1);
+    }
+
+    /**
+     * 보드 크기별 키 표 (크기마다 한 번만 만들고 공유한다)
+     */
+    public static ZobristKeys forBoardSize(int tiles) {
+        return BY_SIZE.computeIfAbsent(tiles, ZobristKeys::new);
+    }
+
+    public int getTileCount() {
+        return tiles;
+    }
+
+    /**
+     * 칸 하나의 키 (도시/관광지가 아니면 owner, lockedBy 는 NONE, level 0)
+     */
+    public long tile(int index, int ownerIndex, int buildingLevel, boolean olympicBoost,
+                     boolean isDeleted, int lockedByIndex) {
+        long key = 0L;
+        if (ownerIndex >= 0) {
+            key ^= owner[index][ownerIndex];
+        }
+        if (buildingLevel > 0) {
+            key ^= level[index][Math.min(buildingLevel, MAX_LEVEL)];
+        }
+        if (olympicBoost) {
+            key ^= olympic[index];
+        }
+        if (isDeleted) {
+            key ^= deleted[index];
+        }
+        if (lockedByIndex >= 0) {
+            key ^= lockedBy[index][lockedByIndex];
+        }
+        return key;
+    }
+
+    /**
+     * 플레이어 한 명의 키
+     */
+    public long player(int playerIndex, int pos, int cashAmount, int jail, boolean hasTicket,
+                       boolean hasExtraChance, boolean isBankrupt) {
+        long key = position[playerIndex][pos] ^ cash[playerIndex][cashBucket(cashAmount)];
+        if (jail > 0) {
+            key ^= jailTurns[playerIndex][Math.min(jail, MAX_JAIL_TURNS)];
+        }
+        if (hasTicket) {
+            key ^= ticket[playerIndex];
+        }
+        if (hasExtraChance) {
+            key ^= extraChance[playerIndex];
+        }
+        if (isBankrupt) {
+            key ^= bankrupt[playerIndex];
+        }
+        return key;
+    }
+
+    /**
+     * 차례 키: 현재 플레이어와 연속 더블 수
+     */
+    public long turn(int currentPlayer, int consecutiveDoubles) {
+        long key = current[currentPlayer];
+        if (consecutiveDoubles > 0) {
+            key ^= doubles[Math.min(consecutiveDoubles, MAX_DOUBLES)];
+        }
+        return key;
+    }
+
+    public static int cashBucket(int cashAmount) {
+        if (cashAmount <= 0) {
+            return 0;
+        }
+        return Math.min(CASH_BUCKETS - 1, cashAmount / CASH_BUCKET);
+    }
+
+    /**
+     * 상태에 붙이는 부가 키 (예: 결정 단계와 선택지) - 표 없이 섞어서 만든다
+     */
+    public static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[] fill(SplittableRandom random, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    private static long[][] fill(SplittableRandom random, int n, int m) {
+        long[][] keys = new long[n][];
+        for (int i = 0; i < n; i++) {
+            keys[i] = fill(random, m);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,290 @@
+package com.marblegame.core.ai;
+
+import com.marblegame.core.ZobristKeys;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 몬테카를로 트리 탐색(MCTS) 봇
+ *
+ * 결정 하나마다 루트 병렬화로 탐색한다. fork/join 풀의 작업자마다 루트 선택지 통계를 따로 들고
+ * UCB1 으로 선택지를 고른 뒤, 상태를 복사해 선택지를 적용하고 기본 정책으로 rolloutTurns 턴까지 플레이아웃한다.
+ * 시간 예산이 끝나면 작업자 통계를 합쳐 방문 횟수가 가장 많은 선택지를 고른다.
+ * 주사위와 페이즈 딜리트가 확률 사건이라 루트 아래로는 트리를 펼치지 않고 플레이아웃 결과만 평균낸다.
+ *
+ * 작업자들은 (상태 Zobrist 해시, 선택지) 키로 전치표를 함께 쓴다. 선택지를 고를 때 다른 작업자가 쌓은 결과까지 보고,
+ * 같은 상태에서 다시 묻는 결정(상태가 바뀌어 재탐색하는 경우 등)은 이전 탐색 통계에서 이어 시작한다.
+ */
+public final class MctsBot {
+    /**
+     * 결정 하나에 쓰는 기본 시간 예산 (밀리초)
+     */
+    public static final long DEFAULT_BUDGET_MS = 300;
+    public static final int DEFAULT_ROLLOUT_ROUNDS = 6;
+
+    private static final double EXPLORATION = Math.sqrt(2.0);
+    private static final int MIN_ITERATIONS_PER_WORKER = 16;
+    private static final int TABLE_ENTRIES = 1 << 16;
+
+    private final SimGame game;
+    private final long budgetNanos;
+    private final int parallelism;
+    private final int rolloutRounds;
+    private final ForkJoinPool pool;
+    private final SplittableRandom seedSource;
+    private final TranspositionTable table;
+
+    public MctsBot(SimRules rules, long budgetMillis, int parallelism, int rolloutRounds, long seed) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("budget must be positive");
+        }
+        this.game = new SimGame(rules);
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.parallelism = Math.max(1, parallelism);
+        this.rolloutRounds = Math.max(1, rolloutRounds);
+        this.seedSource = new SplittableRandom(seed);
+        this.table = new TranspositionTable(TABLE_ENTRIES);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.pool = new ForkJoinPool(this.parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("BotSearch-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 기본 설정: 시스템 속성 marblegame.bot.budgetMs (기본 300ms), 코어 수 - 1 개 작업자
+     */
+    public static MctsBot withDefaults(SimRules rules) {
+        long budget = Long.getLong("marblegame.bot.budgetMs", DEFAULT_BUDGET_MS);
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new MctsBot(rules, Math.max(1, budget), workers, DEFAULT_ROLLOUT_ROUNDS, System.nanoTime());
+    }
+
+    public SimGame getGame() {
+        return game;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * root 상태(결정 단계)에서 현재 플레이어가 고를 선택지를 탐색한다.
+     * 선택지가 하나뿐이면 탐색하지 않는다.
+     */
+    public Decision decide(SimState root) {
+        return decide(root, root.hash(game.getRules().getKeys()));
+    }
+
+    /**
+     * rootHash 를 전치표 루트 키로 써서 탐색한다 (실제 게임에서는 RuleEngine.getStateHash 의 O(1) 값을 넘긴다)
+     */
+    public Decision decide(SimState root, long rootHash) {
+        long started = System.nanoTime();
+        int[] options = game.options(root);
+        if (options.length == 0) {
+            throw new IllegalArgumentException("no options in phase " + root.getPhase());
+        }
+        if (options.length == 1) {
+            return new Decision(root.getPhase(), options[0], options, new int[]{0}, new double[]{0.0}, 0, System.nanoTime() - started);
+        }
+
+        long deadline = started + budgetNanos;
+        int player = root.getCurrentPlayer();
+        long[] keys = actionKeys(root, rootHash, options);
+        table.newSearch();
+        int rolloutTurns = rolloutRounds * root.getPlayerCount();
+        List<Callable<RootStats>> workers = new ArrayList<>(parallelism);
+        synchronized (seedSource) {
+            for (int i = 0; i < parallelism; i++) {
+                SplittableRandom random = seedSource.split();
+                workers.add(() -> search(root, options, keys, player, rolloutTurns, deadline, random));
+            }
+        }
+
+        int[] visits = new int[options.length];
+        double[] values = new double[options.length];
+        try {
+            for (Future<RootStats> future : pool.invokeAll(workers)) {
+                RootStats stats = future.get();
+                for (int i = 0; i < options.length; i++) {
+                    visits[i] += stats.visits[i];
+                    values[i] += stats.values[i];
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("bot search failed", ex.getCause());
+        }
+
+        int best = 0;
+        int iterations = 0;
+        for (int i = 0; i < options.length; i++) {
+            iterations += visits[i];
+            if (visits[i] > visits[best]
+                || (visits[i] == visits[best] && mean(values[i], visits[i]) > mean(values[best], visits[best]))) {
+                best = i;
+            }
+        }
+        double[] means = new double[options.length];
+        for (int i = 0; i < options.length; i++) {
+            means[i] = mean(values[i], visits[i]);
+        }
+        return new Decision(root.getPhase(), options[best], options, visits, means, iterations, System.nanoTime() - started);
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private RootStats search(SimState root, int[] options, long[] keys, int player, int rolloutTurns,
+                             long deadline, SplittableRandom random) {
+        RootStats stats = new RootStats(options.length);
+        int total = 0;
+        while (total < MIN_ITERATIONS_PER_WORKER * options.length || System.nanoTime() < deadline) {
+            int pick = select(stats, keys);
+            SimState state = root.copy();
+            game.apply(state, options[pick], random);
+            game.playout(state, random, rolloutTurns);
+            double value = game.evaluate(state, player);
+            stats.visits[pick]++;
+            stats.values[pick] += value;
+            table.accumulate(keys[pick], value);
+            total++;
+            if (total >= MIN_ITERATIONS_PER_WORKER * options.length && System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * (루트 상태, 결정 단계, 선택지) 별 전치표 키
+     */
+    private long[] actionKeys(SimState root, long rootHash, int[] options) {
+        long[] keys = new long[options.length];
+        for (int i = 0; i < options.length; i++) {
+            keys[i] = rootHash ^ ZobristKeys.mix(((long) root.getPhase().ordinal() << 32) | (options[i] & 0xFFFFFFFFL));
+        }
+        return keys;
+    }
+
+    /**
+     * UCB1: 아직 안 해 본 선택지를 먼저, 그다음 평균 가치 + 탐험 항이 가장 큰 선택지
+     * 전치표에 모든 작업자가 쌓은 통계가 있으면 그것을, 없으면(교체됐거나 찢어진 항목) 이 작업자의 통계를 쓴다.
+     */
+    private int select(RootStats stats, long[] keys) {
+        int options = stats.visits.length;
+        int[] visits = new int[options];
+        double[] means = new double[options];
+        long total = 0;
+        for (int i = 0; i < options; i++) {
+            if (stats.visits[i] == 0) {
+                return i;
+            }
+            long data = table.probe(keys[i]);
+            int shared = data == TranspositionTable.MISS ? 0 : TranspositionTable.visits(data);
+            if (shared >= stats.visits[i] && shared > 0) {
+                visits[i] = shared;
+                means[i] = TranspositionTable.mean(data);
+            } else {
+                visits[i] = stats.visits[i];
+                means[i] = mean(stats.values[i], stats.visits[i]);
+            }
+            total += visits[i];
+        }
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logTotal = Math.log(Math.max(1, total));
+        for (int i = 0; i < options; i++) {
+            int n = visits[i];
+            double score = means[i] + EXPLORATION * Math.sqrt(logTotal / n);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double mean(double value, int visits) {
+        return visits == 0 ? 0.0 : value / visits;
+    }
+
+    private static final class RootStats {
+        final int[] visits;
+        final double[] values;
+
+        RootStats(int options) {
+            visits = new int[options];
+            values = new double[options];
+        }
+    }
+
+    /**
+     * 탐색 결과: 고른 선택지와 선택지별 방문 횟수/평균 가치
+     */
+    public static final class Decision {
+        private final SimPhase phase;
+        private final int option;
+        private final int[] options;
+        private final int[] visits;
+        private final double[] values;
+        private final int iterations;
+        private final long elapsedNanos;
+
+        Decision(SimPhase phase, int option, int[] options, int[] visits, double[] values,
+                 int iterations, long elapsedNanos) {
+            this.phase = phase;
+            this.option = option;
+            this.options = options;
+            this.visits = visits;
+            this.values = values;
+            this.iterations = iterations;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public SimPhase getPhase() {
+            return phase;
+        }
+
+        public int getOption() {
+            return option;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        /**
+         * 고른 선택지의 평균 가치 (0 ~ 1, 승률에 가까운 값)
+         */
+        public double getExpectedValue() {
+            for (int i = 0; i < options.length; i++) {
+                if (options[i] == option) {
+                    return values[i];
+                }
+            }
+            return 0.0;
+        }
+
+        public String summary() {
+            return String.format("%s → %d (%d회 탐색, %.1fms, 기대값 %.3f)",
+                phase, option, iterations, getElapsedMillis(), getExpectedValue());
+        }
+    }
+}
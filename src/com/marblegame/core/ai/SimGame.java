@@ -0,0 +1,673 @@
+package com.marblegame.core.ai;
+
+import com.marblegame.core.RuleEngine;
+import com.marblegame.model.DiceGauge;
+import com.marblegame.model.DiceMode;
+import com.marblegame.model.Tile;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 헤드리스 규칙 진행기
+ * GameUI 의 턴 흐름(startTurn → 주사위 → handleTileLanding → 결정 → endTurn)을 UI 없이 SimState 위에서 그대로 따라간다.
+ * 애니메이션과 다이얼로그가 없어 한 게임을 수 마이크로초에 끝까지 굴릴 수 있고, 상태를 공유하지 않으므로 스레드마다 따로 써도 된다.
+ *
+ * 결정 단계(SimPhase.isDecision)에서 멈추며, options 로 선택지를 얻고 apply 로 하나를 적용한 뒤 advance 로 다음 결정까지 진행한다.
+ */
+public final class SimGame {
+    private static final int MODES = DiceMode.values().length;
+    private static final int ROLL_OPTIONS = DiceGauge.SECTION_COUNT * MODES;
+    private static final int[] NO_OPTIONS = new int[0];
+    private static final int[] PASS_ONLY = {0};
+    private static final int[] PASS_OR_ACCEPT = {0, 1};
+    private static final int PURCHASE_RESERVE = 150000;
+
+    private final SimRules rules;
+
+    public SimGame(SimRules rules) {
+        this.rules = rules;
+    }
+
+    public SimRules getRules() {
+        return rules;
+    }
+
+    /**
+     * ROLL 단계 선택지 = (구간 - 1) * 모드 수 + 모드 순번
+     */
+    public static int encodeRoll(int section, DiceMode mode) {
+        return (section - 1) * MODES + mode.ordinal();
+    }
+
+    public static int rollSection(int option) {
+        return option / MODES + 1;
+    }
+
+    public static DiceMode rollMode(int option) {
+        return DiceMode.values()[option % MODES];
+    }
+
+    /**
+     * 현재 결정 단계의 선택지 (결정 단계가 아니면 빈 배열)
+     * 패스/취소는 0, 수락은 1, 칸을 고르는 결정은 칸 번호, 도시 구매는 레벨(1~3)이다.
+     */
+    public int[] options(SimState s) {
+        int p = s.current;
+        int tile = s.pos[p];
+        switch (s.phase) {
+            case JAIL_CHOICE:
+                return s.cash[p] >= rules.bail ? PASS_OR_ACCEPT : PASS_ONLY;
+            case TICKET_TARGET: {
+                int[] targets = new int[rules.size];
+                int count = 0;
+                for (int i = 0; i < rules.size; i++) {
+                    if (i != tile && !s.deleted[i]) {
+                        targets[count++] = i;
+                    }
+                }
+                return Arrays.copyOf(targets, count);
+            }
+            case ROLL: {
+                int[] rolls = new int[ROLL_OPTIONS];
+                for (int i = 0; i < ROLL_OPTIONS; i++) {
+                    rolls[i] = i;
+                }
+                return rolls;
+            }
+            case CITY_PURCHASE: {
+                int[] levels = new int[4];
+                int count = 1;
+                for (int level = 1; level <= 3; level++) {
+                    if (s.cash[p] >= rules.levelCost[tile][level]) {
+                        levels[count++] = level;
+                    }
+                }
+                return Arrays.copyOf(levels, count);
+            }
+            case CITY_UPGRADE:
+                return s.level[tile] < 4 && s.cash[p] >= rules.upgradeCost[tile][s.level[tile]] ? PASS_OR_ACCEPT : PASS_ONLY;
+            case TAKEOVER:
+                return s.cash[p] >= takeoverCost(s, tile) ? PASS_OR_ACCEPT : PASS_ONLY;
+            case TOURIST_PURCHASE:
+                return s.cash[p] >= rules.price[tile] ? PASS_OR_ACCEPT : PASS_ONLY;
+            case TOURIST_CHOICE:
+                return PASS_OR_ACCEPT;
+            case START_UPGRADE:
+                return upgradeTargets(s, p);
+            case OLYMPIC_TARGET:
+                return ownedCities(s, p);
+            default:
+                return NO_OPTIONS;
+        }
+    }
+
+    /**
+     * 결정 단계에 선택지를 적용한다. 이어지는 자동 단계는 advance 로 진행한다.
+     */
+    public void apply(SimState s, int option, SplittableRandom random) {
+        int p = s.current;
+        int tile = s.pos[p];
+        switch (s.phase) {
+            case JAIL_CHOICE:
+                if (option == 1 && s.cash[p] >= rules.bail) {
+                    s.cash[p] -= rules.bail;
+                    s.jailTurns[p] = 0;
+                    s.phase = SimPhase.ROLL;
+                } else {
+                    s.jailTurns[p] = Math.max(0, s.jailTurns[p] - 1);
+                    s.phase = SimPhase.END_TURN;
+                }
+                break;
+            case TICKET_TARGET:
+                s.pos[p] = option;
+                s.ticket[p] = false;
+                land(s);
+                break;
+            case ROLL: {
+                int outcome = rules.roll(rollSection(option), rollMode(option), s.consecutiveDoubles, random);
+                s.rolledDouble = (outcome & 1) == 1;
+                move(s, p, outcome >> 1);
+                land(s);
+                break;
+            }
+            case CITY_PURCHASE:
+                if (option >= 1 && option <= 3 && s.cash[p] >= rules.levelCost[tile][option]) {
+                    s.cash[p] -= rules.levelCost[tile][option];
+                    s.owner[tile] = p;
+                    s.level[tile] = option;
+                }
+                s.phase = SimPhase.END_TURN;
+                break;
+            case CITY_UPGRADE:
+                if (option == 1) {
+                    upgrade(s, p, tile);
+                }
+                s.phase = SimPhase.END_TURN;
+                break;
+            case TAKEOVER:
+                s.phase = SimPhase.END_TURN;
+                if (option == 1) {
+                    int cost = takeoverCost(s, tile);
+                    int seller = s.owner[tile];
+                    if (s.cash[p] >= cost && seller != SimState.NONE) {
+                        s.cash[p] -= cost;
+                        s.cash[seller] += cost;
+                        s.owner[tile] = p;
+                        if (rules.types[tile] == Tile.Type.TOURIST_SPOT) {
+                            s.phase = SimPhase.TOURIST_CHOICE;
+                        }
+                    }
+                }
+                break;
+            case TOURIST_PURCHASE:
+                s.phase = SimPhase.END_TURN;
+                if (option == 1 && s.cash[p] >= rules.price[tile]) {
+                    s.cash[p] -= rules.price[tile];
+                    s.owner[tile] = p;
+                    s.phase = SimPhase.TOURIST_CHOICE;
+                }
+                break;
+            case TOURIST_CHOICE:
+                if (option == 1) {
+                    s.extraChance[p] = true;
+                } else {
+                    s.lockedBy[tile] = p;
+                }
+                s.phase = SimPhase.END_TURN;
+                break;
+            case START_UPGRADE:
+                if (option >= 0 && option < rules.size && s.owner[option] == p) {
+                    upgrade(s, p, option);
+                }
+                s.phase = SimPhase.END_TURN;
+                break;
+            case OLYMPIC_TARGET:
+                if (option >= 0 && option < rules.size && s.owner[option] == p) {
+                    s.olympic[option] = true;
+                }
+                s.phase = SimPhase.END_TURN;
+                break;
+            default:
+                throw new IllegalStateException("not a decision phase: " + s.phase);
+        }
+    }
+
+    /**
+     * 결정 단계가 나오거나 게임이 끝날 때까지 자동 단계를 진행한다.
+     */
+    public void advance(SimState s, SplittableRandom random) {
+        while (!s.phase.isDecision() && s.phase != SimPhase.GAME_OVER) {
+            if (s.phase == SimPhase.TURN_START) {
+                startTurn(s, random);
+            } else {
+                endTurn(s);
+            }
+        }
+    }
+
+    /**
+     * 기본 정책으로 maxTurns 턴(또는 게임 종료)까지 진행한다.
+     */
+    public void playout(SimState s, SplittableRandom random, int maxTurns) {
+        int limit = s.turnsPlayed + maxTurns;
+        advance(s, random);
+        while (s.phase != SimPhase.GAME_OVER && s.turnsPlayed < limit) {
+            apply(s, rolloutChoice(s, random), random);
+            advance(s, random);
+        }
+    }
+
+    /**
+     * player 입장의 상태 가치 (0 ~ 1)
+     * 게임이 끝났으면 승패, 아니면 살아있는 플레이어 전체 순자산 중 player 의 몫
+     */
+    public double evaluate(SimState s, int player) {
+        if (s.phase == SimPhase.GAME_OVER) {
+            if (s.winner == SimState.NONE) {
+                return 0.5;
+            }
+            return s.winner == player ? 1.0 : 0.0;
+        }
+        if (s.bankrupt[player]) {
+            return 0.0;
+        }
+        double total = 0.0;
+        double mine = 0.0;
+        for (int i = 0; i < s.pos.length; i++) {
+            double worth = netWorth(s, i);
+            total += worth;
+            if (i == player) {
+                mine = worth;
+            }
+        }
+        return total <= 0.0 ? 0.0 : mine / total;
+    }
+
+    /**
+     * 플레이아웃용 기본 정책: 여유 자금을 남기는 탐욕 규칙에 약간의 무작위성을 섞는다.
+     */
+    public int rolloutChoice(SimState s, SplittableRandom random) {
+        int[] options = options(s);
+        if (options.length <= 1) {
+            return options.length == 0 ? 0 : options[0];
+        }
+        int p = s.current;
+        int cash = s.cash[p];
+        int tile = s.pos[p];
+        switch (s.phase) {
+            case ROLL:
+                return encodeRoll(1 + random.nextInt(DiceGauge.SECTION_COUNT), DiceMode.NORMAL);
+            case JAIL_CHOICE:
+                return cash > rules.bail * 4 && random.nextBoolean() ? 1 : 0;
+            case CITY_PURCHASE: {
+                if (random.nextInt(8) == 0) {
+                    return options[random.nextInt(options.length)];
+                }
+                int best = 0;
+                for (int option : options) {
+                    if (option > 0 && rules.levelCost[tile][option] <= cash - PURCHASE_RESERVE) {
+                        best = option;
+                    }
+                }
+                return best;
+            }
+            case CITY_UPGRADE:
+                return rules.upgradeCost[tile][s.level[tile]] <= cash / 2 ? 1 : 0;
+            case TAKEOVER:
+                return takeoverCost(s, tile) <= cash * 0.6 && random.nextInt(10) < 6 ? 1 : 0;
+            case TOURIST_PURCHASE:
+                return rules.price[tile] <= cash - PURCHASE_RESERVE ? 1 : 0;
+            case OLYMPIC_TARGET: {
+                int best = options[0];
+                for (int option : options) {
+                    if (cityToll(s, option) > cityToll(s, best)) {
+                        best = option;
+                    }
+                }
+                return best;
+            }
+            default:
+                return options[random.nextInt(options.length)];
+        }
+    }
+
+    private void startTurn(SimState s, SplittableRandom random) {
+        if (checkGameOver(s)) {
+            return;
+        }
+        int p = s.current;
+        if (s.bankrupt[p]) {
+            nextPlayer(s);
+            return;
+        }
+        // 페이즈 딜리트: 3의 배수 턴마다 첫 플레이어 차례에 빈 도시 하나를 무작위로 삭제
+        if (s.turnCount % 3 == 0 && p == 0) {
+            phaseDelete(s, random);
+        }
+        for (int i = 0; i < rules.size; i++) {
+            if (s.lockedBy[i] == p) {
+                s.lockedBy[i] = SimState.NONE;
+            }
+        }
+        if (s.jailTurns[p] > 0) {
+            s.phase = SimPhase.JAIL_CHOICE;
+        } else if (s.ticket[p]) {
+            s.phase = SimPhase.TICKET_TARGET;
+        } else {
+            s.phase = SimPhase.ROLL;
+        }
+    }
+
+    private void endTurn(SimState s) {
+        int p = s.current;
+        if (s.bankrupt[p]) {
+            s.extraChance[p] = false;
+        } else if (s.extraChance[p]) {
+            s.extraChance[p] = false;
+            s.phase = SimPhase.ROLL;
+            return;
+        } else if (s.rolledDouble) {
+            s.consecutiveDoubles++;
+            s.rolledDouble = false;
+            s.phase = SimPhase.ROLL;
+            return;
+        }
+        s.consecutiveDoubles = 0;
+        s.rolledDouble = false;
+        if (isVictory(s, p)) {
+            s.winner = p;
+            s.phase = SimPhase.GAME_OVER;
+            return;
+        }
+        nextPlayer(s);
+    }
+
+    private void nextPlayer(SimState s) {
+        int players = s.pos.length;
+        for (int i = 0; i < players; i++) {
+            s.current = (s.current + 1) % players;
+            if (s.current == 0) {
+                s.turnCount++;
+            }
+            if (!s.bankrupt[s.current]) {
+                break;
+            }
+        }
+        s.turnsPlayed++;
+        s.phase = SimPhase.TURN_START;
+    }
+
+    /**
+     * 도착한 칸의 효과를 처리하고 다음 단계를 정한다 (GameUI.handleTileLanding)
+     */
+    private void land(SimState s) {
+        int p = s.current;
+        int tile = s.pos[p];
+        switch (rules.types[tile]) {
+            case START:
+                s.rolledDouble = false;
+                s.consecutiveDoubles = 0;
+                s.phase = upgradeTargets(s, p).length > 0 ? SimPhase.START_UPGRADE : SimPhase.END_TURN;
+                break;
+            case CITY:
+                landOnCity(s, p, tile);
+                break;
+            case TOURIST_SPOT:
+                landOnTouristSpot(s, p, tile);
+                break;
+            case ISLAND:
+                s.jailTurns[p] = rules.islandMaxTurns;
+                s.rolledDouble = false;
+                s.consecutiveDoubles = 0;
+                s.phase = SimPhase.END_TURN;
+                break;
+            case CHANCE:
+                s.cash[p] += rules.chanceReward;
+                s.phase = SimPhase.END_TURN;
+                break;
+            case RAILROAD:
+                s.ticket[p] = true;
+                s.phase = SimPhase.END_TURN;
+                break;
+            case TAX:
+                s.cash[p] -= rules.profile.tax(s.cash[p]);
+                if (s.cash[p] < 0) {
+                    s.bankrupt[p] = true;
+                }
+                s.phase = SimPhase.END_TURN;
+                break;
+            case OLYMPIC:
+                s.rolledDouble = false;
+                s.consecutiveDoubles = 0;
+                s.phase = ownedCities(s, p).length > 0 ? SimPhase.OLYMPIC_TARGET : SimPhase.END_TURN;
+                break;
+            case WORLD_TOUR:
+                s.rolledDouble = false;
+                s.consecutiveDoubles = 0;
+                s.ticket[p] = true;
+                s.phase = SimPhase.END_TURN;
+                break;
+            default:
+                s.phase = SimPhase.END_TURN;
+                break;
+        }
+    }
+
+    private void landOnCity(SimState s, int p, int tile) {
+        int owner = s.owner[tile];
+        if (owner == SimState.NONE) {
+            s.phase = SimPhase.CITY_PURCHASE;
+            return;
+        }
+        if (owner == p) {
+            if (s.level[tile] >= 4) {
+                magneticCore(s, tile);
+                s.phase = SimPhase.END_TURN;
+            } else {
+                s.phase = SimPhase.CITY_UPGRADE;
+            }
+            return;
+        }
+        payToll(s, p, owner, cityToll(s, tile));
+        s.olympic[tile] = false;
+        s.phase = s.bankrupt[p] || s.level[tile] >= 4 ? SimPhase.END_TURN : SimPhase.TAKEOVER;
+    }
+
+    private void landOnTouristSpot(SimState s, int p, int tile) {
+        int owner = s.owner[tile];
+        if (owner == SimState.NONE) {
+            s.phase = SimPhase.TOURIST_PURCHASE;
+            return;
+        }
+        if (owner == p) {
+            s.phase = SimPhase.TOURIST_CHOICE;
+            return;
+        }
+        payToll(s, p, owner, rules.touristToll[tile]);
+        if (s.lockedBy[tile] != SimState.NONE) {
+            s.lockedBy[tile] = SimState.NONE;
+            s.phase = SimPhase.END_TURN;
+        } else {
+            s.phase = s.bankrupt[p] ? SimPhase.END_TURN : SimPhase.TAKEOVER;
+        }
+    }
+
+    private void upgrade(SimState s, int p, int tile) {
+        int level = s.level[tile];
+        if (level < 1 || level >= 4 || s.cash[p] < rules.upgradeCost[tile][level]) {
+            return;
+        }
+        s.cash[p] -= rules.upgradeCost[tile][level];
+        s.level[tile] = level + 1;
+        if (s.level[tile] == 4) {
+            magneticCore(s, tile);
+        }
+    }
+
+    /**
+     * 듀얼 마그네틱 코어: 랜드마크 양옆 MAGNETIC_RANGE 칸 이내의 다른 플레이어를 끌어와 통행료를 받는다.
+     */
+    private void magneticCore(SimState s, int landmark) {
+        int owner = s.owner[landmark];
+        int toll = cityToll(s, landmark);
+        for (int i = 0; i < s.pos.length; i++) {
+            if (i == owner || s.jailTurns[i] > 0 || s.bankrupt[i]) {
+                continue;
+            }
+            int distance = Math.min(liveDistance(s, landmark, s.pos[i], true), liveDistance(s, landmark, s.pos[i], false));
+            if (distance > 0 && distance <= RuleEngine.MAGNETIC_RANGE) {
+                s.pos[i] = landmark;
+                payToll(s, i, owner, toll);
+            }
+        }
+    }
+
+    private void phaseDelete(SimState s, SplittableRandom random) {
+        int candidates = 0;
+        for (int i = 0; i < rules.size; i++) {
+            if (rules.types[i] == Tile.Type.CITY && s.owner[i] == SimState.NONE && !s.deleted[i]) {
+                candidates++;
+            }
+        }
+        if (candidates == 0) {
+            return;
+        }
+        int pick = random.nextInt(candidates);
+        for (int i = 0; i < rules.size; i++) {
+            if (rules.types[i] == Tile.Type.CITY && s.owner[i] == SimState.NONE && !s.deleted[i] && pick-- == 0) {
+                s.deleted[i] = true;
+                return;
+            }
+        }
+    }
+
+    private void move(SimState s, int p, int steps) {
+        int position = s.pos[p];
+        for (int step = 0; step < steps; step++) {
+            do {
+                position = (position + 1) % rules.size;
+            } while (s.deleted[position]);
+            if (position == 0) {
+                s.cash[p] += rules.salary;
+            }
+        }
+        s.pos[p] = position;
+    }
+
+    /**
+     * Board.liveDistance 와 같은 기준: 시계 방향은 (from, to], 반시계 방향은 [to, from) 의 살아있는 칸 수
+     */
+    private int liveDistance(SimState s, int from, int to, boolean clockwise) {
+        int distance = 0;
+        int position = from;
+        while (position != to) {
+            position = clockwise ? (position + 1) % rules.size : (position - 1 + rules.size) % rules.size;
+            if (!s.deleted[position]) {
+                distance++;
+            }
+        }
+        return distance;
+    }
+
+    private static void payToll(SimState s, int payer, int receiver, int toll) {
+        s.cash[payer] -= toll;
+        s.cash[receiver] += toll;
+        if (s.cash[payer] < 0) {
+            s.bankrupt[payer] = true;
+        }
+    }
+
+    private int cityToll(SimState s, int tile) {
+        int owner = s.owner[tile];
+        int toll = rules.toll[tile][s.level[tile] * 2 + (hasMonopoly(s, owner, rules.colorOf[tile]) ? 1 : 0)];
+        return s.olympic[tile] ? toll * 2 : toll;
+    }
+
+    private int takeoverCost(SimState s, int tile) {
+        return rules.types[tile] == Tile.Type.TOURIST_SPOT ? rules.price[tile] : rules.takeoverPrice[tile][s.level[tile]];
+    }
+
+    private boolean hasMonopoly(SimState s, int player, int color) {
+        if (player == SimState.NONE || color < 0) {
+            return false;
+        }
+        for (int member : rules.colorMembers[color]) {
+            if (s.owner[member] != player) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] upgradeTargets(SimState s, int p) {
+        int[] targets = new int[rules.size];
+        int count = 0;
+        int affordable = 0;
+        for (int i = 0; i < rules.size; i++) {
+            if (rules.types[i] == Tile.Type.CITY && s.owner[i] == p && s.level[i] >= 1 && s.level[i] < 4) {
+                // 살 수 있는 도시를 앞쪽에 모은다
+                if (s.cash[p] >= rules.upgradeCost[i][s.level[i]]) {
+                    System.arraycopy(targets, affordable, targets, affordable + 1, count - affordable);
+                    targets[affordable++] = i;
+                } else {
+                    targets[count] = i;
+                }
+                count++;
+            }
+        }
+        return Arrays.copyOf(targets, affordable > 0 ? affordable : count);
+    }
+
+    private int[] ownedCities(SimState s, int p) {
+        int[] cities = new int[rules.size];
+        int count = 0;
+        for (int i = 0; i < rules.size; i++) {
+            if (rules.types[i] == Tile.Type.CITY && s.owner[i] == p && !s.deleted[i]) {
+                cities[count++] = i;
+            }
+        }
+        return Arrays.copyOf(cities, count);
+    }
+
+    private double netWorth(SimState s, int player) {
+        if (s.bankrupt[player]) {
+            return 0.0;
+        }
+        double worth = Math.max(0, s.cash[player]);
+        for (int i = 0; i < rules.size; i++) {
+            if (s.owner[i] != player || s.deleted[i]) {
+                continue;
+            }
+            if (rules.types[i] == Tile.Type.TOURIST_SPOT) {
+                worth += rules.price[i];
+            } else {
+                int level = s.level[i];
+                worth += rules.levelCost[i][Math.min(3, Math.max(1, level))];
+                if (level == 4) {
+                    worth += rules.upgradeCost[i][3];
+                }
+            }
+        }
+        return worth;
+    }
+
+    private boolean checkGameOver(SimState s) {
+        int alive = 0;
+        int last = SimState.NONE;
+        for (int i = 0; i < s.pos.length; i++) {
+            if (!s.bankrupt[i]) {
+                alive++;
+                last = i;
+            }
+        }
+        if (alive <= 1) {
+            s.winner = last;
+            s.phase = SimPhase.GAME_OVER;
+            return true;
+        }
+        for (int i = 0; i < s.pos.length; i++) {
+            if (isVictory(s, i)) {
+                s.winner = i;
+                s.phase = SimPhase.GAME_OVER;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * RuleEngine.checkVictory 와 같은 세 가지 승리 조건 (파산 / 라인 독점 / 트리플 컬러 독점)
+     */
+    private boolean isVictory(SimState s, int player) {
+        boolean othersBroke = true;
+        for (int i = 0; i < s.pos.length; i++) {
+            if (i != player && s.cash[i] > 0 && !s.bankrupt[i]) {
+                othersBroke = false;
+                break;
+            }
+        }
+        if (othersBroke) {
+            return true;
+        }
+        for (int[] line : rules.victoryLines) {
+            boolean owned = true;
+            for (int tile : line) {
+                Tile.Type type = rules.types[tile];
+                if ((type == Tile.Type.CITY || type == Tile.Type.TOURIST_SPOT) && s.owner[tile] != player) {
+                    owned = false;
+                    break;
+                }
+            }
+            if (owned) {
+                return true;
+            }
+        }
+        int monopolies = 0;
+        for (int color = 0; color < rules.colorMembers.length; color++) {
+            if (hasMonopoly(s, player, color) && ++monopolies >= 3) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.marblegame.core.ai;
+
+/**
+ * 헤드리스 시뮬레이션의 턴 진행 단계
+ * 선택지가 있는 단계(isDecision)는 GameUI 가 사람에게 묻는 결정과 1:1 로 대응한다.
+ */
+public enum SimPhase {
+    TURN_START(false),
+    JAIL_CHOICE(true),        // 무인도: 패스 / 보석금
+    TICKET_TARGET(true),      // 세계여행 티켓: 이동할 칸
+    ROLL(true),               // 게이지 구간 + 홀짝 모드
+    CITY_PURCHASE(true),      // 미소유 도시: 취소 / 레벨 1~3
+    CITY_UPGRADE(true),       // 본인 도시: 패스 / 업그레이드
+    TAKEOVER(true),           // 타인 도시/관광지: 패스 / 인수
+    TOURIST_PURCHASE(true),   // 미소유 관광지: 취소 / 매입
+    TOURIST_CHOICE(true),     // 관광지: 잠금 / 추가 주사위
+    START_UPGRADE(true),      // 출발지 도착: 업그레이드할 도시
+    OLYMPIC_TARGET(true),     // 올림픽: 통행료 2배 도시
+    END_TURN(false),
+    GAME_OVER(false);
+
+    private final boolean decision;
+
+    SimPhase(boolean decision) {
+        this.decision = decision;
+    }
+
+    public boolean isDecision() {
+        return decision;
+    }
+}
@@ -0,0 +1,179 @@
+package com.marblegame.core.ai;
+
+import com.marblegame.core.RuleEngine;
+import com.marblegame.core.RuleProfile;
+import com.marblegame.core.ZobristKeys;
+import com.marblegame.core.analysis.LandingProbabilityEngine;
+import com.marblegame.model.Board;
+import com.marblegame.model.City;
+import com.marblegame.model.DiceGauge;
+import com.marblegame.model.DiceMode;
+import com.marblegame.model.DiceRules;
+import com.marblegame.model.Tile;
+import com.marblegame.model.TouristSpot;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 헤드리스 시뮬레이션용 규칙 표
+ * 보드 구성과 RuleEngine 의 가격/통행료/보상 값을 배열로 한 번 옮겨 두고 모든 탐색 스레드가 공유한다 (불변).
+ * 통행료는 RuleEngine 의 미리 계산된 표를 그대로 쓰므로 실제 게임과 값이 어긋나지 않는다.
+ */
+public final class SimRules {
+    private static final int MAX_SUM = 12;
+    private static final int CONSECUTIVE_STATES = DiceRules.MAX_CONSECUTIVE_DOUBLES + 1;
+
+    final int size;
+    final Tile.Type[] types;
+    final int[] price;
+    // [칸][레벨 1~3] 구매 시 누적 건설 비용, [칸][레벨] 다음 레벨 업그레이드 비용, [칸][레벨] 인수 비용
+    final int[][] levelCost;
+    final int[][] upgradeCost;
+    final int[][] takeoverPrice;
+    // [칸][레벨 * 2 + 독점] 통행료 (올림픽은 2배)
+    final int[][] toll;
+    final int[] touristToll;
+    final int[] colorOf;
+    final int[][] colorMembers;
+    final int[][] victoryLines;
+
+    final int salary;
+    final int chanceReward;
+    final int bail;
+    final RuleProfile profile;
+    final int islandMaxTurns;
+    final ZobristKeys keys;
+
+    // [구간, 모드, 연속 더블 조합][결과] 누적 확률과 결과(이동 칸 수, 더블 여부)
+    private final double[][] rollCdf;
+    private final int[][] rollSteps;
+    private final boolean[][] rollDouble;
+
+    public SimRules(Board board, RuleEngine ruleEngine) {
+        this.size = board.getSize();
+        this.types = new Tile.Type[size];
+        this.price = new int[size];
+        this.levelCost = new int[size][4];
+        this.upgradeCost = new int[size][5];
+        this.takeoverPrice = new int[size][5];
+        this.toll = new int[size][10];
+        this.touristToll = new int[size];
+        this.colorOf = new int[size];
+
+        Map<String, List<Integer>> colors = new LinkedHashMap<>();
+        Map<String, Integer> colorIndex = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Tile tile = board.getTile(i);
+            types[i] = tile.type;
+            colorOf[i] = -1;
+            if (tile instanceof City) {
+                City city = (City) tile;
+                price[i] = city.price;
+                for (int level = 1; level <= 3; level++) {
+                    levelCost[i][level] = ruleEngine.calculateLevelCost(city.price, level);
+                }
+                for (int level = 0; level <= 4; level++) {
+                    toll[i][level * 2] = ruleEngine.getTollForLevel(city, level, false);
+                    toll[i][level * 2 + 1] = ruleEngine.getTollForLevel(city, level, true);
+                    upgradeCost[i][level] = ruleEngine.getUpgradeCostForLevel(city, level);
+                    takeoverPrice[i][level] = ruleEngine.getTakeoverPriceForLevel(city, level);
+                }
+                if (!colors.containsKey(city.colorGroup)) {
+                    colorIndex.put(city.colorGroup, colors.size());
+                    colors.put(city.colorGroup, new ArrayList<>());
+                }
+                colorOf[i] = colorIndex.get(city.colorGroup);
+                colors.get(city.colorGroup).add(i);
+            } else if (tile instanceof TouristSpot) {
+                TouristSpot spot = (TouristSpot) tile;
+                price[i] = spot.price;
+                touristToll[i] = ruleEngine.calculateTouristSpotToll(spot);
+                takeoverPrice[i][1] = spot.price;
+            }
+        }
+        this.colorMembers = new int[colors.size()][];
+        int color = 0;
+        for (List<Integer> members : colors.values()) {
+            colorMembers[color++] = members.stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.victoryLines = board.getLayout().getVictoryLines();
+        this.salary = ruleEngine.getSalary();
+        this.chanceReward = ruleEngine.getChanceReward();
+        this.bail = ruleEngine.getBail();
+        this.profile = ruleEngine.getRuleProfile();
+        this.islandMaxTurns = ruleEngine.getIslandMaxTurns();
+        this.keys = ZobristKeys.forBoardSize(size);
+
+        int combinations = DiceGauge.SECTION_COUNT * DiceMode.values().length * CONSECUTIVE_STATES;
+        this.rollCdf = new double[combinations][];
+        this.rollSteps = new int[combinations][];
+        this.rollDouble = new boolean[combinations][];
+        buildRollTables();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public ZobristKeys getKeys() {
+        return keys;
+    }
+
+    /**
+     * 주사위 한 번 굴리기: 결과는 이동 칸 수 * 2 + (더블 ? 1 : 0)
+     * GameUI.rollDiceWithGauge 와 같은 분포를 미리 계산한 누적 확률 표에서 뽑는다.
+     */
+    int roll(int section, DiceMode mode, int consecutiveDoubles, SplittableRandom random) {
+        int combination = combinationIndex(section, mode, consecutiveDoubles);
+        double[] cdf = rollCdf[combination];
+        double r = random.nextDouble();
+        int index = 0;
+        while (index < cdf.length - 1 && r >= cdf[index]) {
+            index++;
+        }
+        return rollSteps[combination][index] * 2 + (rollDouble[combination][index] ? 1 : 0);
+    }
+
+    private void buildRollTables() {
+        for (int section = 1; section <= DiceGauge.SECTION_COUNT; section++) {
+            for (DiceMode mode : DiceMode.values()) {
+                for (int consecutive = 0; consecutive < CONSECUTIVE_STATES; consecutive++) {
+                    List<double[]> outcomes = new ArrayList<>();
+                    for (int sum = 0; sum <= MAX_SUM; sum++) {
+                        for (int dbl = 0; dbl < 2; dbl++) {
+                            double p = LandingProbabilityEngine.getRollProbability(section, mode, consecutive, sum, dbl == 1);
+                            if (p > 0.0) {
+                                outcomes.add(new double[]{p, sum, dbl});
+                            }
+                        }
+                    }
+                    int combination = combinationIndex(section, mode, consecutive);
+                    double[] cdf = new double[outcomes.size()];
+                    int[] steps = new int[outcomes.size()];
+                    boolean[] doubles = new boolean[outcomes.size()];
+                    double total = 0.0;
+                    for (int i = 0; i < outcomes.size(); i++) {
+                        double[] outcome = outcomes.get(i);
+                        total += outcome[0];
+                        cdf[i] = total;
+                        steps[i] = (int) outcome[1];
+                        doubles[i] = outcome[2] > 0.5;
+                    }
+                    rollCdf[combination] = cdf;
+                    rollSteps[combination] = steps;
+                    rollDouble[combination] = doubles;
+                }
+            }
+        }
+    }
+
+    private static int combinationIndex(int section, DiceMode mode, int consecutiveDoubles) {
+        int s = Math.max(1, Math.min(DiceGauge.SECTION_COUNT, section)) - 1;
+        int c = Math.max(0, Math.min(DiceRules.MAX_CONSECUTIVE_DOUBLES, consecutiveDoubles));
+        return (s * DiceMode.values().length + mode.ordinal()) * CONSECUTIVE_STATES + c;
+    }
+}
@@ -0,0 +1,154 @@
+package com.marblegame.core.ai;
+
+import com.marblegame.core.ZobristKeys;
+import com.marblegame.model.Board;
+import com.marblegame.model.City;
+import com.marblegame.model.Player;
+import com.marblegame.model.Tile;
+import com.marblegame.model.TouristSpot;
+
+/**
+ * 탐색용 헤드리스 게임 상태
+ * 규칙에 필요한 값만 원시 배열로 들고 있어 복사가 싸다 (플레이아웃마다 한 번씩 복사).
+ * UI, 네트워크, 애니메이션 상태는 담지 않는다.
+ */
+public final class SimState {
+    static final int NONE = -1;
+
+    // 칸별 상태 (소유자는 도시/관광지만, 없으면 NONE)
+    final int[] owner;
+    final int[] level;
+    final boolean[] olympic;
+    final boolean[] deleted;
+    final int[] lockedBy;
+
+    // 플레이어별 상태
+    final int[] pos;
+    final int[] cash;
+    final int[] jailTurns;
+    final boolean[] ticket;
+    final boolean[] extraChance;
+    final boolean[] bankrupt;
+
+    int current;
+    int turnCount;
+    int consecutiveDoubles;
+    boolean rolledDouble;
+    SimPhase phase;
+    int winner = NONE;
+    int turnsPlayed;
+
+    SimState(int tiles, int players) {
+        owner = new int[tiles];
+        level = new int[tiles];
+        olympic = new boolean[tiles];
+        deleted = new boolean[tiles];
+        lockedBy = new int[tiles];
+        pos = new int[players];
+        cash = new int[players];
+        jailTurns = new int[players];
+        ticket = new boolean[players];
+        extraChance = new boolean[players];
+        bankrupt = new boolean[players];
+    }
+
+    private SimState(SimState other) {
+        owner = other.owner.clone();
+        level = other.level.clone();
+        olympic = other.olympic.clone();
+        deleted = other.deleted.clone();
+        lockedBy = other.lockedBy.clone();
+        pos = other.pos.clone();
+        cash = other.cash.clone();
+        jailTurns = other.jailTurns.clone();
+        ticket = other.ticket.clone();
+        extraChance = other.extraChance.clone();
+        bankrupt = other.bankrupt.clone();
+        current = other.current;
+        turnCount = other.turnCount;
+        consecutiveDoubles = other.consecutiveDoubles;
+        rolledDouble = other.rolledDouble;
+        phase = other.phase;
+        winner = other.winner;
+        turnsPlayed = other.turnsPlayed;
+    }
+
+    /**
+     * 실제 게임 상태를 탐색용 상태로 옮긴다.
+     * @param rolledDouble 이번 턴 마지막 주사위가 더블이었는지 (턴 종료 시 한 번 더 굴림)
+     * @param phase        현재 플레이어가 답해야 하는 결정
+     */
+    public static SimState capture(Board board, Player[] players, int currentPlayer, int turnCount,
+                                   int consecutiveDoubles, boolean rolledDouble, SimPhase phase) {
+        SimState state = new SimState(board.getSize(), players.length);
+        for (int i = 0; i < board.getSize(); i++) {
+            Tile tile = board.getTile(i);
+            state.owner[i] = NONE;
+            state.lockedBy[i] = NONE;
+            state.deleted[i] = board.isDeletedTile(i);
+            if (tile instanceof City) {
+                City city = (City) tile;
+                state.owner[i] = city.owner == null ? NONE : city.owner;
+                state.level[i] = city.level;
+                state.olympic[i] = city.hasOlympicBoost;
+            } else if (tile instanceof TouristSpot) {
+                TouristSpot spot = (TouristSpot) tile;
+                state.owner[i] = spot.owner == null ? NONE : spot.owner;
+                state.lockedBy[i] = spot.isLocked() && spot.lockedBy != null ? spot.lockedBy : NONE;
+            }
+        }
+        for (int p = 0; p < players.length; p++) {
+            Player player = players[p];
+            state.pos[p] = player.pos;
+            state.cash[p] = player.cash;
+            state.jailTurns[p] = player.jailTurns;
+            state.ticket[p] = player.hasRailroadTicket;
+            state.extraChance[p] = player.hasExtraChance;
+            state.bankrupt[p] = player.bankrupt;
+        }
+        state.current = currentPlayer;
+        state.turnCount = turnCount;
+        state.consecutiveDoubles = consecutiveDoubles;
+        state.rolledDouble = rolledDouble;
+        state.phase = phase;
+        return state;
+    }
+
+    public SimState copy() {
+        return new SimState(this);
+    }
+
+    /**
+     * 전체 상태의 Zobrist 해시 (RuleEngine.getStateHash 와 같은 키를 써서 같은 상태면 같은 값)
+     */
+    public long hash(ZobristKeys keys) {
+        long hash = keys.turn(current, consecutiveDoubles);
+        for (int i = 0; i < owner.length; i++) {
+            hash ^= keys.tile(i, owner[i], level[i], olympic[i], deleted[i], lockedBy[i]);
+        }
+        for (int p = 0; p < pos.length; p++) {
+            hash ^= keys.player(p, pos[p], cash[p], jailTurns[p], ticket[p], extraChance[p], bankrupt[p]);
+        }
+        return hash;
+    }
+
+    public int getCurrentPlayer() {
+        return current;
+    }
+
+    public int getPlayerCount() {
+        return pos.length;
+    }
+
+    public SimPhase getPhase() {
+        return phase;
+    }
+
+    public boolean isGameOver() {
+        return phase == SimPhase.GAME_OVER;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+}
@@ -0,0 +1,147 @@
+package com.marblegame.core.ai;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 탐색 스레드들이 함께 쓰는 고정 크기 무잠금 전치표
+ *
+ * 항목 하나는 (검증값 = 키 ^ 데이터, 데이터) 두 long 이다. 쓰기와 읽기가 겹쳐 두 값이 어긋나면
+ * 검증값 ^ 데이터가 키와 달라지므로 읽는 쪽은 그냥 미스로 본다 (락 없이 찢어진 항목을 걸러냄).
+ * 데이터는 평균 가치(float 32비트), 방문 수(24비트), 세대(8비트)로 나눠 담는다.
+ *
+ * 버킷마다 두 칸을 둔다: 첫 칸은 방문 수가 많은 항목을 지키고(이전 세대 항목은 언제든 교체),
+ * 둘째 칸은 항상 교체한다. 누적(accumulate)은 읽고-더하고-쓰는 방식이라 동시에 쓰면 일부 결과가
+ * 사라질 수 있는데, 선택을 안내하는 통계로만 쓰므로 그 정도 손실은 허용한다.
+ */
+public final class TranspositionTable {
+    public static final long MISS = 0L;
+
+    private static final int VISIT_BITS = 24;
+    private static final int MAX_VISITS = (1 << VISIT_BITS) - 1;
+    private static final int GENERATION_MASK = 0xFF;
+
+    private final AtomicLongArray slots;
+    private final int bucketMask;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * @param entries 최대 항목 수 (2의 거듭제곱으로 올림)
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 2) {
+            throw new IllegalArgumentException("entries must be at least 2");
+        }
+        int wanted = (entries + 1) / 2;
+        int buckets = wanted <= 1 ? 1 : Integer.highestOneBit(wanted - 1) << 1;
+        this.bucketMask = buckets - 1;
+        this.slots = new AtomicLongArray(buckets * 4);
+    }
+
+    public int getCapacity() {
+        return (bucketMask + 1) * 2;
+    }
+
+    /**
+     * 새 탐색을 시작할 때 부른다. 이전 세대 항목은 교체 우선순위가 가장 낮아진다.
+     */
+    public void newSearch() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * @return 저장된 데이터, 없거나 찢어진 항목이면 MISS
+     */
+    public long probe(long key) {
+        probes.increment();
+        int base = bucketBase(key);
+        for (int slot = 0; slot < 2; slot++) {
+            int index = base + slot * 2;
+            long data = slots.get(index + 1);
+            if (data != MISS && (slots.get(index) ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * 평균 가치와 방문 수를 저장한다 (교체 정책은 클래스 설명 참고)
+     */
+    public void store(long key, double mean, int visits) {
+        if (visits <= 0) {
+            return;
+        }
+        long data = pack(mean, visits, generation.get());
+        int base = bucketBase(key);
+        int first = base;
+        int second = base + 2;
+
+        long firstData = slots.get(first + 1);
+        boolean firstMatches = firstData != MISS && (slots.get(first) ^ firstData) == key;
+        if (firstMatches || firstData == MISS || isStale(firstData) || visits(firstData) <= visits) {
+            write(first, key, data);
+            return;
+        }
+        write(second, key, data);
+    }
+
+    /**
+     * 결과 하나를 항목의 평균에 더한다.
+     */
+    public void accumulate(long key, double value) {
+        long data = probe(key);
+        if (data == MISS) {
+            store(key, value, 1);
+            return;
+        }
+        int visits = visits(data);
+        double mean = mean(data);
+        store(key, mean + (value - mean) / (visits + 1), Math.min(MAX_VISITS, visits + 1));
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, MISS);
+        }
+    }
+
+    public long getProbeCount() {
+        return probes.sum();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public static double mean(long data) {
+        return Float.intBitsToFloat((int) (data >>> 32));
+    }
+
+    public static int visits(long data) {
+        return (int) ((data >>> 8) & MAX_VISITS);
+    }
+
+    private static long pack(double mean, int visits, int generation) {
+        long meanBits = Float.floatToIntBits((float) mean) & 0xFFFFFFFFL;
+        long visitBits = Math.min(MAX_VISITS, visits);
+        return (meanBits << 32) | (visitBits << 8) | (generation & GENERATION_MASK);
+    }
+
+    private boolean isStale(long data) {
+        return (data & GENERATION_MASK) != (generation.get() & GENERATION_MASK);
+    }
+
+    private void write(int index, long key, long data) {
+        slots.set(index + 1, data);
+        slots.set(index, key ^ data);
+    }
+
+    private int bucketBase(long key) {
+        return (int) (key & bucketMask) * 4;
+    }
+}
@@ -0,0 +1,66 @@
+package com.marblegame.core.analysis;
+
+import com.marblegame.core.RuleEngine;
+import com.marblegame.model.City;
+
+/**
+ * {@link BoardHeatmapSolver#solve} 결과
+ * 오래 플레이했을 때 턴 시작 시점의 칸별 점유 확률과 한 턴에 각 칸에 도착하는 기대 횟수를 담는다.
+ */
+public final class BoardHeatmap {
+    private final double[] occupancy;
+    private final double[] landingRates;
+    private final int iterations;
+    private final boolean warmStarted;
+
+    BoardHeatmap(double[] occupancy, double[] landingRates, int iterations, boolean warmStarted) {
+        this.occupancy = occupancy;
+        this.landingRates = landingRates;
+        this.iterations = iterations;
+        this.warmStarted = warmStarted;
+    }
+
+    /**
+     * 턴 시작 시점에 tileIndex 에 있을 확률 (무인도 대기, 세계여행 티켓 보유 상태 포함)
+     */
+    public double getOccupancy(int tileIndex) {
+        return occupancy[tileIndex];
+    }
+
+    public double[] getOccupancy() {
+        return occupancy.clone();
+    }
+
+    /**
+     * 플레이어 한 명이 한 턴에 tileIndex 에 도착하는 기대 횟수 (더블로 여러 번 도착할 수 있음)
+     */
+    public double getLandingRate(int tileIndex) {
+        return landingRates[tileIndex];
+    }
+
+    public double[] getLandingRates() {
+        return landingRates.clone();
+    }
+
+    /**
+     * 상대 opponents 명이 한 라운드(각자 한 턴) 동안 city 에 내는 기대 통행료
+     * city 가 level 단계로 지어져 있다고 가정하고 RuleEngine 의 통행료 표를 쓴다 (올림픽 효과 제외).
+     */
+    public double getExpectedTollPerRound(RuleEngine ruleEngine, City city, int level, boolean monopoly, int opponents) {
+        return landingRates[city.id] * opponents * ruleEngine.getTollForLevel(city, level, monopoly);
+    }
+
+    /**
+     * 수렴까지 걸린 반복 횟수
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 이전 해에서 출발해 다시 푼 결과인지 여부
+     */
+    public boolean isWarmStarted() {
+        return warmStarted;
+    }
+}
@@ -0,0 +1,290 @@
+package com.marblegame.core.analysis;
+
+import com.marblegame.model.Board;
+import com.marblegame.model.DiceGauge;
+import com.marblegame.model.DiceMode;
+import com.marblegame.model.DiceRules;
+import com.marblegame.model.Tile;
+
+import java.util.Arrays;
+
+/**
+ * 보드 점유 분포(히트맵)를 마르코프 체인의 정상 분포로 계산하는 솔버
+ *
+ * 상태는 (칸, 턴 시작 상황) 이다. 턴 시작 상황은 일반 / 세계여행 티켓 보유 / 무인도 남은 턴(1 ~ islandMaxTurns) 중 하나다.
+ * 한 턴의 전이는 GameUI 규칙을 따른다.
+ * - 주사위 결과는 {@link LandingProbabilityEngine} 과 같은 표(구간, 모드, 연속 더블 억제)를 쓴다.
+ * - 더블이면 같은 턴에 다시 굴리되, 무인도/세계여행/출발지/올림픽 도착은 더블을 초기화하고 턴을 끝낸다.
+ * - 무인도 도착 시 islandMaxTurns 턴 동안 갇힌다. 매 턴 bailProbability 확률로 보석금을 내고 바로 굴리고, 아니면 패스한다.
+ * - 세계여행 티켓은 다음 턴에 자기 칸을 제외한 살아있는 칸 중 하나로 균등하게 이동한다고 가정한다.
+ * - 삭제된 칸은 이동에서 건너뛴다 (Board 의 살아있는 칸 색인 사용).
+ * 찬스 카드, 마그네틱 코어 등 칸 효과로 인한 추가 이동은 반영하지 않는다.
+ *
+ * 페이즈 딜리트로 보드가 바뀌면 전이 행렬만 다시 만들고, 정상 분포는 이전 해(삭제된 칸의 확률은 다음 살아있는 칸으로 옮김)에서
+ * 출발해 반복하므로 처음부터 푸는 것보다 훨씬 적은 반복으로 수렴한다.
+ */
+public final class BoardHeatmapSolver {
+    private static final int MAX_SUM = 12;
+    private static final int KIND_NORMAL = 0;
+    private static final int KIND_TICKET = 1;
+    private static final int KIND_JAIL_BASE = 2; // KIND_JAIL_BASE + (남은 턴 - 1)
+
+    private static final double TOLERANCE = 1e-12;
+    private static final int MAX_ITERATIONS = 100_000;
+
+    private final Board board;
+    private final int islandMaxTurns;
+    private final double[] sectionWeights;
+    private final DiceMode mode;
+    private final double bailProbability;
+    private final int size;
+    private final int kinds;
+    private final int stateCount;
+
+    private int matrixVersion = -1;
+    // [from 상태][to 상태] 한 턴 전이 확률, [from 상태][칸] 한 턴 동안의 기대 도착 횟수
+    private double[][] transitions;
+    private double[][] landings;
+    private double[] stationary;
+    private BoardHeatmap lastResult;
+
+    /**
+     * @param islandMaxTurns  무인도 대기 턴 수 (RuleEngine.getIslandMaxTurns)
+     * @param sectionWeights  게이지 구간 1~4 를 고를 확률 (합이 1이 아니면 정규화)
+     * @param bailProbability 무인도에서 대기 대신 보석금을 낼 확률 (0 ~ 1)
+     */
+    public BoardHeatmapSolver(Board board, int islandMaxTurns, double[] sectionWeights, DiceMode mode,
+                              double bailProbability) {
+        if (islandMaxTurns < 0) {
+            throw new IllegalArgumentException("islandMaxTurns must not be negative");
+        }
+        if (bailProbability < 0.0 || bailProbability > 1.0) {
+            throw new IllegalArgumentException("bailProbability must be between 0 and 1");
+        }
+        this.board = board;
+        this.islandMaxTurns = islandMaxTurns;
+        this.sectionWeights = LandingProbabilityEngine.normalizeWeights(sectionWeights);
+        this.mode = mode;
+        this.bailProbability = bailProbability;
+        this.size = board.getSize();
+        this.kinds = KIND_JAIL_BASE + islandMaxTurns;
+        this.stateCount = kinds * size;
+    }
+
+    /**
+     * 현재 보드 기준 정상 분포를 계산한다.
+     * 보드가 바뀌지 않았으면 이전 결과를 그대로 돌려주고, 바뀌었으면 이전 해에서 출발해 다시 푼다.
+     */
+    public synchronized BoardHeatmap solve() {
+        int version = board.getLiveIndexVersion();
+        if (lastResult != null && matrixVersion == version) {
+            return lastResult;
+        }
+        boolean warmStart = stationary != null;
+        double[] start = warmStart ? carryOver(stationary) : initialDistribution();
+        buildTransitions();
+        matrixVersion = version;
+
+        double[] current = start;
+        double[] next = new double[stateCount];
+        int iterations = 0;
+        while (iterations < MAX_ITERATIONS) {
+            multiply(current, next);
+            iterations++;
+            double diff = 0.0;
+            for (int s = 0; s < stateCount; s++) {
+                diff += Math.abs(next[s] - current[s]);
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+            if (diff < TOLERANCE) {
+                break;
+            }
+        }
+        normalize(current);
+        stationary = current;
+
+        double[] occupancy = new double[size];
+        double[] landingRates = new double[size];
+        for (int s = 0; s < stateCount; s++) {
+            double p = current[s];
+            if (p == 0.0) {
+                continue;
+            }
+            occupancy[s % size] += p;
+            double[] row = landings[s];
+            for (int tile = 0; tile < size; tile++) {
+                landingRates[tile] += p * row[tile];
+            }
+        }
+        lastResult = new BoardHeatmap(occupancy, landingRates, iterations, warmStart);
+        return lastResult;
+    }
+
+    private void multiply(double[] current, double[] next) {
+        Arrays.fill(next, 0.0);
+        for (int from = 0; from < stateCount; from++) {
+            double p = current[from];
+            if (p == 0.0) {
+                continue;
+            }
+            double[] row = transitions[from];
+            for (int to = 0; to < stateCount; to++) {
+                if (row[to] != 0.0) {
+                    next[to] += p * row[to];
+                }
+            }
+        }
+    }
+
+    private double[] initialDistribution() {
+        double[] start = new double[stateCount];
+        start[stateIndex(KIND_NORMAL, board.isDeletedTile(0) ? board.nextLiveTile(0) : 0)] = 1.0;
+        return start;
+    }
+
+    /**
+     * 이전 정상 분포를 새 보드로 옮긴다. 삭제된 칸에 있던 확률은 다음 살아있는 칸의 일반 상태로 넘긴다.
+     */
+    private double[] carryOver(double[] previous) {
+        double[] start = new double[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            double p = previous[s];
+            if (p == 0.0) {
+                continue;
+            }
+            int tile = s % size;
+            if (board.isDeletedTile(tile)) {
+                start[stateIndex(KIND_NORMAL, board.nextLiveTile(tile))] += p;
+            } else {
+                start[s] += p;
+            }
+        }
+        normalize(start);
+        return start;
+    }
+
+    private void buildTransitions() {
+        double[][] nextTransitions = new double[stateCount][stateCount];
+        double[][] nextLandings = new double[stateCount][size];
+        for (int tile = 0; tile < size; tile++) {
+            if (board.isDeletedTile(tile)) {
+                continue;
+            }
+            int normal = stateIndex(KIND_NORMAL, tile);
+            roll(tile, 0, 1.0, nextTransitions[normal], nextLandings[normal]);
+
+            int ticket = stateIndex(KIND_TICKET, tile);
+            worldTour(tile, nextTransitions[ticket], nextLandings[ticket]);
+
+            for (int remaining = 1; remaining <= islandMaxTurns; remaining++) {
+                int jail = stateIndex(jailKind(remaining), tile);
+                if (bailProbability > 0.0) {
+                    roll(tile, 0, bailProbability, nextTransitions[jail], nextLandings[jail]);
+                }
+                // 패스하면 남은 턴이 줄고, 0이 되면 그 턴은 끝나고 다음 턴부터 일반 상태
+                int after = remaining == 1 ? stateIndex(KIND_NORMAL, tile) : stateIndex(jailKind(remaining - 1), tile);
+                nextTransitions[jail][after] += 1.0 - bailProbability;
+            }
+        }
+        transitions = nextTransitions;
+        landings = nextLandings;
+    }
+
+    /**
+     * from 에서 consecutiveDoubles 상태로 주사위를 굴리는 분기를 mass 확률로 누적한다.
+     */
+    private void roll(int from, int consecutiveDoubles, double mass, double[] transitionRow, double[] landingRow) {
+        for (int section = 1; section <= DiceGauge.SECTION_COUNT; section++) {
+            double weight = sectionWeights[section - 1] * mass;
+            if (weight == 0.0) {
+                continue;
+            }
+            for (int sum = 0; sum <= MAX_SUM; sum++) {
+                for (int dbl = 0; dbl < 2; dbl++) {
+                    boolean isDouble = dbl == 1;
+                    double p = LandingProbabilityEngine.getRollProbability(section, mode, consecutiveDoubles, sum, isDouble);
+                    if (p == 0.0) {
+                        continue;
+                    }
+                    double m = weight * p;
+                    int to = board.advance(from, sum);
+                    landingRow[to] += m;
+                    Tile.Type type = board.getTile(to).type;
+                    if (endsTurn(type) || !isDouble || consecutiveDoubles >= DiceRules.MAX_CONSECUTIVE_DOUBLES) {
+                        transitionRow[landingState(to, type)] += m;
+                    } else {
+                        roll(to, consecutiveDoubles + 1, m, transitionRow, landingRow);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 세계여행 티켓 사용: 자기 칸을 제외한 살아있는 칸으로 균등 이동 (주사위를 굴리지 않으므로 더블 없음)
+     */
+    private void worldTour(int from, double[] transitionRow, double[] landingRow) {
+        int targets = board.getLiveTileCount() - 1;
+        if (targets <= 0) {
+            transitionRow[stateIndex(KIND_NORMAL, from)] += 1.0;
+            return;
+        }
+        double p = 1.0 / targets;
+        for (int to = 0; to < size; to++) {
+            if (to == from || board.isDeletedTile(to)) {
+                continue;
+            }
+            landingRow[to] += p;
+            transitionRow[landingState(to, board.getTile(to).type)] += p;
+        }
+    }
+
+    /**
+     * 도착한 칸의 효과를 반영한 다음 턴 시작 상태
+     */
+    private int landingState(int tile, Tile.Type type) {
+        if (type == Tile.Type.ISLAND && islandMaxTurns > 0) {
+            return stateIndex(jailKind(islandMaxTurns), tile);
+        }
+        if (type == Tile.Type.WORLD_TOUR || type == Tile.Type.RAILROAD) {
+            return stateIndex(KIND_TICKET, tile);
+        }
+        return stateIndex(KIND_NORMAL, tile);
+    }
+
+    private static boolean endsTurn(Tile.Type type) {
+        switch (type) {
+            case ISLAND:
+            case WORLD_TOUR:
+            case RAILROAD:
+            case START:
+            case OLYMPIC:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private int stateIndex(int kind, int tile) {
+        return kind * size + tile;
+    }
+
+    private static int jailKind(int remainingTurns) {
+        return KIND_JAIL_BASE + remainingTurns - 1;
+    }
+
+    private static void normalize(double[] distribution) {
+        double total = 0.0;
+        for (double p : distribution) {
+            total += p;
+        }
+        if (total <= 0.0) {
+            return;
+        }
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] /= total;
+        }
+    }
+}
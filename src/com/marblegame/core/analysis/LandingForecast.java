@@ -0,0 +1,44 @@
+package com.marblegame.core.analysis;
+
+/**
+ * {@link LandingProbabilityEngine#forecast} 결과
+ * 턴마다 각 칸에 도착하는 기대 횟수(더블로 한 턴에 여러 번 도착할 수 있음)와 턴 종료 위치 분포를 담는다.
+ */
+public final class LandingForecast {
+    private final double[][] expectedLandings;
+    private final double[][] finalPositions;
+
+    LandingForecast(double[][] expectedLandings, double[][] finalPositions) {
+        this.expectedLandings = expectedLandings;
+        this.finalPositions = finalPositions;
+    }
+
+    public int getTurns() {
+        return expectedLandings.length;
+    }
+
+    /**
+     * turn 번째 턴(0부터)에 각 칸에 도착하는 기대 횟수
+     */
+    public double[] getExpectedLandings(int turn) {
+        return expectedLandings[turn].clone();
+    }
+
+    /**
+     * turn 번째 턴(0부터)이 끝났을 때의 위치 분포
+     */
+    public double[] getFinalPositions(int turn) {
+        return finalPositions[turn].clone();
+    }
+
+    /**
+     * 전체 예측 기간 동안 tileIndex 에 도착하는 기대 횟수
+     */
+    public double getTotalExpectedLandings(int tileIndex) {
+        double total = 0.0;
+        for (double[] turn : expectedLandings) {
+            total += turn[tileIndex];
+        }
+        return total;
+    }
+}
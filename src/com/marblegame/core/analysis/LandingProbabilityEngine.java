@@ -0,0 +1,237 @@
+package com.marblegame.core.analysis;
+
+import com.marblegame.model.Board;
+import com.marblegame.model.DiceGauge;
+import com.marblegame.model.DiceMode;
+import com.marblegame.model.DiceRules;
+
+/**
+ * 주사위 게이지 구간, 홀수/짝수 모드, 연속 더블 억제를 반영한 정확한 도착 확률 계산기
+ *
+ * 주사위 한 번의 결과 분포는 (구간, 모드, 연속 더블) 조합마다 클래스 로딩 시 한 번 계산한다.
+ * 보드 위 이동 확률(전이 행렬)은 삭제되지 않은 칸 기준으로 만들며, 페이즈 딜리트로 보드가 바뀔 때만 다시 만든다.
+ * 표본 추출 없이 확률을 바로 계산하므로 봇, 힌트 표시, 밸런스 리포트에서 반복 호출해도 된다.
+ *
+ * 이동만 모델링한다. 도착 칸의 효과(무인도, 세계여행, 마그네틱 등)와 Extra Chance 는 반영하지 않는다.
+ */
+public final class LandingProbabilityEngine {
+    /**
+     * 게이지를 아무 때나 멈췄을 때의 구간 확률 (왕복 운동이라 위치가 균등 분포)
+     */
+    public static final double[] UNIFORM_SECTIONS = {0.25, 0.25, 0.25, 0.25};
+
+    private static final int MAX_SUM = 12;
+    private static final int CONSECUTIVE_STATES = DiceRules.MAX_CONSECUTIVE_DOUBLES + 1;
+    private static final int COMBINATIONS = DiceGauge.SECTION_COUNT * DiceMode.values().length * CONSECUTIVE_STATES;
+
+    // [조합][합계 * 2 + (더블 ? 1 : 0)] 주사위 한 번의 결과 확률
+    private static final double[][] ROLL_OUTCOMES = buildRollOutcomes();
+
+    private final Board board;
+    private int matrixVersion = -1;
+    // [조합][from * size + to] 턴이 끝나는 이동 / 더블로 한 번 더 굴리는 이동
+    private double[][] endMatrices;
+    private double[][] againMatrices;
+
+    public LandingProbabilityEngine(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * 주사위 한 번에 steps 칸을 이동하고 더블 여부가 isDouble 일 확률
+     */
+    public static double getRollProbability(int section, DiceMode mode, int consecutiveDoubles,
+                                            int steps, boolean isDouble) {
+        if (steps < 0 || steps > MAX_SUM) {
+            return 0.0;
+        }
+        return ROLL_OUTCOMES[combinationIndex(section, mode, consecutiveDoubles)][steps * 2 + (isDouble ? 1 : 0)];
+    }
+
+    /**
+     * 주사위 한 번의 이동 칸 수 분포 (인덱스 = 칸 수, 0~12)
+     */
+    public static double[] getStepDistribution(int section, DiceMode mode, int consecutiveDoubles) {
+        double[] outcome = ROLL_OUTCOMES[combinationIndex(section, mode, consecutiveDoubles)];
+        double[] steps = new double[MAX_SUM + 1];
+        for (int sum = 0; sum <= MAX_SUM; sum++) {
+            steps[sum] = outcome[sum * 2] + outcome[sum * 2 + 1];
+        }
+        return steps;
+    }
+
+    /**
+     * from 에서 주사위 한 번 굴렸을 때 도착 칸 분포
+     */
+    public double[] rollLandingDistribution(int from, int section, DiceMode mode, int consecutiveDoubles) {
+        ensureMatrices();
+        int size = board.getSize();
+        int combination = combinationIndex(section, mode, consecutiveDoubles);
+        double[] result = new double[size];
+        int row = from * size;
+        for (int to = 0; to < size; to++) {
+            result[to] = endMatrices[combination][row + to] + againMatrices[combination][row + to];
+        }
+        return result;
+    }
+
+    /**
+     * from 에서 시작해 turns 턴 동안의 도착 확률 예측
+     * 매 주사위마다 sectionWeights(길이 4, 합이 1이 아니면 정규화)의 확률로 구간을 고르고,
+     * 더블이 나오면 억제 규칙에 따라 같은 턴에 다시 굴린다.
+     */
+    public LandingForecast forecast(int from, int turns, double[] sectionWeights, DiceMode mode) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("turns must not be negative");
+        }
+        double[] weights = normalizeWeights(sectionWeights);
+        ensureMatrices();
+        int size = board.getSize();
+        double[][] landings = new double[turns][];
+        double[][] finals = new double[turns][];
+
+        double[] start = new double[size];
+        start[from] = 1.0;
+        for (int turn = 0; turn < turns; turn++) {
+            double[] landed = new double[size];
+            double[] ended = new double[size];
+            double[] rolling = start;
+            for (int consecutive = 0; consecutive < CONSECUTIVE_STATES && rolling != null; consecutive++) {
+                double[] again = consecutive + 1 < CONSECUTIVE_STATES ? new double[size] : null;
+                for (int section = 1; section <= DiceGauge.SECTION_COUNT; section++) {
+                    double weight = weights[section - 1];
+                    if (weight == 0.0) {
+                        continue;
+                    }
+                    int combination = combinationIndex(section, mode, consecutive);
+                    step(rolling, weight, endMatrices[combination], againMatrices[combination],
+                        landed, ended, again, size);
+                }
+                rolling = again;
+            }
+            landings[turn] = landed;
+            finals[turn] = ended;
+            start = ended;
+        }
+        return new LandingForecast(landings, finals);
+    }
+
+    private static void step(double[] mass, double weight, double[] end, double[] again,
+                             double[] landed, double[] ended, double[] nextRoll, int size) {
+        for (int from = 0; from < size; from++) {
+            double m = mass[from] * weight;
+            if (m == 0.0) {
+                continue;
+            }
+            int row = from * size;
+            for (int to = 0; to < size; to++) {
+                double pEnd = end[row + to] * m;
+                double pAgain = again[row + to] * m;
+                if (pEnd == 0.0 && pAgain == 0.0) {
+                    continue;
+                }
+                landed[to] += pEnd + pAgain;
+                if (nextRoll != null) {
+                    ended[to] += pEnd;
+                    nextRoll[to] += pAgain;
+                } else {
+                    // 마지막 연속 더블 단계는 더블이 100% 억제되므로 모두 턴 종료
+                    ended[to] += pEnd + pAgain;
+                }
+            }
+        }
+    }
+
+    /**
+     * 보드가 바뀌었으면 (구간, 모드, 연속 더블) 조합별 전이 행렬을 다시 만든다.
+     */
+    private synchronized void ensureMatrices() {
+        if (matrixVersion == board.getLiveIndexVersion() && endMatrices != null) {
+            return;
+        }
+        int size = board.getSize();
+        double[][] end = new double[COMBINATIONS][size * size];
+        double[][] again = new double[COMBINATIONS][size * size];
+        for (int combination = 0; combination < COMBINATIONS; combination++) {
+            double[] outcome = ROLL_OUTCOMES[combination];
+            for (int from = 0; from < size; from++) {
+                int row = from * size;
+                for (int sum = 0; sum <= MAX_SUM; sum++) {
+                    double pEnd = outcome[sum * 2];
+                    double pAgain = outcome[sum * 2 + 1];
+                    if (pEnd == 0.0 && pAgain == 0.0) {
+                        continue;
+                    }
+                    int to = board.advance(from, sum);
+                    end[combination][row + to] += pEnd;
+                    again[combination][row + to] += pAgain;
+                }
+            }
+        }
+        endMatrices = end;
+        againMatrices = again;
+        matrixVersion = board.getLiveIndexVersion();
+    }
+
+    /**
+     * 게이지 구간 가중치를 검증하고 합이 1이 되도록 정규화한다 (BoardHeatmapSolver 도 함께 쓴다)
+     */
+    static double[] normalizeWeights(double[] sectionWeights) {
+        if (sectionWeights == null || sectionWeights.length != DiceGauge.SECTION_COUNT) {
+            throw new IllegalArgumentException("section weights must have " + DiceGauge.SECTION_COUNT + " entries");
+        }
+        double total = 0.0;
+        for (double weight : sectionWeights) {
+            if (weight < 0.0) {
+                throw new IllegalArgumentException("section weight must not be negative");
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("section weights must not all be zero");
+        }
+        double[] normalized = new double[sectionWeights.length];
+        for (int i = 0; i < sectionWeights.length; i++) {
+            normalized[i] = sectionWeights[i] / total;
+        }
+        return normalized;
+    }
+
+    private static int combinationIndex(int section, DiceMode mode, int consecutiveDoubles) {
+        int s = Math.max(1, Math.min(DiceGauge.SECTION_COUNT, section)) - 1;
+        int c = Math.max(0, Math.min(DiceRules.MAX_CONSECUTIVE_DOUBLES, consecutiveDoubles));
+        return (s * DiceMode.values().length + mode.ordinal()) * CONSECUTIVE_STATES + c;
+    }
+
+    /**
+     * GameUI.rollDiceWithGauge 와 같은 순서로 분기를 따라가며 확률을 누적한다.
+     * 구간 합계 선택 → 모드 보정 → 조합 선택 → (더블이면) 억제 여부
+     */
+    private static double[][] buildRollOutcomes() {
+        double[][] outcomes = new double[COMBINATIONS][(MAX_SUM + 1) * 2];
+        for (int section = 1; section <= DiceGauge.SECTION_COUNT; section++) {
+            int[] pool = DiceGauge.getSectionSumPool(section);
+            for (DiceMode mode : DiceMode.values()) {
+                for (int consecutive = 0; consecutive < CONSECUTIVE_STATES; consecutive++) {
+                    double[] outcome = outcomes[combinationIndex(section, mode, consecutive)];
+                    double suppress = DiceRules.suppressProbability(consecutive);
+                    for (int rawSum : pool) {
+                        int sum = DiceRules.applyMode(rawSum, mode);
+                        int[][] pairs = DiceRules.pairsForSum(sum);
+                        double pPair = 1.0 / pool.length / pairs.length;
+                        for (int[] pair : pairs) {
+                            if (pair[0] != pair[1]) {
+                                outcome[sum * 2] += pPair;
+                                continue;
+                            }
+                            outcome[sum * 2 + 1] += pPair * (1.0 - suppress);
+                            int[] suppressed = DiceRules.suppressDouble(pair[0], pair[1], mode);
+                            outcome[(suppressed[0] + suppressed[1]) * 2] += pPair * suppress;
+                        }
+                    }
+                }
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,83 @@
+package com.marblegame.core.event;
+
+/**
+ * 이벤트 버스 링 버퍼의 한 칸.
+ * 버스가 칸을 재사용하므로 구독자는 배치를 받은 콜백 안에서만 읽고, 보관하려면 copy() 로 떼어 낸다.
+ */
+public final class GameEvent {
+    public static final int NONE = -1;
+
+    private long sequence;
+    private GameEventType type;
+    private int player;
+    private int counterparty;
+    private int tile;
+    private int fromTile;
+    private int amount;
+    private int level;
+
+    GameEvent() {
+    }
+
+    void set(long sequence, GameEventType type, int player, int counterparty,
+             int tile, int fromTile, int amount, int level) {
+        this.sequence = sequence;
+        this.type = type;
+        this.player = player;
+        this.counterparty = counterparty;
+        this.tile = tile;
+        this.fromTile = fromTile;
+        this.amount = amount;
+        this.level = level;
+    }
+
+    /**
+     * 버스에서 매긴 0부터의 일련번호 (구독자 간 순서 비교, 재생 위치 기록용)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public int getPlayer() {
+        return player;
+    }
+
+    public int getCounterparty() {
+        return counterparty;
+    }
+
+    public int getTile() {
+        return tile;
+    }
+
+    public int getFromTile() {
+        return fromTile;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * 재사용되지 않는 사본
+     */
+    public GameEvent copy() {
+        GameEvent copy = new GameEvent();
+        copy.set(sequence, type, player, counterparty, tile, fromTile, amount, level);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s P%d→P%d 칸 %d(%d) %,d원 Lv%d",
+            sequence, type, player, counterparty, tile, fromTile, amount, level);
+    }
+}
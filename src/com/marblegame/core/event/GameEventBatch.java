@@ -0,0 +1,45 @@
+package com.marblegame.core.event;
+
+/**
+ * 링 버퍼 구간 [first, first + size) 를 복사 없이 보여 주는 배치 (전달 콜백 안에서만 유효)
+ */
+public final class GameEventBatch {
+    private final GameEvent[] ring;
+    private final int mask;
+    private long first;
+    private int size;
+
+    GameEventBatch(GameEvent[] ring) {
+        this.ring = ring;
+        this.mask = ring.length - 1;
+    }
+
+    void reset(long first, int size) {
+        this.first = first;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public GameEvent get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return ring[(int) ((first + index) & mask)];
+    }
+
+    public boolean contains(GameEventType type) {
+        for (int i = 0; i < size; i++) {
+            if (get(i).getType() == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,149 @@
+package com.marblegame.core.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 단일 작성자 링 버퍼 이벤트 버스
+ *
+ * 게임 상태를 바꾸는 스레드(호스트는 EDT) 하나만 publish/flush 를 부른다. 이벤트는 미리 만들어 둔 링 칸에
+ * 값만 써 넣어 발행 때 할당이 없다. 전달은 배치 단위다: 발행 후 첫 이벤트가 들어오면 dispatcher 에
+ * flush 를 한 번 예약하고, 그 사이에 쌓인 이벤트를 구독자마다 한 번의 콜백으로 넘긴다
+ * (같은 EDT 작업 안의 구매 → 통행료 → 파산이 한 배치가 된다).
+ * 아직 전달하지 못한 이벤트가 링을 가득 채우면 덮어쓰기 전에 즉시 flush 한다.
+ */
+public final class GameEventBus {
+    private final GameEvent[] ring;
+    private final int mask;
+    private final GameEventBatch batch;
+    private final Executor dispatcher;
+    private final List<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final Runnable flushTask = this::flush;
+
+    private long published;   // 다음에 쓸 일련번호
+    private long delivered;   // 여기까지 모든 구독자에게 전달됨
+    private boolean flushScheduled;
+    private boolean flushing;
+
+    /**
+     * @param capacity   링 크기 (2의 거듭제곱으로 올림)
+     * @param dispatcher 배치 전달을 예약할 실행기 (작성자 스레드에서 실행되어야 한다, 예: SwingUtilities::invokeLater).
+     *                   null 이면 작성자가 직접 flush() 를 부른다.
+     */
+    public GameEventBus(int capacity, Executor dispatcher) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.ring = new GameEvent[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new GameEvent();
+        }
+        this.mask = size - 1;
+        this.batch = new GameEventBatch(ring);
+        this.dispatcher = dispatcher;
+    }
+
+    public void subscribe(GameEventListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public void unsubscribe(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * 지금까지 발행된 이벤트 수 (= 다음 이벤트의 일련번호)
+     */
+    public long getPublishedCount() {
+        return published;
+    }
+
+    public int getPendingCount() {
+        return (int) (published - delivered);
+    }
+
+    public void publish(GameEventType type, int player, int counterparty, int tile,
+                        int fromTile, int amount, int level) {
+        if (published - delivered == ring.length) {
+            if (flushing) {
+                throw new IllegalStateException("이벤트 버스가 가득 찼습니다 (전달 중 발행 " + ring.length + "개 초과)");
+            }
+            flush();
+        }
+        ring[(int) (published & mask)].set(published, type, player, counterparty, tile, fromTile, amount, level);
+        published++;
+        if (dispatcher != null && !flushScheduled) {
+            flushScheduled = true;
+            dispatcher.execute(flushTask);
+        }
+    }
+
+    /**
+     * 쌓인 이벤트를 모든 구독자에게 배치로 전달한다.
+     * 구독자가 콜백 안에서 새 이벤트를 발행하면 이번 배치가 끝난 뒤 이어서 전달한다.
+     */
+    public void flush() {
+        flushScheduled = false;
+        if (flushing) {
+            return;
+        }
+        flushing = true;
+        try {
+            while (delivered < published) {
+                long end = published;
+                batch.reset(delivered, (int) (end - delivered));
+                for (GameEventListener listener : listeners) {
+                    try {
+                        listener.onEvents(batch);
+                    } catch (RuntimeException ex) {
+                        System.err.println("이벤트 구독자 처리 실패: " + ex.getMessage());
+                    }
+                }
+                delivered = end;
+            }
+        } finally {
+            flushing = false;
+        }
+    }
+
+    public void cityPurchased(int player, int tile, int cost, int level) {
+        publish(GameEventType.CITY_PURCHASED, player, GameEvent.NONE, tile, GameEvent.NONE, cost, level);
+    }
+
+    public void touristSpotPurchased(int player, int tile, int cost) {
+        publish(GameEventType.TOURIST_SPOT_PURCHASED, player, GameEvent.NONE, tile, GameEvent.NONE, cost, 0);
+    }
+
+    public void cityUpgraded(int player, int tile, int cost, int level) {
+        publish(GameEventType.CITY_UPGRADED, player, GameEvent.NONE, tile, GameEvent.NONE, cost, level);
+    }
+
+    public void propertyTakenOver(int buyer, int seller, int tile, int price) {
+        publish(GameEventType.PROPERTY_TAKEN_OVER, buyer, seller, tile, GameEvent.NONE, price, 0);
+    }
+
+    public void tollPaid(int payer, int receiver, int tile, int toll) {
+        publish(GameEventType.TOLL_PAID, payer, receiver, tile, GameEvent.NONE, toll, 0);
+    }
+
+    public void playerMoved(int player, int fromTile, int toTile, int steps) {
+        publish(GameEventType.PLAYER_MOVED, player, GameEvent.NONE, toTile, fromTile, steps, 0);
+    }
+
+    public void bankrupt(int player, int creditor) {
+        publish(GameEventType.BANKRUPT, player, creditor, GameEvent.NONE, GameEvent.NONE, 0, 0);
+    }
+
+    public void cityDeleted(int tile) {
+        publish(GameEventType.CITY_DELETED, GameEvent.NONE, GameEvent.NONE, tile, GameEvent.NONE, 0, 0);
+    }
+
+    public void victoryAchieved(int player, int cash) {
+        publish(GameEventType.VICTORY_ACHIEVED, player, GameEvent.NONE, GameEvent.NONE, GameEvent.NONE, cash, 0);
+    }
+}
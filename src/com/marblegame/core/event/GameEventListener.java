@@ -0,0 +1,9 @@
+package com.marblegame.core.event;
+
+/**
+ * 이벤트 배치 구독자. 한 번의 전달에 그동안 쌓인 이벤트가 순서대로 모두 들어온다.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    void onEvents(GameEventBatch batch);
+}
@@ -0,0 +1,27 @@
+package com.marblegame.core.event;
+
+/**
+ * 규칙 엔진과 턴 진행이 내보내는 도메인 이벤트 종류.
+ * 필드 의미: player = 주체, counterparty = 상대(받는 사람/판 사람/채권자, 없으면 -1),
+ * tile = 대상 칸, fromTile = 출발 칸(이동만), amount = 금액(이동은 걸음 수), level = 건물 레벨.
+ */
+public enum GameEventType {
+    /** 도시 매입 (amount = 지불액, level = 지은 레벨) */
+    CITY_PURCHASED,
+    /** 관광지 매입 (amount = 지불액) */
+    TOURIST_SPOT_PURCHASED,
+    /** 도시 업그레이드 (amount = 지불액, level = 올린 뒤 레벨) */
+    CITY_UPGRADED,
+    /** 도시/관광지 인수 (counterparty = 판 사람, amount = 인수가) */
+    PROPERTY_TAKEN_OVER,
+    /** 통행료 지불 (counterparty = 받는 사람, tile = 낸 사람이 서 있는 칸) */
+    TOLL_PAID,
+    /** 말 이동 완료 (fromTile → tile, amount = 걸음 수, 순간이동은 0) */
+    PLAYER_MOVED,
+    /** 파산 (counterparty = 마지막으로 돈을 받은 사람, 세금이면 -1) */
+    BANKRUPT,
+    /** 페이즈 딜리트로 도시 삭제 */
+    CITY_DELETED,
+    /** 승리 (amount = 최종 자산) */
+    VICTORY_ACHIEVED
+}
@@ -1,9 +1,16 @@
 package com.marblegame.core.input;
 
 import com.marblegame.ui.GameFrame;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import javax.swing.AbstractAction;
 import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JRootPane;
+import javax.swing.KeyStroke;
 
 /**
  * 로컬 호스트 모드에서 UI 컴포넌트 이벤트를 PlayerInputEvent로 변환하는 어댑터.
@@ -44,6 +51,33 @@ public class LocalPlayerInputRouter {
 
         frame.getBoardPanel().setTileClickListener(tileIndex ->
             sink.handlePlayerInput(PlayerInputEvent.withInt(PlayerInputType.TILE_SELECTED, tileIndex)));
+
+        setupUndoShortcut();
+        setupSpeedShortcut();
+    }
+
+    private void setupSpeedShortcut() {
+        JRootPane rootPane = frame.getRootPane();
+        rootPane.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+            .put(KeyStroke.getKeyStroke(KeyEvent.VK_T, InputEvent.CTRL_DOWN_MASK), "cycleSpeed");
+        rootPane.getActionMap().put("cycleSpeed", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                sink.handlePlayerInput(PlayerInputEvent.of(PlayerInputType.CYCLE_SPEED));
+            }
+        });
+    }
+
+    private void setupUndoShortcut() {
+        JRootPane rootPane = frame.getRootPane();
+        rootPane.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+            .put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK), "undoLanding");
+        rootPane.getActionMap().put("undoLanding", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                sink.handlePlayerInput(PlayerInputEvent.of(PlayerInputType.UNDO_LANDING));
+            }
+        });
     }
 
     private void setupDiceButton() {
@@ -14,5 +14,7 @@ public enum PlayerInputType {
     PAY_BAIL,
     TOGGLE_ODD_MODE,
     TOGGLE_EVEN_MODE,
-    TILE_SELECTED
+    TILE_SELECTED,
+    UNDO_LANDING,   // 호스트 화면 전용: 마지막 도착 되돌리기
+    CYCLE_SPEED     // 호스트 화면 전용: 진행 속도(1×/4×/즉시) 바꾸기
 }
@@ -1,71 +1,70 @@
 package com.marblegame.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게임 보드 클래스
- * 32칸 순환형 보드 관리 (9x9 그리드)
+ * 보드 정의(BoardDefinition)로 만든 순환형 보드 관리 (기본 32칸, 9x9 그리드)
+ * 불러올 때 격자 배치/라인 색인(BoardLayout)과 컬러 그룹 색인을 만들어 둔다.
+ * 페이즈 딜리트로 삭제되지 않은 칸(살아있는 칸)의 순번 색인을 유지해
+ * 거리, 다음 칸, N칸 이동 후 위치를 O(1)로 계산한다.
  */
 public class Board {
+    private final String name;
     private final List<Tile> tiles;
-
+    private final BoardLayout layout;
+
+    // 컬러 그룹 → 도시 목록 (보드 순서, 불러올 때 한 번 만든다)
+    private final Map<String, List<City>> citiesByColor;
+
+    // 살아있는 칸 색인 (삭제 시에만 다시 만든다)
+    // liveBefore[i]: 0 ~ i-1 중 살아있는 칸 수 (길이 size + 1)
+    // liveTiles[r]: r번째 살아있는 칸의 인덱스
+    // nextLive[i]: i 다음(시계 방향)으로 처음 만나는 살아있는 칸
+    private int[] liveBefore;
+    private int[] liveTiles;
+    private int[] nextLive;
+    private int liveCount;
+    private int liveIndexVersion;
+
+    /**
+     * 시스템 속성 marblegame.board 의 맵 파일로 만든다 (없으면 기본 32칸 보드)
+     */
     public Board() {
-        tiles = new ArrayList<>();
-        initializeBoard();
-    }
-
-    private void initializeBoard() {
-        // 32칸 보드: 9x9 그리드 (각 면 8칸)
-        // 반시계 방향: Start(우하) → 무인도(좌하) → 올림픽(좌상) → 세계여행(우상) → Start
-
-        // 0: START (우측 하단 모서리)
-        tiles.add(new Tile(0, "Start", Tile.Type.START));
-
-        // 1-7: 하단 (Start → 무인도)
-        tiles.add(new City(1, "방콕", "LIME", 150000, 75000));
-        tiles.add(new Tile(2, "찬스", Tile.Type.CHANCE));
-        tiles.add(new City(3, "베이징", "LIME", 150000, 75000));
-        tiles.add(new TouristSpot(4, "독도", 200000, 100000));
-        tiles.add(new City(5, "타이페이", "GREEN", 180000, 90000));
-        tiles.add(new City(6, "두바이", "GREEN", 200000, 100000));
-        tiles.add(new City(7, "카이로", "GREEN", 200000, 100000));
-
-        // 8: ISLAND (좌측 하단 모서리)
-        tiles.add(new Tile(8, "무인도", Tile.Type.ISLAND));
-
-        // 9-16: 좌측 (무인도 → 올림픽)
-        tiles.add(new TouristSpot(9, "발리", 200000, 100000));
-        tiles.add(new City(10, "도쿄", "CYAN", 220000, 110000));
-        tiles.add(new City(11, "시드니", "CYAN", 220000, 110000));
-        tiles.add(new Tile(12, "찬스", Tile.Type.CHANCE));
-        tiles.add(new City(13, "퀘벡", "BLUE", 240000, 120000));
-        tiles.add(new TouristSpot(14, "하와이", 200000, 100000));
-        tiles.add(new City(15, "상파울로", "BLUE", 260000, 130000));
-
-        // 16: OLYMPIC (좌측 상단 모서리)
-        tiles.add(new Tile(16, "올림픽", Tile.Type.OLYMPIC));
-
-        // 17-24: 상단 (올림픽 → 세계여행)
-        tiles.add(new City(17, "프라하", "LIGHT_PURPLE", 280000, 140000));
-        tiles.add(new TouristSpot(18, "푸켓", 200000, 100000));
-        tiles.add(new City(19, "베를린", "LIGHT_PURPLE", 300000, 150000));
-        tiles.add(new Tile(20, "찬스", Tile.Type.CHANCE));
-        tiles.add(new City(21, "모스크바", "PURPLE", 320000, 160000));
-        tiles.add(new City(22, "제네바", "PURPLE", 340000, 170000));
-        tiles.add(new City(23, "로마", "PURPLE", 340000, 170000));
-
-        // 24: WORLD_TOUR (우측 상단 모서리)
-        tiles.add(new Tile(24, "세계여행", Tile.Type.WORLD_TOUR));
-
-        // 25-31: 우측 (세계여행 → Start)
-        tiles.add(new TouristSpot(25, "타히티", 200000, 100000));
-        tiles.add(new City(26, "런던", "BROWN", 380000, 190000));
-        tiles.add(new City(27, "파리", "BROWN", 380000, 190000));
-        tiles.add(new Tile(28, "찬스", Tile.Type.CHANCE));
-        tiles.add(new City(29, "뉴욕", "RED", 400000, 200000));
-        tiles.add(new Tile(30, "국세청", Tile.Type.TAX));
-        tiles.add(new City(31, "서울", "RED", 400000, 200000));
+        this(BoardDefinition.fromSystemProperty());
+    }
+
+    public Board(BoardDefinition definition) {
+        this.name = definition.getName();
+        this.tiles = definition.createTiles();
+        this.layout = new BoardLayout(tiles.size());
+        this.citiesByColor = indexColorGroups(tiles);
+        rebuildLiveIndex();
+    }
+
+    private static Map<String, List<City>> indexColorGroups(List<Tile> tiles) {
+        Map<String, List<City>> groups = new LinkedHashMap<>();
+        for (Tile tile : tiles) {
+            if (tile instanceof City) {
+                groups.computeIfAbsent(tile.colorGroup, color -> new ArrayList<>()).add((City) tile);
+            }
+        }
+        for (Map.Entry<String, List<City>> entry : groups.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return groups;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BoardLayout getLayout() {
+        return layout;
     }
 
     public Tile getTile(int index) {
@@ -80,13 +79,116 @@ public class Board {
         return new ArrayList<>(tiles);
     }
 
-    public List<City> getCitiesByColor(String colorGroup) {
-        List<City> result = new ArrayList<>();
-        for (Tile tile : tiles) {
-            if (tile instanceof City && colorGroup.equals(tile.colorGroup)) {
-                result.add((City) tile);
+    /**
+     * 도시를 삭제 상태로 바꾸고 살아있는 칸 색인을 다시 만든다.
+     */
+    public void markDeleted(City city) {
+        if (city.isDeleted) {
+            return;
+        }
+        city.isDeleted = true;
+        rebuildLiveIndex();
+    }
+
+    /**
+     * 도시의 삭제 상태를 직접 바꾼 뒤(스냅샷 동기화 등) 호출한다.
+     */
+    public void rebuildLiveIndex() {
+        int size = tiles.size();
+        int[] before = new int[size + 1];
+        int[] live = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            before[i] = count;
+            if (!isDeletedTile(i)) {
+                live[count++] = i;
+            }
+        }
+        before[size] = count;
+
+        int[] next = new int[size];
+        if (count > 0) {
+            int upcoming = live[0];
+            for (int i = size - 1; i >= 0; i--) {
+                next[i] = upcoming;
+                if (!isDeletedTile(i)) {
+                    upcoming = i;
+                }
             }
         }
-        return result;
+
+        liveBefore = before;
+        liveTiles = live;
+        nextLive = next;
+        liveCount = count;
+        liveIndexVersion++;
+    }
+
+    /**
+     * 살아있는 칸 색인이 다시 만들어질 때마다 증가한다. 보드 기반 캐시의 무효화 판단에 사용한다.
+     */
+    public int getLiveIndexVersion() {
+        return liveIndexVersion;
+    }
+
+    public boolean isDeletedTile(int index) {
+        Tile tile = tiles.get(index);
+        return tile instanceof City && ((City) tile).isDeleted;
+    }
+
+    public int getLiveTileCount() {
+        return liveCount;
+    }
+
+    /**
+     * index 다음(시계 방향)으로 처음 만나는 삭제되지 않은 칸
+     */
+    public int nextLiveTile(int index) {
+        return nextLive[index];
+    }
+
+    /**
+     * from 에서 삭제된 칸을 건너뛰며 steps 칸 이동한 위치
+     * from 이 삭제된 칸이면 바로 다음 살아있는 칸이 첫 번째 걸음이 된다.
+     */
+    public int advance(int from, int steps) {
+        if (liveCount == 0) {
+            return from;
+        }
+        int startRank = isDeletedTile(from) ? liveBefore[nextLive[from]] - 1 : liveBefore[from];
+        return liveTiles[Math.floorMod(startRank + steps, liveCount)];
+    }
+
+    /**
+     * from 에서 to 까지 이동할 때 밟는 살아있는 칸 수 (삭제된 칸 제외)
+     * 시계 방향이면 (from, to], 반시계 방향이면 [to, from) 구간의 살아있는 칸을 센다.
+     */
+    public int liveDistance(int from, int to, boolean clockwise) {
+        if (from == to) {
+            return 0;
+        }
+        return clockwise ? countLive(from + 1, to + 1) : countLive(to, from);
+    }
+
+    /**
+     * [start, end) 순환 구간의 살아있는 칸 수 (start, end 는 0 ~ size)
+     */
+    private int countLive(int start, int end) {
+        if (start <= end) {
+            return liveBefore[end] - liveBefore[start];
+        }
+        return liveCount - (liveBefore[start] - liveBefore[end]);
+    }
+
+    public List<City> getCitiesByColor(String colorGroup) {
+        List<City> cities = citiesByColor.get(colorGroup);
+        return cities == null ? new ArrayList<>() : new ArrayList<>(cities);
+    }
+
+    /**
+     * 보드에 있는 컬러 그룹 이름 (보드 순서)
+     */
+    public List<String> getColorGroups() {
+        return new ArrayList<>(citiesByColor.keySet());
     }
 }
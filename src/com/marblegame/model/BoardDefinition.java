@@ -0,0 +1,245 @@
+package com.marblegame.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 보드 정의 (맵 파일 한 개 = 보드 한 판)
+ *
+ * 한 줄에 칸 하나를 0번(START)부터 반시계 방향 순서로 적는다. 필드는 '|' 로 나누고 '#' 뒤는 주석이다.
+ * <pre>
+ * START        | Start
+ * CITY         | 방콕 | LIME | 150000 | 75000     (이름, 색상 그룹, 가격, 기본 통행료)
+ * TOURIST_SPOT | 독도 | 200000 | 100000           (이름, 가격, 통행료)
+ * CHANCE       | 찬스                              (그 밖의 특수 칸은 이름만)
+ * </pre>
+ * 칸 수는 8 이상의 4의 배수여야 한다 (정사각형 외곽에 네 면이 같은 길이로 놓인다).
+ * 정의는 불변이고, {@link #createTiles()} 가 호출될 때마다 새 타일 객체를 만든다.
+ */
+public final class BoardDefinition {
+    /**
+     * 맵 파일 경로를 지정하는 시스템 속성 (없으면 기본 32칸 보드)
+     */
+    public static final String BOARD_PROPERTY = "marblegame.board";
+
+    private static final String[] CLASSIC_LINES = {
+        "# 기본 32칸 보드 (9x9 그리드, 각 면 8칸)",
+        "# 반시계 방향: Start(우하) → 무인도(좌하) → 올림픽(좌상) → 세계여행(우상) → Start",
+        "START        | Start",
+        "CITY         | 방콕     | LIME         | 150000 | 75000",
+        "CHANCE       | 찬스",
+        "CITY         | 베이징   | LIME         | 150000 | 75000",
+        "TOURIST_SPOT | 독도     | 200000 | 100000",
+        "CITY         | 타이페이 | GREEN        | 180000 | 90000",
+        "CITY         | 두바이   | GREEN        | 200000 | 100000",
+        "CITY         | 카이로   | GREEN        | 200000 | 100000",
+        "ISLAND       | 무인도",
+        "TOURIST_SPOT | 발리     | 200000 | 100000",
+        "CITY         | 도쿄     | CYAN         | 220000 | 110000",
+        "CITY         | 시드니   | CYAN         | 220000 | 110000",
+        "CHANCE       | 찬스",
+        "CITY         | 퀘벡     | BLUE         | 240000 | 120000",
+        "TOURIST_SPOT | 하와이   | 200000 | 100000",
+        "CITY         | 상파울로 | BLUE         | 260000 | 130000",
+        "OLYMPIC      | 올림픽",
+        "CITY         | 프라하   | LIGHT_PURPLE | 280000 | 140000",
+        "TOURIST_SPOT | 푸켓     | 200000 | 100000",
+        "CITY         | 베를린   | LIGHT_PURPLE | 300000 | 150000",
+        "CHANCE       | 찬스",
+        "CITY         | 모스크바 | PURPLE       | 320000 | 160000",
+        "CITY         | 제네바   | PURPLE       | 340000 | 170000",
+        "CITY         | 로마     | PURPLE       | 340000 | 170000",
+        "WORLD_TOUR   | 세계여행",
+        "TOURIST_SPOT | 타히티   | 200000 | 100000",
+        "CITY         | 런던     | BROWN        | 380000 | 190000",
+        "CITY         | 파리     | BROWN        | 380000 | 190000",
+        "CHANCE       | 찬스",
+        "CITY         | 뉴욕     | RED          | 400000 | 200000",
+        "TAX          | 국세청",
+        "CITY         | 서울     | RED          | 400000 | 200000"
+    };
+
+    private static final BoardDefinition CLASSIC = parse("classic", Arrays.asList(CLASSIC_LINES));
+
+    private final String name;
+    private final Tile.Type[] types;
+    private final String[] names;
+    private final String[] colors;
+    private final int[] prices;
+    private final int[] tolls;
+
+    private BoardDefinition(String name, List<TileSpec> specs) {
+        this.name = name;
+        int size = specs.size();
+        this.types = new Tile.Type[size];
+        this.names = new String[size];
+        this.colors = new String[size];
+        this.prices = new int[size];
+        this.tolls = new int[size];
+        for (int i = 0; i < size; i++) {
+            TileSpec spec = specs.get(i);
+            types[i] = spec.type;
+            names[i] = spec.name;
+            colors[i] = spec.color;
+            prices[i] = spec.price;
+            tolls[i] = spec.toll;
+        }
+    }
+
+    /**
+     * 기본 32칸 보드
+     */
+    public static BoardDefinition classic() {
+        return CLASSIC;
+    }
+
+    /**
+     * 시스템 속성 {@value #BOARD_PROPERTY} 가 가리키는 맵 파일, 없거나 읽지 못하면 기본 보드
+     * 호스트와 클라이언트는 같은 맵 파일을 써야 칸 번호가 맞는다.
+     */
+    public static BoardDefinition fromSystemProperty() {
+        String path = System.getProperty(BOARD_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return CLASSIC;
+        }
+        try {
+            return load(Paths.get(path.trim()));
+        } catch (IOException | IllegalArgumentException ex) {
+            System.err.println("보드 정의를 읽지 못해 기본 보드를 사용합니다: " + ex.getMessage());
+            return CLASSIC;
+        }
+    }
+
+    public static BoardDefinition load(Path path) throws IOException {
+        String fileName = path.getFileName() == null ? path.toString() : path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String boardName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return parse(boardName, Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 틀린 줄이 있거나 칸 수가 맞지 않을 때 (줄 번호 포함)
+     */
+    public static BoardDefinition parse(String boardName, List<String> lines) {
+        List<TileSpec> specs = new ArrayList<>();
+        for (int lineNo = 1; lineNo <= lines.size(); lineNo++) {
+            String line = lines.get(lineNo - 1);
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            specs.add(parseTile(boardName, lineNo, line.split("\\|")));
+        }
+
+        int size = specs.size();
+        if (size < 8 || size % 4 != 0) {
+            throw new IllegalArgumentException(
+                boardName + ": 칸 수는 8 이상의 4의 배수여야 합니다 (현재 " + size + "칸)");
+        }
+        if (specs.get(0).type != Tile.Type.START) {
+            throw new IllegalArgumentException(boardName + ": 0번 칸은 START 여야 합니다");
+        }
+        return new BoardDefinition(boardName, specs);
+    }
+
+    private static TileSpec parseTile(String boardName, int lineNo, String[] rawFields) {
+        String[] fields = new String[rawFields.length];
+        for (int i = 0; i < rawFields.length; i++) {
+            fields[i] = rawFields[i].trim();
+        }
+        String where = boardName + " " + lineNo + "번째 줄: ";
+
+        Tile.Type type;
+        try {
+            type = "TOURIST".equals(fields[0]) ? Tile.Type.TOURIST_SPOT : Tile.Type.valueOf(fields[0]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(where + "알 수 없는 칸 종류 " + fields[0]);
+        }
+
+        int expected = type == Tile.Type.CITY ? 5 : type == Tile.Type.TOURIST_SPOT ? 4 : 2;
+        if (fields.length != expected) {
+            throw new IllegalArgumentException(where + type + " 는 필드 " + expected + "개가 필요합니다");
+        }
+        if (fields[1].isEmpty()) {
+            throw new IllegalArgumentException(where + "이름이 비어 있습니다");
+        }
+
+        TileSpec spec = new TileSpec(type, fields[1]);
+        if (type == Tile.Type.CITY) {
+            if (fields[2].isEmpty()) {
+                throw new IllegalArgumentException(where + "도시 색상 그룹이 비어 있습니다");
+            }
+            spec.color = fields[2];
+            spec.price = parseAmount(where, fields[3]);
+            spec.toll = parseAmount(where, fields[4]);
+        } else if (type == Tile.Type.TOURIST_SPOT) {
+            spec.price = parseAmount(where, fields[2]);
+            spec.toll = parseAmount(where, fields[3]);
+        }
+        return spec;
+    }
+
+    private static int parseAmount(String where, String field) {
+        try {
+            int amount = Integer.parseInt(field.replace("_", ""));
+            if (amount < 0) {
+                throw new NumberFormatException();
+            }
+            return amount;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(where + "금액이 올바르지 않습니다: " + field);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return types.length;
+    }
+
+    /**
+     * 정의대로 새 타일 목록을 만든다 (보드마다 독립된 도시/관광지 상태)
+     */
+    public List<Tile> createTiles() {
+        List<Tile> tiles = new ArrayList<>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                case CITY:
+                    tiles.add(new City(i, names[i], colors[i], prices[i], tolls[i]));
+                    break;
+                case TOURIST_SPOT:
+                    tiles.add(new TouristSpot(i, names[i], prices[i], tolls[i]));
+                    break;
+                default:
+                    tiles.add(new Tile(i, names[i], types[i]));
+                    break;
+            }
+        }
+        return Collections.unmodifiableList(tiles);
+    }
+
+    private static final class TileSpec {
+        final Tile.Type type;
+        final String name;
+        String color;
+        int price;
+        int toll;
+
+        TileSpec(Tile.Type type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.marblegame.model;
+
+import java.util.Arrays;
+
+/**
+ * 칸 수에서 만든 보드 격자 배치와 라인 색인
+ *
+ * 칸은 정사각형 외곽을 Start(우하)에서 반시계 방향으로 돈다: 하단(우→좌) → 좌측(하→상) → 상단(좌→우) → 우측(상→하).
+ * 한 면은 side = 칸 수 / 4 걸음이고 격자는 (side + 1) x (side + 1) 이다 (32칸이면 9x9).
+ * 칸→격자 좌표, 격자 칸→칸 번호(가운데 빈 영역은 -1) 표를 한 번 만들어 두어 그리기와 클릭 판정이 O(1)이다.
+ */
+public final class BoardLayout {
+    public static final int NO_TILE = -1;
+
+    private final int size;
+    private final int side;
+    private final int gridSize;
+    private final int[] columnOf;
+    private final int[] rowOf;
+    private final int[] tileAtCell;
+    private final int[][] lines;
+
+    public BoardLayout(int size) {
+        if (size < 8 || size % 4 != 0) {
+            throw new IllegalArgumentException("보드 칸 수는 8 이상의 4의 배수여야 합니다: " + size);
+        }
+        this.size = size;
+        this.side = size / 4;
+        this.gridSize = side + 1;
+        this.columnOf = new int[size];
+        this.rowOf = new int[size];
+        this.tileAtCell = new int[gridSize * gridSize];
+        Arrays.fill(tileAtCell, NO_TILE);
+
+        for (int i = 0; i < size; i++) {
+            int offset = i % side;
+            int column;
+            int row;
+            switch (i / side) {
+                case 0:  // 하단 (우→좌)
+                    column = side - offset;
+                    row = side;
+                    break;
+                case 1:  // 좌측 (하→상)
+                    column = 0;
+                    row = side - offset;
+                    break;
+                case 2:  // 상단 (좌→우)
+                    column = offset;
+                    row = 0;
+                    break;
+                default: // 우측 (상→하)
+                    column = side;
+                    row = offset;
+                    break;
+            }
+            columnOf[i] = column;
+            rowOf[i] = row;
+            tileAtCell[row * gridSize + column] = i;
+        }
+
+        // 라인 = 한 면의 모서리부터 다음 모서리까지 (모서리 칸 포함, side + 1 칸)
+        this.lines = new int[4][side + 1];
+        for (int line = 0; line < 4; line++) {
+            for (int k = 0; k <= side; k++) {
+                lines[line][k] = (line * side + k) % size;
+            }
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 격자 한 변의 칸 수 (32칸 보드는 9)
+     */
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int getColumn(int tileIndex) {
+        return columnOf[tileIndex];
+    }
+
+    public int getRow(int tileIndex) {
+        return rowOf[tileIndex];
+    }
+
+    /**
+     * 격자 좌표의 칸 번호, 보드 밖이거나 가운데 빈 영역이면 NO_TILE
+     */
+    public int tileAt(int column, int row) {
+        if (column < 0 || row < 0 || column >= gridSize || row >= gridSize) {
+            return NO_TILE;
+        }
+        return tileAtCell[row * gridSize + column];
+    }
+
+    /**
+     * 라인 독점 승리 판정 라인 (복사본): 하단, 좌측, 상단, 우측, 모서리 칸 포함
+     */
+    public int[][] getVictoryLines() {
+        int[][] copy = new int[lines.length][];
+        for (int i = 0; i < lines.length; i++) {
+            copy[i] = lines[i].clone();
+        }
+        return copy;
+    }
+}
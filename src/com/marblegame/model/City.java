@@ -23,18 +23,6 @@ public class City extends Tile {
         return owner != null;
     }
 
-    /**
-     * 업그레이드 비용 계산
-     * 레벨 1->2: 매입가의 30%
-     * 레벨 2->3: 매입가의 30%
-     * 레벨 3->4: 매입가의 40%
-     */
-    public int getUpgradeCost() {
-        if (level == 0) return price; // 미소유시 구매 가격
-        if (level == 3) return (int)(price * 0.4); // 랜드마크 업그레이드
-        return (int)(price * 0.3); // 일반 업그레이드
-    }
-
     /**
      * 업그레이드 가능 여부
      */
@@ -51,19 +39,6 @@ public class City extends Tile {
         }
     }
 
-    /**
-     * 인수 가격 계산
-     * 공식: 기본가 + (레벨 단계 누적 × 기본가의 50%)
-     * L1: 기본가 × 1.5
-     * L2: 기본가 × 2.0 (1+1 단계)
-     * L3: 기본가 × 2.5 (1+1+1 단계)
-     * L4: 기본가 × 3.0 (1+1+1+1 단계)
-     */
-    public int getTakeoverPrice() {
-        int levelSteps = level; // L1=1, L2=2, L3=3, L4=4
-        return (int)(price * (1.0 + levelSteps * 0.5));
-    }
-
     /**
      * 랜드마크 여부 확인
      */
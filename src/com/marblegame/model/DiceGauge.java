@@ -5,6 +5,8 @@ package com.marblegame.model;
  * 4구간(S1, S2, S3, S4)을 왕복하며 편향된 확률로 주사위 결과 생성
  */
 public class DiceGauge {
+    public static final int SECTION_COUNT = 4;
+
     // 게이지 파라미터
     private static final double PERIOD = 2.0; // 주기 2초
     // 구간 경계 (4등분)
@@ -51,6 +53,18 @@ public class DiceGauge {
         return rollBiased(section);
     }
 
+    /**
+     * 지정한 구간 한가운데에서 게이지를 멈춘다 (봇 플레이어용)
+     * @param section 구간 (1, 2, 3, 4)
+     * @return 2개의 주사위 값 합 (2~12)
+     */
+    public int stopAtSection(int section) {
+        int index = Math.max(1, Math.min(SECTION_COUNT, section)) - 1;
+        running = false;
+        currentPosition = (index + 0.5) / SECTION_COUNT;
+        return rollBiased(index + 1);
+    }
+
     /**
      * 게이지 위치 업데이트
      */
@@ -92,7 +106,7 @@ public class DiceGauge {
      * @return 주사위 합 (2~12)
      */
     private int rollBiased(int section) {
-        int index = Math.max(1, Math.min(4, section)) - 1;
+        int index = Math.max(1, Math.min(SECTION_COUNT, section)) - 1;
         int[] pool = SECTION_SUM_POOLS[index];
         int choice = (int)(Math.random() * pool.length);
         return pool[choice];
@@ -107,6 +121,15 @@ public class DiceGauge {
         return d1 + d2;
     }
 
+    /**
+     * 구간별로 같은 확률로 뽑히는 합계 후보 (복사본)
+     * @param section 구간 (1, 2, 3, 4)
+     */
+    public static int[] getSectionSumPool(int section) {
+        int index = Math.max(1, Math.min(SECTION_COUNT, section)) - 1;
+        return SECTION_SUM_POOLS[index].clone();
+    }
+
     /**
      * 게이지 실행 여부
      */
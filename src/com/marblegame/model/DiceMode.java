@@ -0,0 +1,10 @@
+package com.marblegame.model;
+
+/**
+ * 홀수/짝수 주사위 모드
+ */
+public enum DiceMode {
+    NORMAL,  // 일반 모드
+    ODD,     // 홀수만 (1, 3, 5)
+    EVEN     // 짝수만 (2, 4, 6)
+}
@@ -0,0 +1,98 @@
+package com.marblegame.model;
+
+/**
+ * 게이지 결과를 실제 주사위 두 개로 바꾸는 규칙
+ * 홀수/짝수 모드 보정, 합계별 주사위 조합, 연속 더블 억제를 한 곳에 모아
+ * 실제 게임(GameUI)과 확률 분석이 같은 규칙을 쓰도록 한다.
+ */
+public final class DiceRules {
+    /**
+     * 더블 억제가 100%가 되는 연속 더블 횟수
+     */
+    public static final int MAX_CONSECUTIVE_DOUBLES = 2;
+
+    private static final int[][][] SUM_TO_DICE_COMBINATIONS = createSumToDiceCombinations();
+
+    private DiceRules() {
+    }
+
+    /**
+     * 홀수/짝수 모드에 맞게 합계 조정 (±1)
+     */
+    public static int applyMode(int sum, DiceMode mode) {
+        if (mode == DiceMode.ODD && sum % 2 == 0) {
+            // 짝수 결과를 홀수로 변경
+            return sum > 2 ? sum - 1 : sum + 1;  // 4→3, 6→5, 8→7, 10→9, 12→11, 2→3
+        }
+        if (mode == DiceMode.EVEN && sum % 2 == 1) {
+            // 홀수 결과를 짝수로 변경
+            return sum < 12 ? sum + 1 : sum - 1;  // 3→4, 5→6, 7→8, 9→10, 11→12
+        }
+        return sum;
+    }
+
+    /**
+     * 합계를 만드는 모든 주사위 조합 (각 조합은 같은 확률로 선택된다)
+     */
+    public static int[][] pairsForSum(int sum) {
+        if (sum < 2 || sum > 12) {
+            return new int[][]{{1, 1}};
+        }
+        return SUM_TO_DICE_COMBINATIONS[sum];
+    }
+
+    public static int[] randomPairForSum(int sum) {
+        int[][] combos = pairsForSum(sum);
+        int idx = (int)(Math.random() * combos.length);
+        return combos[idx];
+    }
+
+    /**
+     * 더블 억제 확률 계산
+     * @param consecutiveDoubles 연속 더블 횟수
+     * @return 억제 확률 (0.0 ~ 1.0)
+     */
+    public static double suppressProbability(int consecutiveDoubles) {
+        switch (consecutiveDoubles) {
+            case 0: return 0.4;    // 1차 더블: 40% 억제 (60% 더블 가능)
+            case 1: return 0.8;    // 2차 더블: 80% 억제 (20% 더블 가능)
+            default: return 1.0;   // 3차 이상: 100% 억제 (0% 더블 가능)
+        }
+    }
+
+    /**
+     * 억제된 더블을 비더블 조합으로 바꾼다.
+     * 합계 2(1,1)와 12(6,6)는 합계가 바뀌고, 나머지는 합계를 유지한 채 ±1 조정한다.
+     */
+    public static int[] suppressDouble(int d1, int d2, DiceMode mode) {
+        int sum = d1 + d2;
+        if (sum == 2) {
+            // 짝수 모드에서는 합계가 짝수로 유지되도록 (1,3), 기본은 (1,2)
+            return mode == DiceMode.EVEN ? new int[]{1, 3} : new int[]{1, 2};
+        }
+        if (sum == 12) {
+            // 짝수 모드에서는 합계가 짝수로 유지되도록 (6,4), 기본은 (6,5)
+            return mode == DiceMode.EVEN ? new int[]{6, 4} : new int[]{6, 5};
+        }
+        if (d1 > 1) {
+            return new int[]{d1 - 1, d2 + 1};
+        }
+        return new int[]{d1 + 1, d2 - 1};
+    }
+
+    private static int[][][] createSumToDiceCombinations() {
+        int[][][] combos = new int[13][][];
+        combos[2] = new int[][]{{1, 1}};
+        combos[3] = new int[][]{{1, 2}, {2, 1}};
+        combos[4] = new int[][]{{1, 3}, {2, 2}, {3, 1}};
+        combos[5] = new int[][]{{1, 4}, {2, 3}, {3, 2}, {4, 1}};
+        combos[6] = new int[][]{{1, 5}, {2, 4}, {3, 3}, {4, 2}, {5, 1}};
+        combos[7] = new int[][]{{1, 6}, {2, 5}, {3, 4}, {4, 3}, {5, 2}, {6, 1}};
+        combos[8] = new int[][]{{2, 6}, {3, 5}, {4, 4}, {5, 3}, {6, 2}};
+        combos[9] = new int[][]{{3, 6}, {4, 5}, {5, 4}, {6, 3}};
+        combos[10] = new int[][]{{4, 6}, {5, 5}, {6, 4}};
+        combos[11] = new int[][]{{5, 6}, {6, 5}};
+        combos[12] = new int[][]{{6, 6}};
+        return combos;
+    }
+}
@@ -18,8 +18,11 @@ public class Player {
         this.cash = cash;
     }
 
+    /**
+     * 삭제된 도시를 건너뛰며 이동 (보드가 없으면 단순 순환)
+     */
     public void move(int steps, int boardSize, Board board) {
-        pos = (pos + steps) % boardSize;
+        pos = board != null ? board.advance(pos, steps) : (pos + steps) % boardSize;
     }
 
     public boolean canAfford(int amount) {
@@ -1,16 +1,14 @@
 package com.marblegame.network;
 
 import com.marblegame.network.listener.ServerMessageListener;
+import com.marblegame.network.message.ConnectionRole;
+import com.marblegame.network.message.HandshakePayload;
 import com.marblegame.network.message.MessageType;
 import com.marblegame.network.message.NetworkMessage;
-import java.io.BufferedReader;
-import java.io.Closeable;
+import com.marblegame.network.transport.ClientTransport;
+import com.marblegame.network.transport.MessageChannel;
+import com.marblegame.network.transport.TcpClientTransport;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -22,61 +20,113 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 클라이언트 모드에서 호스트에 접속하는 베이스 클라이언트.
- * 현재는 연결만 수립하며, 추후 메시지 송수신 기능을 추가한다.
+ * 호스트가 발급한 세션 토큰을 보관해 두었다가 연결이 끊기면 유예 시간 안에 자동으로 재접속한다.
+ * 관전자 모드로 접속하면 하트비트 외의 메시지는 보내지 않는다.
+ * 채널은 {@link ClientTransport} 로 열기 때문에 TCP 와 인메모리 루프백을 모두 지원한다.
  */
 public class ClientNetworkService {
     private static final long HEARTBEAT_INTERVAL_MS = 5000;
     private static final int READ_TIMEOUT_MS = 15000;
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "2";
+    private static final long SESSION_RESUME_WINDOW_MS = 25000;
+    private static final long RESUME_RETRY_INTERVAL_MS = 1000;
 
-    private final String host;
-    private final int port;
-    private Socket socket;
-    private PrintWriter writer;
-    private BufferedReader reader;
+    private final ClientTransport transport;
+    private final ConnectionRole role;
+    private MessageChannel channel;
     private Thread readerThread;
     private final CopyOnWriteArrayList<ServerMessageListener> messageListeners = new CopyOnWriteArrayList<>();
     private Runnable disconnectListener;
+    private Runnable resumeListener;
     private final AtomicBoolean disconnectNotified = new AtomicBoolean(true);
+    private final AtomicBoolean resuming = new AtomicBoolean(false);
     private final AtomicLong lastServerMessageAt = new AtomicLong();
     private ScheduledExecutorService heartbeatExecutor;
     private volatile String disconnectReason = "호스트와의 연결이 종료되었습니다.";
     private volatile boolean handshakeComplete = false;
+    private volatile boolean closing = false;
+    private volatile String sessionToken;
+    private volatile String pendingResumeToken;
     private CountDownLatch handshakeLatch;
 
     public ClientNetworkService(String host, int port) {
-        this.host = host;
-        this.port = port;
+        this(host, port, ConnectionRole.PLAYER);
+    }
+
+    public ClientNetworkService(String host, int port, ConnectionRole role) {
+        this(new TcpClientTransport(host, port), role);
+    }
+
+    public ClientNetworkService(ClientTransport transport) {
+        this(transport, ConnectionRole.PLAYER);
+    }
+
+    public ClientNetworkService(ClientTransport transport, ConnectionRole role) {
+        if (transport == null) {
+            throw new IllegalArgumentException("transport required");
+        }
+        this.transport = transport;
+        this.role = role == null ? ConnectionRole.PLAYER : role;
     }
 
     public void connect() throws IOException {
-        if (socket != null && socket.isConnected()) {
+        if (isConnected()) {
             return;
         }
-        socket = new Socket();
-        socket.connect(new InetSocketAddress(host, port), 3000);
-        socket.setSoTimeout(READ_TIMEOUT_MS);
-        writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream()), true);
-        reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+        closing = false;
+        sessionToken = null;
         disconnectNotified.set(false);
-        lastServerMessageAt.set(System.currentTimeMillis());
         disconnectReason = "호스트와의 연결이 종료되었습니다.";
-        handshakeLatch = new java.util.concurrent.CountDownLatch(1);
+        try {
+            openConnection(null);
+        } catch (IOException e) {
+            disconnectInternal(e.getMessage());
+            throw e;
+        }
+        System.out.println("[Client] 호스트(" + transport.describe() + ")에 연결되었습니다.");
+    }
+
+    /**
+     * 채널을 열고 HELLO/WELCOME 핸드셰이크를 마친다.
+     * 실패하면 열었던 자원을 정리한 뒤 IOException 을 던진다.
+     */
+    private void openConnection(String resumeToken) throws IOException {
+        MessageChannel newChannel = transport.connect();
+        try {
+            newChannel.setReadTimeout(READ_TIMEOUT_MS);
+        } catch (IOException e) {
+            newChannel.close();
+            throw e;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        synchronized (this) {
+            channel = newChannel;
+            handshakeLatch = latch;
+            pendingResumeToken = resumeToken;
+            handshakeComplete = false;
+        }
+        lastServerMessageAt.set(System.currentTimeMillis());
         startReader();
-        sendHello();
+        HandshakePayload hello = new HandshakePayload(PROTOCOL_VERSION, resumeToken, false, role);
+        if (!send(new NetworkMessage(MessageType.HELLO, HandshakePayload.encode(hello)))) {
+            releaseConnection();
+            throw new IOException("호스트와 핸드셰이크 메시지를 교환하지 못했습니다.");
+        }
         try {
-            if (!handshakeLatch.await(READ_TIMEOUT_MS, java.util.concurrent.TimeUnit.MILLISECONDS)) {
-                disconnectInternal("호스트와 프로토콜 핸드셰이크에 실패했습니다.");
-                throw new IOException("프로토콜 핸드셰이크 시간 초과");
+            if (!latch.await(READ_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                releaseConnection();
+                throw new IOException("호스트와 프로토콜 핸드셰이크에 실패했습니다.");
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            disconnectInternal("프로토콜 핸드셰이크 중 인터럽트");
-            throw new IOException("프로토콜 핸드셰이크 실패", e);
+            releaseConnection();
+            throw new IOException("프로토콜 핸드셰이크 중 인터럽트", e);
+        }
+        if (closing || !handshakeComplete) {
+            releaseConnection();
+            throw new IOException(disconnectReason);
         }
-        handshakeComplete = true;
         startHeartbeat();
-        System.out.println("[Client] 호스트(" + host + ":" + port + ")에 연결되었습니다.");
     }
 
     public void disconnect() {
@@ -85,34 +135,32 @@ public class ClientNetworkService {
 
     private void disconnectInternal(String reason) {
         updateDisconnectReason(reason);
+        closing = true;
+        releaseConnection();
+        notifyDisconnectListener();
+    }
+
+    /**
+     * 현재 채널과 리더 스레드를 정리한다. 리스너에는 알리지 않는다.
+     */
+    private void releaseConnection() {
         handshakeComplete = false;
-        if (handshakeLatch != null) {
-            handshakeLatch.countDown();
-        }
-        PrintWriter writerToClose;
-        BufferedReader readerToClose;
-        Socket socketToClose;
+        MessageChannel channelToClose;
         Thread threadToJoin;
 
         synchronized (this) {
-            boolean hasResources = socket != null || reader != null || writer != null || readerThread != null;
-            if (!hasResources) {
-                notifyDisconnectListener();
-                return;
+            if (handshakeLatch != null) {
+                handshakeLatch.countDown();
             }
-            writerToClose = writer;
-            readerToClose = reader;
-            socketToClose = socket;
+            channelToClose = channel;
             threadToJoin = readerThread;
-            writer = null;
-            reader = null;
-            socket = null;
+            channel = null;
             readerThread = null;
         }
 
-        closeQuietly(writerToClose);
-        closeQuietly(readerToClose);
-        closeQuietly(socketToClose);
+        if (channelToClose != null) {
+            channelToClose.close();
+        }
         stopHeartbeat();
 
         if (threadToJoin != null && threadToJoin != Thread.currentThread()) {
@@ -123,28 +171,41 @@ public class ClientNetworkService {
                 Thread.currentThread().interrupt();
             }
         }
-
-        notifyDisconnectListener();
     }
 
     public boolean isConnected() {
-        return socket != null && socket.isConnected() && !socket.isClosed();
+        MessageChannel current = channel;
+        return current != null && current.isOpen();
+    }
+
+    /**
+     * 연결이 끊겨 세션 복구를 시도하는 중인지 여부.
+     */
+    public boolean isResuming() {
+        return resuming.get();
     }
 
-    public Socket getSocket() {
-        return socket;
+    public ConnectionRole getRole() {
+        return role;
+    }
+
+    public boolean isSpectator() {
+        return role == ConnectionRole.SPECTATOR;
     }
 
     public boolean send(NetworkMessage message) {
-        PrintWriter currentWriter = writer;
-        if (currentWriter == null) {
+        MessageChannel current = channel;
+        if (current == null) {
             return false;
         }
-        currentWriter.println(message.serialize());
-        currentWriter.flush();
-        if (currentWriter.checkError()) {
+        if (isSpectator() && message.getType() != MessageType.HELLO && message.getType() != MessageType.HEARTBEAT) {
+            return false;
+        }
+        if (!current.send(message)) {
             System.err.println("[Client] 메시지 전송 실패, 연결을 종료합니다.");
-            disconnectInternal("호스트와 통신할 수 없어 연결이 종료되었습니다.");
+            updateDisconnectReason("호스트와 통신할 수 없어 연결이 종료되었습니다.");
+            // 채널을 닫으면 리더 스레드가 종료되면서 세션 복구 여부를 결정한다.
+            current.close();
             return false;
         }
         return true;
@@ -173,24 +234,25 @@ public class ClientNetworkService {
         this.disconnectListener = listener;
     }
 
-    public String getDisconnectReason() {
-        return disconnectReason;
+    /**
+     * 끊긴 연결이 같은 세션으로 복구되었을 때 호출할 리스너를 지정한다.
+     */
+    public void setResumeListener(Runnable listener) {
+        this.resumeListener = listener;
     }
 
-    private void sendHello() {
-        if (!send(new NetworkMessage(MessageType.HELLO, PROTOCOL_VERSION))) {
-            disconnectInternal("호스트와 핸드셰이크 메시지를 교환하지 못했습니다.");
-        }
+    public String getDisconnectReason() {
+        return disconnectReason;
     }
 
     private void startReader() {
-        final BufferedReader readerRef = reader;
-        readerThread = new Thread(() -> {
+        final MessageChannel channelRef = channel;
+        Thread thread = new Thread(() -> {
             try {
                 while (!Thread.currentThread().isInterrupted()) {
-                    String line;
+                    NetworkMessage message;
                     try {
-                        line = readerRef.readLine();
+                        message = channelRef.receive();
                     } catch (SocketTimeoutException timeout) {
                         if (System.currentTimeMillis() - lastServerMessageAt.get() >= READ_TIMEOUT_MS) {
                             System.err.println("[Client] 서버로부터 응답이 없어 연결을 종료합니다.");
@@ -198,30 +260,89 @@ public class ClientNetworkService {
                             break;
                         }
                         continue;
+                    } catch (IllegalArgumentException ex) {
+                        System.err.println("[Client] 잘못된 서버 메시지: " + ex.getMessage());
+                        continue;
                     }
-                    if (line == null) {
+                    if (message == null) {
                         updateDisconnectReason("호스트가 연결을 종료했습니다.");
                         break;
                     }
-                    try {
-                        NetworkMessage message = NetworkMessage.deserialize(line);
-                        lastServerMessageAt.set(System.currentTimeMillis());
-                        if (handleControlMessage(message)) {
-                            continue;
-                        }
-                        dispatchMessage(message);
-                    } catch (IllegalArgumentException ex) {
-                        System.err.println("[Client] 잘못된 서버 메시지: " + ex.getMessage() + " raw=" + line);
+                    lastServerMessageAt.set(System.currentTimeMillis());
+                    if (handleControlMessage(message)) {
+                        continue;
                     }
+                    dispatchMessage(message);
                 }
             } catch (IOException ignored) {
                 updateDisconnectReason("네트워크 오류로 연결이 종료되었습니다.");
             } finally {
-                disconnect();
+                handleConnectionLost(channelRef);
             }
         }, "ClientServerReader");
-        readerThread.setDaemon(true);
-        readerThread.start();
+        thread.setDaemon(true);
+        readerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * 리더 스레드가 종료될 때 호출된다.
+     * 세션이 수립된 상태에서 예기치 않게 끊겼다면 재접속을 시도하고, 그 외에는 연결을 종료한다.
+     */
+    private void handleConnectionLost(MessageChannel lostChannel) {
+        if (lostChannel != channel) {
+            return;
+        }
+        if (resuming.get()) {
+            // 재접속 시도 중 끊긴 연결은 재시도 루프가 처리한다.
+            releaseConnection();
+            return;
+        }
+        String token = sessionToken;
+        if (closing || token == null || !handshakeComplete) {
+            disconnect();
+            return;
+        }
+        releaseConnection();
+        if (!resuming.compareAndSet(false, true)) {
+            return;
+        }
+        System.err.println("[Client] 호스트와의 연결이 끊어졌습니다. 세션 복구를 시도합니다.");
+        Thread resumer = new Thread(() -> resumeSession(token), "ClientSessionResumer");
+        resumer.setDaemon(true);
+        resumer.start();
+    }
+
+    private void resumeSession(String token) {
+        long deadline = System.currentTimeMillis() + SESSION_RESUME_WINDOW_MS;
+        try {
+            while (!closing && System.currentTimeMillis() < deadline) {
+                try {
+                    openConnection(token);
+                    System.out.println("[Client] 호스트와의 세션을 복구했습니다.");
+                    resuming.set(false);
+                    Runnable listener = resumeListener;
+                    if (listener != null) {
+                        listener.run();
+                    }
+                    return;
+                } catch (IOException e) {
+                    if (closing) {
+                        break;
+                    }
+                }
+                try {
+                    Thread.sleep(RESUME_RETRY_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            resuming.set(false);
+            disconnectInternal(closing ? null : "호스트와의 연결을 복구하지 못했습니다.");
+        } finally {
+            resuming.set(false);
+        }
     }
 
     private void dispatchMessage(NetworkMessage message) {
@@ -243,16 +364,6 @@ public class ClientNetworkService {
         }
     }
 
-    private static void closeQuietly(Closeable closeable) {
-        if (closeable == null) {
-            return;
-        }
-        try {
-            closeable.close();
-        } catch (IOException ignored) {
-        }
-    }
-
     private void startHeartbeat() {
         stopHeartbeat();
         heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
@@ -267,7 +378,7 @@ public class ClientNetworkService {
         }, HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
     }
 
-    private void stopHeartbeat() {
+    private synchronized void stopHeartbeat() {
         if (heartbeatExecutor != null) {
             heartbeatExecutor.shutdownNow();
             heartbeatExecutor = null;
@@ -286,13 +397,26 @@ public class ClientNetworkService {
             return true;
         }
         if (type == MessageType.WELCOME) {
-            if (!PROTOCOL_VERSION.equals(message.getPayload())) {
+            HandshakePayload welcome;
+            try {
+                welcome = HandshakePayload.decode(message.getPayload());
+            } catch (IllegalArgumentException ex) {
+                disconnectInternal("호스트와 프로토콜 버전이 호환되지 않습니다.");
+                return true;
+            }
+            if (!PROTOCOL_VERSION.equals(welcome.getVersion())) {
                 disconnectInternal("호스트와 프로토콜 버전이 호환되지 않습니다.");
                 return true;
             }
+            if (pendingResumeToken != null && !welcome.isResumed()) {
+                disconnectInternal("세션이 만료되어 게임에 다시 참가할 수 없습니다.");
+                return true;
+            }
+            sessionToken = welcome.hasSessionToken() ? welcome.getSessionToken() : null;
             handshakeComplete = true;
-            if (handshakeLatch != null) {
-                handshakeLatch.countDown();
+            CountDownLatch latch = handshakeLatch;
+            if (latch != null) {
+                latch.countDown();
             }
             return true;
         }
@@ -1,39 +1,60 @@
 package com.marblegame.network;
 
 import com.marblegame.network.listener.ClientMessageListener;
+import com.marblegame.network.message.ConnectionRole;
+import com.marblegame.network.message.HandshakePayload;
 import com.marblegame.network.message.MessageType;
 import com.marblegame.network.message.NetworkMessage;
-import java.io.BufferedReader;
+import com.marblegame.network.metrics.NetworkMetrics;
+import com.marblegame.network.transport.MessageChannel;
+import com.marblegame.network.transport.ServerTransport;
+import com.marblegame.network.transport.TcpServerTransport;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * 호스트 모드에서 클라이언트 연결을 수락하는 베이스 서버.
- * 현재는 연결을 받아 목록에 보관만 하며, 추후 게임 동기화용 채널로 확장된다.
+ * 핸드셰이크를 마친 연결은 서버가 발급한 세션 토큰으로 식별되며,
+ * 연결이 끊겨도 유예 시간 동안 세션을 유지해 재접속한 클라이언트가 슬롯을 되찾을 수 있다.
+ * 관전자 연결은 세션 없이 {@link SpectatorFanout} 을 통해 별도 경로로 메시지를 받는다.
+ * 실제 연결 수락은 {@link ServerTransport} 가 담당하므로 TCP 대신 인메모리 루프백으로도 동작한다.
+ * 송수신 트래픽은 {@link NetworkMetrics} 에 기록되며 JMX 로 조회할 수 있다.
  */
 public class HostNetworkService {
     private static final long HEARTBEAT_INTERVAL_MS = 5000;
     private static final int READ_TIMEOUT_MS = 15000;
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "2";
+    private static final long SESSION_RESUME_GRACE_MS = 30000;
+    private static final int MAX_SUSPENDED_BACKLOG = 256;
 
     private final int port;
+    private final ServerTransport transport;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final List<ClientHandler> clientHandlers = new CopyOnWriteArrayList<>();
+    private final Map<String, ClientSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionSeq = new AtomicInteger();
+    private final SecureRandom tokenRandom = new SecureRandom();
+    private final NetworkMetrics metrics = new NetworkMetrics();
+    private final SpectatorFanout spectatorFanout = new SpectatorFanout(this::notifySpectatorCountChanged, metrics);
 
-    private ServerSocket serverSocket;
     private Thread acceptThread;
     private Thread shutdownHook;
     private ClientMessageListener messageListener;
@@ -42,39 +63,51 @@ public class HostNetworkService {
 
     public HostNetworkService(int port) {
         this.port = port;
+        this.transport = new TcpServerTransport(port);
+    }
+
+    public HostNetworkService(ServerTransport transport) {
+        if (transport == null) {
+            throw new IllegalArgumentException("transport required");
+        }
+        this.port = transport instanceof TcpServerTransport ? ((TcpServerTransport) transport).getPort() : -1;
+        this.transport = transport;
     }
 
     public void start() throws IOException {
         if (!running.compareAndSet(false, true)) {
             return;
         }
-        serverSocket = new ServerSocket(port);
+        try {
+            transport.bind();
+        } catch (IOException e) {
+            running.set(false);
+            throw e;
+        }
         acceptThread = new Thread(this::acceptLoop, "HostAcceptThread");
         acceptThread.setDaemon(true);
         acceptThread.start();
 
+        spectatorFanout.start();
         startHeartbeatBroadcast();
 
         shutdownHook = new Thread(this::stop, "HostNetworkServiceShutdown");
         Runtime.getRuntime().addShutdownHook(shutdownHook);
+        metrics.registerMBean("host-" + (port >= 0 ? Integer.toString(port) : transport.describe()));
     }
 
     private void acceptLoop() {
-        System.out.println("[Host] 서버가 포트 " + port + "에서 대기 중입니다.");
+        System.out.println("[Host] 서버가 " + transport.describe() + "에서 대기 중입니다.");
         while (running.get()) {
             try {
-                Socket socket = serverSocket.accept();
-                ClientHandler handler = new ClientHandler(socket);
+                MessageChannel channel = transport.accept();
+                ClientHandler handler = new ClientHandler(channel);
                 clientHandlers.add(handler);
                 handler.start();
-                System.out.println("[Host] 클라이언트 연결: " + socket.getRemoteSocketAddress());
-            } catch (SocketException e) {
-                if (running.get()) {
-                    System.err.println("[Host] 소켓 예외: " + e.getMessage());
-                }
+                System.out.println("[Host] 클라이언트 연결: " + channel.getRemoteAddress());
             } catch (IOException e) {
                 if (running.get()) {
-                    e.printStackTrace();
+                    System.err.println("[Host] 연결 수락 중 예외: " + e.getMessage());
                 }
             }
         }
@@ -85,16 +118,17 @@ public class HostNetworkService {
             return;
         }
         System.out.println("[Host] 서버를 종료합니다.");
-        try {
-            if (serverSocket != null && !serverSocket.isClosed()) {
-                serverSocket.close();
-            }
-        } catch (IOException ignored) {}
+        transport.close();
 
         for (ClientHandler handler : clientHandlers) {
             handler.close();
         }
         clientHandlers.clear();
+        for (ClientSession session : sessions.values()) {
+            session.cancelExpiry();
+        }
+        sessions.clear();
+        spectatorFanout.stop();
 
         if (acceptThread != null) {
             acceptThread.interrupt();
@@ -110,16 +144,22 @@ public class HostNetworkService {
             heartbeatScheduler.shutdownNow();
             heartbeatScheduler = null;
         }
+
+        metrics.dumpToConfiguredFile();
+        metrics.unregisterMBean();
     }
 
-    public List<Socket> getClientSockets() {
+    public List<String> getClientAddresses() {
         return Collections.unmodifiableList(
             clientHandlers.stream()
-                .map(ClientHandler::getSocket)
+                .map(ClientHandler::getRemoteAddress)
                 .collect(Collectors.toList())
         );
     }
 
+    /**
+     * TCP 로 대기 중일 때의 포트 번호. 다른 전송 계층이면 -1.
+     */
     public int getPort() {
         return port;
     }
@@ -132,26 +172,44 @@ public class HostNetworkService {
         this.lifecycleListener = listener;
     }
 
+    /**
+     * 핸드셰이크를 마친 모든 세션에 메시지를 보낸다.
+     * 재접속 대기 중인 세션에는 메시지를 보관했다가 복구 시 재전송한다.
+     * 관전자에게는 관전 전용 큐에 넣어 별도 스레드가 모아서 보낸다.
+     */
     public void broadcast(NetworkMessage message) {
-        for (ClientHandler handler : clientHandlers) {
-            if (handler.isHandshakeComplete()) {
-                handler.send(message);
-            }
+        for (ClientSession session : sessions.values()) {
+            session.deliver(message);
         }
+        spectatorFanout.publish(message);
     }
 
     public void sendTo(String clientId, NetworkMessage message) {
         if (clientId == null || message == null) {
             return;
         }
-        for (ClientHandler handler : clientHandlers) {
-            if (clientId.equals(handler.getClientId()) && handler.isHandshakeComplete()) {
-                handler.send(message);
-                break;
-            }
+        ClientSession session = sessions.get(clientId);
+        if (session != null) {
+            session.deliver(message);
         }
     }
 
+    public NetworkMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getSpectatorCount() {
+        return spectatorFanout.getSubscriberCount();
+    }
+
+    /**
+     * 연결이 끊겨 재접속을 기다리는 세션인지 확인한다.
+     */
+    public boolean isSessionSuspended(String clientId) {
+        ClientSession session = clientId == null ? null : sessions.get(clientId);
+        return session != null && session.isSuspended();
+    }
+
     private void removeHandler(ClientHandler handler) {
         removeHandler(handler, null);
     }
@@ -159,9 +217,80 @@ public class HostNetworkService {
     private void removeHandler(ClientHandler handler, String reason) {
         clientHandlers.remove(handler);
         handler.close();
-        if (reason != null && lifecycleListener != null) {
-            lifecycleListener.onClientDisconnected(handler.getClientId(), reason);
+        if (handler.isSpectator()) {
+            spectatorFanout.unsubscribe(handler);
+            metrics.removeClient(handler.getClientId());
+            return;
+        }
+        ClientSession session = handler.getSession();
+        if (session == null || !session.detach(handler)) {
+            return;
+        }
+        if (!running.get()) {
+            return;
+        }
+        String effectiveReason = reason == null ? "클라이언트 연결이 끊어졌습니다." : reason;
+        System.out.println(
+            "[Host] 세션 일시 중단(" + session.getClientId() + "), " +
+            (SESSION_RESUME_GRACE_MS / 1000) + "초 동안 재접속을 기다립니다."
+        );
+        if (lifecycleListener != null) {
+            lifecycleListener.onClientSuspended(session.getClientId(), effectiveReason);
+        }
+        ScheduledExecutorService scheduler = heartbeatScheduler;
+        if (scheduler == null) {
+            expireSession(session, effectiveReason);
+            return;
+        }
+        session.scheduleExpiry(scheduler.schedule(
+            () -> expireSession(session, effectiveReason),
+            SESSION_RESUME_GRACE_MS,
+            TimeUnit.MILLISECONDS
+        ));
+    }
+
+    private void expireSession(ClientSession session, String reason) {
+        if (!session.isSuspended() || !sessions.remove(session.getClientId(), session)) {
+            return;
+        }
+        System.out.println("[Host] 세션 만료: " + session.getClientId());
+        metrics.removeClient(session.getClientId());
+        if (lifecycleListener != null) {
+            lifecycleListener.onClientDisconnected(session.getClientId(), reason);
+        }
+    }
+
+    private ClientSession findSessionByToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        for (ClientSession session : sessions.values()) {
+            if (MessageDigest.isEqual(
+                session.getToken().getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8)
+            )) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private ClientSession createSession(ClientHandler handler) {
+        String clientId = "client-" + sessionSeq.incrementAndGet() + "@" + handler.getRemoteAddress();
+        ClientSession session = new ClientSession(clientId, generateToken());
+        sessions.put(clientId, session);
+        return session;
+    }
+
+    private String generateToken() {
+        byte[] bytes = new byte[16];
+        tokenRandom.nextBytes(bytes);
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
         }
+        return sb.toString();
     }
 
     private void notifyClientConnected(String clientId) {
@@ -170,6 +299,18 @@ public class HostNetworkService {
         }
     }
 
+    private void notifyClientResumed(String clientId) {
+        if (lifecycleListener != null) {
+            lifecycleListener.onClientResumed(clientId);
+        }
+    }
+
+    private void notifySpectatorCountChanged() {
+        if (lifecycleListener != null && running.get()) {
+            lifecycleListener.onSpectatorCountChanged(spectatorFanout.getSubscriberCount());
+        }
+    }
+
     private void startHeartbeatBroadcast() {
         heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "HostHeartbeatBroadcaster");
@@ -187,27 +328,212 @@ public class HostNetworkService {
     public interface ClientLifecycleListener {
         void onClientConnected(String clientId);
         void onClientDisconnected(String clientId, String reason);
+
+        /**
+         * 연결이 끊겼지만 재접속 유예 시간 동안 세션이 유지될 때 호출된다.
+         */
+        default void onClientSuspended(String clientId, String reason) {}
+
+        /**
+         * 유예 시간 안에 같은 세션 토큰으로 재접속했을 때 호출된다.
+         */
+        default void onClientResumed(String clientId) {}
+
+        /**
+         * 관전자 수가 바뀌었을 때 호출된다.
+         */
+        default void onSpectatorCountChanged(int spectatorCount) {}
     }
 
-    private class ClientHandler {
-        private final Socket socket;
-        private final PrintWriter writer;
-        private final BufferedReader reader;
+    /**
+     * 서버가 발급한 토큰으로 식별되는 논리 연결.
+     * 소켓이 바뀌어도 clientId 는 유지되므로 로비 슬롯과 대기 중인 다이얼로그가 그대로 이어진다.
+     * 보낼 메시지는 세션 잠금 안에서 outbox 에 넣기만 하고, 실제 전송은 한 번에 한 스레드가 잠금 밖에서 한다.
+     * 그래서 느린 피어가 있어도 다른 스레드의 deliver/resume/만료 처리가 전송을 기다리지 않고, 보낸 순서는 유지된다.
+     */
+    private final class ClientSession {
         private final String clientId;
+        private final String token;
+        private final Deque<NetworkMessage> backlog = new ArrayDeque<>();
+        private final Deque<NetworkMessage> outbox = new ArrayDeque<>();
+        private ClientHandler handler;
+        private NetworkMessage latestSnapshot;
+        private NetworkMessage latestLobbyState;
+        private ScheduledFuture<?> expiryTask;
+        private int droppedWhileSuspended;
+        private boolean flushing;
+
+        ClientSession(String clientId, String token) {
+            this.clientId = clientId;
+            this.token = token;
+        }
+
+        String getClientId() {
+            return clientId;
+        }
+
+        String getToken() {
+            return token;
+        }
+
+        synchronized boolean isSuspended() {
+            return handler == null;
+        }
+
+        void deliver(NetworkMessage message) {
+            synchronized (this) {
+                if (handler == null) {
+                    holdWhileSuspended(message);
+                    return;
+                }
+                outbox.addLast(message);
+                if (flushing) {
+                    return; // 지금 보내고 있는 스레드가 이어서 보낸다
+                }
+                flushing = true;
+            }
+            flush();
+        }
+
+        /**
+         * outbox 가 빌 때까지 잠금 밖에서 보낸다. flushing 을 차지한 스레드만 부른다.
+         * 도중에 연결이 끊기면 남은 메시지는 재접속 대기 규칙대로 보관한다.
+         */
+        private void flush() {
+            while (true) {
+                ClientHandler target;
+                NetworkMessage next;
+                synchronized (this) {
+                    next = outbox.pollFirst();
+                    if (next == null) {
+                        flushing = false;
+                        return;
+                    }
+                    target = handler;
+                    if (target == null) {
+                        holdWhileSuspended(next);
+                        continue;
+                    }
+                }
+                target.send(next);
+            }
+        }
+
+        private void holdWhileSuspended(NetworkMessage message) {
+            switch (message.getType()) {
+                case HEARTBEAT:
+                    return;
+                case STATE_SNAPSHOT:
+                    latestSnapshot = message;
+                    return;
+                case LOBBY_STATE:
+                    latestLobbyState = message;
+                    return;
+                case DIALOG_COMMAND:
+                    // 응답 시간 초과로 이미 대체됐을 수 있으므로 쌓지 않는다. 아직 기다리는 명령은 GameUI 가 재접속 시 다시 보낸다.
+                    return;
+                default:
+                    if (backlog.size() >= MAX_SUSPENDED_BACKLOG) {
+                        backlog.pollFirst();
+                        droppedWhileSuspended++;
+                    }
+                    backlog.addLast(message);
+                    metrics.recordQueueDepth(NetworkMetrics.QueueKind.SESSION_BACKLOG, backlog.size());
+            }
+        }
+
+        /**
+         * 새 핸들러를 세션에 연결하고 끊겨 있던 동안 쌓인 메시지를 순서대로 재전송한다 (새 세션이면 보낼 것이 없다).
+         * 최신 스냅샷을 먼저 보내 화면을 맞춘 뒤 로그/다이얼로그 동기화를 이어서 보낸다.
+         * 핸들러 교체와 보관 메시지를 outbox 앞에 넣는 일은 한 잠금 안에서 일어나므로, 이후 deliver 된 메시지는 항상 그 뒤에 간다.
+         */
+        void attach(ClientHandler newHandler) {
+            ClientHandler previous;
+            int dropped;
+            boolean startFlush;
+            synchronized (this) {
+                cancelExpiry();
+                previous = handler;
+                handler = newHandler;
+                List<NetworkMessage> pending = new ArrayList<>(backlog.size() + 2);
+                if (latestSnapshot != null) {
+                    pending.add(latestSnapshot);
+                }
+                if (latestLobbyState != null) {
+                    pending.add(latestLobbyState);
+                }
+                pending.addAll(backlog);
+                backlog.clear();
+                latestSnapshot = null;
+                latestLobbyState = null;
+                for (int i = pending.size() - 1; i >= 0; i--) {
+                    outbox.addFirst(pending.get(i));
+                }
+                dropped = droppedWhileSuspended;
+                droppedWhileSuspended = 0;
+                startFlush = !flushing && !outbox.isEmpty();
+                if (startFlush) {
+                    flushing = true;
+                }
+            }
+            if (previous != null && previous != newHandler) {
+                clientHandlers.remove(previous);
+                previous.close();
+            }
+            if (dropped > 0) {
+                System.err.println("[Host] 재접속 대기 중 오래된 메시지 " + dropped + "건을 버렸습니다: " + clientId);
+            }
+            if (startFlush) {
+                flush();
+            }
+        }
+
+        /**
+         * 현재 연결된 핸들러가 끊겼을 때 세션을 대기 상태로 전환한다.
+         * 이미 다른 핸들러로 교체된 경우에는 false 를 반환한다.
+         */
+        synchronized boolean detach(ClientHandler oldHandler) {
+            if (handler != oldHandler) {
+                return false;
+            }
+            handler = null;
+            return true;
+        }
+
+        synchronized void scheduleExpiry(ScheduledFuture<?> task) {
+            cancelExpiry();
+            expiryTask = task;
+        }
+
+        synchronized void cancelExpiry() {
+            if (expiryTask != null) {
+                expiryTask.cancel(false);
+                expiryTask = null;
+            }
+        }
+    }
+
+    private class ClientHandler implements SpectatorFanout.Subscriber {
+        private final MessageChannel channel;
+        private final String remoteAddress;
+        private final long acceptedAt = System.nanoTime();
         private Thread readerThread;
+        private volatile NetworkMetrics.ClientCounters counters;
+        private volatile ClientSession session;
         private volatile long lastMessageAt = System.currentTimeMillis();
         private volatile boolean handshakeComplete = false;
-
-        ClientHandler(Socket socket) throws IOException {
-            this.socket = socket;
-            this.socket.setSoTimeout(READ_TIMEOUT_MS);
-            this.writer = new PrintWriter(socket.getOutputStream(), true);
-            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            this.clientId = socket.getRemoteSocketAddress().toString();
+        private volatile boolean spectator = false;
+        private volatile boolean sendFailed = false;
+        private boolean spectatorInputWarned = false;
+
+        ClientHandler(MessageChannel channel) throws IOException {
+            this.channel = channel;
+            this.channel.setReadTimeout(READ_TIMEOUT_MS);
+            this.remoteAddress = channel.getRemoteAddress();
         }
 
         void start() {
-            readerThread = new Thread(this::readLoop, "HostClientReader-" + clientId);
+            readerThread = new Thread(this::readLoop, "HostClientReader-" + remoteAddress);
             readerThread.setDaemon(true);
             readerThread.start();
         }
@@ -216,53 +542,59 @@ public class HostNetworkService {
             String disconnectReason = "클라이언트가 연결을 종료했습니다.";
             try {
                 while (running.get() && !Thread.currentThread().isInterrupted()) {
-                    String line;
+                    NetworkMessage message;
                     try {
-                        line = reader.readLine();
+                        message = channel.receive();
                     } catch (SocketTimeoutException timeout) {
                         if (System.currentTimeMillis() - lastMessageAt >= READ_TIMEOUT_MS) {
                             disconnectReason = "클라이언트 응답 시간 초과로 연결이 종료되었습니다.";
-                            System.err.println("[Host] 클라이언트 타임아웃: " + clientId);
+                            System.err.println("[Host] 클라이언트 타임아웃: " + getClientId());
                             break;
                         }
                         continue;
+                    } catch (IllegalArgumentException ex) {
+                        System.err.println("[Host] 잘못된 메시지(" + getClientId() + "): " + ex.getMessage());
+                        metrics.recordMalformed();
+                        continue;
                     }
-                    if (line == null) {
+                    if (message == null) {
                         disconnectReason = "클라이언트가 연결을 종료했습니다.";
                         break;
                     }
-                    try {
-                        NetworkMessage message = NetworkMessage.deserialize(line);
-                        lastMessageAt = System.currentTimeMillis();
-                        if (!handshakeComplete) {
-                            if (message.getType() == MessageType.HELLO) {
-                                if (!handleHello(message)) {
-                                    disconnectReason = "프로토콜 버전이 맞지 않아 연결이 종료되었습니다.";
-                                    break;
-                                }
-                                continue;
-                            } else {
-                                send(new NetworkMessage(
-                                    MessageType.REJECT,
-                                    "프로토콜 핸드셰이크 전에는 메시지를 보낼 수 없습니다."
-                                ));
-                                disconnectReason = "프로토콜 핸드셰이크 실패";
+                    lastMessageAt = System.currentTimeMillis();
+                    metrics.recordInbound(counters, message);
+                    if (!handshakeComplete) {
+                        if (message.getType() == MessageType.HELLO) {
+                            if (!handleHello(message)) {
+                                disconnectReason = "프로토콜 버전이 맞지 않아 연결이 종료되었습니다.";
                                 break;
                             }
-                        }
-                        if (message.getType() == MessageType.HEARTBEAT) {
-                            continue;
-                        }
-                        if (message.getType() == MessageType.HELLO) {
                             continue;
+                        } else {
+                            send(new NetworkMessage(
+                                MessageType.REJECT,
+                                "프로토콜 핸드셰이크 전에는 메시지를 보낼 수 없습니다."
+                            ));
+                            disconnectReason = "프로토콜 핸드셰이크 실패";
+                            break;
                         }
-                        if (messageListener != null) {
-                            messageListener.onMessage(clientId, message);
+                    }
+                    if (message.getType() == MessageType.HEARTBEAT) {
+                        continue;
+                    }
+                    if (message.getType() == MessageType.HELLO) {
+                        continue;
+                    }
+                    if (spectator) {
+                        // 관전자는 읽기 전용이므로 어떤 입력도 게임으로 전달하지 않는다.
+                        if (!spectatorInputWarned) {
+                            System.err.println("[Host] 관전자 입력 무시(" + getClientId() + "): " + message.getType());
+                            spectatorInputWarned = true;
                         }
-                    } catch (IllegalArgumentException ex) {
-                        System.err.println(
-                            "[Host] 잘못된 메시지(" + clientId + "): " + ex.getMessage() + " raw=" + line
-                        );
+                        continue;
+                    }
+                    if (messageListener != null) {
+                        messageListener.onMessage(getClientId(), message);
                     }
                 }
             } catch (IOException ignored) {
@@ -273,45 +605,99 @@ public class HostNetworkService {
         }
 
         private boolean handleHello(NetworkMessage message) {
-            String version = message.getPayload();
-            if (version == null || version.isEmpty()) {
+            HandshakePayload hello;
+            try {
+                hello = HandshakePayload.decode(message.getPayload());
+            } catch (IllegalArgumentException ex) {
                 send(new NetworkMessage(MessageType.REJECT, "프로토콜 버전 정보가 필요합니다."));
                 return false;
             }
-            if (!PROTOCOL_VERSION.equals(version)) {
+            if (!PROTOCOL_VERSION.equals(hello.getVersion())) {
                 send(new NetworkMessage(
                     MessageType.REJECT,
                     "서버 버전(" + PROTOCOL_VERSION + ")과 호환되지 않습니다."
                 ));
                 return false;
             }
+            if (hello.getRole() == ConnectionRole.SPECTATOR) {
+                spectator = true;
+                handshakeComplete = true;
+                counters = metrics.client(remoteAddress);
+                send(new NetworkMessage(
+                    MessageType.WELCOME,
+                    HandshakePayload.encode(new HandshakePayload(PROTOCOL_VERSION, null, false, ConnectionRole.SPECTATOR))
+                ));
+                metrics.recordHandshake(System.nanoTime() - acceptedAt, false);
+                System.out.println("[Host] 관전자 접속: " + remoteAddress);
+                spectatorFanout.subscribe(this);
+                return true;
+            }
+            ClientSession resumable = findSessionByToken(hello.getSessionToken());
+            boolean resumed = resumable != null;
+            ClientSession target = resumed ? resumable : createSession(this);
+            session = target;
             handshakeComplete = true;
-            send(new NetworkMessage(MessageType.WELCOME, PROTOCOL_VERSION));
-            notifyClientConnected(clientId);
+            counters = metrics.client(target.getClientId());
+            send(new NetworkMessage(
+                MessageType.WELCOME,
+                HandshakePayload.encode(new HandshakePayload(PROTOCOL_VERSION, target.getToken(), resumed))
+            ));
+            metrics.recordHandshake(System.nanoTime() - acceptedAt, resumed);
+            if (resumed) {
+                target.attach(this);
+                System.out.println("[Host] 세션 복구: " + target.getClientId() + " <- " + remoteAddress);
+                notifyClientResumed(target.getClientId());
+            } else {
+                target.attach(this);
+                notifyClientConnected(target.getClientId());
+            }
             return true;
         }
 
         void send(NetworkMessage message) {
-            writer.println(message.serialize());
-            writer.flush();
-            if (writer.checkError()) {
-                System.err.println("[Host] 클라이언트로 전송 실패: " + clientId);
+            long startedAt = System.nanoTime();
+            boolean sent = channel.send(message);
+            metrics.recordOutbound(counters, message, System.nanoTime() - startedAt, sent);
+            if (!sent) {
+                sendFailed = true;
+                System.err.println("[Host] 클라이언트로 전송 실패: " + getClientId());
                 removeHandler(this, "클라이언트로 메시지를 전송할 수 없어 연결이 종료되었습니다.");
             }
         }
 
+        @Override
+        public String getSubscriberId() {
+            return getClientId();
+        }
+
+        @Override
+        public boolean deliver(NetworkMessage message) {
+            if (sendFailed) {
+                return false;
+            }
+            send(message);
+            return !sendFailed;
+        }
+
         void close() {
-            try {
-                socket.close();
-            } catch (IOException ignored) {}
+            channel.close();
+        }
+
+        String getRemoteAddress() {
+            return remoteAddress;
         }
 
-        Socket getSocket() {
-            return socket;
+        ClientSession getSession() {
+            return session;
         }
 
         String getClientId() {
-            return clientId;
+            ClientSession current = session;
+            return current == null ? remoteAddress : current.getClientId();
+        }
+
+        boolean isSpectator() {
+            return spectator;
         }
 
         boolean isHandshakeComplete() {
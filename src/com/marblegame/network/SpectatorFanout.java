@@ -0,0 +1,223 @@
+package com.marblegame.network;
+
+import com.marblegame.network.message.NetworkMessage;
+import com.marblegame.network.metrics.NetworkMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관전자 전용 브로드캐스트 경로.
+ * 플레이어 브로드캐스트는 메시지를 큐에 넣기만 하고, 실제 전송은 별도 스레드가 일정 주기로 몰아서 처리한다.
+ * 스냅샷과 로비 상태는 최신 값만 남기고, 로그/다이얼로그 동기화는 제한된 큐에 쌓아 순서대로 보낸다.
+ * 관전자가 아무리 많아도 플레이어 쪽 전송 지연에는 영향을 주지 않는다.
+ */
+final class SpectatorFanout {
+    private static final long FLUSH_INTERVAL_MS = 250;
+    private static final long SNAPSHOT_INTERVAL_MS = 500;
+    private static final int MAX_PENDING_EVENTS = 512;
+
+    /**
+     * 관전자 연결. 전송에 실패하면 false 를 반환해 목록에서 제거되도록 한다.
+     */
+    interface Subscriber {
+        String getSubscriberId();
+        boolean deliver(NetworkMessage message);
+    }
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<Subscriber> joiners = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<NetworkMessage> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingEventCount = new AtomicInteger();
+    private final AtomicReference<NetworkMessage> latestSnapshot = new AtomicReference<>();
+    private final AtomicReference<NetworkMessage> latestLobbyState = new AtomicReference<>();
+    private final AtomicReference<NetworkMessage> pendingHeartbeat = new AtomicReference<>();
+    private final Runnable onCountChanged;
+    private final NetworkMetrics metrics;
+
+    private ScheduledExecutorService executor;
+    private NetworkMessage lastSentSnapshot;
+    private NetworkMessage lastSentLobbyState;
+    private long lastSnapshotSentAt;
+    private final AtomicInteger droppedEvents = new AtomicInteger();
+
+    SpectatorFanout(Runnable onCountChanged, NetworkMetrics metrics) {
+        this.onCountChanged = onCountChanged;
+        this.metrics = metrics;
+    }
+
+    synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "HostSpectatorFanout");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        subscribers.clear();
+        joiners.clear();
+        events.clear();
+        pendingEventCount.set(0);
+    }
+
+    void subscribe(Subscriber subscriber) {
+        joiners.add(subscriber);
+        subscribers.add(subscriber);
+        notifyCountChanged();
+    }
+
+    void unsubscribe(Subscriber subscriber) {
+        joiners.remove(subscriber);
+        if (subscribers.remove(subscriber)) {
+            notifyCountChanged();
+        }
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 호출 스레드를 막지 않고 메시지를 관전자 큐에 넣는다.
+     */
+    void publish(NetworkMessage message) {
+        if (message == null || (subscribers.isEmpty() && !isCoalesced(message))) {
+            return;
+        }
+        switch (message.getType()) {
+            case STATE_SNAPSHOT:
+                latestSnapshot.set(message);
+                return;
+            case LOBBY_STATE:
+                latestLobbyState.set(message);
+                return;
+            case HEARTBEAT:
+                pendingHeartbeat.set(message);
+                return;
+            case LOG_ENTRY:
+            case DIALOG_SYNC:
+                int depth = pendingEventCount.incrementAndGet();
+                metrics.recordQueueDepth(NetworkMetrics.QueueKind.SPECTATOR_EVENTS, depth);
+                if (depth > MAX_PENDING_EVENTS) {
+                    if (events.poll() != null) {
+                        pendingEventCount.decrementAndGet();
+                        droppedEvents.incrementAndGet();
+                    }
+                }
+                events.add(message);
+                return;
+            default:
+                // 슬롯 배정/다이얼로그 명령 등 플레이어 전용 메시지는 관전자에게 보내지 않는다.
+        }
+    }
+
+    private boolean isCoalesced(NetworkMessage message) {
+        switch (message.getType()) {
+            case STATE_SNAPSHOT:
+            case LOBBY_STATE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void flush() {
+        try {
+            List<Subscriber> joined = new ArrayList<>();
+            Subscriber joiner;
+            while ((joiner = joiners.poll()) != null) {
+                joined.add(joiner);
+            }
+
+            List<NetworkMessage> batch = new ArrayList<>();
+            NetworkMessage lobby = latestLobbyState.get();
+            if (lobby != null && lobby != lastSentLobbyState) {
+                batch.add(lobby);
+                lastSentLobbyState = lobby;
+            }
+            List<NetworkMessage> eventBatch = new ArrayList<>();
+            NetworkMessage event;
+            while ((event = events.poll()) != null) {
+                pendingEventCount.decrementAndGet();
+                eventBatch.add(event);
+            }
+            batch.addAll(eventBatch);
+            long now = System.currentTimeMillis();
+            NetworkMessage snapshot = latestSnapshot.get();
+            if (snapshot != null && snapshot != lastSentSnapshot && now - lastSnapshotSentAt >= SNAPSHOT_INTERVAL_MS) {
+                batch.add(snapshot);
+                lastSentSnapshot = snapshot;
+                lastSnapshotSentAt = now;
+            }
+            NetworkMessage heartbeat = pendingHeartbeat.getAndSet(null);
+            if (heartbeat != null && batch.isEmpty()) {
+                batch.add(heartbeat);
+            }
+            int dropped = droppedEvents.getAndSet(0);
+            if (dropped > 0) {
+                System.err.println("[Host] 관전자 큐가 가득 차 오래된 이벤트 " + dropped + "건을 버렸습니다.");
+            }
+            for (Subscriber subscriber : joined) {
+                deliverAll(subscriber, initialMessagesFor(eventBatch));
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!joined.contains(subscriber)) {
+                    deliverAll(subscriber, batch);
+                }
+            }
+        } catch (RuntimeException ex) {
+            System.err.println("[Host] 관전자 전송 중 오류: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * 새로 들어온 관전자에게는 최신 로비 상태와 스냅샷을 먼저 보내 화면을 바로 구성할 수 있게 한다.
+     */
+    private List<NetworkMessage> initialMessagesFor(List<NetworkMessage> eventBatch) {
+        List<NetworkMessage> initial = new ArrayList<>(eventBatch.size() + 2);
+        NetworkMessage lobby = latestLobbyState.get();
+        if (lobby != null) {
+            initial.add(lobby);
+        }
+        NetworkMessage snapshot = latestSnapshot.get();
+        if (snapshot != null) {
+            initial.add(snapshot);
+        }
+        initial.addAll(eventBatch);
+        return initial;
+    }
+
+    private void deliverAll(Subscriber subscriber, List<NetworkMessage> batch) {
+        for (NetworkMessage message : batch) {
+            if (!subscriber.deliver(message)) {
+                System.err.println("[Host] 관전자 전송 실패: " + subscriber.getSubscriberId());
+                unsubscribe(subscriber);
+                return;
+            }
+        }
+    }
+
+    private void notifyCountChanged() {
+        if (onCountChanged != null) {
+            onCountChanged.run();
+        }
+    }
+}
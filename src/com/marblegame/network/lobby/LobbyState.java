@@ -46,7 +46,7 @@ public class LobbyState {
             return false;
         }
         Slot target = findSlot(slotIndex);
-        if (target == null) {
+        if (target == null || target.bot) {
             return false;
         }
         if (target.assignedClientId != null && !clientId.equals(target.assignedClientId)) {
@@ -77,7 +77,14 @@ public class LobbyState {
 
     public synchronized boolean releaseSlot(int slotIndex) {
         Slot slot = findSlot(slotIndex);
-        if (slot == null || slot.assignedClientId == null) {
+        if (slot == null) {
+            return false;
+        }
+        if (slot.bot) {
+            clearSlot(slot);
+            return true;
+        }
+        if (slot.assignedClientId == null) {
             return false;
         }
         clientToSlot.remove(slot.assignedClientId);
@@ -85,6 +92,25 @@ public class LobbyState {
         return true;
     }
 
+    /**
+     * 빈 슬롯에 봇을 배치한다. 봇 슬롯은 항상 준비 완료 상태로 보인다.
+     */
+    public synchronized boolean assignBot(int slotIndex, String botName) {
+        Slot slot = findSlot(slotIndex);
+        if (slot == null || slot.bot || slot.assignedClientId != null) {
+            return false;
+        }
+        slot.bot = true;
+        slot.playerName = normalizeName(slot, botName);
+        slot.ready = true;
+        return true;
+    }
+
+    public synchronized boolean isBotSlot(int slotIndex) {
+        Slot slot = findSlot(slotIndex);
+        return slot != null && slot.bot;
+    }
+
     public synchronized Integer getSlotIndex(String clientId) {
         Slot slot = clientToSlot.get(clientId);
         return slot == null ? null : slot.index;
@@ -113,7 +139,7 @@ public class LobbyState {
             LobbySlotView slotView = new LobbySlotView();
             slotView.index = slot.index;
             slotView.label = slot.label;
-            slotView.occupied = slot.assignedClientId != null;
+            slotView.occupied = slot.assignedClientId != null || slot.bot;
             slotView.ready = slot.ready;
             slotView.occupantName = slotView.occupied ? slot.playerName : "";
             view.slots.add(slotView);
@@ -154,6 +180,7 @@ public class LobbyState {
         slot.assignedClientId = null;
         slot.playerName = null;
         slot.ready = false;
+        slot.bot = false;
     }
 
     private Slot findSlot(int slotIndex) {
@@ -177,5 +204,6 @@ public class LobbyState {
         String assignedClientId;
         String playerName;
         boolean ready;
+        boolean bot;
     }
 }
@@ -0,0 +1,11 @@
+package com.marblegame.network.message;
+
+/**
+ * 핸드셰이크 시 클라이언트가 밝히는 접속 유형.
+ */
+public enum ConnectionRole {
+    /** 로비 슬롯을 요청하고 게임에 참여할 수 있는 연결 */
+    PLAYER,
+    /** 스냅샷/로그/다이얼로그 동기화만 받는 읽기 전용 연결 */
+    SPECTATOR
+}
@@ -0,0 +1,110 @@
+package com.marblegame.network.message;
+
+/**
+ * HELLO/WELCOME 핸드셰이크에 사용하는 페이로드.
+ * 클라이언트는 재접속 시 이전에 발급받은 세션 토큰을 함께 보내고,
+ * 호스트는 WELCOME 에 세션 토큰과 복구 여부를 담아 돌려준다.
+ * 관전자는 HELLO 에 접속 유형을 SPECTATOR 로 밝히며 세션 토큰을 발급받지 않는다.
+ */
+public final class HandshakePayload {
+    private final String version;
+    private final String sessionToken;
+    private final boolean resumed;
+    private final ConnectionRole role;
+
+    public HandshakePayload(String version, String sessionToken, boolean resumed) {
+        this(version, sessionToken, resumed, ConnectionRole.PLAYER);
+    }
+
+    public HandshakePayload(String version, String sessionToken, boolean resumed, ConnectionRole role) {
+        this.version = version == null ? "" : version;
+        this.sessionToken = sessionToken == null ? "" : sessionToken;
+        this.resumed = resumed;
+        this.role = role == null ? ConnectionRole.PLAYER : role;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getSessionToken() {
+        return sessionToken;
+    }
+
+    public boolean hasSessionToken() {
+        return !sessionToken.isEmpty();
+    }
+
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    public ConnectionRole getRole() {
+        return role;
+    }
+
+    public static String encode(HandshakePayload payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("payload must not be null");
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("version=").append(payload.version);
+        if (!payload.sessionToken.isEmpty()) {
+            sb.append('\n').append("session=").append(payload.sessionToken);
+        }
+        if (payload.resumed) {
+            sb.append('\n').append("resumed=true");
+        }
+        if (payload.role != ConnectionRole.PLAYER) {
+            sb.append('\n').append("role=").append(payload.role.name());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 키-값 형식이 아닌 페이로드는 버전 문자열만 보낸 이전 클라이언트로 간주한다.
+     */
+    public static HandshakePayload decode(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            throw new IllegalArgumentException("empty handshake payload");
+        }
+        if (raw.indexOf('=') < 0) {
+            return new HandshakePayload(raw.trim(), "", false);
+        }
+        String version = null;
+        String session = "";
+        boolean resumed = false;
+        ConnectionRole role = ConnectionRole.PLAYER;
+        for (String line : raw.split("\n")) {
+            if (line == null || line.isEmpty()) {
+                continue;
+            }
+            int idx = line.indexOf('=');
+            if (idx <= 0) {
+                continue;
+            }
+            String key = line.substring(0, idx);
+            String value = line.substring(idx + 1).trim();
+            switch (key) {
+                case "version":
+                    version = value;
+                    break;
+                case "session":
+                    session = value;
+                    break;
+                case "resumed":
+                    resumed = Boolean.parseBoolean(value);
+                    break;
+                case "role":
+                    role = ConnectionRole.valueOf(value);
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (version == null || version.isEmpty()) {
+            throw new IllegalArgumentException("protocol version missing");
+        }
+        return new HandshakePayload(version, session, resumed, role);
+    }
+}
@@ -9,6 +9,8 @@ public class NetworkMessage {
 
     private final MessageType type;
     private final String payload;
+    // TCP 로 보낼 때의 바이트 수, 처음 요청될 때 한 번 계산 (같은 메시지를 여러 수신자에게 보내도 다시 세지 않는다)
+    private volatile long wireSize = -1;
 
     public NetworkMessage(MessageType type, String payload) {
         this.type = type;
@@ -23,6 +25,40 @@ public class NetworkMessage {
         return payload;
     }
 
+    /**
+     * TCP 로 보냈을 때의 바이트 수(타입|Base64 페이로드 + 개행).
+     * 실제 인코딩 없이 UTF-8 길이로부터 계산하고 메시지마다 한 번만 센다.
+     */
+    public long getWireSize() {
+        long size = wireSize;
+        if (size < 0) {
+            long payloadBytes = payload == null ? 0 : utf8Length(payload);
+            long encoded = ((payloadBytes + 2) / 3) * 4;
+            size = type.name().length() + 1 + encoded + 1;
+            wireSize = size; // 경쟁해도 같은 값을 쓴다
+        }
+        return size;
+    }
+
+    private static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
     public String serialize() {
         String encodedPayload = payload == null
             ? ""
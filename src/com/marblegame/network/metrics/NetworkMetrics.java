@@ -0,0 +1,406 @@
+package com.marblegame.network.metrics;
+
+import com.marblegame.network.message.MessageType;
+import com.marblegame.network.message.NetworkMessage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 호스트 네트워크 계층의 트래픽 지표 저장소.
+ * 메시지 종류별/클라이언트별 송수신 건수와 바이트, 전송 시간, 직렬화 시간, 큐 깊이, 전송 실패, 핸드셰이크 시간을 모은다.
+ * 모든 카운터는 LongAdder 이고 맵은 생성 시점에 키를 채워 두므로 기록 경로에서 잠금을 잡지 않는다.
+ * 바이트 수는 TCP 직렬화 형식(타입|Base64 페이로드 + 개행) 기준으로 계산하므로 루프백 전송에서도 같은 값을 보고한다.
+ */
+public final class NetworkMetrics implements NetworkMetricsMXBean {
+    /**
+     * 이 시스템 속성에 경로를 지정하면 호스트 종료 시 지표를 파일에 덧붙여 기록한다.
+     */
+    public static final String DUMP_PATH_PROPERTY = "marblegame.metrics.dump";
+
+    public enum QueueKind {
+        SESSION_BACKLOG,
+        SPECTATOR_EVENTS
+    }
+
+    /**
+     * 클라이언트 한 곳의 누적 트래픽.
+     */
+    public static final class ClientCounters {
+        private final LongAdder messagesIn = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder messagesOut = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder sendFailures = new LongAdder();
+
+        public long getMessagesIn() {
+            return messagesIn.sum();
+        }
+
+        public long getBytesIn() {
+            return bytesIn.sum();
+        }
+
+        public long getMessagesOut() {
+            return messagesOut.sum();
+        }
+
+        public long getBytesOut() {
+            return bytesOut.sum();
+        }
+
+        public long getSendFailures() {
+            return sendFailures.sum();
+        }
+    }
+
+    private final Map<MessageType, LongAdder> messagesIn = newAdderMap();
+    private final Map<MessageType, LongAdder> bytesIn = newAdderMap();
+    private final Map<MessageType, LongAdder> messagesOut = newAdderMap();
+    private final Map<MessageType, LongAdder> bytesOut = newAdderMap();
+    private final Map<MessageType, LatencyHistogram> sendTime = newHistogramMap();
+    private final Map<MessageType, LatencyHistogram> serializationTime = newHistogramMap();
+    private final Map<QueueKind, LongAccumulator> queueDepthMax = new EnumMap<>(QueueKind.class);
+    private final Map<String, ClientCounters> clients = new ConcurrentHashMap<>();
+    private final LatencyHistogram handshakeTime = new LatencyHistogram();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder malformedMessages = new LongAdder();
+    private final long createdAt = System.currentTimeMillis();
+
+    private ObjectName registeredName;
+
+    public NetworkMetrics() {
+        for (QueueKind kind : QueueKind.values()) {
+            queueDepthMax.put(kind, new LongAccumulator(Math::max, 0));
+        }
+    }
+
+    /**
+     * 클라이언트별 카운터를 가져온다. 처음 보는 클라이언트면 새로 만든다.
+     */
+    public ClientCounters client(String clientId) {
+        return clients.computeIfAbsent(clientId, id -> new ClientCounters());
+    }
+
+    public void removeClient(String clientId) {
+        if (clientId != null) {
+            clients.remove(clientId);
+        }
+    }
+
+    /**
+     * 수신한 메시지를 기록한다. 핸드셰이크 전이라 클라이언트를 특정할 수 없으면 client 에 null 을 넘긴다.
+     */
+    public void recordInbound(ClientCounters client, NetworkMessage message) {
+        long bytes = message.getWireSize();
+        messagesIn.get(message.getType()).increment();
+        bytesIn.get(message.getType()).add(bytes);
+        if (client != null) {
+            client.messagesIn.increment();
+            client.bytesIn.add(bytes);
+        }
+    }
+
+    /**
+     * 채널로 보낸 메시지를 기록한다. elapsedNanos 는 직렬화와 쓰기를 포함한 채널 전송 시간이다.
+     */
+    public void recordOutbound(ClientCounters client, NetworkMessage message, long elapsedNanos, boolean success) {
+        MessageType type = message.getType();
+        sendTime.get(type).record(elapsedNanos);
+        if (!success) {
+            sendFailures.increment();
+            if (client != null) {
+                client.sendFailures.increment();
+            }
+            return;
+        }
+        long bytes = message.getWireSize();
+        messagesOut.get(type).increment();
+        bytesOut.get(type).add(bytes);
+        if (client != null) {
+            client.messagesOut.increment();
+            client.bytesOut.add(bytes);
+        }
+    }
+
+    /**
+     * 게임 상태를 페이로드 문자열로 만드는 데 걸린 시간을 기록한다.
+     */
+    public void recordSerialization(MessageType type, long elapsedNanos) {
+        serializationTime.get(type).record(elapsedNanos);
+    }
+
+    public void recordHandshake(long elapsedNanos, boolean resumed) {
+        handshakeTime.record(elapsedNanos);
+        if (resumed) {
+            resumedHandshakes.increment();
+        }
+    }
+
+    public void recordMalformed() {
+        malformedMessages.increment();
+    }
+
+    public void recordQueueDepth(QueueKind kind, long depth) {
+        queueDepthMax.get(kind).accumulate(depth);
+    }
+
+    @Override
+    public long getMessagesIn() {
+        return total(messagesIn);
+    }
+
+    @Override
+    public long getMessagesOut() {
+        return total(messagesOut);
+    }
+
+    @Override
+    public long getBytesIn() {
+        return total(bytesIn);
+    }
+
+    @Override
+    public long getBytesOut() {
+        return total(bytesOut);
+    }
+
+    @Override
+    public long getSendFailures() {
+        return sendFailures.sum();
+    }
+
+    @Override
+    public long getMalformedMessages() {
+        return malformedMessages.sum();
+    }
+
+    @Override
+    public long getHandshakeCount() {
+        return handshakeTime.getCount();
+    }
+
+    @Override
+    public double getHandshakeP50Millis() {
+        return handshakeTime.getPercentile(50) / 1_000_000.0;
+    }
+
+    @Override
+    public double getHandshakeP99Millis() {
+        return handshakeTime.getPercentile(99) / 1_000_000.0;
+    }
+
+    @Override
+    public double getSendP99Millis() {
+        long worst = 0;
+        for (LatencyHistogram histogram : sendTime.values()) {
+            worst = Math.max(worst, histogram.getPercentile(99));
+        }
+        return worst / 1_000_000.0;
+    }
+
+    @Override
+    public long getSessionBacklogMax() {
+        return queueDepthMax.get(QueueKind.SESSION_BACKLOG).get();
+    }
+
+    @Override
+    public long getSpectatorQueueMax() {
+        return queueDepthMax.get(QueueKind.SPECTATOR_EVENTS).get();
+    }
+
+    @Override
+    public Map<String, Long> getMessagesInByType() {
+        return byType(messagesIn);
+    }
+
+    @Override
+    public Map<String, Long> getMessagesOutByType() {
+        return byType(messagesOut);
+    }
+
+    @Override
+    public Map<String, Long> getBytesOutByType() {
+        return byType(bytesOut);
+    }
+
+    @Override
+    public Map<String, Long> getBytesOutByClient() {
+        return byClient(ClientCounters::getBytesOut);
+    }
+
+    @Override
+    public Map<String, Long> getSendFailuresByClient() {
+        return byClient(ClientCounters::getSendFailures);
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        long uptimeMs = System.currentTimeMillis() - createdAt;
+        sb.append("==== 네트워크 지표 (").append(LocalDateTime.now()).append(", 수집 ")
+            .append(uptimeMs / 1000).append("초) ====\n");
+        sb.append(String.format("수신 %d건 / %dB, 송신 %d건 / %dB, 전송 실패 %d건, 잘못된 메시지 %d건%n",
+            getMessagesIn(), getBytesIn(), getMessagesOut(), getBytesOut(),
+            getSendFailures(), getMalformedMessages()));
+        sb.append("핸드셰이크: ").append(handshakeTime.summarizeNanos())
+            .append(" (세션 복구 ").append(resumedHandshakes.sum()).append("건)\n");
+        sb.append(String.format("큐 최대 깊이: 세션 백로그 %d, 관전자 이벤트 %d%n",
+            getSessionBacklogMax(), getSpectatorQueueMax()));
+        sb.append("-- 메시지 종류별 --\n");
+        for (MessageType type : MessageType.values()) {
+            long in = messagesIn.get(type).sum();
+            long out = messagesOut.get(type).sum();
+            LatencyHistogram send = sendTime.get(type);
+            LatencyHistogram serialization = serializationTime.get(type);
+            if (in == 0 && out == 0 && send.getCount() == 0 && serialization.getCount() == 0) {
+                continue;
+            }
+            sb.append(String.format("%-16s 수신 %d건 / %dB, 송신 %d건 / %dB%n",
+                type.name(), in, bytesIn.get(type).sum(), out, bytesOut.get(type).sum()));
+            if (send.getCount() > 0) {
+                sb.append("                 전송: ").append(send.summarizeNanos()).append('\n');
+            }
+            if (serialization.getCount() > 0) {
+                sb.append("                 직렬화: ").append(serialization.summarizeNanos()).append('\n');
+            }
+        }
+        sb.append("-- 클라이언트별 --\n");
+        for (Map.Entry<String, ClientCounters> entry : new TreeMap<>(clients).entrySet()) {
+            ClientCounters c = entry.getValue();
+            sb.append(String.format("%s 수신 %d건 / %dB, 송신 %d건 / %dB, 전송 실패 %d건%n",
+                entry.getKey(), c.getMessagesIn(), c.getBytesIn(),
+                c.getMessagesOut(), c.getBytesOut(), c.getSendFailures()));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (MessageType type : MessageType.values()) {
+            messagesIn.get(type).reset();
+            bytesIn.get(type).reset();
+            messagesOut.get(type).reset();
+            bytesOut.get(type).reset();
+            sendTime.get(type).reset();
+            serializationTime.get(type).reset();
+        }
+        for (LongAccumulator depth : queueDepthMax.values()) {
+            depth.reset();
+        }
+        clients.clear();
+        handshakeTime.reset();
+        resumedHandshakes.reset();
+        sendFailures.reset();
+        malformedMessages.reset();
+    }
+
+    /**
+     * 플랫폼 MBeanServer 에 com.marblegame:type=NetworkMetrics,name=&lt;name&gt; 으로 등록한다.
+     * 같은 이름이 이미 있으면 경고만 남기고 넘어간다.
+     */
+    public synchronized void registerMBean(String name) {
+        if (registeredName != null) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName("com.marblegame:type=NetworkMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+        } catch (JMException ex) {
+            System.err.println("[Host] 네트워크 지표 JMX 등록 실패: " + ex.getMessage());
+        }
+    }
+
+    public synchronized void unregisterMBean() {
+        if (registeredName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(registeredName);
+        } catch (JMException ex) {
+            System.err.println("[Host] 네트워크 지표 JMX 해제 실패: " + ex.getMessage());
+        }
+        registeredName = null;
+    }
+
+    /**
+     * {@link #DUMP_PATH_PROPERTY} 가 지정되어 있으면 지표를 해당 파일에 덧붙인다.
+     */
+    public void dumpToConfiguredFile() {
+        String path = System.getProperty(DUMP_PATH_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return;
+        }
+        Path target = Paths.get(path.trim());
+        try {
+            Files.write(
+                target,
+                dump().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+            System.out.println("[Host] 네트워크 지표를 기록했습니다: " + target.toAbsolutePath());
+        } catch (IOException ex) {
+            System.err.println("[Host] 네트워크 지표 기록 실패: " + ex.getMessage());
+        }
+    }
+
+    private Map<String, Long> byClient(Function<ClientCounters, Long> getter) {
+        Map<String, Long> result = new TreeMap<>();
+        clients.forEach((id, counters) -> result.put(id, getter.apply(counters)));
+        return result;
+    }
+
+    private static Map<String, Long> byType(Map<MessageType, LongAdder> source) {
+        Map<String, Long> result = new TreeMap<>();
+        source.forEach((type, adder) -> {
+            long value = adder.sum();
+            if (value > 0) {
+                result.put(type.name(), value);
+            }
+        });
+        return result;
+    }
+
+    private static long total(Map<MessageType, LongAdder> source) {
+        long sum = 0;
+        for (LongAdder adder : source.values()) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    private static Map<MessageType, LongAdder> newAdderMap() {
+        Map<MessageType, LongAdder> map = new EnumMap<>(MessageType.class);
+        for (MessageType type : MessageType.values()) {
+            map.put(type, new LongAdder());
+        }
+        return map;
+    }
+
+    private static Map<MessageType, LatencyHistogram> newHistogramMap() {
+        Map<MessageType, LatencyHistogram> map = new EnumMap<>(MessageType.class);
+        for (MessageType type : MessageType.values()) {
+            map.put(type, new LatencyHistogram());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,53 @@
+package com.marblegame.network.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX(jconsole, jcmd 등)에서 조회하는 호스트 네트워크 지표.
+ * 시간 값은 모두 밀리초 단위다.
+ */
+public interface NetworkMetricsMXBean {
+    long getMessagesIn();
+
+    long getMessagesOut();
+
+    long getBytesIn();
+
+    long getBytesOut();
+
+    long getSendFailures();
+
+    long getMalformedMessages();
+
+    long getHandshakeCount();
+
+    double getHandshakeP50Millis();
+
+    double getHandshakeP99Millis();
+
+    /**
+     * 메시지 종류별 채널 전송 시간 p99 중 가장 큰 값.
+     */
+    double getSendP99Millis();
+
+    long getSessionBacklogMax();
+
+    long getSpectatorQueueMax();
+
+    Map<String, Long> getMessagesInByType();
+
+    Map<String, Long> getMessagesOutByType();
+
+    Map<String, Long> getBytesOutByType();
+
+    Map<String, Long> getBytesOutByClient();
+
+    Map<String, Long> getSendFailuresByClient();
+
+    /**
+     * 전체 지표를 사람이 읽는 텍스트로 만든다.
+     */
+    String dump();
+
+    void reset();
+}
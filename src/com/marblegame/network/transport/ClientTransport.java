@@ -0,0 +1,15 @@
+package com.marblegame.network.transport;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트가 호스트로 새 채널을 여는 수단. 세션 복구 시 여러 번 호출될 수 있다.
+ */
+public interface ClientTransport {
+    MessageChannel connect() throws IOException;
+
+    /**
+     * 로그에 표시할 접속 대상 설명 (예: "127.0.0.1:5000").
+     */
+    String describe();
+}
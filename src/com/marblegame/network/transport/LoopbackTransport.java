@@ -0,0 +1,179 @@
+package com.marblegame.network.transport;
+
+import com.marblegame.network.message.NetworkMessage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 소켓 없이 같은 JVM 안에서 호스트와 클라이언트를 잇는 전송 계층.
+ * 메시지를 직렬화하지 않고 {@link NetworkMessage} 객체를 그대로 큐로 넘기므로
+ * 통합 테스트나 프로토콜 벤치마크를 결정적으로, 빠르게 돌릴 수 있다.
+ *
+ * <pre>
+ * LoopbackTransport loopback = new LoopbackTransport();
+ * HostNetworkService host = new HostNetworkService(loopback.server());
+ * ClientNetworkService client = new ClientNetworkService(loopback.client());
+ * </pre>
+ */
+public class LoopbackTransport {
+    private static final Object END_OF_STREAM = new Object();
+    private static final Object SERVER_CLOSED = new Object();
+
+    private final BlockingQueue<Object> pendingAccepts = new LinkedBlockingQueue<>();
+    private final AtomicInteger connectionSeq = new AtomicInteger();
+    private final String name;
+    private volatile boolean bound = false;
+
+    public LoopbackTransport() {
+        this("loopback");
+    }
+
+    public LoopbackTransport(String name) {
+        this.name = name == null || name.isEmpty() ? "loopback" : name;
+    }
+
+    public ServerTransport server() {
+        return new LoopbackServer();
+    }
+
+    public ClientTransport client() {
+        return new LoopbackClient();
+    }
+
+    private final class LoopbackServer implements ServerTransport {
+        @Override
+        public void bind() throws IOException {
+            if (bound) {
+                throw new IOException(name + " 은(는) 이미 사용 중입니다.");
+            }
+            pendingAccepts.clear();
+            bound = true;
+        }
+
+        @Override
+        public MessageChannel accept() throws IOException {
+            Object next;
+            try {
+                next = pendingAccepts.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("loopback accept interrupted");
+            }
+            if (next == SERVER_CLOSED) {
+                pendingAccepts.offer(SERVER_CLOSED);
+                throw new IOException(name + " 이(가) 닫혔습니다.");
+            }
+            return (MessageChannel) next;
+        }
+
+        @Override
+        public void close() {
+            bound = false;
+            pendingAccepts.offer(SERVER_CLOSED);
+        }
+
+        @Override
+        public String describe() {
+            return name;
+        }
+    }
+
+    private final class LoopbackClient implements ClientTransport {
+        @Override
+        public MessageChannel connect() throws IOException {
+            if (!bound) {
+                throw new IOException(name + " 에 연결할 수 없습니다: 호스트가 실행 중이 아닙니다.");
+            }
+            int seq = connectionSeq.incrementAndGet();
+            LoopbackChannel clientSide = new LoopbackChannel(name + "-host");
+            LoopbackChannel hostSide = new LoopbackChannel(name + "-client-" + seq);
+            clientSide.peer = hostSide;
+            hostSide.peer = clientSide;
+            pendingAccepts.offer(hostSide);
+            return clientSide;
+        }
+
+        @Override
+        public String describe() {
+            return name;
+        }
+    }
+
+    private static final class LoopbackChannel implements MessageChannel {
+        private final BlockingQueue<Object> inbound = new LinkedBlockingQueue<>();
+        private final String remoteAddress;
+        private volatile LoopbackChannel peer;
+        private volatile boolean closed = false;
+        private volatile int readTimeoutMillis = 0;
+
+        LoopbackChannel(String remoteAddress) {
+            this.remoteAddress = remoteAddress;
+        }
+
+        @Override
+        public NetworkMessage receive() throws IOException {
+            Object next;
+            try {
+                int timeout = readTimeoutMillis;
+                if (timeout > 0) {
+                    next = inbound.poll(timeout, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        throw new SocketTimeoutException("loopback read timed out");
+                    }
+                } else {
+                    next = inbound.take();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("loopback read interrupted");
+            }
+            if (next == END_OF_STREAM) {
+                inbound.offer(END_OF_STREAM);
+                return null;
+            }
+            return (NetworkMessage) next;
+        }
+
+        @Override
+        public boolean send(NetworkMessage message) {
+            LoopbackChannel target = peer;
+            if (closed || target == null || target.closed || message == null) {
+                return false;
+            }
+            return target.inbound.offer(message);
+        }
+
+        @Override
+        public void setReadTimeout(int timeoutMillis) {
+            this.readTimeoutMillis = Math.max(0, timeoutMillis);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public String getRemoteAddress() {
+            return remoteAddress;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            inbound.offer(END_OF_STREAM);
+            LoopbackChannel target = peer;
+            if (target != null) {
+                target.inbound.offer(END_OF_STREAM);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.marblegame.network.transport;
+
+import com.marblegame.network.message.NetworkMessage;
+import java.io.IOException;
+
+/**
+ * 호스트와 클라이언트 사이의 양방향 메시지 채널.
+ * 구현체는 TCP 소켓이거나 같은 JVM 안의 큐일 수 있으며, 상위 계층은 어느 쪽인지 알 필요가 없다.
+ */
+public interface MessageChannel {
+    /**
+     * 다음 메시지를 읽는다. 상대가 채널을 닫으면 null 을 반환한다.
+     * 읽기 제한 시간이 지나면 {@link java.net.SocketTimeoutException} 을,
+     * 해석할 수 없는 메시지를 받으면 {@link IllegalArgumentException} 을 던진다.
+     */
+    NetworkMessage receive() throws IOException;
+
+    /**
+     * 메시지를 보낸다. 채널이 끊겨 전송에 실패하면 false 를 반환한다.
+     */
+    boolean send(NetworkMessage message);
+
+    void setReadTimeout(int timeoutMillis) throws IOException;
+
+    boolean isOpen();
+
+    String getRemoteAddress();
+
+    void close();
+}
@@ -0,0 +1,22 @@
+package com.marblegame.network.transport;
+
+import java.io.IOException;
+
+/**
+ * 호스트가 클라이언트 연결을 받아들이는 수단.
+ */
+public interface ServerTransport {
+    void bind() throws IOException;
+
+    /**
+     * 새 연결이 들어올 때까지 대기한다. 전송 계층이 닫히면 IOException 을 던진다.
+     */
+    MessageChannel accept() throws IOException;
+
+    void close();
+
+    /**
+     * 로그에 표시할 수신 위치 설명 (예: "포트 5000").
+     */
+    String describe();
+}
@@ -0,0 +1,40 @@
+package com.marblegame.network.transport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * 호스트 주소로 TCP 소켓을 여는 기본 전송 계층.
+ */
+public class TcpClientTransport implements ClientTransport {
+    private static final int CONNECT_TIMEOUT_MS = 3000;
+
+    private final String host;
+    private final int port;
+
+    public TcpClientTransport(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public MessageChannel connect() throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+            return new TcpMessageChannel(socket);
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String describe() {
+        return host + ":" + port;
+    }
+}
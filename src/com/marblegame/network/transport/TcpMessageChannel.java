@@ -0,0 +1,73 @@
+package com.marblegame.network.transport;
+
+import com.marblegame.network.message.NetworkMessage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 줄에 메시지 하나를 쓰는 TCP 소켓 채널.
+ */
+public class TcpMessageChannel implements MessageChannel {
+    private final Socket socket;
+    private final PrintWriter writer;
+    private final BufferedReader reader;
+    private final String remoteAddress;
+
+    public TcpMessageChannel(Socket socket) throws IOException {
+        this.socket = socket;
+        this.writer = new PrintWriter(
+            new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8),
+            true
+        );
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.remoteAddress = String.valueOf(socket.getRemoteSocketAddress());
+    }
+
+    @Override
+    public NetworkMessage receive() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        try {
+            return NetworkMessage.deserialize(line);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(ex.getMessage() + " raw=" + line, ex);
+        }
+    }
+
+    @Override
+    public synchronized boolean send(NetworkMessage message) {
+        writer.println(message.serialize());
+        writer.flush();
+        return !writer.checkError();
+    }
+
+    @Override
+    public void setReadTimeout(int timeoutMillis) throws IOException {
+        socket.setSoTimeout(timeoutMillis);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return socket.isConnected() && !socket.isClosed();
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.marblegame.network.transport;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * 지정한 포트에서 TCP 연결을 받는 기본 전송 계층.
+ */
+public class TcpServerTransport implements ServerTransport {
+    private final int port;
+    private volatile ServerSocket serverSocket;
+
+    public TcpServerTransport(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public void bind() throws IOException {
+        serverSocket = new ServerSocket(port);
+    }
+
+    @Override
+    public MessageChannel accept() throws IOException {
+        ServerSocket current = serverSocket;
+        if (current == null) {
+            throw new IOException("server transport is not bound");
+        }
+        Socket socket = current.accept();
+        try {
+            return new TcpMessageChannel(socket);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        ServerSocket current = serverSocket;
+        if (current == null || current.isClosed()) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "포트 " + port;
+    }
+
+    public int getPort() {
+        return port;
+    }
+}
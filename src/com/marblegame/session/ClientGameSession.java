@@ -1,21 +1,25 @@
 package com.marblegame.session;
 
 import com.marblegame.network.ClientNetworkService;
+import com.marblegame.network.message.ConnectionRole;
+import com.marblegame.network.transport.ClientTransport;
+import com.marblegame.network.transport.TcpClientTransport;
 import com.marblegame.network.message.MessageType;
 import com.marblegame.network.message.NetworkMessage;
 import com.marblegame.core.RemoteGameUI;
 import com.marblegame.ui.ClientLobbyFrame;
+import com.marblegame.ui.StartupMetrics;
 import java.io.IOException;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 /**
  * 클라이언트 모드 세션. 호스트에 접속하고 대기 화면을 띄운다.
- * 실제 게임 플레이 UI는 추후 추가된다.
+ * 관전자로 접속하면 로비 화면 없이 읽기 전용 게임 화면만 띄운다.
  */
 public class ClientGameSession implements GameSession {
-    private final String host;
-    private final int port;
+    private final ClientTransport transport;
+    private final ConnectionRole role;
 
     private ClientNetworkService clientService;
     private RemoteGameUI remoteUI;
@@ -23,15 +27,27 @@ public class ClientGameSession implements GameSession {
     private volatile boolean disconnecting = false;
 
     public ClientGameSession(String host, int port) {
-        this.host = host;
-        this.port = port;
+        this(host, port, ConnectionRole.PLAYER);
+    }
+
+    public ClientGameSession(String host, int port, ConnectionRole role) {
+        this(new TcpClientTransport(host, port), role);
+    }
+
+    /**
+     * 지정한 전송 계층(예: 인메모리 루프백)으로 호스트에 접속한다.
+     */
+    public ClientGameSession(ClientTransport transport, ConnectionRole role) {
+        this.transport = transport;
+        this.role = role == null ? ConnectionRole.PLAYER : role;
     }
 
     @Override
     public void start() {
         disconnecting = false;
-        clientService = new ClientNetworkService(host, port);
-        lobbyFrame = new ClientLobbyFrame(clientService);
+        clientService = new ClientNetworkService(transport, role);
+        boolean spectator = role == ConnectionRole.SPECTATOR;
+        lobbyFrame = spectator ? null : new ClientLobbyFrame(clientService);
         try {
             clientService.connect();
         } catch (IOException ex) {
@@ -45,6 +61,11 @@ public class ClientGameSession implements GameSession {
             return;
         }
 
+        if (spectator) {
+            remoteUI = new RemoteGameUI(clientService, this::handleClientDisconnect);
+            return;
+        }
+
         if (!clientService.send(new NetworkMessage(MessageType.LOG_ENTRY, "클라이언트가 접속했습니다."))) {
             disposeLobbyFrameAsync();
             JOptionPane.showMessageDialog(
@@ -58,7 +79,10 @@ public class ClientGameSession implements GameSession {
         }
 
         remoteUI = new RemoteGameUI(clientService, this::handleClientDisconnect);
-        SwingUtilities.invokeLater(() -> lobbyFrame.setVisible(true));
+        SwingUtilities.invokeLater(() -> {
+            StartupMetrics.markOnFirstShow(lobbyFrame, StartupMetrics.LOBBY);
+            lobbyFrame.setVisible(true);
+        });
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.marblegame.session;
 
 import com.marblegame.core.GameUI;
 import com.marblegame.network.HostNetworkService;
+import com.marblegame.network.transport.ServerTransport;
 import java.io.IOException;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
@@ -13,6 +14,7 @@ public class HostGameSession implements GameSession {
     private final int numPlayers;
     private final int initialCash;
     private final int port;
+    private final ServerTransport transport;
 
     private HostNetworkService networkService;
     private GameUI gameUI;
@@ -21,12 +23,25 @@ public class HostGameSession implements GameSession {
         this.numPlayers = numPlayers;
         this.initialCash = initialCash;
         this.port = port;
+        this.transport = null;
+    }
+
+    /**
+     * 지정한 전송 계층(예: 인메모리 루프백)으로 호스트를 띄운다.
+     */
+    public HostGameSession(int numPlayers, int initialCash, ServerTransport transport) {
+        this.numPlayers = numPlayers;
+        this.initialCash = initialCash;
+        this.port = -1;
+        this.transport = transport;
     }
 
     @Override
     public void start() {
         try {
-            networkService = new HostNetworkService(port);
+            networkService = transport != null
+                ? new HostNetworkService(transport)
+                : new HostNetworkService(port);
             networkService.start();
         } catch (IOException ex) {
             JOptionPane.showMessageDialog(
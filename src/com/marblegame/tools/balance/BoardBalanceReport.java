@@ -0,0 +1,166 @@
+package com.marblegame.tools.balance;
+
+import com.marblegame.core.RuleEngine;
+import com.marblegame.core.RuleProfile;
+import com.marblegame.core.analysis.BoardHeatmap;
+import com.marblegame.core.analysis.BoardHeatmapSolver;
+import com.marblegame.core.analysis.LandingProbabilityEngine;
+import com.marblegame.model.Board;
+import com.marblegame.model.City;
+import com.marblegame.model.DiceMode;
+import com.marblegame.model.Tile;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보드 히트맵 기반 도시 가격 밸런스 리포트.
+ * 칸별 도착 확률과 레벨별 기대 통행료 수입, 구매가 회수까지의 라운드 수를 출력해
+ * 보드 정의의 가격/통행료 조정에 참고한다.
+ * --rules 로 규칙 프로필 파일을 주면 그 경제 규칙으로 계산해 프로필끼리 비교할 수 있다.
+ * --delete 로 도시를 지정하면 페이즈 딜리트 후의 분포를 이전 해에서 이어 풀어 함께 출력한다.
+ *
+ * <pre>
+ * java -cp out com.marblegame.tools.balance.BoardBalanceReport \
+ *     --opponents 3 --level 1 --mode NORMAL --bail 0.0 --delete 1,3 --rules rules.json
+ * </pre>
+ */
+public final class BoardBalanceReport {
+    private int opponents = 3;
+    private int level = 1;
+    private DiceMode mode = DiceMode.NORMAL;
+    private double bailProbability = 0.0;
+    private final List<Integer> deleteTiles = new ArrayList<>();
+    private RuleProfile rules = RuleProfile.active();
+
+    private BoardBalanceReport() {
+    }
+
+    public static void main(String[] args) {
+        BoardBalanceReport report = new BoardBalanceReport();
+        try {
+            report.parseArgs(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        report.run();
+    }
+
+    private static void printUsage() {
+        System.err.println("사용법: BoardBalanceReport [--opponents N] [--level 1~4] [--mode NORMAL|ODD|EVEN]"
+            + " [--bail 0~1] [--delete 칸,칸,...] [--rules 규칙파일]");
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--help".equals(arg)) {
+                printUsage();
+                System.exit(0);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("값이 없는 옵션: " + arg);
+            }
+            String value = args[++i];
+            try {
+                switch (arg) {
+                    case "--opponents":
+                        opponents = Integer.parseInt(value);
+                        if (opponents <= 0) {
+                            throw new IllegalArgumentException(arg + " 값은 1 이상이어야 합니다: " + value);
+                        }
+                        break;
+                    case "--level":
+                        level = Integer.parseInt(value);
+                        if (level < 1 || level > 4) {
+                            throw new IllegalArgumentException(arg + " 값은 1~4 여야 합니다: " + value);
+                        }
+                        break;
+                    case "--mode":
+                        mode = DiceMode.valueOf(value.toUpperCase());
+                        break;
+                    case "--bail":
+                        bailProbability = Double.parseDouble(value);
+                        if (bailProbability < 0.0 || bailProbability > 1.0) {
+                            throw new IllegalArgumentException(arg + " 값은 0~1 이어야 합니다: " + value);
+                        }
+                        break;
+                    case "--delete":
+                        for (String token : value.split(",")) {
+                            deleteTiles.add(Integer.parseInt(token.trim()));
+                        }
+                        break;
+                    case "--rules":
+                        try {
+                            rules = RuleProfile.load(Paths.get(value));
+                        } catch (IOException ex) {
+                            throw new IllegalArgumentException(arg + " 파일을 읽지 못했습니다: " + ex.getMessage());
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+                }
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(arg + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+    }
+
+    private void run() {
+        Board board = new Board();
+        RuleEngine ruleEngine = new RuleEngine(board, rules);
+        BoardHeatmapSolver solver = new BoardHeatmapSolver(board, ruleEngine.getIslandMaxTurns(),
+            LandingProbabilityEngine.UNIFORM_SECTIONS, mode, bailProbability);
+
+        long started = System.nanoTime();
+        BoardHeatmap heatmap = solver.solve();
+        printReport("전체 보드", board, ruleEngine, heatmap, System.nanoTime() - started);
+
+        if (deleteTiles.isEmpty()) {
+            return;
+        }
+        for (int tileIndex : deleteTiles) {
+            if (tileIndex < 0 || tileIndex >= board.getSize() || !(board.getTile(tileIndex) instanceof City)) {
+                System.err.println("도시가 아닌 칸은 삭제할 수 없습니다: " + tileIndex);
+                continue;
+            }
+            ruleEngine.deleteCity((City) board.getTile(tileIndex));
+        }
+        started = System.nanoTime();
+        heatmap = solver.solve();
+        printReport("페이즈 딜리트 후 " + deleteTiles, board, ruleEngine, heatmap, System.nanoTime() - started);
+    }
+
+    private void printReport(String title, Board board, RuleEngine ruleEngine, BoardHeatmap heatmap, long elapsedNanos) {
+        System.out.println();
+        System.out.printf("==== 보드 히트맵: %s ====%n", title);
+        System.out.printf("모드 %s, 상대 %d명, 레벨 %d 가정, 보석금 확률 %.2f, 규칙 %s%n", mode, opponents, level,
+            bailProbability, ruleEngine.getRuleProfile().getName());
+        System.out.printf("반복 %d회%s, %.2fms%n", heatmap.getIterations(),
+            heatmap.isWarmStarted() ? " (이전 해에서 시작)" : "", elapsedNanos / 1_000_000.0);
+        System.out.printf("%-4s %-10s %-12s %10s %8s %8s %10s %12s %10s%n",
+            "칸", "이름", "색상", "가격", "점유%", "도착%", "통행료", "라운드 수입", "회수 라운드");
+        for (int i = 0; i < board.getSize(); i++) {
+            Tile tile = board.getTile(i);
+            if (board.isDeletedTile(i)) {
+                continue;
+            }
+            double occupancy = heatmap.getOccupancy(i) * 100.0;
+            double landing = heatmap.getLandingRate(i) * 100.0;
+            if (!(tile instanceof City)) {
+                System.out.printf("%-4d %-10s %-12s %10s %8.2f %8.2f%n", i, tile.name, "-", "-", occupancy, landing);
+                continue;
+            }
+            City city = (City) tile;
+            int toll = ruleEngine.getTollForLevel(city, level, false);
+            double income = heatmap.getExpectedTollPerRound(ruleEngine, city, level, false, opponents);
+            String payback = income > 0.0 ? String.format("%.1f", city.price / income) : "-";
+            System.out.printf("%-4d %-10s %-12s %,10d %8.2f %8.2f %,10d %,12.0f %10s%n",
+                i, city.name, city.colorGroup, city.price, occupancy, landing, toll, income, payback);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.marblegame.tools.loadtest;
+
+import com.marblegame.core.input.PlayerInputEvent;
+import com.marblegame.core.input.PlayerInputType;
+import com.marblegame.network.ClientNetworkService;
+import com.marblegame.network.message.DialogCommandPayload;
+import com.marblegame.network.message.DialogResponsePayload;
+import com.marblegame.network.message.DialogType;
+import com.marblegame.network.message.MessageType;
+import com.marblegame.network.message.NetworkMessage;
+import com.marblegame.network.message.ReadyStatusPayload;
+import com.marblegame.network.message.RemoteActionCodec;
+import com.marblegame.network.message.SlotAssignmentPayload;
+import com.marblegame.network.message.SlotRequestPayload;
+import com.marblegame.network.metrics.LatencyHistogram;
+import com.marblegame.network.snapshot.GameSnapshot;
+import com.marblegame.network.snapshot.GameSnapshotSerializer;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 화면 없이 ClientNetworkService 로 접속해 무작위로 합법적인 입력을 보내는 봇 클라이언트.
+ * 플레이어 봇은 슬롯을 요청하고 준비 완료를 보낸 뒤, 자기 차례에 활성화된 버튼 중 하나를 고른다.
+ * 관전자 봇은 스냅샷만 받아 전달 지연을 측정한다.
+ */
+final class LoadTestBot {
+    private final int slotIndex;
+    private final ClientNetworkService service;
+    private final LoadTestHost host;
+    private final LatencyHistogram fanoutLatency;
+    private final Random random;
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    private volatile long connectNanos = -1;
+    private volatile long slotAssignedNanos = -1;
+    private volatile boolean slotAssigned;
+    private long connectStartedAt;
+    private long lastActedStateKey = Long.MIN_VALUE;
+
+    LoadTestBot(int slotIndex, ClientNetworkService service, LoadTestHost host,
+                LatencyHistogram fanoutLatency, long seed) {
+        this.slotIndex = slotIndex;
+        this.service = service;
+        this.host = host;
+        this.fanoutLatency = fanoutLatency;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 핸드셰이크까지 마친다. 플레이어 봇은 곧바로 슬롯을 요청한다.
+     */
+    void start() throws IOException {
+        service.addMessageListener(this::handleMessage);
+        connectStartedAt = System.nanoTime();
+        service.connect();
+        connectNanos = System.nanoTime() - connectStartedAt;
+        if (!service.isSpectator()) {
+            send(new NetworkMessage(
+                MessageType.SLOT_REQUEST,
+                SlotRequestPayload.encode(new SlotRequestPayload(slotIndex, "bot-" + (slotIndex + 1)))
+            ));
+        }
+    }
+
+    void stop() {
+        service.disconnect();
+    }
+
+    boolean isSpectator() {
+        return service.isSpectator();
+    }
+
+    boolean isSlotAssigned() {
+        return slotAssigned;
+    }
+
+    long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * 접속 시작부터 슬롯 배정 완료까지 걸린 시간. 관전자이거나 아직 배정 전이면 -1.
+     */
+    long getSlotAssignedNanos() {
+        return slotAssignedNanos;
+    }
+
+    long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    long getMessagesReceived() {
+        return messagesReceived.get();
+    }
+
+    private void handleMessage(NetworkMessage message) {
+        messagesReceived.incrementAndGet();
+        bytesReceived.addAndGet(message.getWireSize());
+        try {
+            switch (message.getType()) {
+                case SLOT_ASSIGNMENT:
+                    handleSlotAssignment(SlotAssignmentPayload.decode(message.getPayload()));
+                    break;
+                case STATE_SNAPSHOT:
+                    handleSnapshot(GameSnapshotSerializer.deserialize(message.getPayload()));
+                    break;
+                case DIALOG_COMMAND:
+                    handleDialogCommand(DialogCommandPayload.decode(message.getPayload()));
+                    break;
+                default:
+                    break;
+            }
+        } catch (RuntimeException ex) {
+            System.err.println("[Client] 봇 " + (slotIndex + 1) + " 메시지 처리 실패: " + ex.getMessage());
+        }
+    }
+
+    private void handleSlotAssignment(SlotAssignmentPayload payload) {
+        if (payload.getStatus() != SlotAssignmentPayload.Status.ASSIGNED || slotAssigned) {
+            return;
+        }
+        slotAssigned = true;
+        slotAssignedNanos = System.nanoTime() - connectStartedAt;
+        send(new NetworkMessage(MessageType.READY_STATUS, ReadyStatusPayload.encode(new ReadyStatusPayload(true))));
+    }
+
+    private void handleSnapshot(GameSnapshot snapshot) {
+        Long sentAt = host == null ? null : host.getSnapshotSentAt(snapshot.turnNumber);
+        if (sentAt != null) {
+            fanoutLatency.record(System.nanoTime() - sentAt);
+        }
+        if (service.isSpectator() || snapshot.currentPlayerIndex != slotIndex) {
+            return;
+        }
+        // 같은 상태의 스냅샷을 여러 번 받아도 한 번만 행동한다.
+        long stateKey = ((long) snapshot.diceRollSequence << 8)
+            | (snapshot.buttons.roll ? 1 : 0)
+            | (snapshot.buttons.purchase ? 2 : 0)
+            | (snapshot.buttons.skip ? 4 : 0);
+        if (stateKey == lastActedStateKey) {
+            return;
+        }
+        if (snapshot.buttons.roll) {
+            lastActedStateKey = stateKey;
+            sendAction(PlayerInputType.GAUGE_PRESS);
+            sendAction(PlayerInputType.GAUGE_RELEASE);
+        } else if (snapshot.buttons.purchase || snapshot.buttons.skip) {
+            lastActedStateKey = stateKey;
+            boolean buy = snapshot.buttons.purchase && (!snapshot.buttons.skip || random.nextBoolean());
+            sendAction(buy ? PlayerInputType.PURCHASE_CITY : PlayerInputType.SKIP_TURN);
+        }
+    }
+
+    private void handleDialogCommand(DialogCommandPayload command) {
+        Map<String, String> attrs = new LinkedHashMap<>();
+        String result;
+        if (command.getDialogType() == DialogType.LEVEL_SELECTION && random.nextInt(4) != 0) {
+            result = "LEVEL_SELECTED";
+            attrs.put("selectedLevel", Integer.toString(1 + random.nextInt(3)));
+        } else if (command.getDialogType() == DialogType.LEVEL_SELECTION) {
+            result = "CANCEL";
+        } else {
+            result = "ACK";
+        }
+        DialogResponsePayload response = new DialogResponsePayload(
+            command.getRequestId(),
+            command.getDialogType(),
+            command.getPlayerIndex(),
+            result,
+            attrs
+        );
+        send(new NetworkMessage(MessageType.DIALOG_RESPONSE, DialogResponsePayload.encode(response)));
+    }
+
+    private void sendAction(PlayerInputType type) {
+        send(RemoteActionCodec.encode(PlayerInputEvent.of(type)));
+    }
+
+    private void send(NetworkMessage message) {
+        if (service.send(message)) {
+            bytesSent.addAndGet(message.getWireSize());
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.marblegame.tools.loadtest;
+
+import com.marblegame.core.RuleEngine;
+import com.marblegame.core.input.PlayerInputEvent;
+import com.marblegame.model.Board;
+import com.marblegame.model.City;
+import com.marblegame.model.Player;
+import com.marblegame.model.Tile;
+import com.marblegame.model.TouristSpot;
+import com.marblegame.network.HostNetworkService;
+import com.marblegame.network.lobby.LobbyState;
+import com.marblegame.network.lobby.LobbyStateCodec;
+import com.marblegame.network.message.DialogCommandPayload;
+import com.marblegame.network.message.DialogResponsePayload;
+import com.marblegame.network.message.DialogType;
+import com.marblegame.network.message.MessageType;
+import com.marblegame.network.message.NetworkMessage;
+import com.marblegame.network.message.ReadyStatusPayload;
+import com.marblegame.network.message.RemoteActionCodec;
+import com.marblegame.network.message.SlotAssignmentPayload;
+import com.marblegame.network.message.SlotRequestPayload;
+import com.marblegame.network.metrics.LatencyHistogram;
+import com.marblegame.network.snapshot.GameSnapshot;
+import com.marblegame.network.snapshot.GameSnapshotSerializer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameUI 없이 HostNetworkService 위에서 돌아가는 단순화된 호스트.
+ * 네트워크 경로(HostNetworkService, 로비, 스냅샷 직렬화, 다이얼로그 왕복)는 실제 것을 그대로 쓰고,
+ * 보드 상태 변경은 실제 RuleEngine(이동, 월급, 레벨 구매)을 거친다.
+ *
+ * 한계: GameUI 는 JFrame 을 만들어야 해서 화면 없는 환경에서 띄울 수 없으므로,
+ * 턴 진행은 GameUI 대신 이 클래스가 흉내 낸다(주사위 이동, 도시 구매, 턴 넘김만 처리하고
+ * 통행료/인수/관광지/찬스/무인도/게이지 애니메이션은 없다). 따라서 측정값은 네트워크 계층과
+ * 스냅샷 크기에 대한 것이며, GameUI 의 EDT 처리 시간이나 실제 게임의 다이얼로그 빈도는 반영하지 않는다.
+ * 스냅샷의 turnNumber 는 브로드캐스트 순번으로 사용해 클라이언트가 전달 지연을 계산할 수 있게 한다.
+ */
+final class LoadTestHost {
+    private final HostNetworkService service;
+    private final LobbyState lobbyState;
+    private final Board board = new Board();
+    private final RuleEngine ruleEngine = new RuleEngine(board);
+    private final Player[] players;
+    private final long snapshotIntervalMs;
+    private final Random random = new Random();
+    private final Map<Integer, Long> snapshotSentAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> dialogSentAt = new ConcurrentHashMap<>();
+    private final LatencyHistogram dialogRoundTrip = new LatencyHistogram();
+    private final AtomicLong actionsHandled = new AtomicLong();
+    private final AtomicLong actionsIgnored = new AtomicLong();
+
+    private ScheduledExecutorService ticker;
+    private int broadcastSequence;
+    private int currentPlayerIndex;
+    private int diceRollSequence;
+    private int lastD1;
+    private int lastD2;
+    private boolean gameStarted;
+    private boolean awaitingDecision;
+    private String pendingDialogId;
+    private int dialogCounter;
+
+    LoadTestHost(HostNetworkService service, int playerCount, int initialCash, long snapshotIntervalMs) {
+        this.service = service;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+        List<String> labels = new ArrayList<>();
+        players = new Player[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            labels.add("P" + (i + 1));
+            players[i] = new Player("P" + (i + 1), initialCash);
+        }
+        lobbyState = new LobbyState(labels);
+    }
+
+    void start() {
+        service.setMessageListener(this::handleClientMessage);
+        service.setClientLifecycleListener(new HostNetworkService.ClientLifecycleListener() {
+            @Override
+            public void onClientConnected(String clientId) {
+                lobbyState.onClientConnected(clientId);
+                pushLobbyState();
+            }
+
+            @Override
+            public void onClientDisconnected(String clientId, String reason) {
+                lobbyState.onClientDisconnected(clientId);
+                pushLobbyState();
+            }
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "HostLoadTestTicker");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::broadcastSnapshot, snapshotIntervalMs, snapshotIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * 해당 순번의 스냅샷을 브로드캐스트한 시각(System.nanoTime). 이미 정리되었으면 null.
+     */
+    Long getSnapshotSentAt(int sequence) {
+        return snapshotSentAt.get(sequence);
+    }
+
+    synchronized boolean isGameStarted() {
+        return gameStarted;
+    }
+
+    long getActionsHandled() {
+        return actionsHandled.get();
+    }
+
+    long getActionsIgnored() {
+        return actionsIgnored.get();
+    }
+
+    LatencyHistogram getDialogRoundTrip() {
+        return dialogRoundTrip;
+    }
+
+    private void handleClientMessage(String clientId, NetworkMessage message) {
+        try {
+            switch (message.getType()) {
+                case SLOT_REQUEST:
+                    handleSlotRequest(clientId, SlotRequestPayload.decode(message.getPayload()));
+                    break;
+                case READY_STATUS:
+                    handleReadyStatus(clientId, ReadyStatusPayload.decode(message.getPayload()));
+                    break;
+                case PLAYER_ACTION:
+                    handleAction(clientId, RemoteActionCodec.decode(message));
+                    break;
+                case DIALOG_RESPONSE:
+                    handleDialogResponse(DialogResponsePayload.decode(message.getPayload()));
+                    break;
+                default:
+                    break;
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("[Host] 부하 테스트 메시지 처리 실패(" + clientId + "): " + ex.getMessage());
+        }
+    }
+
+    private void handleSlotRequest(String clientId, SlotRequestPayload request) {
+        boolean assigned = lobbyState.assignSlot(clientId, request.getSlotIndex(), request.getPlayerName());
+        SlotAssignmentPayload.Status status = assigned
+            ? SlotAssignmentPayload.Status.ASSIGNED
+            : SlotAssignmentPayload.Status.DENIED;
+        String name = assigned ? lobbyState.getEffectivePlayerName(request.getSlotIndex()) : "";
+        SlotAssignmentPayload payload = new SlotAssignmentPayload(request.getSlotIndex(), name, status, "");
+        service.sendTo(clientId, new NetworkMessage(MessageType.SLOT_ASSIGNMENT, SlotAssignmentPayload.encode(payload)));
+        pushLobbyState();
+    }
+
+    private void handleReadyStatus(String clientId, ReadyStatusPayload payload) {
+        if (!lobbyState.updateReady(clientId, payload.isReady())) {
+            return;
+        }
+        synchronized (this) {
+            if (!gameStarted && allSlotsReady()) {
+                gameStarted = true;
+                broadcastLog("[시스템] 부하 테스트 게임을 시작합니다.");
+            }
+        }
+        pushLobbyState();
+    }
+
+    private boolean allSlotsReady() {
+        for (int i = 0; i < players.length; i++) {
+            if (lobbyState.getClientIdForSlot(i) == null) {
+                return false;
+            }
+        }
+        return lobbyState.areAllAssignedReady();
+    }
+
+    private synchronized void handleAction(String clientId, PlayerInputEvent event) {
+        Integer slot = lobbyState.getSlotIndex(clientId);
+        if (!gameStarted || slot == null || slot != currentPlayerIndex || pendingDialogId != null) {
+            actionsIgnored.incrementAndGet();
+            return;
+        }
+        switch (event.getType()) {
+            case GAUGE_PRESS:
+                break;
+            case GAUGE_RELEASE:
+                if (awaitingDecision) {
+                    actionsIgnored.incrementAndGet();
+                    return;
+                }
+                rollAndMove();
+                break;
+            case PURCHASE_CITY:
+                if (!awaitingDecision) {
+                    actionsIgnored.incrementAndGet();
+                    return;
+                }
+                requestLevelSelection(clientId);
+                break;
+            case SKIP_TURN:
+                if (!awaitingDecision) {
+                    actionsIgnored.incrementAndGet();
+                    return;
+                }
+                endTurn();
+                break;
+            default:
+                actionsIgnored.incrementAndGet();
+                return;
+        }
+        actionsHandled.incrementAndGet();
+    }
+
+    private void rollAndMove() {
+        Player player = players[currentPlayerIndex];
+        lastD1 = 1 + random.nextInt(6);
+        lastD2 = 1 + random.nextInt(6);
+        diceRollSequence++;
+        int target = player.pos + lastD1 + lastD2;
+        if (target >= board.getSize()) {
+            ruleEngine.paySalary(player);
+        }
+        ruleEngine.setPosition(player, target % board.getSize());
+        Tile tile = board.getTile(player.pos);
+        broadcastLog(player.name + " 주사위: " + lastD1 + " + " + lastD2 + " → " + tile.name);
+        if (tile instanceof City && !((City) tile).isOwned() && !((City) tile).isDeleted) {
+            awaitingDecision = true;
+        } else {
+            endTurn();
+        }
+    }
+
+    private void requestLevelSelection(String clientId) {
+        City city = (City) board.getTile(players[currentPlayerIndex].pos);
+        Map<String, String> attrs = new LinkedHashMap<>();
+        attrs.put("cityName", city.name);
+        attrs.put("price", Integer.toString(city.price));
+        attrs.put("playerCash", Integer.toString(players[currentPlayerIndex].cash));
+        pendingDialogId = "load-" + (++dialogCounter);
+        DialogCommandPayload command = new DialogCommandPayload(
+            pendingDialogId,
+            DialogType.LEVEL_SELECTION,
+            currentPlayerIndex,
+            attrs
+        );
+        dialogSentAt.put(pendingDialogId, System.nanoTime());
+        service.sendTo(clientId, new NetworkMessage(MessageType.DIALOG_COMMAND, DialogCommandPayload.encode(command)));
+    }
+
+    private synchronized void handleDialogResponse(DialogResponsePayload response) {
+        Long sentAt = dialogSentAt.remove(response.getRequestId());
+        if (sentAt != null) {
+            dialogRoundTrip.record(System.nanoTime() - sentAt);
+        }
+        if (!response.getRequestId().equals(pendingDialogId)) {
+            return;
+        }
+        pendingDialogId = null;
+        if ("LEVEL_SELECTED".equals(response.getResult())) {
+            Player player = players[currentPlayerIndex];
+            City city = (City) board.getTile(player.pos);
+            int level = Integer.parseInt(response.getAttributes().getOrDefault("selectedLevel", "1"));
+            if (ruleEngine.purchaseCityWithLevel(player, city, level, currentPlayerIndex)) {
+                broadcastLog(player.name + " → " + city.name + " 매입");
+            }
+        }
+        endTurn();
+    }
+
+    private void endTurn() {
+        awaitingDecision = false;
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.length;
+    }
+
+    private void broadcastSnapshot() {
+        try {
+            long startedAt = System.nanoTime();
+            GameSnapshot snapshot;
+            int sequence;
+            synchronized (this) {
+                sequence = ++broadcastSequence;
+                snapshot = createSnapshot(sequence);
+            }
+            String payload = GameSnapshotSerializer.serialize(snapshot);
+            service.getMetrics().recordSerialization(MessageType.STATE_SNAPSHOT, System.nanoTime() - startedAt);
+            snapshotSentAt.put(sequence, System.nanoTime());
+            snapshotSentAt.remove(sequence - 1000);
+            service.broadcast(new NetworkMessage(MessageType.STATE_SNAPSHOT, payload));
+        } catch (Exception ex) {
+            System.err.println("[Host] 부하 테스트 스냅샷 전송 실패: " + ex.getMessage());
+        }
+    }
+
+    private GameSnapshot createSnapshot(int sequence) {
+        GameSnapshot snapshot = new GameSnapshot();
+        snapshot.turnNumber = sequence;
+        snapshot.currentPlayerIndex = currentPlayerIndex;
+        snapshot.diceRollSequence = diceRollSequence;
+        snapshot.dice1 = lastD1;
+        snapshot.dice2 = lastD2;
+        snapshot.buttons.roll = gameStarted && !awaitingDecision && pendingDialogId == null;
+        snapshot.buttons.purchase = gameStarted && awaitingDecision && pendingDialogId == null;
+        snapshot.buttons.skip = snapshot.buttons.purchase;
+        for (Player player : players) {
+            GameSnapshot.PlayerState ps = new GameSnapshot.PlayerState();
+            ps.name = player.name;
+            ps.cash = player.cash;
+            ps.position = player.pos;
+            ps.jailTurns = player.jailTurns;
+            ps.bankrupt = player.bankrupt;
+            snapshot.players.add(ps);
+        }
+        for (int i = 0; i < board.getSize(); i++) {
+            Tile tile = board.getTile(i);
+            if (tile instanceof City) {
+                City city = (City) tile;
+                GameSnapshot.CityState cs = new GameSnapshot.CityState();
+                cs.tileId = city.id;
+                cs.owner = city.owner;
+                cs.level = city.level;
+                cs.hasOlympicBoost = city.hasOlympicBoost;
+                cs.deleted = city.isDeleted;
+                snapshot.cities.add(cs);
+            } else if (tile instanceof TouristSpot) {
+                TouristSpot spot = (TouristSpot) tile;
+                GameSnapshot.TouristSpotState ts = new GameSnapshot.TouristSpotState();
+                ts.tileId = spot.id;
+                ts.owner = spot.owner;
+                ts.locked = spot.locked;
+                ts.lockedBy = spot.lockedBy;
+                snapshot.touristSpots.add(ts);
+            }
+        }
+        return snapshot;
+    }
+
+    private void pushLobbyState() {
+        service.broadcast(new NetworkMessage(
+            MessageType.LOBBY_STATE,
+            LobbyStateCodec.encode(lobbyState.toView(isGameStarted()))
+        ));
+    }
+
+    private void broadcastLog(String message) {
+        service.broadcast(new NetworkMessage(MessageType.LOG_ENTRY, message));
+    }
+}
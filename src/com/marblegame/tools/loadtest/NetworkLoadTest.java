@@ -0,0 +1,283 @@
+package com.marblegame.tools.loadtest;
+
+import com.marblegame.network.ClientNetworkService;
+import com.marblegame.network.HostNetworkService;
+import com.marblegame.network.message.ConnectionRole;
+import com.marblegame.network.metrics.LatencyHistogram;
+import com.marblegame.network.transport.ClientTransport;
+import com.marblegame.network.transport.LoopbackTransport;
+import com.marblegame.network.transport.TcpClientTransport;
+import com.marblegame.network.transport.TcpServerTransport;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 호스트 네트워크 스택용 헤드리스 부하 테스트.
+ * 같은 JVM 안에 호스트를 띄우고 N 개의 봇 클라이언트를 접속시켜 실제 게임과 같은 메시지 흐름을 만든 뒤
+ * 접속 시간, 스냅샷 전달 지연 백분위, 클라이언트당 초당 바이트, 호스트 CPU/힙을 보고한다.
+ *
+ * <pre>
+ * java -cp out com.marblegame.tools.loadtest.NetworkLoadTest \
+ *     --clients 4 --spectators 50 --duration 30 --transport tcp --port 7878 --snapshot-ms 300
+ * </pre>
+ */
+public final class NetworkLoadTest {
+    private static final int INITIAL_CASH = 1_500_000;
+    private static final long READY_WAIT_MS = 10_000;
+
+    private int clients = 4;
+    private int spectators = 0;
+    private int durationSeconds = 30;
+    private String transport = "tcp";
+    private int port = 7878;
+    private long snapshotIntervalMs = 300;
+
+    private NetworkLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        NetworkLoadTest test = new NetworkLoadTest();
+        try {
+            test.parseArgs(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        test.run();
+        System.exit(0);
+    }
+
+    private static void printUsage() {
+        System.err.println("사용법: NetworkLoadTest [--clients N] [--spectators N] [--duration 초]"
+            + " [--transport tcp|loopback] [--port 포트] [--snapshot-ms 밀리초]");
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--help".equals(arg)) {
+                printUsage();
+                System.exit(0);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("값이 없는 옵션: " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--clients":
+                    clients = parsePositive(arg, value);
+                    break;
+                case "--spectators":
+                    spectators = Integer.parseInt(value);
+                    break;
+                case "--duration":
+                    durationSeconds = parsePositive(arg, value);
+                    break;
+                case "--transport":
+                    if (!"tcp".equals(value) && !"loopback".equals(value)) {
+                        throw new IllegalArgumentException("알 수 없는 전송 방식: " + value);
+                    }
+                    transport = value;
+                    break;
+                case "--port":
+                    port = parsePositive(arg, value);
+                    break;
+                case "--snapshot-ms":
+                    snapshotIntervalMs = parsePositive(arg, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+    }
+
+    private static int parsePositive(String option, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(option + " 값은 1 이상이어야 합니다: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        LoopbackTransport loopback = "loopback".equals(transport) ? new LoopbackTransport("loadtest") : null;
+        HostNetworkService hostService = loopback != null
+            ? new HostNetworkService(loopback.server())
+            : new HostNetworkService(new TcpServerTransport(port));
+        LoadTestHost host = new LoadTestHost(hostService, clients, INITIAL_CASH, snapshotIntervalMs);
+        host.start();
+        hostService.start();
+
+        LatencyHistogram playerLatency = new LatencyHistogram();
+        LatencyHistogram spectatorLatency = new LatencyHistogram();
+        List<LoadTestBot> bots = new ArrayList<>();
+        long setupStartedAt = System.nanoTime();
+        for (int i = 0; i < clients + spectators; i++) {
+            boolean spectator = i >= clients;
+            ClientTransport clientTransport = loopback != null
+                ? loopback.client()
+                : new TcpClientTransport("127.0.0.1", port);
+            ClientNetworkService clientService = new ClientNetworkService(
+                clientTransport,
+                spectator ? ConnectionRole.SPECTATOR : ConnectionRole.PLAYER
+            );
+            LoadTestBot bot = new LoadTestBot(
+                spectator ? -1 : i,
+                clientService,
+                host,
+                spectator ? spectatorLatency : playerLatency,
+                31L * i + 7
+            );
+            try {
+                bot.start();
+                bots.add(bot);
+            } catch (IOException ex) {
+                System.err.println("[Client] 봇 " + (i + 1) + " 접속 실패: " + ex.getMessage());
+            }
+        }
+        long deadline = System.currentTimeMillis() + READY_WAIT_MS;
+        while (!host.isGameStarted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        long setupNanos = System.nanoTime() - setupStartedAt;
+        if (!host.isGameStarted()) {
+            System.err.println("[Host] 모든 봇이 준비되지 않아 로비 상태에서 측정을 계속합니다.");
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long hostCpuBefore = hostThreadCpuNanos(threads);
+        long gcBefore = totalGcCount();
+        long[] bytesBefore = receivedBytes(bots);
+        long measureStartedAt = System.nanoTime();
+        long peakHeap = 0;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long measureEnd = System.currentTimeMillis() + durationSeconds * 1000L;
+        while (System.currentTimeMillis() < measureEnd) {
+            Thread.sleep(200);
+            peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+        }
+        long elapsedNanos = System.nanoTime() - measureStartedAt;
+        long hostCpuNanos = hostThreadCpuNanos(threads) - hostCpuBefore;
+        long gcCount = totalGcCount() - gcBefore;
+        long[] bytesAfter = receivedBytes(bots);
+
+        printReport(bots, host, playerLatency, spectatorLatency, setupNanos, elapsedNanos,
+            hostCpuNanos, peakHeap, memory.getHeapMemoryUsage().getMax(), gcCount, bytesBefore, bytesAfter);
+        System.out.println();
+        System.out.print(hostService.getMetrics().dump());
+
+        for (LoadTestBot bot : bots) {
+            bot.stop();
+        }
+        host.stop();
+        hostService.stop();
+    }
+
+    private void printReport(List<LoadTestBot> bots, LoadTestHost host,
+                             LatencyHistogram playerLatency, LatencyHistogram spectatorLatency,
+                             long setupNanos, long elapsedNanos, long hostCpuNanos,
+                             long peakHeap, long maxHeap, long gcCount,
+                             long[] bytesBefore, long[] bytesAfter) {
+        LatencyHistogram connect = new LatencyHistogram();
+        LatencyHistogram slotAssigned = new LatencyHistogram();
+        long playerBytes = 0;
+        long spectatorBytes = 0;
+        long uploadBytes = 0;
+        int playerCount = 0;
+        int spectatorCount = 0;
+        for (int i = 0; i < bots.size(); i++) {
+            LoadTestBot bot = bots.get(i);
+            connect.record(bot.getConnectNanos());
+            long delta = bytesAfter[i] - bytesBefore[i];
+            if (bot.isSpectator()) {
+                spectatorBytes += delta;
+                spectatorCount++;
+            } else {
+                slotAssigned.record(bot.getSlotAssignedNanos());
+                playerBytes += delta;
+                playerCount++;
+            }
+            uploadBytes += bot.getBytesSent();
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        System.out.println();
+        System.out.println("==== 네트워크 부하 테스트 결과 ====");
+        System.out.println("(호스트 턴 진행은 GameUI 가 아닌 LoadTestHost 의 단순화된 루프이며, 네트워크 계층/RuleEngine 만 실제 경로다)");
+        System.out.printf("전송 방식: %s, 플레이어 봇 %d, 관전자 봇 %d, 측정 %.1f초, 스냅샷 주기 %dms%n",
+            transport, playerCount, spectatorCount, seconds, snapshotIntervalMs);
+        System.out.printf("전체 준비 시간(접속~게임 시작): %.1fms%n", setupNanos / 1_000_000.0);
+        System.out.println("접속(HELLO~WELCOME): " + connect.summarizeNanos());
+        System.out.println("슬롯 배정(접속 시작~ASSIGNED): " + slotAssigned.summarizeNanos());
+        System.out.println("스냅샷 전달 지연(플레이어): " + playerLatency.summarizeNanos());
+        if (spectatorCount > 0) {
+            System.out.println("스냅샷 전달 지연(관전자): " + spectatorLatency.summarizeNanos());
+        }
+        System.out.println("다이얼로그 왕복(DIALOG_COMMAND~RESPONSE): " + host.getDialogRoundTrip().summarizeNanos());
+        System.out.printf("수신 바이트/클라이언트/초: 플레이어 %.0f B/s, 관전자 %.0f B/s%n",
+            perClientPerSecond(playerBytes, playerCount, seconds),
+            perClientPerSecond(spectatorBytes, spectatorCount, seconds));
+        System.out.printf("봇 송신 합계: %d B%n", uploadBytes);
+        System.out.printf("처리한 입력 %d건, 무시한 입력 %d건%n", host.getActionsHandled(), host.getActionsIgnored());
+        System.out.printf("호스트 스레드 CPU: %.1fms (코어 1개 기준 %.1f%%)%n",
+            hostCpuNanos / 1_000_000.0, hostCpuNanos / (double) elapsedNanos * 100.0);
+        System.out.printf("힙 사용 최대: %.1fMB / %.1fMB, GC %d회%n",
+            peakHeap / 1048576.0, maxHeap / 1048576.0, gcCount);
+    }
+
+    private static double perClientPerSecond(long bytes, int count, double seconds) {
+        if (count == 0 || seconds <= 0) {
+            return 0.0;
+        }
+        return bytes / (double) count / seconds;
+    }
+
+    private static long[] receivedBytes(List<LoadTestBot> bots) {
+        long[] bytes = new long[bots.size()];
+        for (int i = 0; i < bots.size(); i++) {
+            bytes[i] = bots.get(i).getBytesReceived();
+        }
+        return bytes;
+    }
+
+    /**
+     * 이름이 Host 로 시작하는 스레드(수신 스레드, 하트비트, 관전자 fan-out, 스냅샷 타이머)의 CPU 시간 합계.
+     * 같은 JVM 의 봇 스레드는 제외해 호스트 쪽 비용만 본다.
+     */
+    private static long hostThreadCpuNanos(ThreadMXBean threads) {
+        if (!threads.isThreadCpuTimeSupported()) {
+            return 0;
+        }
+        long total = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info == null || !info.getThreadName().startsWith("Host")) {
+                continue;
+            }
+            long cpu = threads.getThreadCpuTime(info.getThreadId());
+            if (cpu > 0) {
+                total += cpu;
+            }
+        }
+        return total;
+    }
+
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,135 @@
+package com.marblegame.tools.render;
+
+import com.marblegame.model.Board;
+import com.marblegame.network.snapshot.GameSnapshot;
+import com.marblegame.network.snapshot.GameSnapshotSerializer;
+import com.marblegame.ui.BoardImageRenderer;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * 스냅샷 목록을 보드 PNG 프레임으로 내보내는 도구 (리플레이 프레임, 로비 썸네일용).
+ * 입력은 한 줄에 GameSnapshotSerializer 형식의 스냅샷 하나이고, 출력은 frame-00000.png 부터 순서대로 쓴다.
+ * 화면이 없는 서버에서도 돌도록 headless 로 실행하며, 프레임은 작업자 스레드들이 나눠 그린다.
+ *
+ * <pre>
+ * java -Djava.awt.headless=true -cp out com.marblegame.tools.render.SnapshotFrameExport \
+ *     --input snapshots.jsonl --out frames --size 480 --threads 4
+ * </pre>
+ */
+public final class SnapshotFrameExport {
+    private static final int BATCH_SIZE = 64; // 한 번에 메모리에 올릴 프레임 수
+
+    private Path input;
+    private Path outputDir = Paths.get("frames");
+    private int size = 480;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private SnapshotFrameExport() {
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        SnapshotFrameExport export = new SnapshotFrameExport();
+        try {
+            export.parseArgs(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+        try {
+            export.run();
+        } catch (IOException ex) {
+            System.err.println("프레임 내보내기 실패: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("사용법: SnapshotFrameExport --input 스냅샷파일 [--out 폴더] [--size 픽셀] [--threads N]");
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--help".equals(arg)) {
+                printUsage();
+                System.exit(0);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("값이 없는 옵션: " + arg);
+            }
+            String value = args[++i];
+            try {
+                switch (arg) {
+                    case "--input":
+                        input = Paths.get(value);
+                        break;
+                    case "--out":
+                        outputDir = Paths.get(value);
+                        break;
+                    case "--size":
+                        size = Integer.parseInt(value);
+                        if (size <= 0) {
+                            throw new IllegalArgumentException(arg + " 값은 1 이상이어야 합니다: " + value);
+                        }
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        if (threads <= 0) {
+                            throw new IllegalArgumentException(arg + " 값은 1 이상이어야 합니다: " + value);
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+                }
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(arg + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("--input 이 필요합니다.");
+        }
+    }
+
+    private void run() throws IOException {
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(input, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                snapshots.add(GameSnapshotSerializer.deserialize(line.trim()));
+            } catch (IllegalArgumentException ex) {
+                throw new IOException(input + ":" + lineNumber + " 스냅샷 파싱 실패: " + ex.getMessage(), ex);
+            }
+        }
+        Files.createDirectories(outputDir);
+
+        long started = System.nanoTime();
+        int written = 0;
+        try (BoardImageRenderer renderer = new BoardImageRenderer(Board::new, threads)) {
+            for (int from = 0; from < snapshots.size(); from += BATCH_SIZE) {
+                List<GameSnapshot> batch = snapshots.subList(from, Math.min(snapshots.size(), from + BATCH_SIZE));
+                List<BufferedImage> images = renderer.renderAll(batch, size);
+                for (BufferedImage image : images) {
+                    ImageIO.write(image, "png", outputDir.resolve(String.format("frame-%05d.png", written)).toFile());
+                    written++;
+                }
+            }
+        }
+        System.out.printf("프레임 %d개 (%dx%d, 작업자 %d) → %s, %.1fms%n", written, size, size, threads,
+            outputDir, (System.nanoTime() - started) / 1_000_000.0);
+    }
+}
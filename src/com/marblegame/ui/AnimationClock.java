@@ -0,0 +1,174 @@
+package com.marblegame.ui;
+
+import javax.swing.Timer;
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 모든 UI 애니메이션이 공유하는 프레임 시계 (EDT 전용)
+ *
+ * 스윙 타이머 하나가 16ms 프레임마다 등록된 애니메이션을 차례로 부른다. 애니메이션마다 원하는 간격을 줄 수 있고
+ * (게이지 33ms, 주사위 60ms 등) 그 간격이 지난 프레임에서만 불리므로 모든 애니메이션이 같은 프레임 위상에 맞춰 돈다.
+ * 프레임 안에서 repaint(Component) 로 요청한 다시 그리기는 모아 두었다가 프레임 끝에 컴포넌트마다 한 번만 요청한다.
+ * 등록된 애니메이션이 없으면 타이머를 멈춘다.
+ * 진행 속도(AnimationSpeed)도 여기 두어 주사위/이동/자산 변동 애니메이션이 같은 설정을 따른다.
+ */
+public final class AnimationClock {
+    public static final int FRAME_INTERVAL_MS = 16;
+
+    /**
+     * 프레임마다 불리는 애니메이션
+     */
+    public interface Animation {
+        /**
+         * @param frameTimeNanos 이번 프레임 시각 (System.nanoTime, 같은 프레임의 애니메이션은 같은 값)
+         * @return 계속하려면 true, 끝났으면 false (시계에서 빠진다)
+         */
+        boolean onFrame(long frameTimeNanos);
+    }
+
+    private static final AnimationClock SHARED = new AnimationClock();
+
+    private final Timer timer;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<Component> dirty = new LinkedHashSet<>();
+    private boolean inFrame;
+    private long frameCount;
+    private AnimationSpeed speed = AnimationSpeed.NORMAL;
+
+    private AnimationClock() {
+        timer = new Timer(FRAME_INTERVAL_MS, e -> runFrame());
+        timer.setCoalesce(true);
+    }
+
+    public static AnimationClock shared() {
+        return SHARED;
+    }
+
+    /**
+     * 매 프레임 불리도록 등록한다 (이미 등록되어 있으면 처음부터 다시 잰다)
+     */
+    public void start(Animation animation) {
+        start(animation, FRAME_INTERVAL_MS);
+    }
+
+    /**
+     * intervalMs 가 지난 프레임마다 불리도록 등록한다. 첫 호출은 intervalMs 뒤의 프레임이다.
+     */
+    public void start(Animation animation, int intervalMs) {
+        if (animation == null) {
+            return;
+        }
+        Entry entry = find(animation);
+        if (entry == null) {
+            entry = new Entry(animation);
+            entries.add(entry);
+        }
+        entry.intervalNanos = Math.max(FRAME_INTERVAL_MS, intervalMs) * 1_000_000L;
+        entry.lastFrameNanos = System.nanoTime();
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    public void stop(Animation animation) {
+        Entry entry = find(animation);
+        if (entry != null) {
+            entries.remove(entry);
+        }
+        if (entries.isEmpty() && !inFrame) {
+            timer.stop();
+        }
+    }
+
+    public boolean isRunning(Animation animation) {
+        return find(animation) != null;
+    }
+
+    /**
+     * 프레임 안에서는 프레임 끝까지 모아 한 번에, 밖에서는 바로 다시 그리기를 요청한다
+     */
+    public void repaint(Component component) {
+        if (inFrame) {
+            dirty.add(component);
+        } else {
+            component.repaint();
+        }
+    }
+
+    public AnimationSpeed getSpeed() {
+        return speed;
+    }
+
+    /**
+     * 이후 시작하는 애니메이션의 진행 속도 (이미 돌고 있는 애니메이션은 원래 속도로 끝난다)
+     */
+    public void setSpeed(AnimationSpeed speed) {
+        this.speed = speed == null ? AnimationSpeed.NORMAL : speed;
+    }
+
+    /**
+     * 지금까지 돈 프레임 수 (시계가 쉬는 동안은 늘지 않는다)
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    private void runFrame() {
+        long now = System.nanoTime();
+        frameCount++;
+        inFrame = true;
+        try {
+            // 애니메이션이 프레임 안에서 다른 애니메이션을 등록/해제할 수 있으므로 복사본을 돈다
+            long slack = FRAME_INTERVAL_MS * 1_000_000L / 2;
+            for (Entry entry : entries.toArray(new Entry[0])) {
+                if (!entries.contains(entry) || now - entry.lastFrameNanos < entry.intervalNanos - slack) {
+                    continue;
+                }
+                entry.lastFrameNanos = now;
+                boolean keep;
+                try {
+                    keep = entry.animation.onFrame(now);
+                } catch (RuntimeException ex) {
+                    System.err.println("애니메이션 처리 실패: " + ex.getMessage());
+                    keep = false;
+                }
+                if (!keep) {
+                    entries.remove(entry);
+                }
+            }
+        } finally {
+            inFrame = false;
+        }
+
+        for (Component component : dirty) {
+            component.repaint();
+        }
+        dirty.clear();
+        if (entries.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    private Entry find(Animation animation) {
+        for (Entry entry : entries) {
+            if (entry.animation == animation) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static final class Entry {
+        final Animation animation;
+        long intervalNanos;
+        long lastFrameNanos;
+
+        Entry(Animation animation) {
+            this.animation = animation;
+        }
+    }
+}
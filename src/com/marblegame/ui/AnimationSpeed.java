@@ -0,0 +1,68 @@
+package com.marblegame.ui;
+
+/**
+ * 진행 속도 (주사위/말 이동/자산 변동 애니메이션의 빠르기)
+ *
+ * FAST 는 애니메이션 시간을 1/4 로 줄이고, INSTANT 는 애니메이션 없이 상태를 바로 적용한 뒤 마지막 모습만 그린다.
+ */
+public enum AnimationSpeed {
+    NORMAL(1, "1×"),
+    FAST(4, "4×"),
+    INSTANT(0, "즉시");
+
+    private final int factor;
+    private final String label;
+
+    AnimationSpeed(int factor, String label) {
+        this.factor = factor;
+        this.label = label;
+    }
+
+    public boolean isInstant() {
+        return factor == 0;
+    }
+
+    /**
+     * 이 속도에서의 애니메이션 시간/프레임 수 (INSTANT 는 0)
+     */
+    public long scale(long duration) {
+        return isInstant() ? 0 : duration / factor;
+    }
+
+    public int scale(int frames) {
+        return isInstant() ? 0 : frames / factor;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 1× → 4× → 즉시 → 1× 순서의 다음 속도
+     */
+    public AnimationSpeed next() {
+        AnimationSpeed[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+
+    /**
+     * "1", "1x", "normal", "4", "4x", "fast", "instant", "0" 을 받는다. 알 수 없는 값이면 NORMAL.
+     */
+    public static AnimationSpeed parse(String value) {
+        if (value == null) {
+            return NORMAL;
+        }
+        switch (value.trim().toLowerCase()) {
+            case "4":
+            case "4x":
+            case "fast":
+            case "turbo":
+                return FAST;
+            case "0":
+            case "instant":
+                return INSTANT;
+            default:
+                return NORMAL;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.marblegame.ui;
+
+import com.marblegame.model.Board;
+import com.marblegame.model.City;
+import com.marblegame.model.Player;
+import com.marblegame.model.Tile;
+import com.marblegame.model.TouristSpot;
+import com.marblegame.network.snapshot.GameSnapshot;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 화면 없이 GameSnapshot 을 보드 이미지로 그리는 렌더러 (로비 썸네일, 리플레이 프레임 내보내기용)
+ *
+ * 창에 붙이지 않은 BoardPanel 을 BufferedImage 에 그리므로 화면과 같은 모습이 나오고
+ * java.awt.headless=true 인 서버에서도 돈다. BoardPanel 과 보드/플레이어 상태는 스레드마다 하나씩 두고
+ * 스냅샷을 덮어써 다시 쓰며(타일 레이어 캐시도 그대로 재사용), renderAll 은 작업자 스레드들에 프레임을 나눠 그린다.
+ */
+public final class BoardImageRenderer implements AutoCloseable {
+    private final Supplier<Board> boardFactory;
+    private final ExecutorService workers;
+    private final ThreadLocal<Context> contexts = new ThreadLocal<>();
+
+    /**
+     * 기본 보드(시스템 속성의 보드 정의), 코어 수만큼의 작업자
+     */
+    public BoardImageRenderer() {
+        this(Board::new, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BoardImageRenderer(Supplier<Board> boardFactory, int threads) {
+        this.boardFactory = boardFactory;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread thread = new Thread(r, "BoardRender-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스냅샷 하나를 size×size 이미지로 그린다 (부른 스레드에서 그린다)
+     */
+    public BufferedImage render(GameSnapshot snapshot, int size) {
+        if (snapshot == null || snapshot.players.isEmpty()) {
+            throw new IllegalArgumentException("플레이어가 없는 스냅샷은 그릴 수 없습니다.");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("이미지 크기는 1 이상이어야 합니다: " + size);
+        }
+        Context context = contexts.get();
+        if (context == null || context.players.length != snapshot.players.size()) {
+            context = new Context(boardFactory.get(), snapshot);
+            contexts.set(context);
+        }
+        applySnapshot(snapshot, context.board, context.players);
+
+        BoardPanel panel = context.panel;
+        panel.updateBoard();
+        panel.setSize(size, size);
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            panel.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * 스냅샷들을 작업자 스레드에 나눠 그린다. 결과는 입력 순서와 같다.
+     */
+    public List<BufferedImage> renderAll(List<GameSnapshot> snapshots, int size) {
+        List<Future<BufferedImage>> futures = new ArrayList<>(snapshots.size());
+        for (GameSnapshot snapshot : snapshots) {
+            futures.add(workers.submit(() -> render(snapshot, size)));
+        }
+        List<BufferedImage> images = new ArrayList<>(snapshots.size());
+        try {
+            for (Future<BufferedImage> future : futures) {
+                images.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("보드 이미지 렌더링이 중단되었습니다.", ex);
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("보드 이미지 렌더링 실패: " + ex.getCause().getMessage(), ex.getCause());
+        }
+        return images;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 스냅샷의 플레이어/도시/관광지 상태를 보드와 플레이어에 덮어쓴다 (클라이언트 화면 동기화와 공용)
+     * 플레이어 수가 다르면 플레이어는 건너뛴다.
+     */
+    public static void applySnapshot(GameSnapshot snapshot, Board board, Player[] players) {
+        if (players != null && players.length == snapshot.players.size()) {
+            for (int i = 0; i < players.length; i++) {
+                GameSnapshot.PlayerState ps = snapshot.players.get(i);
+                Player player = players[i];
+                player.cash = ps.cash;
+                player.pos = ps.position;
+                player.jailTurns = ps.jailTurns;
+                player.bankrupt = ps.bankrupt;
+                player.hasRailroadTicket = ps.hasRailroadTicket;
+                player.hasExtraChance = ps.hasExtraChance;
+            }
+        }
+
+        boolean deletionChanged = false;
+        for (GameSnapshot.CityState cs : snapshot.cities) {
+            Tile tile = board.getTile(cs.tileId);
+            if (tile instanceof City) {
+                City city = (City) tile;
+                city.owner = cs.owner;
+                city.level = cs.level;
+                city.hasOlympicBoost = cs.hasOlympicBoost;
+                deletionChanged |= city.isDeleted != cs.deleted;
+                city.isDeleted = cs.deleted;
+            }
+        }
+        if (deletionChanged) {
+            board.rebuildLiveIndex();
+        }
+        for (GameSnapshot.TouristSpotState ts : snapshot.touristSpots) {
+            Tile tile = board.getTile(ts.tileId);
+            if (tile instanceof TouristSpot) {
+                TouristSpot spot = (TouristSpot) tile;
+                spot.owner = ts.owner;
+                spot.locked = ts.locked;
+                spot.lockedBy = ts.lockedBy;
+            }
+        }
+    }
+
+    /**
+     * 작업자 스레드 하나가 다시 쓰는 보드/플레이어/패널
+     */
+    private static final class Context {
+        final Board board;
+        final Player[] players;
+        final BoardPanel panel;
+
+        Context(Board board, GameSnapshot snapshot) {
+            this.board = board;
+            this.players = new Player[snapshot.players.size()];
+            for (int i = 0; i < players.length; i++) {
+                GameSnapshot.PlayerState ps = snapshot.players.get(i);
+                players[i] = new Player(ps.name, ps.cash);
+            }
+            this.panel = new BoardPanel(board, Arrays.asList(players));
+        }
+    }
+}
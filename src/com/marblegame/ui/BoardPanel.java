@@ -1,32 +1,68 @@
 package com.marblegame.ui;
 
 import com.marblegame.model.*;
+import com.marblegame.network.metrics.LatencyHistogram;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
 /**
  * 게임 보드를 그래픽으로 렌더링하는 패널
- * 32칸을 9x9 정사각형 형태로 배치
+ * 보드 배치(BoardLayout)의 격자 좌표대로 정사각형 외곽에 배치 (기본 32칸은 9x9)
+ *
+ * 타일은 화면 배율별 이미지(타일 레이어)에 한 번 그려 두고, 매 프레임에는 그 이미지를 복사한 뒤
+ * 호버와 말만 위에 그린다. 타일 레이어는 배율이 바뀌면 통째로, 칸 상태(소유자/레벨/올림픽/삭제/잠금)가
+ * 바뀌면 그 칸 영역만 다시 그린다.
+ *
+ * 말 이동과 호버는 패널 전체가 아니라 말이 있던/갈 자리와 호버가 바뀐 칸의 화면 영역만 다시 그리도록 요청한다.
+ * 그리기 시간과 다시 그린 픽셀 수를 모아 두어 절감 효과를 확인할 수 있다.
  */
 public class BoardPanel extends JPanel {
     private static final int BASE_TILE_SIZE = 80;
-    private static final int BOARD_SIZE = 9; // 한 변에 9칸
+    private static final int MAX_PREFERRED_GRID = 9; // 큰 보드도 기본 9x9 크기로 시작해 축소해서 그린다
     private static final Color[] PLAYER_COLORS = {
         new Color(231, 76, 60),   // Red
         new Color(52, 152, 219),  // Blue
         new Color(46, 204, 113),  // Green
         new Color(230, 126, 34)   // Orange
     };
-    private static final int BASE_BOARD_SIZE = BASE_TILE_SIZE * BOARD_SIZE;
+
+    // 글꼴은 공유 캐시에서 한 번만 만들고, 문자열은 RenderCache 의 캐시된 글리프로 그린다
+    private static final Font TILE_NAME_FONT = RenderCache.font("맑은 고딕", Font.BOLD, 13);
+    private static final Font TILE_NUMBER_FONT = RenderCache.font("Arial", Font.PLAIN, 9);
+    private static final Font BUILDING_FONT = RenderCache.font("Segoe UI Emoji", Font.PLAIN, 24);
+    private static final Font TILE_ICON_FONT = RenderCache.font("Segoe UI Emoji", Font.PLAIN, 28);
+    private static final Font LOCK_FONT = RenderCache.font("Segoe UI Emoji", Font.PLAIN, 36);
+    private static final Font OLYMPIC_FONT = RenderCache.font("Arial", Font.BOLD, 12);
+    private static final Font BADGE_FONT = RenderCache.font("Malgun Gothic", Font.BOLD, 12);
+    private static final Font TOKEN_LABEL_FONT = RenderCache.font("Arial", Font.BOLD, 8);
+    private static final String[] TILE_NUMBERS = new String[256];
+    static {
+        for (int i = 0; i < TILE_NUMBERS.length; i++) {
+            TILE_NUMBERS[i] = String.valueOf(i);
+        }
+    }
+
+    // 매 프레임 그리는 호버/말 아이콘의 색과 선
+    private static final Color HOVER_TOP = new Color(255, 255, 255, 70);
+    private static final Color HOVER_BOTTOM = new Color(255, 255, 255, 30);
+    private static final Color HOVER_OVERLAY = new Color(255, 255, 255, 60);
+    private static final Color TOKEN_SHADOW = new Color(0, 0, 0, 100);
+    private static final BasicStroke TOKEN_OUTLINE = new BasicStroke(1.5f);
+    private static final BasicStroke TOKEN_LIMB = new BasicStroke(2.5f);
 
     private Board board;
+    private final BoardLayout layout;
+    private final int baseBoardSize;
     private List<Player> players;
     private Point2D.Double[] playerAnimationPositions;
 
@@ -37,15 +73,43 @@ public class BoardPanel extends JPanel {
     // 호버 효과
     private int hoveredTileIndex = -1;
 
+    // 타일 선택용 히트 테스트 표: 패널 x 픽셀 → 격자 열, y 픽셀 → 격자 행 (보드 밖은 -1). 패널 크기가 바뀔 때만 다시 만든다
+    private int[] hitColumns = new int[0];
+    private int[] hitRows = new int[0];
+
     private double scaleFactor = 1.0;
     private int translateX = 0;
     private int translateY = 0;
 
+    // 타일 레이어: 장치 픽셀 크기의 이미지와 그릴 때의 칸 상태 (칸 상태가 달라진 칸만 다시 그린다)
+    private static final int NO_STAMP = Integer.MIN_VALUE;
+    private static final int TILE_BLEED = 3; // 랜드마크 테두리 등이 이웃 칸으로 번지는 여유 (보드 좌표)
+    private BufferedImage tileLayer;
+    private int tileLayerPixels;
+    private final int[] tileStamps;
+
+    // 말 아이콘이 차지하는 영역 (drawPlayerIcon 기준점에서의 여유 포함, 보드 좌표)
+    private static final int TOKEN_LEFT = -2;
+    private static final int TOKEN_TOP = -2;
+    private static final int TOKEN_WIDTH = 28;
+    private static final int TOKEN_HEIGHT = 34;
+    // 플레이어별 마지막으로 그린 말 위치 (보드 좌표, 그린 적 없으면 null)
+    private final Point2D.Double[] paintedTokenPositions;
+
+    // 그리기 지표: paintComponent 소요 시간(나노초)과 다시 그린 영역 픽셀 수
+    private final LatencyHistogram frameTimes = new LatencyHistogram();
+    private long paintedPixels;
+
     public BoardPanel(Board board, List<Player> players) {
         this.board = board;
+        this.layout = board.getLayout();
+        this.baseBoardSize = BASE_TILE_SIZE * layout.getGridSize();
         this.players = players;
         this.playerAnimationPositions = new Point2D.Double[players.size()];
-        setPreferredSize(new Dimension(BASE_BOARD_SIZE, BASE_BOARD_SIZE));
+        this.tileStamps = new int[board.getSize()];
+        this.paintedTokenPositions = new Point2D.Double[players.size()];
+        int preferred = BASE_TILE_SIZE * Math.min(layout.getGridSize(), MAX_PREFERRED_GRID);
+        setPreferredSize(new Dimension(preferred, preferred));
         setBackground(new Color(44, 62, 80)); // 다크 네이비
 
         // 마우스 클릭 리스너 추가
@@ -64,8 +128,7 @@ public class BoardPanel extends JPanel {
             public void mouseExited(MouseEvent e) {
                 // 마우스가 패널을 벗어나면 호버 효과 제거
                 if (hoveredTileIndex != -1) {
-                    hoveredTileIndex = -1;
-                    repaint();
+                    setHoveredTile(-1);
                 }
             }
         });
@@ -77,12 +140,10 @@ public class BoardPanel extends JPanel {
                 if (tileClickEnabled) {
                     int tileIndex = getTileIndexAt(e.getX(), e.getY());
                     if (tileIndex != hoveredTileIndex) {
-                        hoveredTileIndex = tileIndex;
-                        repaint();
+                        setHoveredTile(tileIndex);
                     }
                 } else if (hoveredTileIndex != -1) {
-                    hoveredTileIndex = -1;
-                    repaint();
+                    setHoveredTile(-1);
                 }
             }
         });
@@ -90,24 +151,248 @@ public class BoardPanel extends JPanel {
 
     @Override
     protected void paintComponent(Graphics g) {
+        long started = System.nanoTime();
+        Rectangle clip = g.getClipBounds();
+        paintedPixels += clip != null ? (long) clip.width * clip.height : (long) getWidth() * getHeight();
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g.create();
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
         updateTransform();
+        drawTileLayer(g2d);
 
         g2d.translate(translateX, translateY);
         g2d.scale(scaleFactor, scaleFactor);
 
-        drawBoard(g2d);
+        drawHover(g2d);
         drawPlayers(g2d);
 
         g2d.dispose();
+        frameTimes.record(System.nanoTime() - started);
+    }
+
+    /**
+     * 호버 칸을 바꾸고 이전/새 칸 영역만 다시 그린다
+     */
+    private void setHoveredTile(int tileIndex) {
+        int previous = hoveredTileIndex;
+        hoveredTileIndex = tileIndex;
+        repaintTile(previous);
+        repaintTile(tileIndex);
+    }
+
+    private void repaintTile(int tileIndex) {
+        if (tileIndex < 0) {
+            return;
+        }
+        Point pos = getTilePosition(tileIndex);
+        repaintBoardArea(pos.x, pos.y, BASE_TILE_SIZE, BASE_TILE_SIZE);
+    }
+
+    /**
+     * 말이 마지막으로 그려진 자리와 지금 그려질 자리만 다시 그린다
+     */
+    private void repaintPlayer(int playerIndex) {
+        Point2D.Double painted = paintedTokenPositions[playerIndex];
+        if (painted != null) {
+            repaintBoardArea(painted.x + TOKEN_LEFT, painted.y + TOKEN_TOP, TOKEN_WIDTH, TOKEN_HEIGHT);
+        }
+        Point2D.Double next = getTokenPosition(playerIndex);
+        repaintBoardArea(next.x + TOKEN_LEFT, next.y + TOKEN_TOP, TOKEN_WIDTH, TOKEN_HEIGHT);
+    }
+
+    /**
+     * 보드 좌표 영역을 현재 배율의 화면 영역으로 바꿔 그 부분만 다시 그리도록 요청한다 (안티앨리어싱 여유 1픽셀)
+     */
+    private void repaintBoardArea(double x, double y, double width, double height) {
+        updateTransform();
+        int left = (int) Math.floor(translateX + x * scaleFactor) - 1;
+        int top = (int) Math.floor(translateY + y * scaleFactor) - 1;
+        int right = (int) Math.ceil(translateX + (x + width) * scaleFactor) + 1;
+        int bottom = (int) Math.ceil(translateY + (y + height) * scaleFactor) + 1;
+        repaint(left, top, right - left, bottom - top);
+    }
+
+    /**
+     * paintComponent 한 번의 소요 시간 분포 (나노초)
+     */
+    public LatencyHistogram getFrameTimes() {
+        return frameTimes;
+    }
+
+    /**
+     * 지금까지 다시 그린 영역의 픽셀 수 합 (전체 다시 그리기와 비교용)
+     */
+    public long getPaintedPixels() {
+        return paintedPixels;
+    }
+
+    public String summarizeFrameStats() {
+        long frames = frameTimes.getCount();
+        long fullFrame = Math.max(1L, (long) getWidth() * getHeight());
+        double coverage = frames == 0 ? 0.0 : (double) paintedPixels / (frames * fullFrame) * 100.0;
+        return "[BoardPanel] 프레임 " + frameTimes.summarizeNanos()
+            + String.format(" 평균 다시 그린 영역=%.1f%%", coverage);
+    }
+
+    /**
+     * 타일 레이어를 최신으로 맞춘 뒤 장치 픽셀 그대로 복사한다 (HiDPI 배율까지 포함해 만들어 흐려지지 않는다)
+     */
+    private void drawTileLayer(Graphics2D g) {
+        AffineTransform deviceTransform = g.getTransform();
+        double deviceScale = deviceTransform.getScaleX() > 0 ? deviceTransform.getScaleX() : 1.0;
+        double pixelScale = scaleFactor * deviceScale;
+        int pixels = Math.max(1, (int) Math.ceil(baseBoardSize * pixelScale));
+
+        if (tileLayer == null || tileLayerPixels != pixels) {
+            rebuildTileLayer(pixels, pixelScale);
+        } else {
+            refreshDirtyTiles(pixelScale);
+        }
+
+        Graphics2D layerGraphics = (Graphics2D) g.create();
+        layerGraphics.translate(translateX, translateY);
+        layerGraphics.scale(1.0 / deviceScale, 1.0 / deviceScale);
+        layerGraphics.drawImage(tileLayer, 0, 0, null);
+        layerGraphics.dispose();
+    }
+
+    private void rebuildTileLayer(int pixels, double pixelScale) {
+        if (tileLayer != null) {
+            tileLayer.flush();
+        }
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        tileLayer = config != null
+            ? config.createCompatibleImage(pixels, pixels, Transparency.TRANSLUCENT)
+            : new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB_PRE);
+        tileLayerPixels = pixels;
+        RenderCache.invalidateGlyphs(); // 배율이 바뀌었으므로 예전 배율의 글리프는 더 쓰이지 않는다
+
+        Graphics2D g = createLayerGraphics(pixelScale);
+        drawBoard(g);
+        g.dispose();
+        for (int i = 0; i < tileStamps.length; i++) {
+            tileStamps[i] = tileStamp(board.getTile(i));
+        }
+    }
+
+    /**
+     * 상태가 바뀐 칸의 격자 영역(번짐 여유 포함)을 지우고, 그 영역에 걸치는 칸(자신과 격자상 이웃 칸)을
+     * 전체 그리기와 같은 순서로 다시 그린다.
+     */
+    private void refreshDirtyTiles(double pixelScale) {
+        Graphics2D g = null;
+        for (int i = 0; i < board.getSize(); i++) {
+            int stamp = tileStamp(board.getTile(i));
+            if (stamp == tileStamps[i]) {
+                continue;
+            }
+            tileStamps[i] = stamp;
+            if (g == null) {
+                g = createLayerGraphics(pixelScale);
+            }
+            // 지우는 영역은 장치 픽셀 경계에 맞춘다 (경계 픽셀이 반쯤 지워지지 않도록)
+            Point pos = getTilePosition(i);
+            int left = (int) Math.floor((pos.x - TILE_BLEED) * pixelScale);
+            int top = (int) Math.floor((pos.y - TILE_BLEED) * pixelScale);
+            int right = (int) Math.ceil((pos.x + BASE_TILE_SIZE + TILE_BLEED) * pixelScale);
+            int bottom = (int) Math.ceil((pos.y + BASE_TILE_SIZE + TILE_BLEED) * pixelScale);
+            Rectangle region = new Rectangle(left, top, right - left, bottom - top);
+            g.setTransform(new AffineTransform());
+            g.setClip(region);
+            g.setComposite(AlphaComposite.Clear);
+            g.fill(region);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setTransform(AffineTransform.getScaleInstance(pixelScale, pixelScale));
+
+            for (int tileIndex : tilesAround(i)) {
+                Point tilePos = getTilePosition(tileIndex);
+                drawTile(g, tileIndex, tilePos.x, tilePos.y);
+            }
+        }
+        if (g != null) {
+            g.dispose();
+        }
+    }
+
+    /**
+     * 칸 자신과 격자상 주변 8칸 중 실제 칸 번호 (오름차순 = 전체 그리기 순서)
+     */
+    private int[] tilesAround(int tileIndex) {
+        int column = layout.getColumn(tileIndex);
+        int row = layout.getRow(tileIndex);
+        int[] found = new int[9];
+        int count = 0;
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                int neighbor = layout.tileAt(column + dx, row + dy);
+                if (neighbor != BoardLayout.NO_TILE) {
+                    found[count++] = neighbor;
+                }
+            }
+        }
+        int[] tiles = Arrays.copyOf(found, count);
+        Arrays.sort(tiles);
+        return tiles;
+    }
+
+    private Graphics2D createLayerGraphics(double pixelScale) {
+        Graphics2D g = tileLayer.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.scale(pixelScale, pixelScale);
+        return g;
+    }
+
+    /**
+     * 칸 그림에 영향을 주는 상태를 정수 하나로 묶는다 (소유자/레벨/올림픽/삭제/잠금)
+     */
+    private static int tileStamp(Tile tile) {
+        if (tile instanceof City) {
+            City city = (City) tile;
+            return (city.owner == null ? 0 : city.owner + 1)
+                | (city.level << 8)
+                | (city.hasOlympicBoost ? 1 << 12 : 0)
+                | (city.isDeleted ? 1 << 13 : 0);
+        }
+        if (tile instanceof TouristSpot) {
+            TouristSpot spot = (TouristSpot) tile;
+            return (spot.owner == null ? 0 : spot.owner + 1)
+                | (spot.isLocked() ? 1 << 14 : 0);
+        }
+        return 0;
+    }
+
+    /**
+     * 호버 효과: 캐시된 타일 위에 밝은 그라데이션과 반투명 흰색을 덮는다
+     */
+    private void drawHover(Graphics2D g) {
+        if (!tileClickEnabled || hoveredTileIndex < 0) {
+            return;
+        }
+        Tile tile = board.getTile(hoveredTileIndex);
+        if (tile instanceof City && ((City) tile).isDeleted) {
+            return;
+        }
+        Point pos = getTilePosition(hoveredTileIndex);
+        int arc = 15;
+        int padding = 2;
+        int tileWidth = BASE_TILE_SIZE - 4;
+        int tileHeight = BASE_TILE_SIZE - 4;
+
+        GradientPaint brighten = new GradientPaint(
+            pos.x + padding, pos.y + padding, HOVER_TOP,
+            pos.x + padding, pos.y + padding + tileHeight, HOVER_BOTTOM
+        );
+        g.setPaint(brighten);
+        g.fillRoundRect(pos.x + padding, pos.y + padding, tileWidth, tileHeight, arc, arc);
+        g.setColor(HOVER_OVERLAY);
+        g.fillRoundRect(pos.x + padding, pos.y + padding, tileWidth, tileHeight, arc, arc);
     }
 
     private void updateTransform() {
-        double boardPixels = BASE_BOARD_SIZE;
+        double boardPixels = baseBoardSize;
         if (boardPixels <= 0) {
             scaleFactor = 1.0;
             translateX = 0;
@@ -138,31 +423,11 @@ public class BoardPanel extends JPanel {
     }
 
     private void drawBoard(Graphics2D g) {
-        // 32칸 보드: 9x9 그리드
         // 반시계 방향: Start(우하) → 무인도(좌하) → 올림픽(좌상) → 세계여행(우상) → Start
-
-        // 하단 (우→좌): 0(Start), 1-7, 8(무인도) = 9칸
-        for (int i = 0; i <= 8; i++) {
-            int x = (8 - i) * BASE_TILE_SIZE;
-            drawTile(g, i, x, 8 * BASE_TILE_SIZE);
-        }
-
-        // 좌측 (하→상): 9-15, 16(올림픽) = 8칸 (8번 무인도는 이미 그려짐)
-        for (int i = 9; i <= 16; i++) {
-            int y = (8 - (i - 8)) * BASE_TILE_SIZE;
-            drawTile(g, i, 0, y);
-        }
-
-        // 상단 (좌→우): 17-23, 24(세계여행) = 8칸 (16번 올림픽은 이미 그려짐)
-        for (int i = 17; i <= 24; i++) {
-            int x = (i - 16) * BASE_TILE_SIZE;
-            drawTile(g, i, x, 0);
-        }
-
-        // 우측 (상→하): 25-31 = 7칸 (24번 세계여행은 이미 그려짐, 0번 Start로 순환)
-        for (int i = 25; i <= 31; i++) {
-            int y = (i - 24) * BASE_TILE_SIZE;
-            drawTile(g, i, 8 * BASE_TILE_SIZE, y);
+        // 칸별 격자 좌표는 보드를 불러올 때 BoardLayout 이 만들어 둔다
+        for (int i = 0; i < board.getSize(); i++) {
+            Point pos = getTilePosition(i);
+            drawTile(g, i, pos.x, pos.y);
         }
     }
 
@@ -180,11 +445,10 @@ public class BoardPanel extends JPanel {
         g.setColor(new Color(0, 0, 0, 50));
         g.fillRoundRect(x + padding + 2, y + padding + 2, tileWidth, tileHeight, arc, arc);
 
-        // 2. 그라데이션 배경
+        // 2. 그라데이션 배경 (호버는 타일 레이어 위에 따로 덮는다)
         Color bgColor = getTileColor(tile);
-        boolean isHovered = tileClickEnabled && tileIndex == hoveredTileIndex && !isDeleted;
-        Color color1 = isHovered ? bgColor.brighter() : bgColor;
-        Color color2 = isHovered ? bgColor : bgColor.darker();
+        Color color1 = bgColor;
+        Color color2 = bgColor.darker();
 
         GradientPaint gradient = new GradientPaint(
             x + padding, y + padding, color1,
@@ -210,13 +474,7 @@ public class BoardPanel extends JPanel {
         g.setPaint(gloss);
         g.fillRoundRect(x + padding, y + padding, tileWidth, glossHeight, arc, arc);
 
-        // 5. 호버 효과 강화
-        if (isHovered) {
-            g.setColor(new Color(255, 255, 255, 60));
-            g.fillRoundRect(x + padding, y + padding, tileWidth, tileHeight, arc, arc);
-        }
-
-        // 6. 테두리
+        // 5. 테두리
         boolean isLandmark = (tile instanceof City) && ((City) tile).isLandmark();
         if (isLandmark) {
             // 랜드마크 금색 빛나는 테두리
@@ -260,17 +518,15 @@ public class BoardPanel extends JPanel {
 
                     // 건물 이모지
                     String buildingEmoji = city.getBuildingEmoji();
-                    g.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 24));
-                    FontMetrics fm = g.getFontMetrics();
-                    int emojiWidth = fm.stringWidth(buildingEmoji);
+                    int emojiWidth = RenderCache.textWidth(g, BUILDING_FONT, buildingEmoji);
 
                     // 이모지 그림자
                     g.setColor(new Color(0, 0, 0, 60));
-                    g.drawString(buildingEmoji, centerX - emojiWidth / 2 + 1, centerY + 8 + 1);
+                    RenderCache.drawText(g, BUILDING_FONT, buildingEmoji, centerX - emojiWidth / 2 + 1, centerY + 8 + 1);
 
                     // 이모지
                     g.setColor(Color.BLACK);
-                    g.drawString(buildingEmoji, centerX - emojiWidth / 2, centerY + 8);
+                    RenderCache.drawText(g, BUILDING_FONT, buildingEmoji, centerX - emojiWidth / 2, centerY + 8);
                 }
 
                 // 올림픽 효과 표시 (개선된 디자인)
@@ -285,9 +541,8 @@ public class BoardPanel extends JPanel {
                     g.drawOval(x + BASE_TILE_SIZE - 32, y + 8, 24, 24);
 
                     // ×2 텍스트
-                    g.setFont(new Font("Arial", Font.BOLD, 12));
                     g.setColor(Color.WHITE);
-                    g.drawString("×2", x + BASE_TILE_SIZE - 28, y + 23);
+                    RenderCache.drawText(g, OLYMPIC_FONT, "×2", x + BASE_TILE_SIZE - 28, y + 23);
                 }
             }
         } else if (tile instanceof TouristSpot) {
@@ -310,28 +565,26 @@ public class BoardPanel extends JPanel {
                                 tile.type == Tile.Type.WORLD_TOUR || tile.type == Tile.Type.CHANCE ||
                                 tile.type == Tile.Type.TAX;
 
-        g.setFont(new Font("맑은 고딕", Font.BOLD, 13));
         String name = tile.name;
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(name);
+        int textWidth = RenderCache.textWidth(g, TILE_NAME_FONT, name);
 
         int textX = x + (BASE_TILE_SIZE - textWidth) / 2;
         int textY = isSpecialTile ? y + BASE_TILE_SIZE / 2 + 28 : y + BASE_TILE_SIZE - 20;
 
         // 텍스트 그림자
         g.setColor(shadowColor);
-        g.drawString(name, textX + 1, textY + 1);
+        RenderCache.drawText(g, TILE_NAME_FONT, name, textX + 1, textY + 1);
 
         // 텍스트
         g.setColor(textColor);
-        g.drawString(name, textX, textY);
+        RenderCache.drawText(g, TILE_NAME_FONT, name, textX, textY);
 
         // 타일 번호 (그림자 추가)
-        g.setFont(new Font("Arial", Font.PLAIN, 9));
+        String number = tileIndex < TILE_NUMBERS.length ? TILE_NUMBERS[tileIndex] : String.valueOf(tileIndex);
         g.setColor(new Color(0, 0, 0, 80));
-        g.drawString(String.valueOf(tileIndex), x + 9, y + BASE_TILE_SIZE - 7);
+        RenderCache.drawText(g, TILE_NUMBER_FONT, number, x + 9, y + BASE_TILE_SIZE - 7);
         g.setColor(new Color(189, 195, 199));
-        g.drawString(String.valueOf(tileIndex), x + 8, y + BASE_TILE_SIZE - 8);
+        RenderCache.drawText(g, TILE_NUMBER_FONT, number, x + 8, y + BASE_TILE_SIZE - 8);
 
         // 삭제된 도시 오버레이 (반투명 회색)
         if (isDeleted) {
@@ -356,20 +609,18 @@ public class BoardPanel extends JPanel {
                 g.fillRoundRect(x + padding, y + padding, tileWidth, tileHeight, arc, arc);
 
                 // 자물쇠 이모티콘 표시
-                g.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 36));
                 String lockIcon = "🔒";
-                FontMetrics lockFm = g.getFontMetrics();
-                int lockWidth = lockFm.stringWidth(lockIcon);
+                int lockWidth = RenderCache.textWidth(g, LOCK_FONT, lockIcon);
                 int centerX = x + (BASE_TILE_SIZE - lockWidth) / 2;
                 int centerY = y + BASE_TILE_SIZE / 2 + 12;
 
                 // 자물쇠 그림자
                 g.setColor(new Color(0, 0, 0, 150));
-                g.drawString(lockIcon, centerX + 2, centerY + 2);
+                RenderCache.drawText(g, LOCK_FONT, lockIcon, centerX + 2, centerY + 2);
 
                 // 자물쇠
                 g.setColor(new Color(255, 255, 255, 230));
-                g.drawString(lockIcon, centerX, centerY);
+                RenderCache.drawText(g, LOCK_FONT, lockIcon, centerX, centerY);
             }
         }
     }
@@ -436,24 +687,21 @@ public class BoardPanel extends JPanel {
         g.drawRoundRect(x, y, badgeWidth, badgeHeight, arc, arc);
 
         // 플레이어 번호 텍스트
-        g.setFont(new Font("Malgun Gothic", Font.BOLD, 12));
         String playerText = "P" + (ownerIndex + 1);
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(playerText);
+        int textWidth = RenderCache.textWidth(g, BADGE_FONT, playerText);
         int textX = x + (badgeWidth - textWidth) / 2;
-        int textY = y + badgeHeight / 2 + fm.getAscent() / 2 - 1;
+        int textY = y + badgeHeight / 2 + g.getFontMetrics(BADGE_FONT).getAscent() / 2 - 1;
 
         // 텍스트 그림자
         g.setColor(new Color(0, 0, 0, 150));
-        g.drawString(playerText, textX + 1, textY + 1);
+        RenderCache.drawText(g, BADGE_FONT, playerText, textX + 1, textY + 1);
 
         // 텍스트
         g.setColor(Color.WHITE);
-        g.drawString(playerText, textX, textY);
+        RenderCache.drawText(g, BADGE_FONT, playerText, textX, textY);
     }
 
     private void drawTileIcon(Graphics2D g, Tile tile, int x, int y) {
-        g.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 28));
         String icon = "";
 
         switch (tile.type) {
@@ -478,9 +726,8 @@ public class BoardPanel extends JPanel {
         }
 
         if (!icon.isEmpty()) {
-            FontMetrics fm = g.getFontMetrics();
-            int iconWidth = fm.stringWidth(icon);
-            g.drawString(icon, x + (BASE_TILE_SIZE - iconWidth) / 2, y + BASE_TILE_SIZE/2 - 5);
+            int iconWidth = RenderCache.textWidth(g, TILE_ICON_FONT, icon);
+            RenderCache.drawText(g, TILE_ICON_FONT, icon, x + (BASE_TILE_SIZE - iconWidth) / 2, y + BASE_TILE_SIZE/2 - 5);
         }
     }
 
@@ -533,34 +780,33 @@ public class BoardPanel extends JPanel {
     private void drawPlayers(Graphics2D g) {
         for (int i = 0; i < players.size(); i++) {
             Player player = players.get(i);
-            if (player.bankrupt) continue;
-
-            Point2D.Double animPos = (playerAnimationPositions != null && i < playerAnimationPositions.length)
-                ? playerAnimationPositions[i]
-                : null;
-
-            double drawX;
-            double drawY;
-
-            if (animPos != null) {
-                drawX = animPos.x;
-                drawY = animPos.y;
-            } else {
-                Point2D.Double anchor = getPlayerAnchorForTile(player.pos, i);
-                drawX = anchor.x;
-                drawY = anchor.y;
+            if (player.bankrupt) {
+                paintedTokenPositions[i] = null;
+                continue;
             }
 
-            drawPlayerIcon(g, (int)Math.round(drawX), (int)Math.round(drawY), PLAYER_COLORS[i], (char)('A' + i));
+            Point2D.Double position = getTokenPosition(i);
+            paintedTokenPositions[i] = position;
+            drawPlayerIcon(g, (int)Math.round(position.x), (int)Math.round(position.y), PLAYER_COLORS[i], (char)('A' + i));
         }
     }
 
+    /**
+     * 애니메이션 중이면 애니메이션 위치, 아니면 현재 칸의 기준 좌표
+     */
+    private Point2D.Double getTokenPosition(int playerIndex) {
+        Point2D.Double animPos = playerIndex < playerAnimationPositions.length
+            ? playerAnimationPositions[playerIndex]
+            : null;
+        return animPos != null ? animPos : getPlayerAnchorForTile(players.get(playerIndex).pos, playerIndex);
+    }
+
     /**
      * 사람 모양 플레이어 아이콘 그리기
      */
     private void drawPlayerIcon(Graphics2D g, int x, int y, Color color, char label) {
         // 그림자
-        g.setColor(new Color(0, 0, 0, 100));
+        g.setColor(TOKEN_SHADOW);
         g.fillOval(x + 4, y + 25, 16, 4); // 발 아래 그림자
 
         // 머리
@@ -569,7 +815,7 @@ public class BoardPanel extends JPanel {
 
         // 머리 테두리
         g.setColor(Color.WHITE);
-        g.setStroke(new BasicStroke(1.5f));
+        g.setStroke(TOKEN_OUTLINE);
         g.drawOval(x + 6, y, 12, 12);
 
         // 몸통 (사다리꼴)
@@ -584,7 +830,7 @@ public class BoardPanel extends JPanel {
 
         // 팔 (좌)
         g.setColor(color);
-        g.setStroke(new BasicStroke(2.5f));
+        g.setStroke(TOKEN_LIMB);
         g.drawLine(x + 8, y + 14, x + 4, y + 18);
 
         // 팔 (우)
@@ -598,11 +844,9 @@ public class BoardPanel extends JPanel {
 
         // 플레이어 라벨 (머리에 표시)
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 8));
         String labelStr = String.valueOf(label);
-        FontMetrics fm = g.getFontMetrics();
-        int labelWidth = fm.stringWidth(labelStr);
-        g.drawString(labelStr, x + 12 - labelWidth/2, y + 8);
+        int labelWidth = RenderCache.textWidth(g, TOKEN_LABEL_FONT, labelStr);
+        RenderCache.drawText(g, TOKEN_LABEL_FONT, labelStr, x + 12 - labelWidth/2, y + 8);
     }
 
     private Point getPlayerOffset(int playerIndex) {
@@ -612,27 +856,7 @@ public class BoardPanel extends JPanel {
     }
 
     private Point getTilePosition(int tileIndex) {
-        // 32칸 보드 위치 계산 (9x9 그리드)
-        // 하단 (우→좌): 0-8
-        if (tileIndex <= 8) {
-            int x = (8 - tileIndex) * BASE_TILE_SIZE;
-            return new Point(x, 8 * BASE_TILE_SIZE);
-        }
-        // 좌측 (하→상): 9-16
-        else if (tileIndex <= 16) {
-            int y = (8 - (tileIndex - 8)) * BASE_TILE_SIZE;
-            return new Point(0, y);
-        }
-        // 상단 (좌→우): 17-24
-        else if (tileIndex <= 24) {
-            int x = (tileIndex - 16) * BASE_TILE_SIZE;
-            return new Point(x, 0);
-        }
-        // 우측 (상→하): 25-31
-        else {
-            int y = (tileIndex - 24) * BASE_TILE_SIZE;
-            return new Point(8 * BASE_TILE_SIZE, y);
-        }
+        return new Point(layout.getColumn(tileIndex) * BASE_TILE_SIZE, layout.getRow(tileIndex) * BASE_TILE_SIZE);
     }
 
     public void updateBoard() {
@@ -645,7 +869,7 @@ public class BoardPanel extends JPanel {
     public void setPlayerAnimationPosition(int playerIndex, double x, double y) {
         if (playerIndex < 0 || playerIndex >= playerAnimationPositions.length) return;
         playerAnimationPositions[playerIndex] = new Point2D.Double(x, y);
-        repaint();
+        repaintPlayer(playerIndex);
     }
 
     /**
@@ -654,7 +878,15 @@ public class BoardPanel extends JPanel {
     public void clearPlayerAnimation(int playerIndex) {
         if (playerIndex < 0 || playerIndex >= playerAnimationPositions.length) return;
         playerAnimationPositions[playerIndex] = null;
-        repaint();
+        repaintPlayer(playerIndex);
+    }
+
+    /**
+     * 플레이어 위치(pos)만 바뀌었을 때 해당 말 영역만 다시 그린다
+     */
+    public void updatePlayerToken(int playerIndex) {
+        if (playerIndex < 0 || playerIndex >= paintedTokenPositions.length) return;
+        repaintPlayer(playerIndex);
     }
 
     /**
@@ -696,39 +928,40 @@ public class BoardPanel extends JPanel {
     }
 
     /**
-     * 마우스 좌표로부터 타일 인덱스 계산
-     * @return 타일 인덱스 (0-31), 타일이 아닌 영역을 클릭하면 -1 반환
+     * 패널 좌표로부터 타일 인덱스 계산 (마우스 클릭/호버, 터치/펜 입력 공용)
+     * 픽셀 → 열/행 표와 격자 칸 → 타일 번호 표를 바로 찾으므로 이벤트마다 변환 계산이 없고 O(1)이다.
+     * @return 타일 인덱스, 타일이 아닌 영역(가운데 포함)이면 -1 반환
      */
-    private int getTileIndexAt(int mouseX, int mouseY) {
-        // 중앙 영역 클릭은 무시
-        int centerX = BASE_TILE_SIZE * 1;
-        int centerY = BASE_TILE_SIZE * 1;
-        int centerW = BASE_TILE_SIZE * 7;
-        int centerH = BASE_TILE_SIZE * 7;
-        updateTransform();
-
-        double boardX = (mouseX - translateX) / scaleFactor;
-        double boardY = (mouseY - translateY) / scaleFactor;
-
-        if (boardX < 0 || boardY < 0 ||
-            boardX >= BASE_BOARD_SIZE || boardY >= BASE_BOARD_SIZE) {
+    public int getTileIndexAt(int x, int y) {
+        if (hitColumns.length != getWidth() || hitRows.length != getHeight()) {
+            rebuildHitGrid();
+        }
+        if (x < 0 || y < 0 || x >= hitColumns.length || y >= hitRows.length) {
             return -1;
         }
-
-        if (boardX >= centerX && boardX < centerX + centerW &&
-            boardY >= centerY && boardY < centerY + centerH) {
+        int column = hitColumns[x];
+        int row = hitRows[y];
+        if (column < 0 || row < 0) {
             return -1;
         }
+        return layout.tileAt(column, row);
+    }
 
-        // 44개 타일의 위치를 확인
-        for (int i = 0; i < board.getSize(); i++) {
-            Point pos = getTilePosition(i);
-            if (boardX >= pos.x && boardX < pos.x + BASE_TILE_SIZE &&
-                boardY >= pos.y && boardY < pos.y + BASE_TILE_SIZE) {
-                return i;
-            }
-        }
+    /**
+     * 현재 패널 크기의 배율/이동으로 픽셀 → 열/행 표를 다시 만든다
+     */
+    private void rebuildHitGrid() {
+        updateTransform();
+        hitColumns = buildHitAxis(getWidth(), translateX);
+        hitRows = buildHitAxis(getHeight(), translateY);
+    }
 
-        return -1;
+    private int[] buildHitAxis(int length, int translate) {
+        int[] cells = new int[Math.max(0, length)];
+        for (int pixel = 0; pixel < cells.length; pixel++) {
+            double board = (pixel - translate) / scaleFactor;
+            cells[pixel] = board < 0 || board >= baseBoardSize ? -1 : (int) (board / BASE_TILE_SIZE);
+        }
+        return cells;
     }
 }
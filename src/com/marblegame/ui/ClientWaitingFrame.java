@@ -6,6 +6,7 @@ import com.marblegame.core.input.PlayerInputType;
 import com.marblegame.network.message.MessageType;
 import com.marblegame.network.message.NetworkMessage;
 import com.marblegame.network.message.RemoteActionCodec;
+import com.marblegame.model.BoardDefinition;
 import java.awt.BorderLayout;
 import java.awt.Font;
 import java.awt.GridLayout;
@@ -94,7 +95,7 @@ public class ClientWaitingFrame extends JFrame {
         JPanel container = new JPanel(new BorderLayout(5, 5));
         container.add(panel, BorderLayout.CENTER);
 
-        JSpinner tileSpinner = new JSpinner(new SpinnerNumberModel(0, 0, 31, 1));
+        JSpinner tileSpinner = new JSpinner(new SpinnerNumberModel(0, 0, BoardDefinition.fromSystemProperty().getSize() - 1, 1));
         JButton tileBtn = new JButton("타일 선택");
         tileBtn.addActionListener(e ->
             service.send(RemoteActionCodec.encode(
@@ -2,15 +2,36 @@ package com.marblegame.ui;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import java.awt.*;
 
 /**
  * 게임 로그를 표시하는 패널 (하단 배치용)
  * 수정됨: 버튼 제거 (중앙 오버레이로 이동), 로그만 표시
+ * 로그는 줄 수가 제한된 GameLogModel 에 두고, 행 높이가 고정된 목록으로 보이는 행만 그린다.
  */
 public class ControlPanel extends JPanel {
-    private JTextArea logArea;
+    private static final Color LOG_BACKGROUND = new Color(52, 73, 94);
+    private static final Color LOG_FOREGROUND = new Color(236, 240, 241);
+
+    private GameLogModel logModel = new GameLogModel();
+    private JList<String> logList;
     private JLabel logTitleLabel;
+    private final ListDataListener scrollToEnd = new ListDataListener() {
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            logList.ensureIndexIsVisible(logModel.getSize() - 1);
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+        }
+    };
 
     public ControlPanel() {
         setLayout(new BorderLayout(15, 15));
@@ -40,18 +61,38 @@ public class ControlPanel extends JPanel {
         logTitleLabel.setForeground(new Color(236, 240, 241));
         logTitleLabel.setBorder(new EmptyBorder(0, 0, 8, 0));
 
-        // 로그 텍스트 영역
-        logArea = new JTextArea(6, 80);
-        logArea.setEditable(false);
-        logArea.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
-        logArea.setBackground(new Color(52, 73, 94));
-        logArea.setForeground(new Color(236, 240, 241));
-        logArea.setCaretColor(Color.WHITE);
-        logArea.setBorder(new EmptyBorder(8, 8, 8, 8));
-        logArea.setLineWrap(true);
-        logArea.setWrapStyleWord(true);
-
-        JScrollPane scrollPane = new JScrollPane(logArea);
+        // 로그 목록 (행 높이/폭을 고정해 전체 행을 재지 않고 보이는 행만 그린다)
+        Font logFont = RenderCache.font("Malgun Gothic", Font.PLAIN, 12);
+        logList = new JList<>(logModel);
+        logList.setFont(logFont);
+        logList.setBackground(LOG_BACKGROUND);
+        logList.setForeground(LOG_FOREGROUND);
+        logList.setBorder(new EmptyBorder(8, 8, 8, 8));
+        logList.setFocusable(false);
+        logList.setSelectionModel(new DefaultListSelectionModel() {
+            @Override
+            public void setSelectionInterval(int index0, int index1) {
+                // 읽기 전용 로그: 선택하지 않는다
+            }
+        });
+        logList.setFixedCellHeight(logList.getFontMetrics(logFont).getHeight() + 2);
+        logList.setFixedCellWidth(1); // 뷰포트 폭을 따른다
+        logList.setVisibleRowCount(6);
+        logList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, false, false);
+                setBackground(LOG_BACKGROUND);
+                setForeground(LOG_FOREGROUND);
+                setBorder(null);
+                return this;
+            }
+        });
+        logModel.addListDataListener(scrollToEnd);
+
+        JScrollPane scrollPane = new JScrollPane(logList);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
         scrollPane.setBorder(null);
 
@@ -62,24 +103,46 @@ public class ControlPanel extends JPanel {
     }
 
     /**
-     * 로그 메시지 추가
+     * 로그 메시지 추가 (EDT 전용, 다른 스레드에서는 getLogModel().post 사용)
      */
     public void addLog(String message) {
-        logArea.append(message + "\n");
-        logArea.setCaretPosition(logArea.getDocument().getLength());
+        logModel.append(message);
     }
 
     /**
      * 로그 초기화
      */
     public void clearLog() {
-        logArea.setText("");
+        logModel.clear();
+    }
+
+    /**
+     * 로그 모델 반환 (직접 접근용)
+     */
+    public GameLogModel getLogModel() {
+        return logModel;
+    }
+
+    /**
+     * 화면이 만들어지기 전부터 쌓아 둔 로그 모델로 바꾼다
+     */
+    public void setLogModel(GameLogModel model) {
+        if (model == null || model == logModel) {
+            return;
+        }
+        logModel.removeListDataListener(scrollToEnd);
+        logModel = model;
+        logList.setModel(model);
+        model.addListDataListener(scrollToEnd);
+        scrollToLatest();
     }
 
     /**
-     * 로그 영역 반환 (직접 접근용)
+     * 마지막 로그 줄이 보이도록 스크롤한다 (패널을 화면에 붙인 직후 호출)
      */
-    public JTextArea getLogArea() {
-        return logArea;
+    public void scrollToLatest() {
+        if (logModel.getSize() > 0) {
+            logList.ensureIndexIsVisible(logModel.getSize() - 1);
+        }
     }
 }
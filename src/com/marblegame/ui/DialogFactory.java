@@ -0,0 +1,222 @@
+package com.marblegame.ui;
+
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+import java.awt.Font;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.font.FontRenderContext;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결정 다이얼로그를 미리 만들어 두고 재사용하는 공장 (EDT 전용, 프레임마다 하나)
+ *
+ * 레벨 선택/통행료/인수/관광지 매입/세금 다이얼로그는 종류마다 한 개를 만들어 두고 bind 로 새 정보만 넣어 다시 띄운다.
+ * 창(네이티브 피어)과 루트 패인을 다시 만들지 않으므로 턴 도중 첫 표시가 끊기지 않는다.
+ * 같은 종류가 이미 떠 있으면(중첩 모달) 새로 만들고 닫힐 때 바로 정리한다.
+ *
+ * 로비 단계에서 warmUpInBackground 로 다이얼로그 클래스와 한글/이모지 글꼴을 백그라운드에서 불러 두고,
+ * prewarm 은 EDT 가 한가할 때 다이얼로그를 하나씩 미리 만든다 (한 번에 하나라 로비 화면이 멈추지 않는다).
+ */
+public final class DialogFactory {
+    private static final String[] DIALOG_CLASSES = {
+        "com.marblegame.ui.LevelSelectionDialog",
+        "com.marblegame.ui.TollPaymentDialog",
+        "com.marblegame.ui.TakeoverConfirmDialog",
+        "com.marblegame.ui.TouristSpotPurchaseDialog",
+        "com.marblegame.ui.TaxPaymentDialog",
+        "com.marblegame.ui.TouristSpotChoiceDialog",
+        "com.marblegame.ui.ChanceDialog",
+        "com.marblegame.ui.CitySelectionDialog",
+        "com.marblegame.ui.DoubleDialog",
+        "com.marblegame.ui.DoubleSuppressedDialog",
+        "com.marblegame.ui.DualMagneticDialog",
+        "com.marblegame.ui.ErrorDialog",
+        "com.marblegame.ui.IslandDialog",
+        "com.marblegame.ui.OlympicDialog",
+        "com.marblegame.ui.PhaseDeleteDialog",
+        "com.marblegame.ui.WorldTourDialog"
+    };
+    private static final AtomicBoolean BACKGROUND_WARMED = new AtomicBoolean();
+
+    private final JFrame parent;
+    private LevelSelectionDialog levelSelection;
+    private TollPaymentDialog tollPayment;
+    private TakeoverConfirmDialog takeoverConfirm;
+    private TouristSpotPurchaseDialog touristPurchase;
+    private TaxPaymentDialog taxPayment;
+    private boolean prewarmStarted;
+
+    public DialogFactory(JFrame parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 다이얼로그 클래스와 다이얼로그 글꼴을 백그라운드 스레드에서 불러 둔다 (JVM 에서 한 번만)
+     */
+    public static void warmUpInBackground() {
+        if (!BACKGROUND_WARMED.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            ClassLoader loader = DialogFactory.class.getClassLoader();
+            for (String className : DIALOG_CLASSES) {
+                try {
+                    Class.forName(className, true, loader);
+                } catch (ClassNotFoundException | LinkageError ex) {
+                    System.err.println("다이얼로그 클래스 미리 불러오기 실패: " + className);
+                }
+            }
+            // 글꼴 파일과 한글/이모지 글리프를 실제로 불러오도록 한 번씩 잰다
+            FontRenderContext frc = new FontRenderContext(null, true, true);
+            String sample = "도시 건설 레벨 선택 통행료 인수 관광지 세금 1,234,567원 🏠🏢🏬💸💰⚠️";
+            for (int size : new int[]{12, 13, 14, 16, 20}) {
+                RenderCache.font("Malgun Gothic", Font.BOLD, size).getStringBounds(sample, frc);
+                RenderCache.font("Malgun Gothic", Font.PLAIN, size).getStringBounds(sample, frc);
+            }
+        }, "DialogWarmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * 재사용할 다이얼로그를 미리 만들고 일회용 다이얼로그도 한 번씩 만들어 본다.
+     * EDT 작업 하나에 다이얼로그 하나씩 나눠 처리한다.
+     */
+    public void prewarm() {
+        if (prewarmStarted) {
+            return;
+        }
+        prewarmStarted = true;
+        Queue<Runnable> steps = new ArrayDeque<>();
+        // 이미 쓰이는 중이면(모달 루프 안에서 이 작업이 돌 수 있다) 건드리지 않는다
+        steps.add(() -> {
+            if (levelSelection == null) {
+                levelSelection(" ", 0, 0);
+            }
+        });
+        steps.add(() -> {
+            if (tollPayment == null) {
+                tollPayment(" ", " ", 1, 0, false, 0);
+            }
+        });
+        steps.add(() -> {
+            if (takeoverConfirm == null) {
+                takeoverConfirm(" ", " ", 1, 0, 0);
+            }
+        });
+        steps.add(() -> {
+            if (touristPurchase == null) {
+                touristPurchase(" ", 0, 0);
+            }
+        });
+        steps.add(() -> {
+            if (taxPayment == null) {
+                taxPayment(0, 0);
+            }
+        });
+        // 일회용 다이얼로그는 UI 위임 객체/레이아웃 코드를 한 번 돌려 두고 버린다
+        steps.add(() -> new TouristSpotChoiceDialog(parent, " ").dispose());
+        steps.add(() -> new ChanceDialog(parent, 0).dispose());
+        steps.add(() -> new IslandDialog(parent, 0).dispose());
+        steps.add(() -> new DoubleDialog(parent, 1, 1).dispose());
+        runSteps(steps);
+    }
+
+    private void runSteps(Queue<Runnable> steps) {
+        Runnable step = steps.poll();
+        if (step == null) {
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            if (!parent.isDisplayable()) {
+                return; // 게임 창이 닫혔다
+            }
+            try {
+                step.run();
+            } catch (RuntimeException ex) {
+                System.err.println("다이얼로그 미리 만들기 실패: " + ex.getMessage());
+            }
+            runSteps(steps);
+        });
+    }
+
+    public LevelSelectionDialog levelSelection(String cityName, int basePrice, int playerCash) {
+        if (levelSelection == null) {
+            levelSelection = new LevelSelectionDialog(parent, cityName, basePrice, playerCash);
+            return levelSelection;
+        }
+        if (levelSelection.isVisible()) {
+            return disposeOnHide(new LevelSelectionDialog(parent, cityName, basePrice, playerCash));
+        }
+        levelSelection.bind(cityName, basePrice, playerCash);
+        return levelSelection;
+    }
+
+    public TollPaymentDialog tollPayment(String cityName, String ownerName, int level,
+                                         int toll, boolean hasOlympicBoost, int playerCash) {
+        if (tollPayment == null) {
+            tollPayment = new TollPaymentDialog(parent, cityName, ownerName, level, toll, hasOlympicBoost, playerCash);
+            return tollPayment;
+        }
+        if (tollPayment.isVisible()) {
+            return disposeOnHide(new TollPaymentDialog(parent, cityName, ownerName, level, toll, hasOlympicBoost, playerCash));
+        }
+        tollPayment.bind(cityName, ownerName, level, toll, hasOlympicBoost, playerCash);
+        return tollPayment;
+    }
+
+    public TakeoverConfirmDialog takeoverConfirm(String cityName, String currentOwner,
+                                                 int level, int takeoverCost, int playerCash) {
+        if (takeoverConfirm == null) {
+            takeoverConfirm = new TakeoverConfirmDialog(parent, cityName, currentOwner, level, takeoverCost, playerCash);
+            return takeoverConfirm;
+        }
+        if (takeoverConfirm.isVisible()) {
+            return disposeOnHide(new TakeoverConfirmDialog(parent, cityName, currentOwner, level, takeoverCost, playerCash));
+        }
+        takeoverConfirm.bind(cityName, currentOwner, level, takeoverCost, playerCash);
+        return takeoverConfirm;
+    }
+
+    public TouristSpotPurchaseDialog touristPurchase(String spotName, int price, int playerCash) {
+        if (touristPurchase == null) {
+            touristPurchase = new TouristSpotPurchaseDialog(parent, spotName, price, playerCash);
+            return touristPurchase;
+        }
+        if (touristPurchase.isVisible()) {
+            return disposeOnHide(new TouristSpotPurchaseDialog(parent, spotName, price, playerCash));
+        }
+        touristPurchase.bind(spotName, price, playerCash);
+        return touristPurchase;
+    }
+
+    public TaxPaymentDialog taxPayment(int playerCash, int taxAmount) {
+        if (taxPayment == null) {
+            taxPayment = new TaxPaymentDialog(parent, playerCash, taxAmount);
+            return taxPayment;
+        }
+        if (taxPayment.isVisible()) {
+            return disposeOnHide(new TaxPaymentDialog(parent, playerCash, taxAmount));
+        }
+        taxPayment.bind(playerCash, taxAmount);
+        return taxPayment;
+    }
+
+    /**
+     * 캐시하지 않는 추가 인스턴스는 숨겨질 때 정리한다
+     */
+    private static <T extends JDialog> T disposeOnHide(T dialog) {
+        dialog.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentHidden(ComponentEvent e) {
+                dialog.dispose();
+            }
+        });
+        return dialog;
+    }
+}
@@ -12,8 +12,9 @@ public class DiceAnimationPanel extends JPanel {
     private int dice2 = 1;
     private boolean animating = false;
     private boolean isDouble = false;  // 더블 여부
-    private Timer animationTimer;
+    private AnimationClock.Animation rollAnimation;
     private long animationStartTime;
+    private long animationDuration = ANIMATION_DURATION;
     private int finalDice1;
     private int finalDice2;
 
@@ -39,49 +40,60 @@ public class DiceAnimationPanel extends JPanel {
 
     /**
      * 주사위 애니메이션 시작
+     * 진행 속도가 즉시면 애니메이션 없이 결과 눈을 보여 주고 onComplete 를 바로 부른다.
      */
     public void startAnimation(int finalValue1, int finalValue2, Runnable onComplete) {
         this.finalDice1 = finalValue1;
         this.finalDice2 = finalValue2;
         this.isDouble = (finalValue1 == finalValue2);  // 더블 판정
-        this.animating = true;
         this.animationStartTime = System.currentTimeMillis();
 
-        if (animationTimer != null) {
-            animationTimer.stop();
+        AnimationClock clock = AnimationClock.shared();
+        clock.stop(rollAnimation);
+
+        AnimationSpeed speed = clock.getSpeed();
+        if (speed.isInstant()) {
+            showFaces(finalValue1, finalValue2);
+            if (onComplete != null) {
+                onComplete.run();
+            }
+            return;
         }
+        this.animating = true;
+        this.animationDuration = speed.scale(ANIMATION_DURATION);
 
-        animationTimer = new Timer(FRAME_INTERVAL, e -> {
+        rollAnimation = frameTime -> {
             long elapsed = System.currentTimeMillis() - animationStartTime;
-            double progress = Math.min(1.0, (double)elapsed / ANIMATION_DURATION);
+            double progress = Math.min(1.0, (double)elapsed / animationDuration);
 
             if (progress >= 1.0) {
                 // 애니메이션 종료
                 dice1 = finalDice1;
                 dice2 = finalDice2;
                 animating = false;
-                animationTimer.stop();
-                repaint();
+                clock.repaint(this);
 
                 // 완료 콜백
                 if (onComplete != null) {
                     SwingUtilities.invokeLater(onComplete);
                 }
-            } else {
-                // 랜덤 주사위 값 (cubic-out easing)
-                double easedProgress = cubicOut(progress);
-
-                // 진행도가 높을수록 프레임 변경 빈도 감소
-                if (Math.random() > easedProgress * 0.7) {
-                    dice1 = 1 + (int)(Math.random() * 6);
-                    dice2 = 1 + (int)(Math.random() * 6);
-                }
+                return false;
+            }
+
+            // 랜덤 주사위 값 (cubic-out easing)
+            double easedProgress = cubicOut(progress);
 
-                repaint();
+            // 진행도가 높을수록 프레임 변경 빈도 감소
+            if (Math.random() > easedProgress * 0.7) {
+                dice1 = 1 + (int)(Math.random() * 6);
+                dice2 = 1 + (int)(Math.random() * 6);
             }
-        });
 
-        animationTimer.start();
+            clock.repaint(this);
+            return true;
+        };
+
+        clock.start(rollAnimation, FRAME_INTERVAL);
     }
 
     /**
@@ -246,9 +258,7 @@ public class DiceAnimationPanel extends JPanel {
         dice1 = 1;
         dice2 = 1;
         animating = false;
-        if (animationTimer != null) {
-            animationTimer.stop();
-        }
+        AnimationClock.shared().stop(rollAnimation);
         repaint();
     }
 
@@ -4,19 +4,27 @@ import com.marblegame.model.Board;
 import com.marblegame.model.Player;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 import java.util.List;
 
 /**
  * 메인 게임 윈도우
  * 리팩토링: 좌측 플레이어 정보 + 중앙 보드(오버레이) + 하단 로그
+ * 화면에 붙지 않는 InfoPanel/ControlPanel 은 처음 요청될 때 만든다 (로그는 그 전까지 logModel 에 쌓인다).
+ * 로그 패널은 Ctrl+L 로 하단에 붙였다 뗐다 한다 (처음 열 때 ControlPanel 을 만든다).
  */
 public class GameFrame extends JFrame {
     private BoardPanel boardPanel;
-    private InfoPanel infoPanel;           // 수정됨: 플레이어 정보만 (좌측)
-    private ControlPanel controlPanel;
+    private InfoPanel infoPanel;           // 수정됨: 플레이어 정보만 (좌측), 처음 요청될 때 생성
+    private ControlPanel controlPanel;     // 처음 요청될 때 생성
     private OverlayPanel overlayPanel;     // 추가됨: 중앙 오버레이 (턴/주사위/버튼)
+    private final List<Player> players;
+    private GameLogModel logModel = new GameLogModel();
 
     public GameFrame(Board board, List<Player> players) {
+        this.players = players;
         setTitle("모두의 마블 2.0 - Board Game");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(true); // 크기 조절 가능
@@ -51,8 +59,7 @@ public class GameFrame extends JFrame {
     private void initComponents(Board board, List<Player> players) {
         setLayout(new BorderLayout(10, 10));
 
-        // 수정됨: 좌측 InfoPanel 제거 - 플레이어 정보는 오버레이에 표시
-        infoPanel = new InfoPanel(players); // 하위 호환성을 위해 생성은 유지
+        // 수정됨: 좌측 InfoPanel 제거 - 플레이어 정보는 오버레이에 표시 (getInfoPanel 에서 필요할 때 생성)
 
         // 수정됨: 중앙 - JLayeredPane (보드 + 오버레이)
         JLayeredPane layeredPane = new JLayeredPane();
@@ -84,8 +91,8 @@ public class GameFrame extends JFrame {
             }
         });
 
-        // 수정됨: ControlPanel 제거 - 로그 UI 없음
-        controlPanel = new ControlPanel(); // 하위 호환성을 위해 생성은 유지
+        // 수정됨: ControlPanel 은 기본으로 붙이지 않음 - Ctrl+L 로 열 때 getControlPanel 에서 생성
+        setupLogToggle();
 
         // 레이아웃 배치 (WEST, SOUTH 제거)
         add(layeredPane, BorderLayout.CENTER);        // 중앙: 보드 + 오버레이만 (플레이어 카드 포함)
@@ -99,13 +106,71 @@ public class GameFrame extends JFrame {
     }
 
     public InfoPanel getInfoPanel() {
+        if (infoPanel == null) {
+            infoPanel = new InfoPanel(players);
+        }
         return infoPanel;
     }
 
     public ControlPanel getControlPanel() {
+        if (controlPanel == null) {
+            controlPanel = new ControlPanel();
+            controlPanel.setLogModel(logModel);
+        }
         return controlPanel;
     }
 
+    /**
+     * 하단 로그 패널을 붙이거나 뗀다 (EDT 전용)
+     */
+    public void toggleLogPanel() {
+        ControlPanel panel = getControlPanel();
+        if (panel.getParent() == getContentPane()) {
+            remove(panel);
+        } else {
+            add(panel, BorderLayout.SOUTH);
+            SwingUtilities.invokeLater(panel::scrollToLatest);
+        }
+        revalidate();
+        repaint();
+    }
+
+    private void setupLogToggle() {
+        JRootPane root = getRootPane();
+        root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+            .put(KeyStroke.getKeyStroke(KeyEvent.VK_L, InputEvent.CTRL_DOWN_MASK), "toggleLog");
+        root.getActionMap().put("toggleLog", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                toggleLogPanel();
+            }
+        });
+    }
+
+    /**
+     * 로그 한 줄 추가 (EDT 전용). ControlPanel 이 없으면 만들지 않고 모델에만 쌓는다.
+     */
+    public void addLog(String message) {
+        logModel.append(message);
+    }
+
+    public GameLogModel getLogModel() {
+        return logModel;
+    }
+
+    /**
+     * 화면이 만들어지기 전부터 쌓아 둔 로그 모델로 바꾼다
+     */
+    public void setLogModel(GameLogModel model) {
+        if (model == null) {
+            return;
+        }
+        logModel = model;
+        if (controlPanel != null) {
+            controlPanel.setLogModel(model);
+        }
+    }
+
     // 추가됨: 오버레이 패널 getter
     public OverlayPanel getOverlayPanel() {
         return overlayPanel;
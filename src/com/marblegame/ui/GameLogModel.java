@@ -0,0 +1,144 @@
+package com.marblegame.ui;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게임 로그 줄을 최근 capacity 개까지만 들고 있는 링 버퍼 목록 모델
+ *
+ * 가득 차면 가장 오래된 줄부터 버린다. 여러 줄짜리 메시지는 줄마다 한 행이 된다.
+ * append 는 EDT 에서 바로 반영하고, post 는 어느 스레드에서나 부를 수 있으며 쌓인 줄을 다음 애니메이션 프레임에
+ * 한 번에 반영한다 (네트워크로 몰려 들어온 로그가 줄마다 EDT 작업과 목록 이벤트를 만들지 않도록).
+ * 목록 이벤트는 반영 한 번에 제거/추가 구간 하나씩만 보낸다.
+ */
+public final class GameLogModel extends AbstractListModel<String> {
+    public static final String CAPACITY_PROPERTY = "marblegame.ui.logLines";
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final String[] lines;
+    private int head;   // 가장 오래된 줄의 링 위치
+    private int count;
+    private long totalLines;
+
+    private final ConcurrentLinkedQueue<String> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AnimationClock.Animation flushFrame = frameTime -> {
+        flushInbox();
+        return false;
+    };
+
+    public GameLogModel() {
+        this(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+    }
+
+    public GameLogModel(int capacity) {
+        this.lines = new String[Math.max(1, capacity)];
+    }
+
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    /**
+     * 지금까지 추가된 줄 수 (버려진 줄 포함)
+     */
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    @Override
+    public int getSize() {
+        return count;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("로그 행 범위 밖: " + index + " / " + count);
+        }
+        return lines[(head + index) % lines.length];
+    }
+
+    /**
+     * 메시지를 바로 추가한다 (EDT 전용)
+     */
+    public void append(String message) {
+        List<String> batch = new ArrayList<>(1);
+        batch.add(message);
+        appendAll(batch);
+    }
+
+    /**
+     * 메시지를 다음 프레임에 추가하도록 맡긴다 (스레드 무관)
+     */
+    public void post(String message) {
+        if (message == null) {
+            return;
+        }
+        inbox.add(message);
+        if (flushScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> AnimationClock.shared().start(flushFrame));
+        }
+    }
+
+    public void clear() {
+        int removed = count;
+        head = 0;
+        count = 0;
+        Arrays.fill(lines, null);
+        if (removed > 0) {
+            fireIntervalRemoved(this, 0, removed - 1);
+        }
+    }
+
+    private void flushInbox() {
+        flushScheduled.set(false);
+        List<String> batch = new ArrayList<>();
+        String message;
+        while ((message = inbox.poll()) != null) {
+            batch.add(message);
+        }
+        if (!batch.isEmpty()) {
+            appendAll(batch);
+        }
+    }
+
+    private void appendAll(List<String> messages) {
+        int before = count;
+        int evicted = 0;
+        int added = 0;
+        for (String message : messages) {
+            if (message == null) {
+                continue;
+            }
+            for (String line : message.split("\n", -1)) {
+                if (count == lines.length) {
+                    head = (head + 1) % lines.length;
+                    count--;
+                    evicted++;
+                }
+                lines[(head + count) % lines.length] = line;
+                count++;
+                added++;
+                totalLines++;
+            }
+        }
+        if (added == 0) {
+            return;
+        }
+        // 기존 줄 중 버려진 것은 앞에서 한 구간, 새 줄은 끝에서 한 구간으로 알린다
+        int evictedExisting = Math.min(evicted, before);
+        if (evictedExisting > 0) {
+            fireIntervalRemoved(this, 0, evictedExisting - 1);
+        }
+        int kept = before - evictedExisting;
+        if (count > kept) {
+            fireIntervalAdded(this, kept, count - 1);
+        }
+    }
+}
@@ -10,7 +10,10 @@ import java.awt.*;
  */
 public class GaugePanel extends JPanel {
     private DiceGauge gauge;
-    private Timer animationTimer;
+    private final AnimationClock.Animation frameTask = frameTime -> {
+        AnimationClock.shared().repaint(this);
+        return true;
+    };
 
     // 연료 게이지 색상 (4단계)
     private static final Color YELLOW_COLOR = new Color(255, 235, 59);       // 노란색 (0-25%)
@@ -26,23 +29,20 @@ public class GaugePanel extends JPanel {
         setMinimumSize(new Dimension(120, 40));
         setMaximumSize(new Dimension(Integer.MAX_VALUE, Integer.MAX_VALUE));
         setBackground(new Color(44, 62, 80));
-
-        // 30fps 애니메이션 타이머
-        animationTimer = new Timer(33, e -> repaint());
     }
 
     /**
      * 게이지 애니메이션 시작
      */
     public void startAnimation() {
-        animationTimer.start();
+        AnimationClock.shared().start(frameTask, 33); // 30fps
     }
 
     /**
      * 게이지 애니메이션 정지
      */
     public void stopAnimation() {
-        animationTimer.stop();
+        AnimationClock.shared().stop(frameTask);
         repaint();
     }
 
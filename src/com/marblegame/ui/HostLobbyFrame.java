@@ -21,10 +21,11 @@ import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 
 /**
- * 호스트가 슬롯 현황을 모니터링하고 필요 시 슬롯을 해제할 수 있는 간단한 패널.
+ * 호스트가 슬롯 현황을 모니터링하고 필요 시 슬롯을 해제하거나 빈 슬롯에 봇을 배치할 수 있는 간단한 패널.
  */
 public class HostLobbyFrame extends JFrame {
     private final IntConsumer slotReleaseHandler;
+    private final IntConsumer botAssignHandler;
     private final Runnable startGameAction;
     private final JPanel slotsPanel = new JPanel(new GridLayout(0, 1, 6, 6));
     private final JLabel readyLabel = new JLabel("로비 정보를 기다리는 중...", SwingConstants.LEFT);
@@ -33,9 +34,10 @@ public class HostLobbyFrame extends JFrame {
     private final List<SlotRow> slotRows = new ArrayList<>();
     private boolean hostStarted = false;
 
-    public HostLobbyFrame(IntConsumer slotReleaseHandler, Runnable startGameAction) {
+    public HostLobbyFrame(IntConsumer slotReleaseHandler, IntConsumer botAssignHandler, Runnable startGameAction) {
         super("호스트 로비 모니터");
         this.slotReleaseHandler = slotReleaseHandler;
+        this.botAssignHandler = botAssignHandler;
         this.startGameAction = startGameAction;
         setDefaultCloseOperation(WindowConstants.HIDE_ON_CLOSE);
         setSize(new Dimension(360, 480));
@@ -157,6 +159,7 @@ public class HostLobbyFrame extends JFrame {
         private final JLabel nameLabel = new JLabel();
         private final JLabel readyLabel = new JLabel();
         private final JButton releaseButton = new JButton("슬롯 해제");
+        private final JButton botButton = new JButton("봇 배치");
 
         SlotRow(int slotIndex) {
             super(new BorderLayout(6, 6));
@@ -175,7 +178,16 @@ public class HostLobbyFrame extends JFrame {
                     slotReleaseHandler.accept(this.slotIndex);
                 }
             });
-            add(releaseButton, BorderLayout.EAST);
+            botButton.addActionListener(e -> {
+                if (botAssignHandler != null) {
+                    botAssignHandler.accept(this.slotIndex);
+                }
+            });
+            JPanel buttons = new JPanel(new GridLayout(0, 1, 0, 4));
+            buttons.setOpaque(false);
+            buttons.add(releaseButton);
+            buttons.add(botButton);
+            add(buttons, BorderLayout.EAST);
         }
 
         void render(LobbySlotView slot) {
@@ -188,11 +200,13 @@ public class HostLobbyFrame extends JFrame {
                 readyLabel.setText(slot.ready ? "준비 완료" : "대기 중");
                 readyLabel.setForeground(slot.ready ? new Color(39, 174, 96) : new Color(231, 76, 60));
                 releaseButton.setEnabled(true);
+                botButton.setEnabled(false);
             } else {
                 nameLabel.setText(baseLabel + " - 빈 슬롯");
                 readyLabel.setText("연결 대기");
                 readyLabel.setForeground(new Color(189, 195, 199));
                 releaseButton.setEnabled(false);
+                botButton.setEnabled(botAssignHandler != null);
             }
         }
     }
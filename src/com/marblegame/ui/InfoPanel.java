@@ -85,6 +85,15 @@ public class InfoPanel extends JPanel {
         private int moneyChange = 0;
         private long moneyChangeStartTime = 0;
         private static final long MONEY_CHANGE_DURATION = 2000; // 2초
+        private final AnimationClock.Animation moneyChangeAnimation = frameTime -> {
+            long elapsed = System.currentTimeMillis() - moneyChangeStartTime;
+            boolean running = elapsed < MONEY_CHANGE_DURATION;
+            if (!running) {
+                moneyChange = 0;
+            }
+            AnimationClock.shared().repaint(this);
+            return running;
+        };
 
         PlayerInfoPanel(Player player, int index) {
             this.player = player;
@@ -107,17 +116,8 @@ public class InfoPanel extends JPanel {
             this.moneyChange = change;
             this.moneyChangeStartTime = System.currentTimeMillis();
 
-            // 2초 동안 표시
-            Timer timer = new Timer(50, null);
-            timer.addActionListener(e -> {
-                long elapsed = System.currentTimeMillis() - moneyChangeStartTime;
-                if (elapsed >= MONEY_CHANGE_DURATION) {
-                    moneyChange = 0;
-                    timer.stop();
-                }
-                repaint();
-            });
-            timer.start();
+            // 2초 동안 표시 (다시 불리면 같은 애니메이션을 처음부터)
+            AnimationClock.shared().start(moneyChangeAnimation, 50);
         }
 
         @Override
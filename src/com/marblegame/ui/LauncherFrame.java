@@ -1,5 +1,6 @@
 package com.marblegame.ui;
 
+import com.marblegame.network.message.ConnectionRole;
 import com.marblegame.session.ClientGameSession;
 import com.marblegame.session.HostGameSession;
 import java.awt.BorderLayout;
@@ -38,7 +39,7 @@ public class LauncherFrame extends JFrame {
         setTitle("BoardGame Launcher");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(false);
-        setPreferredSize(new Dimension(420, 260));
+        setPreferredSize(new Dimension(480, 260));
 
         // 기본 UI 구성
         JPanel content = new JPanel(new BorderLayout(10, 10));
@@ -72,17 +73,21 @@ public class LauncherFrame extends JFrame {
         content.add(formPanel, BorderLayout.CENTER);
 
         // 버튼 영역
-        JPanel buttonPanel = new JPanel(new GridLayout(1, 2, 10, 0));
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 3, 10, 0));
         JButton hostButton = new JButton("호스트 시작");
         hostButton.setBackground(new Color(52, 152, 219));
         hostButton.setForeground(Color.WHITE);
         hostButton.addActionListener(e -> launchHost());
 
         JButton clientButton = new JButton("클라이언트 연결");
-        clientButton.addActionListener(e -> connectAsClient());
+        clientButton.addActionListener(e -> connectAsClient(ConnectionRole.PLAYER));
+
+        JButton spectateButton = new JButton("관전하기");
+        spectateButton.addActionListener(e -> connectAsClient(ConnectionRole.SPECTATOR));
 
         buttonPanel.add(hostButton);
         buttonPanel.add(clientButton);
+        buttonPanel.add(spectateButton);
         content.add(buttonPanel, BorderLayout.SOUTH);
 
         pack();
@@ -100,19 +105,21 @@ public class LauncherFrame extends JFrame {
         int initialCash = ((Number) cashField.getValue()).intValue();
         int port = (int) portSpinner.getValue();
 
+        StartupMetrics.markLaunchRequested();
         HostGameSession session = new HostGameSession(numPlayers, initialCash, port);
         session.start();
         dispose();
     }
 
-    private void connectAsClient() {
+    private void connectAsClient(ConnectionRole role) {
         ClientConnectDialog dialog = new ClientConnectDialog(this);
         dialog.setVisible(true);
         if (!dialog.isConfirmed()) {
             return;
         }
 
-        ClientGameSession session = new ClientGameSession(dialog.getHost(), dialog.getPort());
+        StartupMetrics.markLaunchRequested();
+        ClientGameSession session = new ClientGameSession(dialog.getHost(), dialog.getPort(), role);
         session.start();
     }
 
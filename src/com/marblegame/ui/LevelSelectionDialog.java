@@ -5,36 +5,71 @@ import java.awt.*;
 
 /**
  * 도시 구매 시 건설 레벨(1-3)을 선택하는 다이얼로그
+ * 닫을 때 숨기기만 하므로 bind 로 새 도시 정보를 넣어 다시 띄울 수 있다 (DialogFactory 가 재사용).
+ * 컴포넌트는 생성자에서 한 번만 만들고 bind 는 도시 이름/자금/레벨별 비용과 버튼 활성 상태만 바꾼다.
  */
 public class LevelSelectionDialog extends JDialog {
     private int selectedLevel = 0; // 0 = 취소, 1-3 = 선택된 레벨
-    private final String cityName;
-    private final int basePrice;
-    private final int playerCash;
 
     // 다크 테마 색상
     private static final Color BACKGROUND_DARK = new Color(32, 33, 36);
     private static final Color PANEL_DARK = new Color(44, 47, 51);
     private static final Color TEXT_PRIMARY = new Color(232, 234, 237);
     private static final Color TEXT_SECONDARY = new Color(189, 195, 199);
+    private static final Color TEXT_DISABLED = new Color(150, 150, 150);
     private static final Color BUTTON_LEVEL1 = new Color(39, 174, 96);   // 녹색
     private static final Color BUTTON_LEVEL2 = new Color(41, 128, 185);  // 파란색
     private static final Color BUTTON_LEVEL3 = new Color(142, 68, 173);  // 보라색
     private static final Color BUTTON_CANCEL = new Color(127, 140, 141); // 회색
     private static final Color BUTTON_DISABLED = new Color(60, 63, 65);  // 어두운 회색
 
+    private static final Font TITLE_FONT = new Font("Malgun Gothic", Font.BOLD, 20);
+    private static final Font MESSAGE_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font CASH_FONT = new Font("Malgun Gothic", Font.BOLD, 13);
+    private static final Font LEVEL_FONT = new Font("Malgun Gothic", Font.BOLD, 16);
+    private static final Font BUTTON_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+
+    private static final String[] LEVEL_TEXTS = {"🏠 레벨 1 (집)", "🏢 레벨 2 (아파트)", "🏬 레벨 3 (건물)"};
+    private static final Color[] LEVEL_COLORS = {BUTTON_LEVEL1, BUTTON_LEVEL2, BUTTON_LEVEL3};
+
+    private JLabel titleLabel;
+    private JLabel cashLabel;
+    private final JButton[] levelButtons = new JButton[3];
+    private final JLabel[] levelLabels = new JLabel[3];
+    private final JLabel[] costLabels = new JLabel[3];
+
     public LevelSelectionDialog(JFrame parent, String cityName, int basePrice, int playerCash) {
         super(parent, "도시 건설 레벨 선택", true); // modal dialog
-        this.cityName = cityName;
-        this.basePrice = basePrice;
-        this.playerCash = playerCash;
-
         initComponents();
-        pack();
-        setLocationRelativeTo(parent);
+        bind(cityName, basePrice, playerCash);
         setResizable(false);
     }
 
+    /**
+     * 새 도시 정보를 라벨/버튼에 넣고 선택을 초기화한다 (컴포넌트와 다이얼로그 창은 그대로 재사용)
+     */
+    public void bind(String cityName, int basePrice, int playerCash) {
+        this.selectedLevel = 0;
+
+        titleLabel.setText(cityName);
+        cashLabel.setText("보유 자금: " + String.format("%,d", playerCash) + "원");
+
+        // 레벨별 비용 계산
+        int[] costs = {basePrice, (int) (basePrice * 1.3), (int) (basePrice * 1.6)};
+        for (int i = 0; i < costs.length; i++) {
+            boolean affordable = playerCash >= costs[i];
+            costLabels[i].setText(String.format("%,d", costs[i]) + "원");
+            levelButtons[i].setEnabled(affordable);
+            // 비활성화 시 색상 변경
+            levelButtons[i].setBackground(affordable ? LEVEL_COLORS[i] : BUTTON_DISABLED);
+            levelLabels[i].setForeground(affordable ? TEXT_PRIMARY : TEXT_DISABLED);
+            costLabels[i].setForeground(affordable ? TEXT_PRIMARY : TEXT_DISABLED);
+        }
+
+        pack();
+        setLocationRelativeTo(getOwner());
+    }
+
     private void initComponents() {
         setLayout(new BorderLayout(0, 0));
         getContentPane().setBackground(BACKGROUND_DARK);
@@ -62,20 +97,20 @@ public class LevelSelectionDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 15, 20));
 
         // 도시 이름
-        JLabel titleLabel = new JLabel(cityName);
-        titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 20));
+        titleLabel = new JLabel();
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(TEXT_PRIMARY);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // 안내 메시지
         JLabel messageLabel = new JLabel("건설할 레벨을 선택하세요");
-        messageLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        messageLabel.setFont(MESSAGE_FONT);
         messageLabel.setForeground(TEXT_SECONDARY);
         messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // 보유 자금 표시
-        JLabel cashLabel = new JLabel("보유 자금: " + String.format("%,d", playerCash) + "원");
-        cashLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 13));
+        cashLabel = new JLabel();
+        cashLabel.setFont(CASH_FONT);
         cashLabel.setForeground(new Color(255, 193, 7)); // 노란색
         cashLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -97,51 +132,24 @@ public class LevelSelectionDialog extends JDialog {
         panel.setBackground(BACKGROUND_DARK);
         panel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
 
-        // 레벨별 비용 계산
-        int cost1 = basePrice;
-        int cost2 = (int)(basePrice * 1.3);
-        int cost3 = (int)(basePrice * 1.6);
-
-        // 레벨 1 버튼
-        JButton level1Button = createLevelButton(
-            "🏠 레벨 1 (집)",
-            cost1,
-            BUTTON_LEVEL1,
-            1
-        );
-        level1Button.setEnabled(playerCash >= cost1);
-
-        // 레벨 2 버튼
-        JButton level2Button = createLevelButton(
-            "🏢 레벨 2 (아파트)",
-            cost2,
-            BUTTON_LEVEL2,
-            2
-        );
-        level2Button.setEnabled(playerCash >= cost2);
-
-        // 레벨 3 버튼
-        JButton level3Button = createLevelButton(
-            "🏬 레벨 3 (건물)",
-            cost3,
-            BUTTON_LEVEL3,
-            3
-        );
-        level3Button.setEnabled(playerCash >= cost3);
-
-        panel.add(level1Button);
-        panel.add(Box.createRigidArea(new Dimension(0, 12)));
-        panel.add(level2Button);
-        panel.add(Box.createRigidArea(new Dimension(0, 12)));
-        panel.add(level3Button);
+        for (int i = 0; i < levelButtons.length; i++) {
+            if (i > 0) {
+                panel.add(Box.createRigidArea(new Dimension(0, 12)));
+            }
+            levelButtons[i] = createLevelButton(i);
+            panel.add(levelButtons[i]);
+        }
 
         return panel;
     }
 
     /**
-     * 레벨 버튼 생성
+     * 레벨 버튼 생성 (비용 표시와 활성 여부는 bind 에서 정한다)
      */
-    private JButton createLevelButton(String levelText, int cost, Color bgColor, int level) {
+    private JButton createLevelButton(int index) {
+        Color bgColor = LEVEL_COLORS[index];
+        int level = index + 1;
+
         JButton button = new JButton();
         button.setLayout(new BorderLayout(10, 0));
         button.setPreferredSize(new Dimension(350, 60));
@@ -152,16 +160,18 @@ public class LevelSelectionDialog extends JDialog {
         button.setCursor(new Cursor(Cursor.HAND_CURSOR));
 
         // 레벨 텍스트 (왼쪽)
-        JLabel levelLabel = new JLabel(levelText);
-        levelLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 16));
+        JLabel levelLabel = new JLabel(LEVEL_TEXTS[index]);
+        levelLabel.setFont(LEVEL_FONT);
         levelLabel.setForeground(TEXT_PRIMARY);
         levelLabel.setBorder(BorderFactory.createEmptyBorder(0, 15, 0, 0));
+        levelLabels[index] = levelLabel;
 
         // 비용 텍스트 (오른쪽)
-        JLabel costLabel = new JLabel(String.format("%,d", cost) + "원");
-        costLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 16));
+        JLabel costLabel = new JLabel();
+        costLabel.setFont(LEVEL_FONT);
         costLabel.setForeground(TEXT_PRIMARY);
         costLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 0, 15));
+        costLabels[index] = costLabel;
 
         button.add(levelLabel, BorderLayout.WEST);
         button.add(costLabel, BorderLayout.EAST);
@@ -191,16 +201,9 @@ public class LevelSelectionDialog extends JDialog {
         // 버튼 클릭 이벤트
         button.addActionListener(e -> {
             selectedLevel = level;
-            dispose();
+            setVisible(false);
         });
 
-        // 비활성화 시 색상 변경
-        if (playerCash < cost) {
-            button.setBackground(disabledColor);
-            levelLabel.setForeground(new Color(150, 150, 150));
-            costLabel.setForeground(new Color(150, 150, 150));
-        }
-
         return button;
     }
 
@@ -214,7 +217,7 @@ public class LevelSelectionDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(10, 20, 20, 20));
 
         JButton cancelButton = new JButton("취소");
-        cancelButton.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+        cancelButton.setFont(BUTTON_FONT);
         cancelButton.setPreferredSize(new Dimension(120, 40));
         cancelButton.setBackground(BUTTON_CANCEL);
         cancelButton.setForeground(TEXT_PRIMARY);
@@ -236,7 +239,7 @@ public class LevelSelectionDialog extends JDialog {
 
         cancelButton.addActionListener(e -> {
             selectedLevel = 0; // 취소
-            dispose();
+            setVisible(false);
         });
 
         panel.add(cancelButton);
@@ -4,8 +4,6 @@ import com.marblegame.model.DiceGauge;
 import com.marblegame.model.Player;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.util.ArrayList;
@@ -180,7 +178,6 @@ public class OverlayPanel extends JPanel {
             private boolean hovered = false;
             private boolean pressed = false;
             private float animationProgress = 0f;
-            private Timer animationTimer;
 
             @Override
             protected void paintComponent(Graphics g) {
@@ -204,11 +201,11 @@ public class OverlayPanel extends JPanel {
 
                     // 텍스트
                     g2.setColor(new Color(150, 150, 150));
-                    g2.setFont(getFont());
-                    FontMetrics fm = g2.getFontMetrics();
-                    int textX = (width - fm.stringWidth(text)) / 2;
+                    Font font = getFont();
+                    FontMetrics fm = g2.getFontMetrics(font);
+                    int textX = (width - RenderCache.textWidth(g2, font, text)) / 2;
                     int textY = (height + fm.getAscent() - fm.getDescent()) / 2 - 2;
-                    g2.drawString(text, textX, textY);
+                    RenderCache.drawText(g2, font, text, textX, textY);
 
                     g2.dispose();
                     return;
@@ -255,18 +252,18 @@ public class OverlayPanel extends JPanel {
                 }
 
                 // 텍스트 (그림자 포함)
-                g2.setFont(getFont());
-                FontMetrics fm = g2.getFontMetrics();
-                int textX = (width - fm.stringWidth(text)) / 2;
+                Font font = getFont();
+                FontMetrics fm = g2.getFontMetrics(font);
+                int textX = (width - RenderCache.textWidth(g2, font, text)) / 2;
                 int textY = (height + fm.getAscent() - fm.getDescent()) / 2 - 2 + offsetY;
 
                 // 텍스트 그림자
                 g2.setColor(new Color(0, 0, 0, 100));
-                g2.drawString(text, textX + 1, textY + 1);
+                RenderCache.drawText(g2, font, text, textX + 1, textY + 1);
 
                 // 텍스트
                 g2.setColor(TEXT_PRIMARY);
-                g2.drawString(text, textX, textY);
+                RenderCache.drawText(g2, font, text, textX, textY);
 
                 g2.dispose();
             }
@@ -294,7 +291,20 @@ public class OverlayPanel extends JPanel {
 
         // 마우스 이벤트로 호버 및 클릭 애니메이션
         button.addMouseListener(new java.awt.event.MouseAdapter() {
-            private Timer hoverTimer;
+            // 호버 진행도 변화량 (들어올 때 +0.1, 나갈 때 -0.15), 공유 프레임 시계에서 30ms 마다 적용
+            private float hoverStep;
+            private final AnimationClock.Animation hoverAnimation = frameTime -> {
+                try {
+                    java.lang.reflect.Field progressField = button.getClass().getDeclaredField("animationProgress");
+                    progressField.setAccessible(true);
+                    float progress = Math.max(0f, Math.min(1f, progressField.getFloat(button) + hoverStep));
+                    progressField.set(button, progress);
+                    AnimationClock.shared().repaint(button);
+                    return hoverStep > 0 ? progress < 1f : progress > 0f;
+                } catch (Exception ignored) {
+                    return false;
+                }
+            };
 
             public void mouseEntered(java.awt.event.MouseEvent evt) {
                 if (!button.isEnabled()) return;
@@ -306,23 +316,8 @@ public class OverlayPanel extends JPanel {
                 } catch (Exception ignored) {}
 
                 // 호버 애니메이션 시작
-                if (hoverTimer != null) hoverTimer.stop();
-                hoverTimer = new Timer(30, new ActionListener() {
-                    public void actionPerformed(ActionEvent e) {
-                        try {
-                            java.lang.reflect.Field progressField = button.getClass().getDeclaredField("animationProgress");
-                            progressField.setAccessible(true);
-                            float progress = progressField.getFloat(button);
-                            progress = Math.min(1f, progress + 0.1f);
-                            progressField.set(button, progress);
-                            button.repaint();
-                            if (progress >= 1f) {
-                                hoverTimer.stop();
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                });
-                hoverTimer.start();
+                hoverStep = 0.1f;
+                AnimationClock.shared().start(hoverAnimation, 30);
             }
 
             public void mouseExited(java.awt.event.MouseEvent evt) {
@@ -333,23 +328,8 @@ public class OverlayPanel extends JPanel {
                 } catch (Exception ignored) {}
 
                 // 호버 애니메이션 종료
-                if (hoverTimer != null) hoverTimer.stop();
-                hoverTimer = new Timer(30, new ActionListener() {
-                    public void actionPerformed(ActionEvent e) {
-                        try {
-                            java.lang.reflect.Field progressField = button.getClass().getDeclaredField("animationProgress");
-                            progressField.setAccessible(true);
-                            float progress = progressField.getFloat(button);
-                            progress = Math.max(0f, progress - 0.15f);
-                            progressField.set(button, progress);
-                            button.repaint();
-                            if (progress <= 0f) {
-                                hoverTimer.stop();
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                });
-                hoverTimer.start();
+                hoverStep = -0.15f;
+                AnimationClock.shared().start(hoverAnimation, 30);
             }
 
             public void mousePressed(java.awt.event.MouseEvent evt) {
@@ -408,11 +388,11 @@ public class OverlayPanel extends JPanel {
 
                 // 텍스트
                 g2.setColor(Color.WHITE);
-                g2.setFont(getFont());
-                FontMetrics fm = g2.getFontMetrics();
-                int textX = (getWidth() - fm.stringWidth(text)) / 2;
+                Font font = getFont();
+                FontMetrics fm = g2.getFontMetrics(font);
+                int textX = (getWidth() - RenderCache.textWidth(g2, font, text)) / 2;
                 int textY = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
-                g2.drawString(text, textX, textY);
+                RenderCache.drawText(g2, font, text, textX, textY);
 
                 g2.dispose();
             }
@@ -687,6 +667,7 @@ public class OverlayPanel extends JPanel {
      */
     public void setScaleFactor(double scaleFactor) {
         this.scaleFactor = scaleFactor;
+        RenderCache.invalidateGlyphs(); // 글꼴 크기가 바뀌므로 예전 크기의 글리프를 비운다
         updateButtonSizes();
         repositionComponents();
     }
@@ -698,7 +679,7 @@ public class OverlayPanel extends JPanel {
         int fontSize = Math.max(10, (int)(14 * scaleFactor));
         int buttonWidth = (int)(260 * scaleFactor);
         int buttonHeight = (int)(40 * scaleFactor); // 게임형 UI로 약간 더 높게
-        Font buttonFont = new Font("Malgun Gothic", Font.BOLD, fontSize);
+        Font buttonFont = RenderCache.font("Malgun Gothic", Font.BOLD, fontSize);
         Dimension buttonSize = new Dimension(buttonWidth, buttonHeight);
 
         JButton[] buttons = {rollDiceButton, purchaseButton, upgradeButton, takeoverButton, skipButton, escapeButton};
@@ -823,12 +804,26 @@ public class OverlayPanel extends JPanel {
             new Color(46, 204, 113),  // Green
             new Color(230, 126, 34)   // Orange
         };
+        private static final Color MONEY_GAIN_COLOR = new Color(46, 204, 113);
+        private static final Color MONEY_LOSS_COLOR = new Color(231, 76, 60);
 
         private final Player player;
         private final int playerIndex;
+        private String cashText; // 금액이 바뀔 때만 다시 만든다
+        private int cashTextValue;
         private int moneyChange = 0;
         private long moneyChangeStartTime = 0;
-        private static final long MONEY_CHANGE_DURATION = 2000; // 2초
+        private static final long MONEY_CHANGE_DURATION = 2000; // 2초 (진행 속도에 따라 줄어든다)
+        private long moneyChangeDuration = MONEY_CHANGE_DURATION;
+        private final AnimationClock.Animation moneyChangeAnimation = frameTime -> {
+            long elapsed = System.currentTimeMillis() - moneyChangeStartTime;
+            boolean running = elapsed < moneyChangeDuration;
+            if (!running) {
+                moneyChange = 0;
+            }
+            AnimationClock.shared().repaint(this);
+            return running;
+        };
 
         CompactPlayerCard(Player player, int playerIndex) {
             this.player = player;
@@ -843,20 +838,20 @@ public class OverlayPanel extends JPanel {
          */
         void showMoneyChange(int change) {
             if (change == 0) return;
+            AnimationSpeed speed = AnimationClock.shared().getSpeed();
+            if (speed.isInstant()) {
+                // 즉시 진행: 변동 표시 없이 금액만 다시 그린다
+                AnimationClock.shared().stop(moneyChangeAnimation);
+                moneyChange = 0;
+                repaint();
+                return;
+            }
             this.moneyChange = change;
             this.moneyChangeStartTime = System.currentTimeMillis();
+            this.moneyChangeDuration = speed.scale(MONEY_CHANGE_DURATION);
 
-            // 2초 동안 표시
-            Timer timer = new Timer(50, null);
-            timer.addActionListener(e -> {
-                long elapsed = System.currentTimeMillis() - moneyChangeStartTime;
-                if (elapsed >= MONEY_CHANGE_DURATION) {
-                    moneyChange = 0;
-                    timer.stop();
-                }
-                repaint();
-            });
-            timer.start();
+            // 2초 동안 표시 (다시 불리면 같은 애니메이션을 처음부터)
+            AnimationClock.shared().start(moneyChangeAnimation, 50);
         }
 
         @Override
@@ -893,55 +888,53 @@ public class OverlayPanel extends JPanel {
             // 플레이어 이름 (스케일 적용 폰트)
             g2.setColor(TEXT_PRIMARY);
             int nameFontSize = Math.max(8, (int)(12 * scaleFactor));
-            Font nameFont = new Font("Malgun Gothic", Font.BOLD, nameFontSize);
-            g2.setFont(nameFont);
+            Font nameFont = RenderCache.font("Malgun Gothic", Font.BOLD, nameFontSize);
             int nameX = (int)(10 * scaleFactor);
             int nameY = (int)(20 * scaleFactor);
-            g2.drawString(player.name, nameX, nameY);
+            RenderCache.drawText(g2, nameFont, player.name, nameX, nameY);
 
             // 정보 텍스트 (스케일 적용 폰트)
             int infoFontSize = Math.max(7, (int)(11 * scaleFactor));
-            Font infoFont = new Font("Malgun Gothic", Font.PLAIN, infoFontSize);
-            g2.setFont(infoFont);
+            Font infoFont = RenderCache.font("Malgun Gothic", Font.PLAIN, infoFontSize);
             g2.setColor(TEXT_PRIMARY);
             int infoY = (int)(38 * scaleFactor);
             int lineHeight = (int)(16 * scaleFactor);
 
             // 항상 표시: 보유금액
-            g2.drawString(String.format("💰 %,d원", player.cash), nameX, infoY);
+            if (player.cash != cashTextValue || cashText == null) {
+                cashTextValue = player.cash;
+                cashText = String.format("💰 %,d원", player.cash);
+            }
+            RenderCache.drawText(g2, infoFont, cashText, nameX, infoY);
 
             // 자산 변동 표시 (보유금액 옆)
-            if (moneyChange != 0 && System.currentTimeMillis() - moneyChangeStartTime < MONEY_CHANGE_DURATION) {
+            if (moneyChange != 0 && System.currentTimeMillis() - moneyChangeStartTime < moneyChangeDuration) {
                 String changeText;
                 Color changeColor;
                 if (moneyChange > 0) {
                     // 수입: 초록색
                     changeText = String.format("+%,d", moneyChange);
-                    changeColor = new Color(46, 204, 113);
+                    changeColor = MONEY_GAIN_COLOR;
                 } else {
                     // 지출: 빨간색
                     changeText = String.format("%,d", moneyChange);
-                    changeColor = new Color(231, 76, 60);
+                    changeColor = MONEY_LOSS_COLOR;
                 }
 
                 // 페이드 아웃 효과
                 long elapsed = System.currentTimeMillis() - moneyChangeStartTime;
-                float alpha = 1.0f - ((float) elapsed / MONEY_CHANGE_DURATION);
+                float alpha = 1.0f - ((float) elapsed / moneyChangeDuration);
                 alpha = Math.max(0, Math.min(1, alpha));
 
                 g2.setColor(new Color(changeColor.getRed(), changeColor.getGreen(), changeColor.getBlue(),
                     (int)(alpha * 255)));
                 int changeFontSize = Math.max(7, (int)(12 * scaleFactor));
-                Font changeFont = new Font("Malgun Gothic", Font.BOLD, changeFontSize);
-                g2.setFont(changeFont);
+                Font changeFont = RenderCache.font("Malgun Gothic", Font.BOLD, changeFontSize);
 
                 // 보유금액 텍스트 오른쪽에 표시
-                FontMetrics fm = g2.getFontMetrics();
-                String cashText = String.format("💰 %,d원", player.cash);
-                int cashTextWidth = fm.stringWidth(cashText);
-                g2.drawString(changeText, nameX + cashTextWidth + (int)(5 * scaleFactor), infoY);
+                int cashTextWidth = RenderCache.textWidth(g2, changeFont, cashText);
+                RenderCache.drawText(g2, changeFont, changeText, nameX + cashTextWidth + (int)(5 * scaleFactor), infoY);
 
-                g2.setFont(infoFont); // 원래 폰트로 복구
                 g2.setColor(TEXT_PRIMARY); // 원래 색상으로 복구
             }
 
@@ -949,7 +942,7 @@ public class OverlayPanel extends JPanel {
 
             // 조건부 표시: 무인도에 있을 때만 남은 턴 수 표시
             if (player.isInJail()) {
-                g2.drawString(String.format("🏝 %d턴", player.jailTurns), nameX, infoY);
+                RenderCache.drawText(g2, infoFont, String.format("🏝 %d턴", player.jailTurns), nameX, infoY);
             }
 
             g2.dispose();
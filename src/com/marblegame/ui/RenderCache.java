@@ -0,0 +1,112 @@
+package com.marblegame.ui;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그리기용 글꼴/글리프 캐시
+ *
+ * 보드 칸 이름(한글), 건물/아이콘 이모지, 플레이어 카드 금액처럼 매번 같은 문자열을 같은 글꼴로 그리는 곳에서
+ * drawString 대신 쓴다. 글꼴은 (이름, 스타일, 크기)마다 한 번만 만들고, 문자열 모양잡기(shaping) 결과인
+ * GlyphVector 는 (문자열, 글꼴, FontRenderContext)마다 한 번만 만든다. FontRenderContext 에 배율 변환이 들어 있으므로
+ * 배율이 바뀌면 자연히 새 항목을 쓰고, 화면 배율이 바뀐 쪽에서 invalidateGlyphs() 로 예전 항목을 비운다.
+ * 글리프 캐시는 최근 사용 순으로 MAX_GLYPH_ENTRIES 개까지만 둔다.
+ */
+public final class RenderCache {
+    private static final int MAX_GLYPH_ENTRIES = 2048;
+
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+    private static final Map<GlyphKey, GlyphVector> GLYPHS = new LinkedHashMap<GlyphKey, GlyphVector>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GlyphKey, GlyphVector> eldest) {
+            return size() > MAX_GLYPH_ENTRIES;
+        }
+    };
+
+    private RenderCache() {
+    }
+
+    public static Font font(String family, int style, int size) {
+        return FONTS.computeIfAbsent(family + '|' + style + '|' + size, key -> new Font(family, style, size));
+    }
+
+    /**
+     * 현재 그래픽 상태(변환, 안티앨리어싱)에서 문자열을 모양잡기한 결과
+     */
+    public static GlyphVector glyphs(Graphics2D g, Font font, String text) {
+        FontRenderContext frc = g.getFontRenderContext();
+        GlyphKey key = new GlyphKey(text, font, frc);
+        synchronized (GLYPHS) {
+            GlyphVector glyphs = GLYPHS.get(key);
+            if (glyphs == null) {
+                char[] chars = text.toCharArray();
+                glyphs = font.layoutGlyphVector(frc, chars, 0, chars.length, Font.LAYOUT_LEFT_TO_RIGHT);
+                GLYPHS.put(key, glyphs);
+            }
+            return glyphs;
+        }
+    }
+
+    /**
+     * 캐시된 글리프로 문자열을 그린다 (색은 g 의 현재 색)
+     */
+    public static void drawText(Graphics2D g, Font font, String text, float x, float y) {
+        g.drawGlyphVector(glyphs(g, font, text), x, y);
+    }
+
+    /**
+     * 문자열의 논리 폭 (FontMetrics.stringWidth 대신)
+     */
+    public static int textWidth(Graphics2D g, Font font, String text) {
+        return (int) Math.round(glyphs(g, font, text).getLogicalBounds().getWidth());
+    }
+
+    /**
+     * 화면 배율이 바뀌어 예전 배율의 글리프가 더 쓰이지 않을 때 호출한다
+     */
+    public static void invalidateGlyphs() {
+        synchronized (GLYPHS) {
+            GLYPHS.clear();
+        }
+    }
+
+    public static int getGlyphEntryCount() {
+        synchronized (GLYPHS) {
+            return GLYPHS.size();
+        }
+    }
+
+    private static final class GlyphKey {
+        final String text;
+        final Font font;
+        final FontRenderContext frc;
+        final int hash;
+
+        GlyphKey(String text, Font font, FontRenderContext frc) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.hash = Objects.hash(text, font, frc);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof GlyphKey)) {
+                return false;
+            }
+            GlyphKey key = (GlyphKey) other;
+            return text.equals(key.text) && font.equals(key.font) && frc.equals(key.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
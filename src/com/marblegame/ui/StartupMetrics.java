@@ -0,0 +1,112 @@
+package com.marblegame.ui;
+
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.swing.SwingUtilities;
+
+/**
+ * 콜드 스타트 시간 지표 (프로세스 시작 → 런처/로비/게임 창이 처음 떠서 입력을 받을 때까지)
+ *
+ * 단계마다 JVM 프로세스 시작 시각부터의 시간을 한 번만 기록한다. 로비/게임 창은 런처에서 시작 버튼을 누른
+ * 시각부터의 시간도 함께 남긴다 (사용자가 런처에 머문 시간을 빼고 비교하기 위해).
+ * -Dmarblegame.startup.metrics=true 면 콘솔에 출력하고, -Dmarblegame.startup.metricsFile=파일 이면
+ * "시각,단계,프로세스시작부터ms,시작요청부터ms,cds" 한 줄씩 덧붙여 실행마다 추적한다.
+ */
+public final class StartupMetrics {
+    public static final String METRICS_PROPERTY = "marblegame.startup.metrics";
+    public static final String METRICS_FILE_PROPERTY = "marblegame.startup.metricsFile";
+    public static final String CDS_PROPERTY = "marblegame.startup.cds";
+
+    public static final String LAUNCHER = "런처";
+    public static final String LOBBY = "로비";
+    public static final String GAME_FRAME = "게임 창";
+
+    // 프로세스 시작 시각을 모르면(일부 플랫폼) 이 클래스가 처음 불린 시각을 쓴다
+    private static final long FALLBACK_START_NANOS = System.nanoTime();
+    private static final Set<String> RECORDED = ConcurrentHashMap.newKeySet();
+    private static volatile long launchRequestedNanos;
+
+    private StartupMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(METRICS_PROPERTY) || System.getProperty(METRICS_FILE_PROPERTY) != null;
+    }
+
+    /**
+     * 런처에서 호스트/클라이언트 시작을 누른 시각 (처음 한 번만)
+     */
+    public static void markLaunchRequested() {
+        if (launchRequestedNanos == 0L) {
+            launchRequestedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 창이 처음 열리고 이벤트 큐가 한 바퀴 돈 뒤(첫 그리기 이후) 단계를 기록한다
+     */
+    public static void markOnFirstShow(Window window, String milestone) {
+        if (!isEnabled() || RECORDED.contains(milestone)) {
+            return;
+        }
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                window.removeWindowListener(this);
+                SwingUtilities.invokeLater(() -> mark(milestone));
+            }
+        });
+    }
+
+    /**
+     * 단계를 지금 시각으로 기록한다 (단계마다 처음 한 번만)
+     */
+    public static void mark(String milestone) {
+        if (!isEnabled() || !RECORDED.add(milestone)) {
+            return;
+        }
+        long sinceStart = millisSinceProcessStart();
+        long requested = launchRequestedNanos;
+        long sinceRequest = requested == 0L ? -1L : (System.nanoTime() - requested) / 1_000_000L;
+        String cds = System.getProperty(CDS_PROPERTY, "unknown");
+
+        StringBuilder line = new StringBuilder("[Startup] ").append(milestone).append(": ")
+            .append(sinceStart).append("ms (프로세스 시작부터");
+        if (sinceRequest >= 0) {
+            line.append(", 시작 요청부터 ").append(sinceRequest).append("ms");
+        }
+        line.append(", cds=").append(cds).append(')');
+        System.out.println(line);
+
+        String file = System.getProperty(METRICS_FILE_PROPERTY);
+        if (file != null) {
+            appendRecord(Paths.get(file), milestone + "," + sinceStart + "," + sinceRequest + "," + cds);
+        }
+    }
+
+    private static long millisSinceProcessStart() {
+        return ProcessHandle.current().info().startInstant()
+            .map(start -> Math.max(0L, Instant.now().toEpochMilli() - start.toEpochMilli()))
+            .orElseGet(() -> (System.nanoTime() - FALLBACK_START_NANOS) / 1_000_000L);
+    }
+
+    private static synchronized void appendRecord(Path path, String record) {
+        try {
+            Files.write(path, (LocalDateTime.now() + "," + record + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            System.err.println("[Startup] 지표 파일 기록 실패: " + ex.getMessage());
+        }
+    }
+}
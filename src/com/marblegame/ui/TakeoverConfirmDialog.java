@@ -5,6 +5,8 @@ import java.awt.*;
 
 /**
  * 도시 인수 확인 다이얼로그
+ * 닫을 때 숨기기만 하므로 bind 로 새 인수 정보를 넣어 다시 띄울 수 있다 (DialogFactory 가 재사용).
+ * 컴포넌트는 생성자에서 한 번만 만들고 bind 는 라벨 내용과 잔액 부족 경고만 바꾼다.
  */
 public class TakeoverConfirmDialog extends JDialog {
     private boolean confirmed = false;
@@ -18,27 +20,60 @@ public class TakeoverConfirmDialog extends JDialog {
     private static final Color BUTTON_CANCEL = new Color(231, 76, 60);   // 빨간색
     private static final Color INFO_ROW_BG = new Color(44, 47, 51);
 
+    private static final Font TITLE_FONT = new Font("Malgun Gothic", Font.BOLD, 20);
+    private static final Font CITY_FONT = new Font("Malgun Gothic", Font.BOLD, 16);
+    private static final Font WARNING_FONT = new Font("Malgun Gothic", Font.BOLD, 12);
+    private static final Font LABEL_FONT = new Font("Malgun Gothic", Font.PLAIN, 13);
+    private static final Font VALUE_FONT = new Font("Malgun Gothic", Font.BOLD, 13);
+    private static final Font BUTTON_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+
+    private JLabel cityLabel;
+    private JLabel ownerValueLabel;
+    private JLabel levelValueLabel;
+    private JLabel costValueLabel;
+    private JLabel cashValueLabel;
+    private JLabel balanceValueLabel;
+    private Component warningGap;
+    private JLabel warningLabel;
+
     public TakeoverConfirmDialog(JFrame parent, String cityName, String currentOwner,
                                  int level, int takeoverCost, int playerCash) {
         super(parent, "도시 인수 확인", true);
+        initComponents();
+        bind(cityName, currentOwner, level, takeoverCost, playerCash);
+        setResizable(false);
+    }
+
+    /**
+     * 새 인수 정보를 라벨에 넣고 확인 여부를 초기화한다 (컴포넌트와 다이얼로그 창은 그대로 재사용)
+     */
+    public void bind(String cityName, String currentOwner, int level, int takeoverCost, int playerCash) {
+        this.confirmed = false;
+
+        int remainingBalance = playerCash - takeoverCost;
+        cityLabel.setText(cityName);
+        ownerValueLabel.setText(currentOwner);
+        levelValueLabel.setText(getLevelEmoji(level) + " 레벨 " + level);
+        costValueLabel.setText(String.format("%,d원", takeoverCost));
+        cashValueLabel.setText(String.format("%,d원", playerCash));
+        balanceValueLabel.setText(String.format("%,d원", remainingBalance));
+        warningGap.setVisible(remainingBalance < 0);
+        warningLabel.setVisible(remainingBalance < 0);
 
-        initComponents(cityName, currentOwner, level, takeoverCost, playerCash);
         pack();
-        setLocationRelativeTo(parent);
-        setResizable(false);
+        setLocationRelativeTo(getOwner());
     }
 
-    private void initComponents(String cityName, String currentOwner, int level,
-                               int takeoverCost, int playerCash) {
+    private void initComponents() {
         setLayout(new BorderLayout(0, 0));
         getContentPane().setBackground(BACKGROUND_DARK);
 
         // 헤더 패널
-        JPanel headerPanel = createHeaderPanel(cityName);
+        JPanel headerPanel = createHeaderPanel();
         add(headerPanel, BorderLayout.NORTH);
 
         // 정보 패널
-        JPanel infoPanel = createInfoPanel(currentOwner, level, takeoverCost, playerCash);
+        JPanel infoPanel = createInfoPanel();
         add(infoPanel, BorderLayout.CENTER);
 
         // 버튼 패널
@@ -46,19 +81,19 @@ public class TakeoverConfirmDialog extends JDialog {
         add(buttonPanel, BorderLayout.SOUTH);
     }
 
-    private JPanel createHeaderPanel(String cityName) {
+    private JPanel createHeaderPanel() {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBackground(PANEL_DARK);
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 15, 20));
 
         JLabel titleLabel = new JLabel("🏢 도시 인수");
-        titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 20));
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(TEXT_PRIMARY);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
-        JLabel cityLabel = new JLabel(cityName);
-        cityLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 16));
+        cityLabel = new JLabel();
+        cityLabel.setFont(CITY_FONT);
         cityLabel.setForeground(new Color(52, 152, 219)); // 파란색
         cityLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -69,23 +104,25 @@ public class TakeoverConfirmDialog extends JDialog {
         return panel;
     }
 
-    private JPanel createInfoPanel(String currentOwner, int level, int takeoverCost, int playerCash) {
+    private JPanel createInfoPanel() {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBackground(BACKGROUND_DARK);
         panel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
 
         // 현재 소유자
-        panel.add(createInfoRow("현재 소유자:", currentOwner));
+        ownerValueLabel = new JLabel();
+        panel.add(createInfoRow("현재 소유자:", ownerValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 8)));
 
         // 건물 레벨
-        String levelEmoji = getLevelEmoji(level);
-        panel.add(createInfoRow("건물 레벨:", levelEmoji + " 레벨 " + level));
+        levelValueLabel = new JLabel();
+        panel.add(createInfoRow("건물 레벨:", levelValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 8)));
 
         // 인수 비용
-        panel.add(createInfoRow("인수 비용:", String.format("%,d원", takeoverCost)));
+        costValueLabel = new JLabel();
+        panel.add(createInfoRow("인수 비용:", costValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 8)));
 
         // 구분선
@@ -96,40 +133,40 @@ public class TakeoverConfirmDialog extends JDialog {
         panel.add(Box.createRigidArea(new Dimension(0, 8)));
 
         // 현재 보유 자금
-        panel.add(createInfoRow("보유 자금:", String.format("%,d원", playerCash)));
+        cashValueLabel = new JLabel();
+        panel.add(createInfoRow("보유 자금:", cashValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 8)));
 
-        // 인수 후 잔액
-        int remainingBalance = playerCash - takeoverCost;
-        JPanel balanceRow = createInfoRow("인수 후 잔액:", String.format("%,d원", remainingBalance));
-
-        // 잔액이 음수면 경고 표시
-        if (remainingBalance < 0) {
-            JLabel warningLabel = new JLabel("⚠ 잔액 부족!");
-            warningLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 12));
-            warningLabel.setForeground(new Color(231, 76, 60)); // 빨간색
-            warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            panel.add(Box.createRigidArea(new Dimension(0, 10)));
-            panel.add(warningLabel);
-        }
+        // 잔액이 음수면 경고 표시 (bind 에서 보이기/숨기기)
+        warningLabel = new JLabel("⚠ 잔액 부족!");
+        warningLabel.setFont(WARNING_FONT);
+        warningLabel.setForeground(new Color(231, 76, 60)); // 빨간색
+        warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        warningGap = Box.createRigidArea(new Dimension(0, 10));
+        panel.add(warningGap);
+        panel.add(warningLabel);
 
-        panel.add(balanceRow);
+        // 인수 후 잔액
+        balanceValueLabel = new JLabel();
+        panel.add(createInfoRow("인수 후 잔액:", balanceValueLabel));
 
         return panel;
     }
 
-    private JPanel createInfoRow(String label, String value) {
+    /**
+     * 정보 행 생성 (값 라벨은 bind 가 바꿀 수 있도록 받아서 붙인다)
+     */
+    private JPanel createInfoRow(String label, JLabel valueComponent) {
         JPanel row = new JPanel(new BorderLayout());
         row.setBackground(INFO_ROW_BG);
         row.setBorder(BorderFactory.createEmptyBorder(8, 12, 8, 12));
         row.setMaximumSize(new Dimension(400, 35));
 
         JLabel labelComponent = new JLabel(label);
-        labelComponent.setFont(new Font("Malgun Gothic", Font.PLAIN, 13));
+        labelComponent.setFont(LABEL_FONT);
         labelComponent.setForeground(TEXT_SECONDARY);
 
-        JLabel valueComponent = new JLabel(value);
-        valueComponent.setFont(new Font("Malgun Gothic", Font.BOLD, 13));
+        valueComponent.setFont(VALUE_FONT);
         valueComponent.setForeground(TEXT_PRIMARY);
 
         row.add(labelComponent, BorderLayout.WEST);
@@ -148,14 +185,14 @@ public class TakeoverConfirmDialog extends JDialog {
         JButton confirmButton = createButton("예", BUTTON_CONFIRM);
         confirmButton.addActionListener(e -> {
             confirmed = true;
-            dispose();
+            setVisible(false);
         });
 
         // 아니오 버튼
         JButton cancelButton = createButton("아니오", BUTTON_CANCEL);
         cancelButton.addActionListener(e -> {
             confirmed = false;
-            dispose();
+            setVisible(false);
         });
 
         panel.add(confirmButton);
@@ -166,7 +203,7 @@ public class TakeoverConfirmDialog extends JDialog {
 
     private JButton createButton(String text, Color bgColor) {
         JButton button = new JButton(text);
-        button.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+        button.setFont(BUTTON_FONT);
         button.setPreferredSize(new Dimension(120, 40));
         button.setBackground(bgColor);
         button.setForeground(TEXT_PRIMARY);
@@ -5,10 +5,22 @@ import java.awt.*;
 
 /**
  * 세금 납부 확인 다이얼로그
+ * 닫을 때 숨기기만 하므로 bind 로 새 금액을 넣어 다시 띄울 수 있다 (DialogFactory 가 재사용).
+ * 컴포넌트는 생성자에서 한 번만 만들고 bind 는 금액 라벨과 경고 표시만 바꾼다.
  */
 public class TaxPaymentDialog extends JDialog {
-    private final int playerCash;
-    private final int taxAmount;
+    private static final Font TITLE_FONT = new Font("Malgun Gothic", Font.BOLD, 20);
+    private static final Font MESSAGE_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font LABEL_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font VALUE_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+    private static final Font WARNING_FONT = new Font("Malgun Gothic", Font.BOLD, 12);
+    private static final Font BUTTON_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+
+    private JLabel cashValueLabel;
+    private JLabel taxValueLabel;
+    private JLabel remainingValueLabel;
+    private Component warningGap;
+    private JLabel warningLabel;
 
     // 다크 테마 색상
     private static final Color BACKGROUND_DARK = new Color(32, 33, 36);
@@ -20,16 +32,27 @@ public class TaxPaymentDialog extends JDialog {
 
     public TaxPaymentDialog(JFrame parent, int playerCash, int taxAmount) {
         super(parent, "세금 납부", true); // modal dialog
-        this.playerCash = playerCash;
-        this.taxAmount = taxAmount;
-
         initComponents();
-        pack();
-        setLocationRelativeTo(parent);
+        bind(playerCash, taxAmount);
         setResizable(false);
         setDefaultCloseOperation(DO_NOTHING_ON_CLOSE); // ESC로 닫기 불가
     }
 
+    /**
+     * 새 금액을 라벨에 넣는다 (컴포넌트와 다이얼로그 창은 그대로 재사용)
+     */
+    public void bind(int playerCash, int taxAmount) {
+        int remainingCash = playerCash - taxAmount;
+        cashValueLabel.setText(String.format("%,d원", playerCash));
+        taxValueLabel.setText(String.format("%,d원", taxAmount));
+        remainingValueLabel.setText(String.format("%,d원", remainingCash));
+        remainingValueLabel.setForeground(remainingCash < 0 ? TEXT_WARNING : TEXT_PRIMARY);
+        warningGap.setVisible(remainingCash < 0);
+        warningLabel.setVisible(remainingCash < 0);
+        pack();
+        setLocationRelativeTo(getOwner());
+    }
+
     private void initComponents() {
         setLayout(new BorderLayout(0, 0));
         getContentPane().setBackground(BACKGROUND_DARK);
@@ -58,13 +81,13 @@ public class TaxPaymentDialog extends JDialog {
 
         // 제목
         JLabel titleLabel = new JLabel("🏛️ 국세청");
-        titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 20));
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(TEXT_PRIMARY);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // 안내 메시지
         JLabel messageLabel = new JLabel("세금을 납부하시겠습니까?");
-        messageLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        messageLabel.setFont(MESSAGE_FONT);
         messageLabel.setForeground(TEXT_SECONDARY);
         messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -85,18 +108,17 @@ public class TaxPaymentDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 40, 20, 40));
 
         // 보유 자금
-        JPanel cashPanel = createInfoRow("💵 보유 자금", String.format("%,d원", playerCash));
-        panel.add(cashPanel);
+        cashValueLabel = new JLabel();
+        panel.add(createInfoRow("💵 보유 자금", cashValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 세율
-        JPanel ratePanel = createInfoRow("📊 세율", "10%");
-        panel.add(ratePanel);
+        panel.add(createInfoRow("📊 세율", new JLabel("10%")));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 납부 세금
-        JPanel taxPanel = createInfoRow("💸 납부 세금", String.format("%,d원", taxAmount));
-        panel.add(taxPanel);
+        taxValueLabel = new JLabel();
+        panel.add(createInfoRow("💸 납부 세금", taxValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 구분선
@@ -107,43 +129,35 @@ public class TaxPaymentDialog extends JDialog {
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 납부 후 잔액
-        int remainingCash = playerCash - taxAmount;
-        JPanel remainingPanel = createInfoRow("💳 납부 후 잔액",
-            String.format("%,d원", remainingCash), remainingCash < 0);
-        panel.add(remainingPanel);
-
-        // 파산 경고
-        if (remainingCash < 0) {
-            panel.add(Box.createRigidArea(new Dimension(0, 15)));
-            JLabel warningLabel = new JLabel("⚠️ 잔액이 부족합니다! 파산 처리됩니다.");
-            warningLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 12));
-            warningLabel.setForeground(TEXT_WARNING);
-            warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            panel.add(warningLabel);
-        }
+        remainingValueLabel = new JLabel();
+        panel.add(createInfoRow("💳 납부 후 잔액", remainingValueLabel));
+
+        // 파산 경고 (잔액이 음수일 때만 보인다)
+        warningGap = Box.createRigidArea(new Dimension(0, 15));
+        panel.add(warningGap);
+        warningLabel = new JLabel("⚠️ 잔액이 부족합니다! 파산 처리됩니다.");
+        warningLabel.setFont(WARNING_FONT);
+        warningLabel.setForeground(TEXT_WARNING);
+        warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.add(warningLabel);
 
         return panel;
     }
 
     /**
-     * 정보 행 생성
+     * 정보 행 생성 (값 라벨은 bind 가 바꿀 수 있도록 받아서 붙인다)
      */
-    private JPanel createInfoRow(String label, String value) {
-        return createInfoRow(label, value, false);
-    }
-
-    private JPanel createInfoRow(String label, String value, boolean isWarning) {
+    private JPanel createInfoRow(String label, JLabel valueComp) {
         JPanel panel = new JPanel(new BorderLayout(10, 0));
         panel.setOpaque(false);
         panel.setMaximumSize(new Dimension(350, 30));
 
         JLabel labelComp = new JLabel(label);
-        labelComp.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        labelComp.setFont(LABEL_FONT);
         labelComp.setForeground(TEXT_SECONDARY);
 
-        JLabel valueComp = new JLabel(value);
-        valueComp.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
-        valueComp.setForeground(isWarning ? TEXT_WARNING : TEXT_PRIMARY);
+        valueComp.setFont(VALUE_FONT);
+        valueComp.setForeground(TEXT_PRIMARY);
         valueComp.setHorizontalAlignment(SwingConstants.RIGHT);
 
         panel.add(labelComp, BorderLayout.WEST);
@@ -163,7 +177,7 @@ public class TaxPaymentDialog extends JDialog {
 
         // 납부하기 버튼
         JButton confirmButton = createButton("납부하기", BUTTON_CONFIRM);
-        confirmButton.addActionListener(e -> dispose());
+        confirmButton.addActionListener(e -> setVisible(false));
 
         panel.add(confirmButton);
 
@@ -175,7 +189,7 @@ public class TaxPaymentDialog extends JDialog {
      */
     private JButton createButton(String text, Color bgColor) {
         JButton button = new JButton(text);
-        button.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+        button.setFont(BUTTON_FONT);
         button.setPreferredSize(new Dimension(120, 40));
         button.setBackground(bgColor);
         button.setForeground(TEXT_PRIMARY);
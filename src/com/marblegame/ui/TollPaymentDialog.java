@@ -5,15 +5,10 @@ import java.awt.*;
 
 /**
  * 통행료 지불 확인 다이얼로그
+ * 닫을 때 숨기기만 하므로 bind 로 새 통행료 정보를 넣어 다시 띄울 수 있다 (DialogFactory 가 재사용).
+ * 컴포넌트는 생성자에서 한 번만 만들고 bind 는 라벨 내용과 올림픽/파산 경고 표시만 바꾼다.
  */
 public class TollPaymentDialog extends JDialog {
-    private final String cityName;
-    private final String ownerName;
-    private final int level;
-    private final int toll;
-    private final boolean hasOlympicBoost;
-    private final int playerCash;
-
     // 다크 테마 색상
     private static final Color BACKGROUND_DARK = new Color(32, 33, 36);
     private static final Color PANEL_DARK = new Color(44, 47, 51);
@@ -22,23 +17,55 @@ public class TollPaymentDialog extends JDialog {
     private static final Color BUTTON_CONFIRM = new Color(39, 174, 96);  // 녹색
     private static final Color TEXT_WARNING = new Color(244, 67, 54);    // 빨간색 (음수 잔액)
 
+    private static final Font TITLE_FONT = new Font("Malgun Gothic", Font.BOLD, 20);
+    private static final Font MESSAGE_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font LABEL_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font VALUE_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+    private static final Font WARNING_FONT = new Font("Malgun Gothic", Font.BOLD, 12);
+    private static final Font BUTTON_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+
+    private JLabel titleLabel;
+    private JLabel ownerValueLabel;
+    private JLabel levelValueLabel;
+    private JLabel tollValueLabel;
+    private JPanel olympicRow;
+    private Component olympicGap;
+    private JLabel cashValueLabel;
+    private JLabel remainingValueLabel;
+    private Component warningGap;
+    private JLabel warningLabel;
+
     public TollPaymentDialog(JFrame parent, String cityName, String ownerName, int level,
                             int toll, boolean hasOlympicBoost, int playerCash) {
         super(parent, "통행료 지불", true); // modal dialog
-        this.cityName = cityName;
-        this.ownerName = ownerName;
-        this.level = level;
-        this.toll = toll;
-        this.hasOlympicBoost = hasOlympicBoost;
-        this.playerCash = playerCash;
-
         initComponents();
-        pack();
-        setLocationRelativeTo(parent);
+        bind(cityName, ownerName, level, toll, hasOlympicBoost, playerCash);
         setResizable(false);
         setDefaultCloseOperation(DO_NOTHING_ON_CLOSE); // ESC로 닫기 불가
     }
 
+    /**
+     * 새 통행료 정보를 라벨에 넣는다 (컴포넌트와 다이얼로그 창은 그대로 재사용)
+     */
+    public void bind(String cityName, String ownerName, int level,
+                     int toll, boolean hasOlympicBoost, int playerCash) {
+        int remainingCash = playerCash - toll;
+        titleLabel.setText(cityName);
+        ownerValueLabel.setText(ownerName);
+        levelValueLabel.setText("레벨 " + level + " " + getLevelEmoji(level));
+        tollValueLabel.setText(String.format("%,d원", toll));
+        olympicRow.setVisible(hasOlympicBoost);
+        olympicGap.setVisible(hasOlympicBoost);
+        cashValueLabel.setText(String.format("%,d원", playerCash));
+        remainingValueLabel.setText(String.format("%,d원", remainingCash));
+        remainingValueLabel.setForeground(remainingCash < 0 ? TEXT_WARNING : TEXT_PRIMARY);
+        warningGap.setVisible(remainingCash < 0);
+        warningLabel.setVisible(remainingCash < 0);
+
+        pack();
+        setLocationRelativeTo(getOwner());
+    }
+
     private void initComponents() {
         setLayout(new BorderLayout(0, 0));
         getContentPane().setBackground(BACKGROUND_DARK);
@@ -66,14 +93,14 @@ public class TollPaymentDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 15, 20));
 
         // 도시 이름
-        JLabel titleLabel = new JLabel(cityName);
-        titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 20));
+        titleLabel = new JLabel();
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(TEXT_PRIMARY);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // 안내 메시지
         JLabel messageLabel = new JLabel("통행료를 지불하시겠습니까?");
-        messageLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        messageLabel.setFont(MESSAGE_FONT);
         messageLabel.setForeground(TEXT_SECONDARY);
         messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -94,27 +121,25 @@ public class TollPaymentDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 40, 20, 40));
 
         // 소유자
-        JPanel ownerPanel = createInfoRow("🏠 소유자", ownerName);
-        panel.add(ownerPanel);
+        ownerValueLabel = new JLabel();
+        panel.add(createInfoRow("🏠 소유자", ownerValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 레벨
-        String levelText = "레벨 " + level + " " + getLevelEmoji(level);
-        JPanel levelPanel = createInfoRow("📊 레벨", levelText);
-        panel.add(levelPanel);
+        levelValueLabel = new JLabel();
+        panel.add(createInfoRow("📊 레벨", levelValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 통행료
-        JPanel tollPanel = createInfoRow("💸 통행료", String.format("%,d원", toll));
-        panel.add(tollPanel);
+        tollValueLabel = new JLabel();
+        panel.add(createInfoRow("💸 통행료", tollValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
-        // 올림픽 효과
-        if (hasOlympicBoost) {
-            JPanel olympicPanel = createInfoRow("⚡ 올림픽 효과", "통행료 2배!");
-            panel.add(olympicPanel);
-            panel.add(Box.createRigidArea(new Dimension(0, 10)));
-        }
+        // 올림픽 효과 (bind 에서 보이기/숨기기)
+        olympicRow = createInfoRow("⚡ 올림픽 효과", new JLabel("통행료 2배!"));
+        olympicGap = Box.createRigidArea(new Dimension(0, 10));
+        panel.add(olympicRow);
+        panel.add(olympicGap);
 
         // 구분선
         JSeparator separator = new JSeparator();
@@ -124,48 +149,40 @@ public class TollPaymentDialog extends JDialog {
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 보유 자금
-        JPanel cashPanel = createInfoRow("💵 보유 자금", String.format("%,d원", playerCash));
-        panel.add(cashPanel);
+        cashValueLabel = new JLabel();
+        panel.add(createInfoRow("💵 보유 자금", cashValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 지불 후 잔액
-        int remainingCash = playerCash - toll;
-        JPanel remainingPanel = createInfoRow("💳 지불 후 잔액",
-            String.format("%,d원", remainingCash), remainingCash < 0);
-        panel.add(remainingPanel);
-
-        // 파산 경고
-        if (remainingCash < 0) {
-            panel.add(Box.createRigidArea(new Dimension(0, 15)));
-            JLabel warningLabel = new JLabel("⚠️ 잔액이 부족합니다! 파산 처리됩니다.");
-            warningLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 12));
-            warningLabel.setForeground(TEXT_WARNING);
-            warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            panel.add(warningLabel);
-        }
+        remainingValueLabel = new JLabel();
+        panel.add(createInfoRow("💳 지불 후 잔액", remainingValueLabel));
+
+        // 파산 경고 (잔액이 음수일 때만 보인다)
+        warningGap = Box.createRigidArea(new Dimension(0, 15));
+        panel.add(warningGap);
+        warningLabel = new JLabel("⚠️ 잔액이 부족합니다! 파산 처리됩니다.");
+        warningLabel.setFont(WARNING_FONT);
+        warningLabel.setForeground(TEXT_WARNING);
+        warningLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.add(warningLabel);
 
         return panel;
     }
 
     /**
-     * 정보 행 생성
+     * 정보 행 생성 (값 라벨은 bind 가 바꿀 수 있도록 받아서 붙인다)
      */
-    private JPanel createInfoRow(String label, String value) {
-        return createInfoRow(label, value, false);
-    }
-
-    private JPanel createInfoRow(String label, String value, boolean isWarning) {
+    private JPanel createInfoRow(String label, JLabel valueComp) {
         JPanel panel = new JPanel(new BorderLayout(10, 0));
         panel.setOpaque(false);
         panel.setMaximumSize(new Dimension(400, 30));
 
         JLabel labelComp = new JLabel(label);
-        labelComp.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        labelComp.setFont(LABEL_FONT);
         labelComp.setForeground(TEXT_SECONDARY);
 
-        JLabel valueComp = new JLabel(value);
-        valueComp.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
-        valueComp.setForeground(isWarning ? TEXT_WARNING : TEXT_PRIMARY);
+        valueComp.setFont(VALUE_FONT);
+        valueComp.setForeground(TEXT_PRIMARY);
         valueComp.setHorizontalAlignment(SwingConstants.RIGHT);
 
         panel.add(labelComp, BorderLayout.WEST);
@@ -185,7 +202,7 @@ public class TollPaymentDialog extends JDialog {
 
         // 지불하기 버튼
         JButton confirmButton = createButton("지불하기", BUTTON_CONFIRM);
-        confirmButton.addActionListener(e -> dispose());
+        confirmButton.addActionListener(e -> setVisible(false));
 
         panel.add(confirmButton);
 
@@ -197,7 +214,7 @@ public class TollPaymentDialog extends JDialog {
      */
     private JButton createButton(String text, Color bgColor) {
         JButton button = new JButton(text);
-        button.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+        button.setFont(BUTTON_FONT);
         button.setPreferredSize(new Dimension(120, 40));
         button.setBackground(bgColor);
         button.setForeground(TEXT_PRIMARY);
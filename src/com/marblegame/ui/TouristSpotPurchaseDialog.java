@@ -5,34 +5,62 @@ import java.awt.*;
 
 /**
  * 관광지 구매 확인 다이얼로그
+ * 닫을 때 숨기기만 하므로 bind 로 새 관광지 정보를 넣어 다시 띄울 수 있다 (DialogFactory 가 재사용).
+ * 컴포넌트는 생성자에서 한 번만 만들고 bind 는 이름/금액 라벨과 매입 버튼 상태만 바꾼다.
  */
 public class TouristSpotPurchaseDialog extends JDialog {
     private boolean confirmed = false;
-    private final String spotName;
-    private final int price;
-    private final int playerCash;
 
     // 다크 테마 색상
     private static final Color BACKGROUND_DARK = new Color(32, 33, 36);
     private static final Color PANEL_DARK = new Color(44, 47, 51);
     private static final Color TEXT_PRIMARY = new Color(232, 234, 237);
     private static final Color TEXT_SECONDARY = new Color(189, 195, 199);
+    private static final Color TEXT_DISABLED = new Color(150, 150, 150);
     private static final Color BUTTON_CONFIRM = new Color(39, 174, 96);  // 녹색
     private static final Color BUTTON_CANCEL = new Color(127, 140, 141); // 회색
     private static final Color BUTTON_DISABLED = new Color(60, 63, 65);  // 어두운 회색
 
+    private static final Font TITLE_FONT = new Font("Malgun Gothic", Font.BOLD, 20);
+    private static final Font MESSAGE_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font LABEL_FONT = new Font("Malgun Gothic", Font.PLAIN, 14);
+    private static final Font VALUE_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+    private static final Font NOTE_FONT = new Font("Malgun Gothic", Font.ITALIC, 11);
+    private static final Font BUTTON_FONT = new Font("Malgun Gothic", Font.BOLD, 14);
+
+    private JLabel titleLabel;
+    private JLabel priceValueLabel;
+    private JLabel cashValueLabel;
+    private JLabel remainingValueLabel;
+    private JButton confirmButton;
+
     public TouristSpotPurchaseDialog(JFrame parent, String spotName, int price, int playerCash) {
         super(parent, "관광지 매입 확인", true); // modal dialog
-        this.spotName = spotName;
-        this.price = price;
-        this.playerCash = playerCash;
-
         initComponents();
-        pack();
-        setLocationRelativeTo(parent);
+        bind(spotName, price, playerCash);
         setResizable(false);
     }
 
+    /**
+     * 새 관광지 정보를 라벨/버튼에 넣고 확인 여부를 초기화한다 (컴포넌트와 다이얼로그 창은 그대로 재사용)
+     */
+    public void bind(String spotName, int price, int playerCash) {
+        this.confirmed = false;
+
+        titleLabel.setText(spotName);
+        priceValueLabel.setText(String.format("%,d원", price));
+        cashValueLabel.setText(String.format("%,d원", playerCash));
+        remainingValueLabel.setText(String.format("%,d원", playerCash - price));
+
+        boolean canAfford = playerCash >= price;
+        confirmButton.setEnabled(canAfford);
+        confirmButton.setBackground(canAfford ? BUTTON_CONFIRM : BUTTON_DISABLED);
+        confirmButton.setForeground(canAfford ? TEXT_PRIMARY : TEXT_DISABLED);
+
+        pack();
+        setLocationRelativeTo(getOwner());
+    }
+
     private void initComponents() {
         setLayout(new BorderLayout(0, 0));
         getContentPane().setBackground(BACKGROUND_DARK);
@@ -60,14 +88,14 @@ public class TouristSpotPurchaseDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 15, 20));
 
         // 관광지 이름
-        JLabel titleLabel = new JLabel(spotName);
-        titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 20));
+        titleLabel = new JLabel();
+        titleLabel.setFont(TITLE_FONT);
         titleLabel.setForeground(TEXT_PRIMARY);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // 안내 메시지
         JLabel messageLabel = new JLabel("이 관광지를 매입하시겠습니까?");
-        messageLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        messageLabel.setFont(MESSAGE_FONT);
         messageLabel.setForeground(TEXT_SECONDARY);
         messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -88,24 +116,23 @@ public class TouristSpotPurchaseDialog extends JDialog {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 40, 20, 40));
 
         // 매입 가격
-        JPanel pricePanel = createInfoRow("💰 매입 가격", String.format("%,d원", price));
-        panel.add(pricePanel);
+        priceValueLabel = new JLabel();
+        panel.add(createInfoRow("💰 매입 가격", priceValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 보유 자금
-        JPanel cashPanel = createInfoRow("💵 보유 자금", String.format("%,d원", playerCash));
-        panel.add(cashPanel);
+        cashValueLabel = new JLabel();
+        panel.add(createInfoRow("💵 보유 자금", cashValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
 
         // 매입 후 잔액
-        int remainingCash = playerCash - price;
-        JPanel remainingPanel = createInfoRow("💳 매입 후 잔액", String.format("%,d원", remainingCash));
-        panel.add(remainingPanel);
+        remainingValueLabel = new JLabel();
+        panel.add(createInfoRow("💳 매입 후 잔액", remainingValueLabel));
         panel.add(Box.createRigidArea(new Dimension(0, 15)));
 
         // 안내 문구
         JLabel noteLabel = new JLabel("※ 관광지는 업그레이드가 불가능합니다");
-        noteLabel.setFont(new Font("Malgun Gothic", Font.ITALIC, 11));
+        noteLabel.setFont(NOTE_FONT);
         noteLabel.setForeground(new Color(189, 195, 199));
         noteLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         panel.add(noteLabel);
@@ -114,19 +141,18 @@ public class TouristSpotPurchaseDialog extends JDialog {
     }
 
     /**
-     * 정보 행 생성
+     * 정보 행 생성 (값 라벨은 bind 가 바꿀 수 있도록 받아서 붙인다)
      */
-    private JPanel createInfoRow(String label, String value) {
+    private JPanel createInfoRow(String label, JLabel valueComp) {
         JPanel panel = new JPanel(new BorderLayout(10, 0));
         panel.setOpaque(false);
         panel.setMaximumSize(new Dimension(350, 30));
 
         JLabel labelComp = new JLabel(label);
-        labelComp.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
+        labelComp.setFont(LABEL_FONT);
         labelComp.setForeground(TEXT_SECONDARY);
 
-        JLabel valueComp = new JLabel(value);
-        valueComp.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+        valueComp.setFont(VALUE_FONT);
         valueComp.setForeground(TEXT_PRIMARY);
         valueComp.setHorizontalAlignment(SwingConstants.RIGHT);
 
@@ -145,26 +171,18 @@ public class TouristSpotPurchaseDialog extends JDialog {
         panel.setBackground(BACKGROUND_DARK);
         panel.setBorder(BorderFactory.createEmptyBorder(10, 20, 20, 20));
 
-        // 매입하기 버튼
-        JButton confirmButton = createButton("매입하기", BUTTON_CONFIRM);
-        boolean canAfford = playerCash >= price;
-        confirmButton.setEnabled(canAfford);
-
-        if (!canAfford) {
-            confirmButton.setBackground(BUTTON_DISABLED);
-            confirmButton.setForeground(new Color(150, 150, 150));
-        }
-
+        // 매입하기 버튼 (활성 여부와 색은 bind 에서 정한다)
+        confirmButton = createButton("매입하기", BUTTON_CONFIRM);
         confirmButton.addActionListener(e -> {
             confirmed = true;
-            dispose();
+            setVisible(false);
         });
 
         // 취소 버튼
         JButton cancelButton = createButton("취소", BUTTON_CANCEL);
         cancelButton.addActionListener(e -> {
             confirmed = false;
-            dispose();
+            setVisible(false);
         });
 
         panel.add(confirmButton);
@@ -178,7 +196,7 @@ public class TouristSpotPurchaseDialog extends JDialog {
      */
     private JButton createButton(String text, Color bgColor) {
         JButton button = new JButton(text);
-        button.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+        button.setFont(BUTTON_FONT);
         button.setPreferredSize(new Dimension(120, 40));
         button.setBackground(bgColor);
         button.setForeground(TEXT_PRIMARY);